@@ -0,0 +1,158 @@
+package org.ddolib.common.solver;
+
+import org.ddolib.solving.ddo.core.Decision;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Best solution and best lower bound shared by several solvers working concurrently on the
+ * same problem.
+ * <p>
+ * Each solver publishes the solutions it finds with {@link #offer(double, int[])} and the
+ * lower bounds it proves with {@link #offerLowerBound(double)}. In return, it regularly reads
+ * {@link #snapshot()} to adopt the best solution found by the others, which tightens its own
+ * upper bound and thus its pruning.
+ * </p>
+ *
+ * <p>
+ * All the methods of this class are thread-safe. The value of the incumbent and the lower bound
+ * can be read without locking.
+ * </p>
+ */
+public final class SharedIncumbent {
+    /**
+     * An incumbent: the value of a solution and the solution itself.
+     *
+     * @param value    the value of the solution
+     * @param solution the value assigned to each variable
+     */
+    public record Incumbent(double value, int[] solution) {
+        /**
+         * Returns the solution as a set of decisions.
+         *
+         * @return the decisions assigning each variable to its value in the solution
+         */
+        public Set<Decision> decisions() {
+            Set<Decision> decisions = new HashSet<>();
+            for (int var = 0; var < solution.length; var++) {
+                decisions.add(new Decision(var, solution[var]));
+            }
+            return Collections.unmodifiableSet(decisions);
+        }
+    }
+
+    /**
+     * The best solution found so far, {@code null} if none has been found.
+     */
+    private volatile Incumbent incumbent;
+    /**
+     * The value of the best solution found so far (or the initial upper bound).
+     */
+    private volatile double value;
+    /**
+     * The best lower bound proven so far.
+     */
+    private volatile double lowerBound = Double.NEGATIVE_INFINITY;
+    /**
+     * Whether a solver proved that the search is over.
+     */
+    private volatile boolean closed = false;
+
+    /**
+     * Creates an empty incumbent.
+     *
+     * @param upperBound a known upper bound on the optimal value, used until a better
+     *                   solution is found
+     */
+    public SharedIncumbent(double upperBound) {
+        this.value = upperBound;
+    }
+
+    /**
+     * Offers a new solution.
+     *
+     * @param value    the value of the solution
+     * @param solution the value assigned to each variable
+     * @return {@code true} if the solution improves the incumbent and replaced it
+     */
+    public synchronized boolean offer(double value, int[] solution) {
+        if (value < this.value) {
+            this.incumbent = new Incumbent(value, solution.clone());
+            this.value = value;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Offers a new lower bound on the optimal value.
+     *
+     * @param lb a proven lower bound on the optimal value
+     */
+    public synchronized void offerLowerBound(double lb) {
+        if (lb > lowerBound) {
+            lowerBound = lb;
+        }
+    }
+
+    /**
+     * Returns the value of the best solution found so far.
+     *
+     * @return the value of the incumbent, or the initial upper bound if none has been found
+     */
+    public double value() {
+        return value;
+    }
+
+    /**
+     * Returns the best solution found so far.
+     *
+     * @return the incumbent, if any
+     */
+    public Optional<Incumbent> snapshot() {
+        return Optional.ofNullable(incumbent);
+    }
+
+    /**
+     * Returns the best lower bound proven so far.
+     *
+     * @return the best lower bound on the optimal value
+     */
+    public double lowerBound() {
+        return Math.min(lowerBound, value);
+    }
+
+    /**
+     * Returns the optimality gap between the incumbent and the best lower bound.
+     *
+     * @return the gap in percent
+     */
+    public double gap() {
+        if (closed) return 0.0;
+        if (Double.isInfinite(value) || Double.isInfinite(lowerBound)) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return 100 * Math.abs(value - lowerBound()) / Math.abs(value);
+    }
+
+    /**
+     * Records that the search is over: either the incumbent is optimal or the problem
+     * is unsatisfiable.
+     */
+    public void close() {
+        closed = true;
+    }
+
+    /**
+     * Returns whether the search is over, i.e. {@link #close()} has been called or the best
+     * lower bound reached the incumbent.
+     *
+     * @return {@code true} if no solver can improve the incumbent anymore
+     */
+    public boolean isClosed() {
+        return closed || (incumbent != null && lowerBound >= value);
+    }
+}
@@ -0,0 +1,166 @@
+package org.ddolib.common.solver.checkpoint;
+
+import org.ddolib.modeling.layered.StateCodec;
+import org.ddolib.solving.ddo.core.Decision;
+import org.ddolib.solving.ddo.core.SubProblem;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Reads back a checkpoint written by a {@link CheckpointWriter}.
+ * <p>
+ * The global information of the search is read when the reader is opened. The open
+ * subproblems are then streamed one by one with {@link #nextSubProblem()}, so that the
+ * solver can push them in its frontier without materializing the whole checkpoint.
+ * </p>
+ *
+ * @param <T> the type of state in the subproblems
+ * @see CheckpointWriter
+ */
+public final class CheckpointReader<T> implements Closeable {
+    /** Size of the buffer used to read the checkpoint. */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** The codec used to read the states. */
+    private final StateCodec<T> codec;
+    /** The stream reading the checkpoint. */
+    private final DataInputStream in;
+    /** The name of the solver which wrote the checkpoint. */
+    private final String solver;
+    /** The value of the best known solution. */
+    private final double bestUB;
+    /** The best known solution, if any. */
+    private final Optional<Set<Decision>> bestSol;
+    /** The runtime of the search when the checkpoint was written. */
+    private final long runtime;
+    /** The number of iterations of the search when the checkpoint was written. */
+    private final int nbIterations;
+    /** The maximum size of the frontier when the checkpoint was written. */
+    private final int frontierMaxSize;
+    /** The number of compiled nodes when the checkpoint was written (DDO only). */
+    private final long totalNodes;
+    /** The maximum explored depth when the checkpoint was written (DDO only). */
+    private final int maxExploredDepth;
+    /** Whether all the subproblems have been read. */
+    private boolean exhausted = false;
+
+    /**
+     * Opens a checkpoint and reads its global information.
+     *
+     * @param file           the checkpoint file
+     * @param codec          the codec used to deserialize the states
+     * @param expectedSolver the name of the solver that is expected to have written the checkpoint
+     * @throws IllegalArgumentException if the file is not a checkpoint written by the expected solver
+     */
+    public CheckpointReader(Path file, StateCodec<T> codec, String expectedSolver) {
+        this.codec = codec;
+        try {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+            this.in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), BUFFER_SIZE));
+            if (in.readInt() != CheckpointWriter.MAGIC || in.readInt() != CheckpointWriter.VERSION) {
+                in.close();
+                throw new IllegalArgumentException(file + " is not a valid checkpoint");
+            }
+            this.solver = in.readUTF();
+            if (!solver.equals(expectedSolver)) {
+                in.close();
+                throw new IllegalArgumentException(
+                        String.format("%s was written by %s, not by %s", file, solver, expectedSolver));
+            }
+            this.bestUB = in.readDouble();
+            this.bestSol = in.readBoolean() ? Optional.of(readDecisions()) : Optional.empty();
+            this.runtime = in.readLong();
+            this.nbIterations = in.readInt();
+            this.frontierMaxSize = in.readInt();
+            this.totalNodes = in.readLong();
+            this.maxExploredDepth = in.readInt();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Reads the next open subproblem of the checkpoint.
+     *
+     * @return the next subproblem, or {@code null} when all of them have been read
+     */
+    public SubProblem<T> nextSubProblem() {
+        if (exhausted) return null;
+        try {
+            if (!in.readBoolean()) {
+                exhausted = true;
+                return null;
+            }
+            double value = in.readDouble();
+            double lb = in.readDouble();
+            Set<Decision> path = readDecisions();
+            T state = codec.read(in);
+            return new SubProblem<>(state, value, lb, path);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /** @return the value of the best known solution */
+    public double bestUB() {
+        return bestUB;
+    }
+
+    /** @return the best known solution, if any */
+    public Optional<Set<Decision>> bestSolution() {
+        return bestSol;
+    }
+
+    /** @return the runtime of the search (in milliseconds) when the checkpoint was written */
+    public long runtime() {
+        return runtime;
+    }
+
+    /** @return the number of iterations of the search when the checkpoint was written */
+    public int nbIterations() {
+        return nbIterations;
+    }
+
+    /** @return the maximum size of the frontier when the checkpoint was written */
+    public int frontierMaxSize() {
+        return frontierMaxSize;
+    }
+
+    /** @return the number of compiled nodes when the checkpoint was written (0 for non-DDO solvers) */
+    public long totalNodes() {
+        return totalNodes;
+    }
+
+    /** @return the maximum explored depth when the checkpoint was written (0 for non-DDO solvers) */
+    public int maxExploredDepth() {
+        return maxExploredDepth;
+    }
+
+    @Override
+    public void close() {
+        try {
+            in.close();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private Set<Decision> readDecisions() throws IOException {
+        int size = in.readInt();
+        Set<Decision> decisions = new HashSet<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            decisions.add(new Decision(in.readInt(), in.readInt()));
+        }
+        return decisions;
+    }
+}
@@ -0,0 +1,49 @@
+package org.ddolib.common.solver.checkpoint;
+
+/**
+ * Decides when a solver has to write a new checkpoint.
+ * <p>
+ * Checkpoints are written every {@code interval} milliseconds. To bound the overhead
+ * on the search, the delay before the next checkpoint is never smaller than
+ * {@value #OVERHEAD_FACTOR} times the duration of the last write: at most about 5% of
+ * the runtime is spent writing checkpoints, whatever the size of the frontier.
+ * </p>
+ */
+public final class CheckpointSchedule {
+    /** Minimum ratio between the delay separating two checkpoints and the duration of a write. */
+    private static final int OVERHEAD_FACTOR = 20;
+    /** The requested delay between two checkpoints (in milliseconds). */
+    private final long interval;
+    /** The time at which the next checkpoint is due (in milliseconds). */
+    private long next;
+
+    /**
+     * Creates a schedule whose first checkpoint is due {@code interval} milliseconds from now.
+     *
+     * @param interval the delay between two checkpoints (in milliseconds)
+     */
+    public CheckpointSchedule(long interval) {
+        this.interval = interval;
+        this.next = System.currentTimeMillis() + interval;
+    }
+
+    /**
+     * Returns whether a checkpoint must be written.
+     *
+     * @param now the current time (in milliseconds)
+     * @return {@code true} if a checkpoint is due
+     */
+    public boolean isDue(long now) {
+        return now >= next;
+    }
+
+    /**
+     * Records that a checkpoint has been written and schedules the next one.
+     *
+     * @param start the time at which the write started (in milliseconds)
+     * @param end   the time at which the write ended (in milliseconds)
+     */
+    public void written(long start, long end) {
+        next = end + Math.max(interval, OVERHEAD_FACTOR * (end - start));
+    }
+}
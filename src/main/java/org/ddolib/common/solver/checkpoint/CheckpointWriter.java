@@ -0,0 +1,169 @@
+package org.ddolib.common.solver.checkpoint;
+
+import org.ddolib.common.solver.stat.DdoStats;
+import org.ddolib.common.solver.stat.SearchStatistics;
+import org.ddolib.modeling.layered.StateCodec;
+import org.ddolib.solving.ddo.core.Decision;
+import org.ddolib.solving.ddo.core.SubProblem;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Streams a checkpoint of a search to disk.
+ * <p>
+ * The checkpoint is first written to a temporary file next to the target one. It only
+ * replaces the target when {@link #commit()} is called, so that an interrupted write
+ * leaves the previous checkpoint untouched. A typical usage is:
+ * </p>
+ * <pre>{@code
+ * try (CheckpointWriter<T> writer = new CheckpointWriter<>(file, codec)) {
+ *     writer.writeHeader("SequentialSolver", bestUB, bestSol, statistics);
+ *     for (SubProblem<T> sub : open) writer.writeSubProblem(sub);
+ *     writer.commit();
+ * }
+ * }</pre>
+ *
+ * @param <T> the type of state in the subproblems
+ * @see CheckpointReader
+ */
+public final class CheckpointWriter<T> implements Closeable {
+    /** Identifies the checkpoint files. */
+    static final int MAGIC = 0xDD0C4EC4;
+    /** Version of the file format. */
+    static final int VERSION = 1;
+    /** Size of the buffer used to write the checkpoint. */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** The checkpoint file to (re)place. */
+    private final Path file;
+    /** The temporary file being written. */
+    private final Path tmp;
+    /** The codec used to write the states. */
+    private final StateCodec<T> codec;
+    /** The stream writing the temporary file. */
+    private final DataOutputStream out;
+    /** Whether the checkpoint has been committed. */
+    private boolean committed = false;
+
+    /**
+     * Opens a new checkpoint.
+     *
+     * @param file  the checkpoint file; it is only replaced when the checkpoint is committed
+     * @param codec the codec used to serialize the states
+     */
+    public CheckpointWriter(Path file, StateCodec<T> codec) {
+        this.file = file;
+        this.tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        this.codec = codec;
+        try {
+            FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            this.out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Writes the global information of the search. Must be called once, before writing any subproblem.
+     *
+     * @param solver     the name of the solver writing the checkpoint
+     * @param bestUB     the value of the best known solution
+     * @param bestSol    the best known solution, if any
+     * @param statistics the current statistics of the search
+     */
+    public void writeHeader(String solver, double bestUB, Optional<Set<Decision>> bestSol,
+                            SearchStatistics statistics) {
+        try {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(solver);
+            out.writeDouble(bestUB);
+            out.writeBoolean(bestSol.isPresent());
+            if (bestSol.isPresent()) {
+                writeDecisions(bestSol.get());
+            }
+            out.writeLong(statistics.runtime());
+            out.writeInt(statistics.nbIterations());
+            out.writeInt(statistics.frontierMaxSize());
+            if (statistics instanceof DdoStats ddoStats) {
+                out.writeLong(ddoStats.totalNodes());
+                out.writeInt(ddoStats.maxExploredDepth());
+            } else {
+                out.writeLong(0);
+                out.writeInt(0);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Appends an open subproblem to the checkpoint.
+     *
+     * @param sub the subproblem to write
+     */
+    public void writeSubProblem(SubProblem<T> sub) {
+        try {
+            out.writeBoolean(true);
+            out.writeDouble(sub.getValue());
+            out.writeDouble(sub.getLowerBound());
+            writeDecisions(sub.getPath());
+            codec.write(sub.getState(), out);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Terminates the checkpoint and atomically replaces the previous one.
+     */
+    public void commit() {
+        try {
+            out.writeBoolean(false);
+            out.close();
+            try {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            committed = true;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Closes the writer. If the checkpoint has not been committed, the temporary file is discarded.
+     */
+    @Override
+    public void close() {
+        if (committed) return;
+        try {
+            out.close();
+            Files.deleteIfExists(tmp);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void writeDecisions(Set<Decision> decisions) throws IOException {
+        out.writeInt(decisions.size());
+        for (Decision d : decisions) {
+            out.writeInt(d.variable());
+            out.writeInt(d.value());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * This package contains the classes used to checkpoint a running search to disk
+ * and to resume it later.
+ * <p>
+ * A checkpoint is a single binary file holding the incumbent, the counters of the
+ * search statistics and the open subproblems of the solver. It is streamed to disk
+ * subproblem by subproblem and atomically replaces the previous checkpoint, so that
+ * a crash while writing never corrupts the last valid one.
+ */
+package org.ddolib.common.solver.checkpoint;
@@ -2,6 +2,7 @@ package org.ddolib.common.solver.layered;
 
 import org.ddolib.common.solver.stat.SearchStatistics;
 import org.ddolib.solving.ddo.core.Decision;
+import org.ddolib.solving.ddo.core.profiling.ProfileReport;
 import org.ddolib.util.PrettyPrint;
 
 import java.util.Arrays;
@@ -16,7 +17,7 @@ public class Solution {
 
     private final int[] solution;
     private final SearchStatistics statistics;
-
+    private final ProfileReport profile;
 
     /**
      * Constructs a solution given a set of decision and {@link SearchStatistics} on this set.
@@ -25,6 +26,18 @@ public class Solution {
      * @param statistics the statistics related to this solution
      */
     public Solution(Optional<Set<Decision>> decisions, SearchStatistics statistics) {
+        this(decisions, statistics, null);
+    }
+
+    /**
+     * Constructs a solution given a set of decision, {@link SearchStatistics} on this set and
+     * the profile of the search.
+     *
+     * @param decisions  the set of decision leading to this solution
+     * @param statistics the statistics related to this solution
+     * @param profile    the profile of the search, {@code null} if the search was not profiled
+     */
+    public Solution(Optional<Set<Decision>> decisions, SearchStatistics statistics, ProfileReport profile) {
         if (decisions.isPresent()) {
             int maxVar = -1;
             for (Decision d : decisions.get()) {
@@ -43,6 +56,7 @@ public class Solution {
         }
 
         this.statistics = statistics;
+        this.profile = profile;
     }
 
     /**
@@ -74,6 +88,15 @@ public class Solution {
         return statistics;
     }
 
+    /**
+     * Returns the profile of the search which found this solution.
+     *
+     * @return the profile of the search, or an empty optional if the search was not profiled
+     */
+    public Optional<ProfileReport> profile() {
+        return Optional.ofNullable(profile);
+    }
+
     /**
      * Returns a readable string for the search time needed to find this solution.
      *
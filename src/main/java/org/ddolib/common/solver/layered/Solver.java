@@ -1,5 +1,6 @@
 package org.ddolib.common.solver.layered;
 
+import org.ddolib.common.solver.SharedIncumbent;
 import org.ddolib.common.solver.stat.SearchStatistics;
 import org.ddolib.solving.ddo.core.Decision;
 
@@ -52,6 +53,21 @@ public interface Solver {
      */
     Optional<Set<Decision>> bestSolution();
 
+    /**
+     * Shares the incumbent of this solver with other solvers running concurrently.
+     * <p>
+     * A solver supporting it adopts the solutions published in the shared incumbent when they
+     * are better than its own, and publishes the lower bounds it proves. The solutions found
+     * by the solver are published by the caller, through the {@code onSolution} callback of
+     * {@link #minimize(Predicate, BiConsumer)}.
+     * By default, the shared incumbent is ignored.
+     * </p>
+     *
+     * @param incumbent the incumbent shared with the other solvers
+     */
+    default void shareIncumbent(SharedIncumbent incumbent) {
+    }
+
     /**
      * Constructs an array representing the values assigned to each variable from a set of decisions.
      *
@@ -91,6 +91,14 @@ public class AstarStats extends SearchStatistics {
         return (AstarStats) super.updateTime(time);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AstarStats resume(int nbIterations, int frontierMaxSize) {
+        return (AstarStats) super.resume(nbIterations, frontierMaxSize);
+    }
+
     /**
      * Retrieves the current Exponential Moving Average (EMA) of the novelty percentage.
      * A value close to 0.0 indicates that the algorithm is generating a massive amount
@@ -25,6 +25,26 @@ public class DdoStats extends SearchStatistics {
      */
     private int _lastIterationOfLowerBoundImprovement = 0;
 
+    /**
+     * Number of exact cutset nodes discarded by their bound before their subproblem was built.
+     */
+    private long _nbCutsetPruned = 0;
+
+    /**
+     * Number of subproblems evicted from the frontier because their lower bound reached the incumbent.
+     */
+    private long _nbPurged = 0;
+
+    /**
+     * Number of subproblems merged into a subproblem of the same state and depth in the frontier.
+     */
+    private long _nbMerged = 0;
+
+    /**
+     * Number of compilations aborted because no node of one of their layers could improve the incumbent.
+     */
+    private long _nbAborted = 0;
+
     /**
      * Constructs a new SearchStatistics instance.
      *
@@ -45,6 +65,10 @@ public class DdoStats extends SearchStatistics {
         clone._maxExploredDepth = this._maxExploredDepth;
         clone._bestLowerBound = this._bestLowerBound;
         clone._lastIterationOfLowerBoundImprovement = this._lastIterationOfLowerBoundImprovement;
+        clone._nbCutsetPruned = this._nbCutsetPruned;
+        clone._nbPurged = this._nbPurged;
+        clone._nbMerged = this._nbMerged;
+        clone._nbAborted = this._nbAborted;
         return clone;
     }
 
@@ -58,6 +82,10 @@ public class DdoStats extends SearchStatistics {
         clone._maxExploredDepth = this._maxExploredDepth;
         clone._bestLowerBound = this._bestLowerBound;
         clone._lastIterationOfLowerBoundImprovement = this._lastIterationOfLowerBoundImprovement;
+        clone._nbCutsetPruned = this._nbCutsetPruned;
+        clone._nbPurged = this._nbPurged;
+        clone._nbMerged = this._nbMerged;
+        clone._nbAborted = this._nbAborted;
         return clone;
     }
 
@@ -109,6 +137,29 @@ public class DdoStats extends SearchStatistics {
         return (DdoStats) super.updateTime(time);
     }
 
+    @Override
+    public DdoStats resume(int nbIterations, int frontierMaxSize) {
+        return (DdoStats) super.resume(nbIterations, frontierMaxSize);
+    }
+
+    /**
+     * Returns a new DdoStats instance whose counters continue those of a previous
+     * run of the search, e.g. when the search is resumed from a checkpoint.
+     *
+     * @param nbIterations     the number of iterations performed by the previous run
+     * @param frontierMaxSize  the maximum frontier size reached by the previous run
+     * @param totalNodes       the number of nodes compiled by the previous run
+     * @param maxExploredDepth the maximum depth explored by the previous run
+     * @return a new DdoStats instance with the restored counters
+     */
+    public DdoStats resume(int nbIterations, int frontierMaxSize, long totalNodes, int maxExploredDepth) {
+        DdoStats toReturn = this.resume(nbIterations, frontierMaxSize);
+        toReturn._totalNodes = totalNodes;
+        toReturn._maxExploredDepth = maxExploredDepth;
+        toReturn._lastIterationOfLowerBoundImprovement = nbIterations;
+        return toReturn;
+    }
+
     /**
      * Returns the total number of nodes created in all compiled MDDs.
      *
@@ -145,6 +196,46 @@ public class DdoStats extends SearchStatistics {
         return _lastIterationOfLowerBoundImprovement;
     }
 
+    /**
+     * Returns the number of exact cutset nodes discarded by their bound before their
+     * subproblem was built.
+     *
+     * @return the number of cutset nodes pruned before materialization
+     */
+    public long nbCutsetPruned() {
+        return _nbCutsetPruned;
+    }
+
+    /**
+     * Returns the number of subproblems evicted from the frontier because their lower bound
+     * reached the incumbent.
+     *
+     * @return the number of purged subproblems
+     */
+    public long nbPurged() {
+        return _nbPurged;
+    }
+
+    /**
+     * Returns the number of subproblems merged into a subproblem of the same state and depth
+     * already in the frontier.
+     *
+     * @return the number of merged subproblems
+     */
+    public long nbMerged() {
+        return _nbMerged;
+    }
+
+    /**
+     * Returns the number of compilations aborted because no node of one of their layers could
+     * improve the incumbent.
+     *
+     * @return the number of aborted compilations
+     */
+    public long nbAborted() {
+        return _nbAborted;
+    }
+
     /**
      * Updates the total number of nodes created.
      *
@@ -157,6 +248,54 @@ public class DdoStats extends SearchStatistics {
         return toReturn;
     }
 
+    /**
+     * Updates the number of exact cutset nodes pruned before materialization.
+     *
+     * @param pruned the number of cutset nodes to add
+     * @return a new DdoStats instance with updated nbCutsetPruned
+     */
+    public DdoStats addCutsetPruned(int pruned) {
+        DdoStats toReturn = this.copy();
+        toReturn._nbCutsetPruned += pruned;
+        return toReturn;
+    }
+
+    /**
+     * Updates the number of subproblems purged from the frontier.
+     *
+     * @param purged the number of purged subproblems to add
+     * @return a new DdoStats instance with updated nbPurged
+     */
+    public DdoStats addPurged(int purged) {
+        DdoStats toReturn = this.copy();
+        toReturn._nbPurged += purged;
+        return toReturn;
+    }
+
+    /**
+     * Updates the number of subproblems merged in the frontier.
+     *
+     * @param merged the number of merged subproblems to add
+     * @return a new DdoStats instance with updated nbMerged
+     */
+    public DdoStats addMerged(long merged) {
+        DdoStats toReturn = this.copy();
+        toReturn._nbMerged += merged;
+        return toReturn;
+    }
+
+    /**
+     * Updates the number of aborted compilations.
+     *
+     * @param aborted the number of aborted compilations to add
+     * @return a new DdoStats instance with updated nbAborted
+     */
+    public DdoStats addAborted(int aborted) {
+        DdoStats toReturn = this.copy();
+        toReturn._nbAborted += aborted;
+        return toReturn;
+    }
+
     /**
      * Updates the maximum depth reached.
      *
@@ -313,6 +313,23 @@ public abstract class SearchStatistics {
     }
 
 
+    /**
+     * Returns a new SearchStatistics instance whose counters continue those of a previous
+     * run of the search, e.g. when the search is resumed from a checkpoint.
+     *
+     * @param nbIterations    the number of iterations performed by the previous run
+     * @param frontierMaxSize the maximum frontier size reached by the previous run
+     * @return a new instance with the restored counters
+     */
+    public SearchStatistics resume(int nbIterations, int frontierMaxSize) {
+        SearchStatistics toReturn = this.copy();
+        toReturn._nbIterations = nbIterations;
+        toReturn._lastIterationOfImprovement = nbIterations;
+        toReturn._lastIterationOfGapImprovement = nbIterations;
+        toReturn._frontierMaxSize = frontierMaxSize;
+        return toReturn;
+    }
+
     @Override
     public String toString() {
         DecimalFormatSymbols symbols = new DecimalFormatSymbols(Locale.US);
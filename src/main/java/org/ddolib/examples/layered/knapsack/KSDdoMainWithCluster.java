@@ -108,6 +108,7 @@ public class KSDdoMainWithCluster {
             @Override
             public ReductionStrategy<Integer> relaxStrategy() {
                 return new GHP<>(new KSDistance(problem));
+//                return new FastGHP<>(new KSDistance(problem)); // for wide layers
 //                return new Hybrid<>(new KSRanking(), new KSDistance(problem));
 //                return new CostBased<>(new KSRanking());  // default strategy
             }
@@ -115,6 +116,7 @@ public class KSDdoMainWithCluster {
             @Override
             public ReductionStrategy<Integer> restrictStrategy() {
                 return new GHP<>(new KSDistance(problem));
+//                return new FastGHP<>(new KSDistance(problem)); // for wide layers
 //                return new Hybrid<>(new KSRanking(), new KSDistance(problem));
 //                return new CostBased<>(new KSRanking()); // default strategy
             }
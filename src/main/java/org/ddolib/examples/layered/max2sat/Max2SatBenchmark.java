@@ -0,0 +1,79 @@
+package org.ddolib.examples.layered.max2sat;
+
+import org.ddolib.common.solver.layered.Solution;
+import org.ddolib.modeling.layered.DdoModel;
+import org.ddolib.modeling.layered.Problem;
+import org.ddolib.modeling.layered.Relaxation;
+import org.ddolib.modeling.layered.Solvers;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Benchmark of the DDO solver on the Maximum 2-Satisfiability (MAX2SAT) instances of {@code data/Max2Sat}.
+ * <p>
+ * Each instance is solved with the default width heuristic, and the runtime, the number of
+ * iterations and the time per iteration are printed. As the search does not depend on the
+ * representation of the states, comparing the runtimes of two versions of the model measures the
+ * speedup of the transitions, of the relaxation and of the bounds.
+ * </p>
+ *
+ * <p>
+ * Each run is stopped after the time limit given as first argument (in seconds, 30 by default).
+ * The instances to solve can be given as next arguments.
+ * </p>
+ */
+public class Max2SatBenchmark {
+
+    /**
+     * Program entry point.
+     *
+     * @param args the optional time limit of each run, in seconds, followed by the optional instance files
+     * @throws IOException if an instance cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        long timeLimit = args.length > 0 ? Long.parseLong(args[0]) * 1000 : 30_000;
+        String[] instances = args.length > 1 ? Arrays.copyOfRange(args, 1, args.length) :
+                new String[]{"wcnf_var_20_opti_2358.txt", "wcnf_var_25.txt", "wcnf_var_30_clauses_1686.txt", "wcnf_var_35.txt", "wcnf_var_40_clauses_598.txt"};
+
+        System.out.printf("%-30s %-10s %-12s %-14s %-10s %-10s%n",
+                "instance", "time(ms)", "iterations", "ms/iteration", "best", "status");
+        for (String instance : instances) {
+            String file = instance.contains("/") ? instance : Path.of("data", "Max2Sat", instance).toString();
+            Max2SatProblem problem = new Max2SatProblem(file);
+            Solution solution = Solvers.minimizeDdo(model(problem), s -> s.runtime() > timeLimit);
+            System.out.printf("%-30s %-10d %-12d %-14.3f %-10.1f %-10s%n",
+                    Path.of(file).getFileName(),
+                    solution.statistics().runtime(),
+                    solution.statistics().nbIterations(),
+                    (double) solution.statistics().runtime() / Math.max(1, solution.statistics().nbIterations()),
+                    solution.statistics().incumbent(),
+                    solution.statistics().status());
+        }
+    }
+
+    private static DdoModel<Max2SatState> model(Max2SatProblem problem) {
+        return new DdoModel<>() {
+            @Override
+            public Problem<Max2SatState> problem() {
+                return problem;
+            }
+
+            @Override
+            public Max2SatFastLowerBound lowerBound() {
+                return new Max2SatFastLowerBound(problem);
+            }
+
+            @Override
+            public Relaxation<Max2SatState> relaxation() {
+                return new Max2SatRelax(problem);
+            }
+
+            @Override
+            public Max2SatRanking ranking() {
+                return new Max2SatRanking();
+            }
+        };
+    }
+}
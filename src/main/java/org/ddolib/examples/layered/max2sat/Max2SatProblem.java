@@ -48,6 +48,10 @@ public class Max2SatProblem implements Problem<Max2SatState> {
      * Map storing the weight of each binary clause.
      */
     final HashMap<BinaryClause, Integer> weights;
+    /**
+     * Weight of the clause of each pair of literals, indexed by {@link #literalIndex(int)}.
+     */
+    private final int[][] literalWeights;
     /**
      * Number of decision variables in this MAX2SAT instance.
      */
@@ -73,6 +77,7 @@ public class Max2SatProblem implements Problem<Max2SatState> {
                           Optional<Double> optimal) {
         this.numVar = numVar;
         this.weights = weights;
+        this.literalWeights = literalWeights(numVar, weights);
         this.optimal = optimal;
     }
 
@@ -126,6 +131,7 @@ public class Max2SatProblem implements Problem<Max2SatState> {
         }
         this.numVar = n;
         this.weights = weights;
+        this.literalWeights = literalWeights(n, weights);
         this.optimal = opti;
         this.name = Optional.of(fname);
     }
@@ -142,7 +148,7 @@ public class Max2SatProblem implements Problem<Max2SatState> {
 
     @Override
     public Max2SatState initialState() {
-        return new Max2SatState(new ArrayList<>(Collections.nCopies(numVar, 0)), 0);
+        return new Max2SatState(new int[numVar], 0);
     }
 
     /**
@@ -170,23 +176,24 @@ public class Max2SatProblem implements Problem<Max2SatState> {
 
     @Override
     public Max2SatState transition(Max2SatState state, Decision decision) {
-        ArrayList<Integer> newBenefit = new ArrayList<>(Collections.nCopies(numVar, 0));
+        int depth = state.depth() + 1;
+        int[] newBenefit = new int[numVar - depth];
         int k = decision.variable();
         if (decision.value() == T) {
-            for (int l = k + 1; l < nbVars(); l++) {
+            for (int l = Integer.max(k + 1, depth); l < nbVars(); l++) {
                 // If the variable k has been set to T, and then we set the variable l to T, we gain the weight of the
                 // clause (!xk || xl). But we lose the weight of the clause (!xk || !xl).
-                newBenefit.set(l, state.netBenefit().get(l) + weight(f(k), t(l)) - weight(f(k), f(l)));
+                newBenefit[l - depth] = state.netBenefit(l) + weight(f(k), t(l)) - weight(f(k), f(l));
             }
         } else {
-            for (int l = k + 1; l < nbVars(); l++) {
+            for (int l = Integer.max(k + 1, depth); l < nbVars(); l++) {
                 // If the variable k has been set to F, and then we set the variable l to T, we gain the weight of the
                 // clause (xk || xl). But we lose the weight of the clause (xk || !xl).
-                newBenefit.set(l, state.netBenefit().get(l) + weight(t(k), t(l)) - weight(t(k), f(l)));
+                newBenefit[l - depth] = state.netBenefit(l) + weight(t(k), t(l)) - weight(t(k), f(l));
             }
         }
 
-        return new Max2SatState(newBenefit, state.depth() + 1);
+        return new Max2SatState(newBenefit, depth);
     }
 
     @Override
@@ -196,22 +203,22 @@ public class Max2SatProblem implements Problem<Max2SatState> {
         int toReturn;
         if (decision.value() == T) {
             // If k has been set to T, we gain the net benefit if it is > 0 and the weight of the unary clause xk.
-            toReturn = positiveOrNull(state.netBenefit().get(k)) + weight(t(k), t(k));
+            toReturn = positiveOrNull(state.netBenefit(k)) + weight(t(k), t(k));
             for (int l = k + 1; l < nbVars(); l++) {
                 // We gain the weight of the clauses (xk || xl) and (xk || !xl)
                 toReturn += weight(t(k), f(l)) + weight(t(k), t(l));
-                int s_k_l = state.netBenefit().get(l);
+                int s_k_l = state.netBenefit(l);
                 // According to the decision on l, we can gain (!xk || xl) or (!xk || !xl)
                 toReturn += Integer.min(positiveOrNull(s_k_l) + weight(f(k), t(l)),
                         positiveOrNull(-s_k_l) + weight(f(k), f(l)));
             }
         } else {
             // If k has been set to F, we gain the net benefit if it is < 0 and the weight of the unary clause /xk.
-            toReturn = positiveOrNull(-state.netBenefit().get(k)) + weight(f(k), f(k));
+            toReturn = positiveOrNull(-state.netBenefit(k)) + weight(f(k), f(k));
             for (int l = k + 1; l < nbVars(); l++) {
                 // We gain the weight of the clauses (!xk || !xl) and (!xk || xl)
                 toReturn += weight(f(k), f(l)) + weight(f(k), t(l));
-                int s_k_l = state.netBenefit().get(l);
+                int s_k_l = state.netBenefit(l);
                 // According to the decision on l, we can gain (xk || xl) or (xk || !xl)
                 toReturn += Integer.min(positiveOrNull(s_k_l) + weight(t(k), t(l)),
                         positiveOrNull(-s_k_l) + weight(t(k), f(l)));
@@ -292,8 +299,41 @@ public class Max2SatProblem implements Problem<Max2SatState> {
      * @return weight of the clause, or 0 if absent
      */
     public int weight(int x, int y) {
-        BinaryClause bc = new BinaryClause(x, y);
-        BinaryClause bcCommuted = new BinaryClause(y, x);
-        return weights.getOrDefault(bc, weights.getOrDefault(bcCommuted, 0));
+        return literalWeights[literalIndex(x)][literalIndex(y)];
+    }
+
+    /**
+     * Returns the index of a literal in the table of the weights: {@code 2i} for {@code x_i} and
+     * {@code 2i + 1} for {@code NOT x_i}, {@code i} being the 0-based index of the variable.
+     *
+     * @param x a literal
+     * @return the index of the literal
+     */
+    private static int literalIndex(int x) {
+        return x > 0 ? 2 * (x - 1) : 2 * (-x - 1) + 1;
+    }
+
+    /**
+     * Computes the weight of the clause of each pair of literals, considering commutativity.
+     *
+     * @param numVar  number of variables
+     * @param weights map of binary clauses to their weights
+     * @return the weights indexed by {@link #literalIndex(int)}
+     */
+    private static int[][] literalWeights(int numVar, Map<BinaryClause, Integer> weights) {
+        int[][] table = new int[2 * numVar][2 * numVar];
+        for (int i = 1; i <= numVar; i++) {
+            for (int x : new int[]{i, -i}) {
+                for (int j = 1; j <= numVar; j++) {
+                    for (int y : new int[]{j, -j}) {
+                        BinaryClause bc = new BinaryClause(x, y);
+                        BinaryClause bcCommuted = new BinaryClause(y, x);
+                        table[literalIndex(x)][literalIndex(y)] =
+                                weights.getOrDefault(bc, weights.getOrDefault(bcCommuted, 0));
+                    }
+                }
+            }
+        }
+        return table;
     }
 }
@@ -14,12 +14,7 @@ import org.ddolib.modeling.layered.StateRanking;
 public class Max2SatRanking implements StateRanking<Max2SatState> {
 
     public static int rank(Max2SatState state) {
-        int toReturn = 0;
-        for (int i = state.depth(); i < state.netBenefit().size(); i++) {
-            toReturn += Math.abs(state.netBenefit().get(i));
-        }
-
-        return toReturn;
+        return state.absBenefit();
     }
 
     @Override
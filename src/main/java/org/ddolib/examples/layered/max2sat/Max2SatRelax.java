@@ -3,8 +3,7 @@ package org.ddolib.examples.layered.max2sat;
 import org.ddolib.solving.ddo.core.Decision;
 import org.ddolib.modeling.layered.Relaxation;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Iterator;
 
 import static java.lang.Integer.*;
@@ -65,26 +64,26 @@ public class Max2SatRelax implements Relaxation<Max2SatState> {
     public Max2SatState mergeStates(Iterator<Max2SatState> states) {
         //Being to optimistic can lead to bad decision. For the merged state we keep the net
         // benefit near to 0.
-        ArrayList<Integer> merged = new ArrayList<>(Collections.nCopies(problem.nbVars(), 0));
+        int[] merged = new int[problem.nbVars()];
         int depth = problem.nbVars();
         while (states.hasNext()) {
             Max2SatState current = states.next();
             depth = current.depth();
-            for (int i = 0; i < current.netBenefit().size(); i++) {
-                Integer mergedI = merged.get(i);
-                Integer currentI = current.netBenefit().get(i);
+            for (int i = depth; i < current.size(); i++) {
+                int mergedI = merged[i];
+                int currentI = current.netBenefit(i);
                 // If all the net benefits have the same sign, we keep the smallest one in absolute value.
-                if (signum(mergedI) == 1 && signum(currentI) == 1) {
-                    merged.set(i, min(mergedI, currentI));
-                } else if (signum(mergedI) == -1 && signum(currentI) == -1) {
-                    merged.set(i, max(mergedI, currentI));
+                if (mergedI > 0 && currentI > 0) {
+                    merged[i] = min(mergedI, currentI);
+                } else if (mergedI < 0 && currentI < 0) {
+                    merged[i] = max(mergedI, currentI);
                 } else {
                     // Otherwise, we set the benefit to 0.
-                    merged.set(i, 0);
+                    merged[i] = 0;
                 }
             }
         }
-        return new Max2SatState(merged, depth);
+        return new Max2SatState(Arrays.copyOfRange(merged, depth, problem.nbVars()), depth);
     }
 
     /**
@@ -109,7 +108,7 @@ public class Max2SatRelax implements Relaxation<Max2SatState> {
         // solution, we add the losses to the transition cost.
         double toReturn = -cost;
         for (int i = d.variable() + 1; i < problem.nbVars(); i++) {
-            toReturn += abs(to.netBenefit().get(i)) - abs(merged.netBenefit().get(i));
+            toReturn += abs(to.netBenefit(i)) - abs(merged.netBenefit(i));
         }
         return -toReturn;
     }
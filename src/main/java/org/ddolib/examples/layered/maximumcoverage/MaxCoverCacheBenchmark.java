@@ -0,0 +1,91 @@
+package org.ddolib.examples.layered.maximumcoverage;
+
+import org.ddolib.common.solver.layered.Solution;
+import org.ddolib.modeling.layered.DdoModel;
+import org.ddolib.modeling.layered.Problem;
+import org.ddolib.modeling.layered.Solvers;
+import org.ddolib.solving.ddo.core.frontier.CutSetType;
+import org.ddolib.solving.ddo.core.frontier.Frontier;
+import org.ddolib.solving.ddo.core.frontier.SimpleFrontier;
+import org.ddolib.solving.ddo.core.heuristics.width.FixedWidth;
+import org.ddolib.solving.ddo.core.heuristics.width.WidthHeuristic;
+
+/**
+ * Regression benchmark of the cache on the Maximum Coverage (MaxCover) problem.
+ * <p>
+ * The same instance is solved with the DDO solver at widths 100, 1000 and 10000, with and
+ * without the cache. The back-propagation of the cache thresholds is linear in the size of
+ * the compiled diagrams, so enabling the cache should not slow down the search on wide
+ * diagrams: the time per explored node must stay comparable between both settings.
+ * </p>
+ *
+ * <p>
+ * Each run is stopped after the time limit given as first argument (in seconds, 60 by default).
+ * </p>
+ */
+public class MaxCoverCacheBenchmark {
+
+    /**
+     * Program entry point.
+     *
+     * @param args the optional time limit of each run, in seconds
+     */
+    public static void main(String[] args) {
+        long timeLimit = args.length > 0 ? Long.parseLong(args[0]) * 1000 : 60_000;
+        MaxCoverProblem problem = new MaxCoverProblem(60, 60, 10, 0.1, 42);
+
+        System.out.printf("%-8s %-6s %-12s %-12s %-10s %-10s%n",
+                "width", "cache", "time(ms)", "iterations", "best", "status");
+        for (int width : new int[]{100, 1000, 10000}) {
+            for (boolean cache : new boolean[]{false, true}) {
+                Solution solution = Solvers.minimizeDdo(model(problem, width, cache),
+                        s -> s.runtime() > timeLimit);
+                System.out.printf("%-8d %-6b %-12d %-12d %-10.1f %-10s%n",
+                        width, cache,
+                        solution.statistics().runtime(),
+                        solution.statistics().nbIterations(),
+                        solution.statistics().incumbent(),
+                        solution.statistics().status());
+            }
+        }
+    }
+
+    private static DdoModel<MaxCoverState> model(MaxCoverProblem problem, int width, boolean cache) {
+        return new DdoModel<>() {
+            @Override
+            public Problem<MaxCoverState> problem() {
+                return problem;
+            }
+
+            @Override
+            public MaxCoverRelax relaxation() {
+                return new MaxCoverRelax(problem);
+            }
+
+            @Override
+            public MaxCoverRanking ranking() {
+                return new MaxCoverRanking();
+            }
+
+            @Override
+            public WidthHeuristic<MaxCoverState> widthHeuristic() {
+                return new FixedWidth<>(width);
+            }
+
+            @Override
+            public MaxCoverFastLowerBound lowerBound() {
+                return new MaxCoverFastLowerBound(problem);
+            }
+
+            @Override
+            public Frontier<MaxCoverState> frontier() {
+                return new SimpleFrontier<>(ranking(), CutSetType.Frontier);
+            }
+
+            @Override
+            public boolean useCache() {
+                return cache;
+            }
+        };
+    }
+}
@@ -93,6 +93,7 @@ public class MaxCoverDdoMainWithCluster {
             @Override
             public ReductionStrategy<MaxCoverState> relaxStrategy() {
                 return new GHP<>(new MaxCoverDistance(problem));
+//                return new FastGHP<>(new MaxCoverDistance(problem)); // for wide layers
 //                return new Hybrid<>(new MaxCoverRanking(), new MaxCoverDistance(problem));
 //                return new CostBased<>(new MaxCoverRanking()); // default strategy
             }
@@ -100,6 +101,7 @@ public class MaxCoverDdoMainWithCluster {
             @Override
             public ReductionStrategy<MaxCoverState> restrictStrategy() {
                 return new GHP<>(new MaxCoverDistance(problem));
+//                return new FastGHP<>(new MaxCoverDistance(problem)); // for wide layers
 //                return new Hybrid<>(new MaxCoverRanking(), new MaxCoverDistance(problem));
 //                return new CostBased<>(new MaxCoverRanking()); // default strategy
             }
@@ -1,9 +1,12 @@
 package org.ddolib.examples.layered.maximumcoverage;
 
 import org.ddolib.solving.ddo.core.heuristics.cluster.layered.StateDistance;
+import org.ddolib.solving.ddo.core.heuristics.cluster.layered.WordSetDistance;
 import org.ddolib.solving.ddo.core.mdd.layered.NodeSubProblem;
+import static org.ddolib.util.DistanceUtil.intersectionSize;
 import static org.ddolib.util.DistanceUtil.weightedJaccardDistance;
 import static org.ddolib.util.DistanceUtil.symmetricDifferenceDistance;
+import static org.ddolib.util.DistanceUtil.symmetricDifferenceDistances;
 
 import java.util.BitSet;
 
@@ -26,7 +29,7 @@ import static java.lang.Math.max;
  * Distances are normalized with respect to the number of items in the problem
  * instance and may rely on weighted or unweighted set-based metrics.
  */
-public class MaxCoverDistance implements StateDistance<MaxCoverState> {
+public class MaxCoverDistance implements WordSetDistance<MaxCoverState> {
     /** Instance of the Maximum Coverage problem. */
     MaxCoverProblem instance;
     /**
@@ -49,9 +52,7 @@ public class MaxCoverDistance implements StateDistance<MaxCoverState> {
      * @return a distance value derived from the squared intersection size
      */
     private double rogerDistance(BitSet a, BitSet b) {
-        BitSet tmp = (BitSet) a.clone();
-        tmp.and(b);
-        int intersectionSize = tmp.cardinality();
+        int intersectionSize = intersectionSize(a, b);
         return 50*50 - intersectionSize*intersectionSize;
     }
     /**
@@ -116,6 +117,31 @@ public class MaxCoverDistance implements StateDistance<MaxCoverState> {
     public double distance(MaxCoverState a, MaxCoverState b) {
         return symmetricDifferenceDistance(a.coveredItems(), b.coveredItems()) / instance.nbItems;
     }
+    /**
+     * Gives the set of covered items of a state, as an array of words.
+     *
+     * @param state the state
+     * @return the covered items of the state
+     */
+    @Override
+    public long[] words(MaxCoverState state) {
+        return state.coveredItems().toLongArray();
+    }
+    /**
+     * Computes the normalized symmetric difference distances between the covered items of a state
+     * and those of other states.
+     *
+     * @param ref the covered items of the reference state
+     * @param others the covered items of the other states
+     * @param out receives the distances, as {@link #distance(MaxCoverState, MaxCoverState)}
+     */
+    @Override
+    public void distances(long[] ref, long[][] others, double[] out) {
+        symmetricDifferenceDistances(ref, others, out);
+        for (int i = 0; i < others.length; i++) {
+            out[i] /= instance.nbItems;
+        }
+    }
 
 
 }
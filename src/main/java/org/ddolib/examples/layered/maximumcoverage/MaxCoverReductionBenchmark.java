@@ -0,0 +1,90 @@
+package org.ddolib.examples.layered.maximumcoverage;
+
+import org.ddolib.common.solver.layered.Solution;
+import org.ddolib.modeling.layered.DdoModel;
+import org.ddolib.modeling.layered.Problem;
+import org.ddolib.modeling.layered.Solvers;
+import org.ddolib.solving.ddo.core.heuristics.cluster.layered.CostBased;
+import org.ddolib.solving.ddo.core.heuristics.cluster.layered.FastGHP;
+import org.ddolib.solving.ddo.core.heuristics.cluster.layered.GHP;
+import org.ddolib.solving.ddo.core.heuristics.cluster.layered.MinHashBased;
+import org.ddolib.solving.ddo.core.heuristics.cluster.layered.ReductionStrategy;
+import org.ddolib.solving.ddo.core.heuristics.width.FixedWidth;
+import org.ddolib.solving.ddo.core.heuristics.width.WidthHeuristic;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Compares the reduction strategies on the Maximum Coverage (MaxCover) problem.
+ * <p>
+ * A single relaxed decision diagram is compiled for each reduction strategy, at widths 100 and 1000.
+ * The time of the compilation and the relaxed bound are printed: the larger the bound (the problem
+ * is a maximization, the bound is negated), the better the clusters.
+ * </p>
+ */
+public class MaxCoverReductionBenchmark {
+
+    /**
+     * Program entry point.
+     *
+     * @param args unused
+     */
+    public static void main(String[] args) {
+        MaxCoverProblem problem = new MaxCoverProblem(150, 150, 15, 0.1, 42);
+        MaxCoverDistance distance = new MaxCoverDistance(problem);
+
+        Map<String, Supplier<ReductionStrategy<MaxCoverState>>> strategies = new LinkedHashMap<>();
+        strategies.put("CostBased", () -> new CostBased<>(new MaxCoverRanking()));
+        strategies.put("GHP", () -> new GHP<>(distance, 42));
+        strategies.put("FastGHP", () -> new FastGHP<>(distance, 42));
+        strategies.put("MinHash", () -> new MinHashBased<>(MaxCoverState::coveredItems, 42));
+
+        System.out.printf("%-8s %-10s %-10s %-10s%n", "width", "strategy", "time(ms)", "bound");
+        for (int width : new int[]{100, 1000}) {
+            for (Map.Entry<String, Supplier<ReductionStrategy<MaxCoverState>>> e : strategies.entrySet()) {
+                Solution solution = Solvers.relaxedDdo(model(problem, width, e.getValue().get()));
+                System.out.printf("%-8d %-10s %-10d %-10.1f%n",
+                        width, e.getKey(),
+                        solution.statistics().runtime(),
+                        solution.statistics().incumbent());
+            }
+        }
+    }
+
+    private static DdoModel<MaxCoverState> model(MaxCoverProblem problem, int width,
+                                                 ReductionStrategy<MaxCoverState> strategy) {
+        return new DdoModel<>() {
+            @Override
+            public Problem<MaxCoverState> problem() {
+                return problem;
+            }
+
+            @Override
+            public MaxCoverRelax relaxation() {
+                return new MaxCoverRelax(problem);
+            }
+
+            @Override
+            public MaxCoverRanking ranking() {
+                return new MaxCoverRanking();
+            }
+
+            @Override
+            public WidthHeuristic<MaxCoverState> widthHeuristic() {
+                return new FixedWidth<>(width);
+            }
+
+            @Override
+            public MaxCoverFastLowerBound lowerBound() {
+                return new MaxCoverFastLowerBound(problem);
+            }
+
+            @Override
+            public ReductionStrategy<MaxCoverState> relaxStrategy() {
+                return strategy;
+            }
+        };
+    }
+}
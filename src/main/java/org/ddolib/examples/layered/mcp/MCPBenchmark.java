@@ -0,0 +1,79 @@
+package org.ddolib.examples.layered.mcp;
+
+import org.ddolib.common.solver.layered.Solution;
+import org.ddolib.modeling.layered.DdoModel;
+import org.ddolib.modeling.layered.Problem;
+import org.ddolib.modeling.layered.Relaxation;
+import org.ddolib.modeling.layered.Solvers;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Benchmark of the DDO solver on the Maximum Cut Problem (MCP) instances of {@code data/MCP}.
+ * <p>
+ * Each instance is solved with the default width heuristic, and the runtime, the number of
+ * iterations and the time per iteration are printed. As the search does not depend on the
+ * representation of the states, comparing the runtimes of two versions of the model measures the
+ * speedup of the transitions, of the relaxation and of the bounds.
+ * </p>
+ *
+ * <p>
+ * Each run is stopped after the time limit given as first argument (in seconds, 30 by default).
+ * The instances to solve can be given as next arguments.
+ * </p>
+ */
+public class MCPBenchmark {
+
+    /**
+     * Program entry point.
+     *
+     * @param args the optional time limit of each run, in seconds, followed by the optional instance files
+     * @throws IOException if an instance cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        long timeLimit = args.length > 0 ? Long.parseLong(args[0]) * 1000 : 30_000;
+        String[] instances = args.length > 1 ? Arrays.copyOfRange(args, 1, args.length) :
+                new String[]{"mcp_20.txt", "mcp_30.txt", "mcp_40.txt", "mcp_50.txt", "mcp_100.txt"};
+
+        System.out.printf("%-14s %-10s %-12s %-14s %-10s %-10s%n",
+                "instance", "time(ms)", "iterations", "ms/iteration", "best", "status");
+        for (String instance : instances) {
+            String file = instance.contains("/") ? instance : Path.of("data", "MCP", instance).toString();
+            MCPProblem problem = new MCPProblem(file);
+            Solution solution = Solvers.minimizeDdo(model(problem), s -> s.runtime() > timeLimit);
+            System.out.printf("%-14s %-10d %-12d %-14.3f %-10.1f %-10s%n",
+                    Path.of(file).getFileName(),
+                    solution.statistics().runtime(),
+                    solution.statistics().nbIterations(),
+                    (double) solution.statistics().runtime() / Math.max(1, solution.statistics().nbIterations()),
+                    solution.statistics().incumbent(),
+                    solution.statistics().status());
+        }
+    }
+
+    private static DdoModel<MCPState> model(MCPProblem problem) {
+        return new DdoModel<>() {
+            @Override
+            public Problem<MCPState> problem() {
+                return problem;
+            }
+
+            @Override
+            public MCPFastLowerBound lowerBound() {
+                return new MCPFastLowerBound(problem);
+            }
+
+            @Override
+            public Relaxation<MCPState> relaxation() {
+                return new MCPRelax(problem);
+            }
+
+            @Override
+            public MCPRanking ranking() {
+                return new MCPRanking();
+            }
+        };
+    }
+}
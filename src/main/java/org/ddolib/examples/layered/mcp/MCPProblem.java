@@ -145,7 +145,7 @@ public class MCPProblem implements Problem<MCPState> {
 
     @Override
     public MCPState initialState() {
-        return new MCPState(new ArrayList<>(Collections.nCopies(nbVars(), 0)), 0);
+        return new MCPState(new int[nbVars()], 0);
     }
 
     @Override
@@ -168,22 +168,21 @@ public class MCPProblem implements Problem<MCPState> {
 
     @Override
     public MCPState transition(MCPState state, Decision decision) {
-        ArrayList<Integer> newBenefits = new ArrayList<>(Collections.nCopies(nbVars(), 0));
+        int depth = state.depth() + 1;
+        int[] newBenefits = new int[nbVars() - depth];
         int k = decision.variable();
         if (decision.value() == S) {
-            for (int l = k + 1; l < nbVars(); l++) {
+            for (int l = max(k + 1, depth); l < nbVars(); l++) {
                 // If k is put in S, and then l is put in T, we gain the weight of the edge k -- l
-                int benef = state.netBenefit().get(l) + graph.weightOf(k, l);
-                newBenefits.set(l, benef);
+                newBenefits[l - depth] = state.netBenefit(l) + graph.weightOf(k, l);
             }
         } else {
-            for (int l = k + 1; l < nbVars(); l++) {
+            for (int l = max(k + 1, depth); l < nbVars(); l++) {
                 // If k is put in T, and then l is also put in T, we lose the weight of the edge k -- l
-                int benef = state.netBenefit().get(l) - graph.weightOf(k, l);
-                newBenefits.set(l, benef);
+                newBenefits[l - depth] = state.netBenefit(l) - graph.weightOf(k, l);
             }
         }
-        return new MCPState(newBenefits, state.depth() + 1);
+        return new MCPState(newBenefits, depth);
     }
 
     @Override
@@ -232,10 +231,10 @@ public class MCPProblem implements Problem<MCPState> {
      */
     private int branchOnS(MCPState state, int k) {
         // If k is set to S, we gain the net benefit if it is < 0
-        int cost = positiveOrNull(-state.netBenefit().get(k));
+        int cost = positiveOrNull(-state.netBenefit(k));
 
         for (int l = k + 1; l < nbVars(); l++) {
-            int skl = state.netBenefit().get(l);
+            int skl = state.netBenefit(l);
             int wkl = graph.weightOf(k, l);
 
             if (skl * wkl <= 0) cost += min(abs(skl), abs(wkl));
@@ -253,10 +252,10 @@ public class MCPProblem implements Problem<MCPState> {
      */
     private int branchOnT(MCPState state, int k) {
         // If k is set to T, we gain the net benefit if it is > 0
-        int cost = positiveOrNull(state.netBenefit().get(k));
+        int cost = positiveOrNull(state.netBenefit(k));
 
         for (int l = k + 1; l < nbVars(); l++) {
-            int skl = state.netBenefit().get(l);
+            int skl = state.netBenefit(l);
             int wkl = graph.weightOf(k, l);
 
             if (skl * wkl >= 0) cost += min(abs(skl), abs(wkl));
@@ -11,12 +11,7 @@ import org.ddolib.modeling.layered.StateRanking;
 public class MCPRanking implements StateRanking<MCPState> {
 
     public static int rank(MCPState state) {
-        int toReturn = 0;
-        for (int i = state.depth(); i < state.netBenefit().size(); i++) {
-            toReturn += Math.abs(state.netBenefit().get(i));
-
-        }
-        return toReturn;
+        return state.absBenefit();
     }
 
     @Override
@@ -3,7 +3,6 @@ package org.ddolib.examples.layered.mcp;
 import org.ddolib.solving.ddo.core.Decision;
 import org.ddolib.modeling.layered.Relaxation;
 
-import java.util.ArrayList;
 import java.util.Iterator;
 
 import static java.lang.Integer.*;
@@ -64,25 +63,27 @@ public class MCPRelax implements Relaxation<MCPState> {
     @Override
     public MCPState mergeStates(Iterator<MCPState> states) {
         MCPState state = states.next();
-        ArrayList<Integer> merged = new ArrayList<>(state.netBenefit());
         int depth = state.depth();
+        int[] merged = new int[problem.nbVars() - depth];
+        for (int i = depth; i < problem.nbVars(); i++) {
+            merged[i - depth] = state.netBenefit(i);
+        }
 
         while (states.hasNext()) {
             MCPState current = states.next();
             for (int i = depth; i < problem.nbVars(); i++) {
-                Integer mergedI = merged.get(i);
-                Integer currentI = current.netBenefit().get(i);
-
+                int mergedI = merged[i - depth];
+                int currentI = current.netBenefit(i);
 
-                if (signum(mergedI) == 1 && signum(currentI) == 1) {
+                if (mergedI > 0 && currentI > 0) {
                     //If all the net benefits are positive, we keep the smallest one
-                    merged.set(i, min(mergedI, currentI));
-                } else if (signum(mergedI) == -1 && signum(currentI) == -1) {
+                    merged[i - depth] = min(mergedI, currentI);
+                } else if (mergedI < 0 && currentI < 0) {
                     // If all the net benefits are negative, we keep the biggest one
-                    merged.set(i, max(mergedI, currentI));
+                    merged[i - depth] = max(mergedI, currentI);
                 } else {
                     // Otherwise, we set at 0
-                    merged.set(i, 0);
+                    merged[i - depth] = 0;
                 }
             }
         }
@@ -109,7 +110,7 @@ public class MCPRelax implements Relaxation<MCPState> {
     public double relaxEdge(MCPState from, MCPState to, MCPState merged, Decision d, double cost) {
         double toReturn = -cost;
         for (int i = d.variable() + 1; i < problem.nbVars(); i++) {
-            toReturn += abs(to.netBenefit().get(i)) - abs(merged.netBenefit().get(i));
+            toReturn += abs(to.netBenefit(i)) - abs(merged.netBenefit(i));
         }
         return -toReturn;
     }
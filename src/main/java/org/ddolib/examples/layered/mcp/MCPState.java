@@ -1,28 +1,108 @@
 package org.ddolib.examples.layered.mcp;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
- * Class to contain data for the MCP state. The state contains its depth in the associated MDD and a list of net
- * benefits.<br>
+ * Class to contain data for the MCP state. The state contains its depth in the associated MDD and the net
+ * benefits of the variables that are not assigned yet.<br>
  * <p>
- * This list contains:
+ * The net benefit of a variable {@code k}:
  * <ul>
- *     <li> for each {@code k >= depth}, the net benefits by setting the variable {@code k} to the
+ *     <li> for each {@code k >= depth}, is the net benefit by setting the variable {@code k} to the
  *     partition {@code T}
  *     knowing the assignment of the previous variables;
  *     </li>
- *     <li>for each {@code k < depth}, {@code 0}, modeling that these variable has been assigned in
+ *     <li>for each {@code k < depth}, is {@code 0}, modeling that these variable has been assigned in
  *     previous layer and cannot influence the objective anymore.</li>
- * </ul>.
- *
- * @param netBenefit the list of cumulative net benefits
- * @param depth      the current depth of the search
+ * </ul>
+ * <p>
+ * Only the net benefits of the variables {@code k >= depth} are stored, in a primitive array. The hash
+ * code of the state and the sum of the absolute values of its net benefits, used by {@link MCPRanking},
+ * are computed once when the state is created. The states are immutable.
+ * </p>
  */
-public record MCPState(ArrayList<Integer> netBenefit, int depth) {
+public final class MCPState {
+    /** The net benefits of the variables {@code depth, depth + 1, ...}. */
+    private final int[] netBenefit;
+    /** The current depth of the search. */
+    private final int depth;
+    /** The sum of the absolute values of the net benefits. */
+    private final int absBenefit;
+    /** The hash code of the state. */
+    private final int hash;
+
+    /**
+     * Creates a state.
+     *
+     * @param netBenefit the net benefits of the variables {@code depth, depth + 1, ...}; the array is not copied
+     *                   and must not be modified afterward
+     * @param depth      the current depth of the search
+     */
+    public MCPState(int[] netBenefit, int depth) {
+        this.netBenefit = netBenefit;
+        this.depth = depth;
+        int sum = 0;
+        for (int b : netBenefit) {
+            sum += Math.abs(b);
+        }
+        this.absBenefit = sum;
+        this.hash = 31 * Arrays.hashCode(netBenefit) + depth;
+    }
+
+    /**
+     * Returns the net benefit of a variable.
+     *
+     * @param variable a variable
+     * @return the net benefit of setting the variable to the partition {@code T}, {@code 0} if the
+     * variable is already assigned
+     */
+    public int netBenefit(int variable) {
+        return variable < depth ? 0 : netBenefit[variable - depth];
+    }
+
+    /**
+     * Returns the number of variables of the problem.
+     *
+     * @return the number of variables, assigned or not
+     */
+    public int size() {
+        return depth + netBenefit.length;
+    }
+
+    /**
+     * Returns the current depth of the search.
+     *
+     * @return the number of assigned variables
+     */
+    public int depth() {
+        return depth;
+    }
+
+    /**
+     * Returns the sum of the absolute values of the net benefits of the unassigned variables.
+     *
+     * @return the largest benefit the unassigned variables may still bring
+     */
+    public int absBenefit() {
+        return absBenefit;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        return obj instanceof MCPState other && hash == other.hash && depth == other.depth
+                && Arrays.equals(netBenefit, other.netBenefit);
+    }
 
     @Override
     public String toString() {
-        return netBenefit.toString();
+        int[] all = new int[size()];
+        System.arraycopy(netBenefit, 0, all, depth, netBenefit.length);
+        return Arrays.toString(all);
     }
 }
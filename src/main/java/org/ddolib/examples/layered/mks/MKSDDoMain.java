@@ -7,6 +7,8 @@ import org.ddolib.solving.ddo.core.heuristics.cluster.layered.Hybrid;
 import org.ddolib.solving.ddo.core.heuristics.cluster.layered.ReductionStrategy;
 import org.ddolib.solving.ddo.core.heuristics.width.FixedWidth;
 import org.ddolib.solving.ddo.core.heuristics.width.WidthHeuristic;
+import org.ddolib.solving.ddo.core.mdd.export.DiagramExporter;
+import org.ddolib.solving.ddo.core.mdd.export.DotDiagramExporter;
 import org.ddolib.modeling.layered.DdoModel;
 import org.ddolib.modeling.layered.Problem;
 import org.ddolib.modeling.layered.Solvers;
@@ -68,6 +70,13 @@ public class MKSDDoMain {
                 return true;
             }
 
+            @Override
+            public DiagramExporter<MKSState> diagramExporter(String name) {
+                return DotDiagramExporter.toFile(Path.of("output", name + ".dot"));
+//                return BinaryDiagramExporter.toFile(Path.of("output", name + ".ddg"), false);
+//                return new SampledDiagramExporter<>(DotDiagramExporter.toFile(Path.of("output", name + ".dot")), 20, 10);
+            }
+
             @Override
             public ReductionStrategy<MKSState> relaxStrategy() {
                 return new GHP<>(new MKSDistance(problem));
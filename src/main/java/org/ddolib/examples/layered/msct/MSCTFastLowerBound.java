@@ -2,6 +2,7 @@ package org.ddolib.examples.layered.msct;
 
 import org.ddolib.modeling.layered.FastLowerBound;
 
+import java.util.BitSet;
 import java.util.Set;
 /**
  * Provides a fast lower bound computation for the Maximum Sum of Compatible Tasks (MSCT) problem.
@@ -77,7 +78,8 @@ public class MSCTFastLowerBound implements FastLowerBound<MSCTState> {
     public double fastLowerBound(MSCTState state, Set<Integer> variables) {
         int lb = 0;
 
-        for (Integer v : state.remainingJobs()) {
+        BitSet remaining = state.remainingJobs();
+        for (int v = remaining.nextSetBit(0); v >= 0; v = remaining.nextSetBit(v + 1)) {
             lb += Math.max(state.currentTime(), problem.release[v]) + problem.processing[v];
         }
         return lb;
@@ -181,10 +181,8 @@ public class MSCTProblem implements Problem<MSCTState> {
      */
     @Override
     public MSCTState initialState() {
-        Set<Integer> jobs = new HashSet<>();
-        for (int i = 0; i < nbVars(); i++) {
-            jobs.add(i);
-        }
+        BitSet jobs = new BitSet(nbVars());
+        jobs.set(0, nbVars());
         return new MSCTState(jobs, 0);
     }
 
@@ -210,7 +208,7 @@ public class MSCTProblem implements Problem<MSCTState> {
      */
     @Override
     public Iterator<Integer> domain(MSCTState state, int var) {
-        return state.remainingJobs().iterator();
+        return state.remainingJobs().stream().iterator();
     }
 
     /**
@@ -222,8 +220,8 @@ public class MSCTProblem implements Problem<MSCTState> {
      */
     @Override
     public MSCTState transition(MSCTState state, Decision decision) {
-        Set<Integer> remaining = new HashSet<>(state.remainingJobs());
-        remaining.remove(decision.value());
+        BitSet remaining = (BitSet) state.remainingJobs().clone();
+        remaining.clear(decision.value());
         int currentTime = Math.max(state.currentTime(), release[decision.value()]) + processing[decision.value()];
         return new MSCTState(remaining, currentTime);
     }
@@ -4,9 +4,8 @@ package org.ddolib.examples.layered.msct;
 import org.ddolib.solving.ddo.core.Decision;
 import org.ddolib.modeling.layered.Relaxation;
 
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.Iterator;
-import java.util.Set;
 /**
  * Implements the relaxation operator for the {@link MSCTProblem}
  * in the context of <b>Decision Diagram Optimization (DDO)</b> algorithms.
@@ -63,11 +62,11 @@ public class MSCTRelax implements Relaxation<MSCTState> {
      */
     @Override
     public MSCTState mergeStates(final Iterator<MSCTState> states) {
-        Set<Integer> unionJobs = new HashSet<>();
+        BitSet unionJobs = new BitSet(problem.nbVars());
         int minCurrentTime = Integer.MAX_VALUE;
         while (states.hasNext()) {
             final MSCTState state = states.next();
-            unionJobs.addAll(state.remainingJobs());
+            unionJobs.or(state.remainingJobs());
             minCurrentTime = Math.min(state.currentTime(), minCurrentTime);
         }
         return new MSCTState(unionJobs, minCurrentTime);
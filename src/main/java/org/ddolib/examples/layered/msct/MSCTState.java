@@ -1,8 +1,6 @@
 package org.ddolib.examples.layered.msct;
 
-import java.util.Arrays;
-import java.util.Objects;
-import java.util.Set;
+import java.util.BitSet;
 
 
 /**
@@ -25,12 +23,19 @@ import java.util.Set;
  * provides automatically generated implementations for equals, hashCode, and accessors.
  * </p>
  *
+ * <p>
+ * The remaining jobs are stored in a {@link BitSet}, so that the transitions, the merges and the
+ * comparisons of states work on whole words instead of boxed integers. The bit set must not be
+ * modified once the state is created.
+ * </p>
+ *
  * <p><b>Example:</b></p>
  * <pre>{@code
- * Set<Integer> jobs = Set.of(0, 1, 2);
+ * BitSet jobs = new BitSet();
+ * jobs.set(0, 3);
  * MSCTState state = new MSCTState(jobs, 5);
  * System.out.println(state);
- * // Output: RemainingJobs [0, 1, 2] ----> currentTime 5
+ * // Output: RemainingJobs {0, 1, 2} ----> currentTime 5
  * }</pre>
  *
  * @param remainingJobs the set of job indices that have not yet been scheduled.
@@ -40,7 +45,7 @@ import java.util.Set;
  * @see MSCTRelax
  * @see MSCTRanking
  */
-public record MSCTState(Set<Integer> remainingJobs, int currentTime) {
+public record MSCTState(BitSet remainingJobs, int currentTime) {
     /**
      * Returns a string representation of the state for debugging or logging purposes.
      * <p>
@@ -51,6 +56,6 @@ public record MSCTState(Set<Integer> remainingJobs, int currentTime) {
      */
     @Override
     public String toString() {
-        return "RemainingJobs " + Arrays.toString(remainingJobs.toArray()) + " ----> currentTime " + currentTime;
+        return "RemainingJobs " + remainingJobs + " ----> currentTime " + currentTime;
     }
 }
\ No newline at end of file
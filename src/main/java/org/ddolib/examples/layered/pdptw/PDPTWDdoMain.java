@@ -126,6 +126,7 @@ public final class PDPTWDdoMain {
             @Override
             public Frontier<PDPTWState> frontier() {
                 return new SimpleFrontier<>(ranking(), CutSetType.Frontier);
+//                return new MergingFrontier<>(ranking(), CutSetType.Frontier);
             }
 
             @Override
@@ -4,7 +4,6 @@ import org.ddolib.modeling.layered.FastLowerBound;
 import org.ddolib.util.TSPLowerBound;
 
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.PriorityQueue;
 import java.util.Set;
 
@@ -36,21 +35,22 @@ public class PSFastLowerBound implements FastLowerBound<PSState> {
     /** The production scheduling problem instance. */
     private final PSProblem problem;
 
-    /** Precomputed TSP lower bounds for all subsets of items, indexed by bitmask. */
-    private final int[] tspLb;
+    /** TSP lower bounds for the subsets of items, indexed by bitmask. */
+    private final TSPLowerBound tspLb;
     /**
      * Constructs a fast lower bound evaluator for a given PSP instance.
      * <p>
      * During initialization, the TSP lower bounds for all subsets of item types
-     * are precomputed using the  {@link TSPLowerBound#lowerBoundForAllSubsets(int[][])} method,
-     * which allows for fast lookup during the search.
+     * are precomputed by {@link TSPLowerBound}, which allows for fast lookup during the search.
+     * When there are too many item types, the bounds are instead computed when first needed
+     * and memoized.
      * </p>
      *
      * @param problem the PSP instance for which this lower bound will be computed
      */
     public PSFastLowerBound(PSProblem problem) {
         this.problem = problem;
-        tspLb = TSPLowerBound.lowerBoundForAllSubsets(problem.changeoverCost);
+        tspLb = new TSPLowerBound(problem.changeoverCost);
     }
 
     /**
@@ -61,17 +61,17 @@ public class PSFastLowerBound implements FastLowerBound<PSState> {
      * </p>
      *
      * @param state the current PSP state
-     * @return a set of indices representing items that remain to be produced
+     * @return the bitmask of the items that remain to be produced
      */
-    private static Set<Integer> members(PSState state) {
-        Set<Integer> mem = new HashSet<>();
+    private static long members(PSState state) {
+        long mem = 0L;
         for (int i = 0; i < state.previousDemands.length; i++) {
             if (state.previousDemands[i] >= 0) {
-                mem.add(i);
+                mem |= 1L << i;
             }
         }
         if (state.next != -1) {
-            mem.add(state.next);
+            mem |= 1L << state.next;
         }
         return mem;
     }
@@ -100,12 +100,7 @@ public class PSFastLowerBound implements FastLowerBound<PSState> {
      */
     @Override
     public double fastLowerBound(PSState state, Set<Integer> variables) {
-        // Convert to bitset-like index
-        int idx = members(state).stream().
-                mapToInt(Integer::intValue).
-                reduce(0, (a, b) -> a | (1 << b));
-
-        int changeOverLb = tspLb[idx]; // lower-bound on the changeOverCost
+        int changeOverLb = tspLb.lowerBound(members(state)); // lower-bound on the changeOverCost
 
         int stockingCostLb = 0; // lower-bound on the stocking cost
         PriorityQueue<ItemDemand> itemDemands = new PriorityQueue<>(Comparator.comparingInt(ItemDemand::cost));
@@ -0,0 +1,75 @@
+package org.ddolib.examples.layered.talentscheduling;
+
+import org.ddolib.modeling.InvalidSolutionException;
+import org.ddolib.modeling.layered.Problem;
+import org.ddolib.solving.ddo.core.Decision;
+
+import java.util.Iterator;
+
+/**
+ * The Talent Scheduling Problem explored backward, from the last scene of the schedule to the first one.
+ *
+ * <p>
+ * The waiting cost of an actor only depends on the scenes shot before and after each scene, so that the
+ * cost of a schedule is the same as the cost of the reversed schedule. The backward problem thus uses
+ * the same states and transitions as the {@link TSProblem}: the decision assigning the variable
+ * {@code nbVars - 1 - k} chooses the scene shot {@code k} positions before the end of the schedule,
+ * and the remaining scenes of a state are the scenes still to be shot before it.
+ * </p>
+ *
+ * <p>
+ * The base cost of the actors, which is counted by the initial value of the forward problem, is not
+ * counted twice: the initial value of this problem is zero.
+ * </p>
+ */
+public class TSBackwardProblem implements Problem<TSState> {
+
+    /**
+     * The forward problem.
+     */
+    private final TSProblem problem;
+
+    /**
+     * Creates the backward problem of a Talent Scheduling instance.
+     *
+     * @param problem the forward problem
+     */
+    public TSBackwardProblem(TSProblem problem) {
+        this.problem = problem;
+    }
+
+    @Override
+    public int nbVars() {
+        return problem.nbVars();
+    }
+
+    @Override
+    public TSState initialState() {
+        return problem.initialState();
+    }
+
+    @Override
+    public double initialValue() {
+        return 0;
+    }
+
+    @Override
+    public Iterator<Integer> domain(TSState state, int var) {
+        return problem.domain(state, var);
+    }
+
+    @Override
+    public TSState transition(TSState state, Decision decision) {
+        return problem.transition(state, decision);
+    }
+
+    @Override
+    public double transitionCost(TSState state, Decision decision) {
+        return problem.transitionCost(state, decision);
+    }
+
+    @Override
+    public double evaluate(int[] solution) throws InvalidSolutionException {
+        return problem.evaluate(solution);
+    }
+}
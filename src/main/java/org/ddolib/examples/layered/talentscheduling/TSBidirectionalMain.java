@@ -0,0 +1,75 @@
+package org.ddolib.examples.layered.talentscheduling;
+
+import org.ddolib.common.solver.layered.Solution;
+import org.ddolib.modeling.layered.BidirectionalModel;
+import org.ddolib.modeling.layered.FastLowerBound;
+import org.ddolib.modeling.layered.Problem;
+import org.ddolib.modeling.layered.Solvers;
+import org.ddolib.util.io.SolutionPrinter;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.BitSet;
+
+/**
+ * Entry point for solving the Talent Scheduling Problem with the bidirectional exact solver.
+ * <p>
+ * The schedule is built from both ends: the forward search chooses the first half of the scenes
+ * while the backward search chooses the last half of them, in parallel. A forward state and a
+ * backward state are joined when the scenes scheduled by the forward search are exactly the scenes
+ * remaining in the backward state.
+ * </p>
+ *
+ * <p>
+ * Usage: {@code TSBidirectionalMain [instance]}, with {@code data/TalentScheduling/film-12}
+ * as default instance.
+ * </p>
+ */
+public class TSBidirectionalMain {
+    public static void main(String[] args) throws IOException {
+        String instance = args.length == 0 ? Paths.get("data", "TalentScheduling", "film-12").toString() : args[0];
+        final TSProblem problem = new TSProblem(instance);
+        BidirectionalModel<TSState, TSState> model = new BidirectionalModel<>() {
+            @Override
+            public Problem<TSState> problem() {
+                return problem;
+            }
+
+            @Override
+            public TSFastLowerBound lowerBound() {
+                return new TSFastLowerBound(problem);
+            }
+
+            @Override
+            public Problem<TSState> backwardProblem() {
+                return new TSBackwardProblem(problem);
+            }
+
+            @Override
+            public FastLowerBound<TSState> backwardLowerBound() {
+                TSFastLowerBound flb = new TSFastLowerBound(problem);
+                double baseCost = problem.initialValue();
+                return (state, variables) -> baseCost + flb.fastLowerBound(state, variables);
+            }
+
+            @Override
+            public Object forwardKey(TSState state) {
+                return state.remainingScenes();
+            }
+
+            @Override
+            public Object backwardKey(TSState state) {
+                BitSet scheduled = new BitSet(problem.nbVars());
+                scheduled.set(0, problem.nbVars());
+                scheduled.andNot(state.remainingScenes());
+                return scheduled;
+            }
+        };
+
+        Solution bestSolution = Solvers.minimizeBidirectional(model, (sol, s) -> {
+            SolutionPrinter.printSolution(s, sol);
+        });
+        System.out.println(bestSolution.statistics());
+        System.out.println(bestSolution);
+    }
+}
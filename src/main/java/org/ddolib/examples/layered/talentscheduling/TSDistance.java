@@ -1,14 +1,14 @@
 package org.ddolib.examples.layered.talentscheduling;
 
 import static org.ddolib.util.DistanceUtil.*;
-import org.ddolib.solving.ddo.core.heuristics.cluster.layered.StateDistance;
+import org.ddolib.solving.ddo.core.heuristics.cluster.layered.WordSetDistance;
 
 import java.util.BitSet;
 
 /**
  * State distance for Talent Scheduling based on the symmetric difference of remaining scenes.
  */
-public class TSDistance implements StateDistance<TSState> {
+public class TSDistance implements WordSetDistance<TSState> {
 
     final private TSProblem problem;
 
@@ -26,4 +26,14 @@ public class TSDistance implements StateDistance<TSState> {
         return symmetricDifferenceDistance(a.remainingScenes(), b.remainingScenes());
     }
 
+    @Override
+    public long[] words(TSState state) {
+        return state.remainingScenes().toLongArray();
+    }
+
+    @Override
+    public void distances(long[] ref, long[][] others, double[] out) {
+        symmetricDifferenceDistances(ref, others, out);
+    }
+
 }
@@ -0,0 +1,97 @@
+package org.ddolib.examples.layered.tsptw;
+
+import org.ddolib.common.dominance.DominanceChecker;
+import org.ddolib.common.dominance.SimpleDominanceChecker;
+import org.ddolib.common.solver.layered.Solution;
+import org.ddolib.common.solver.stat.DdoStats;
+import org.ddolib.modeling.layered.DdoModel;
+import org.ddolib.modeling.layered.Problem;
+import org.ddolib.modeling.layered.Solvers;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Benchmark of the DDO solver on the Traveling Salesman Problem with Time Windows (TSPTW) instances of
+ * {@code data/TSPTW}.
+ * <p>
+ * Each instance is solved with the model of {@link TSPTWDdoMain} and the default width heuristic, and the
+ * runtime, the number of iterations, the number of nodes created in the compiled diagrams and the number
+ * of nodes created per second are printed. As the search does not depend on the representation of the
+ * states, comparing the throughputs of two versions of the model measures the speedup of the domains, of
+ * the transitions, of the relaxation and of the bounds.
+ * </p>
+ *
+ * <p>
+ * Each run is stopped after the time limit given as first argument (in seconds, 30 by default).
+ * The instances to solve can be given as next arguments, relatively to {@code data/TSPTW}.
+ * </p>
+ */
+public class TSPTWBenchmark {
+
+    /**
+     * Program entry point.
+     *
+     * @param args the optional time limit of each run, in seconds, followed by the optional instance files
+     * @throws IOException if an instance cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        long timeLimit = args.length > 0 ? Long.parseLong(args[0]) * 1000 : 30_000;
+        String[] instances = args.length > 1 ? Arrays.copyOfRange(args, 1, args.length) :
+                new String[]{"AFG/rbg016a.tw", "AFG/rbg021.9.tw", "AFG/rbg035a.tw", "AFG/rbg050c.tw",
+                        "AFG/rbg092a.tw", "AFG/rbg125a.tw"};
+
+        System.out.printf("%-16s %-10s %-12s %-12s %-12s %-10s %-10s%n",
+                "instance", "time(ms)", "iterations", "nodes", "nodes/s", "best", "status");
+        for (String instance : instances) {
+            String file = Path.of(instance).isAbsolute() || instance.startsWith("data") ? instance :
+                    Path.of("data", "TSPTW", instance).toString();
+            TSPTWProblem problem = new TSPTWProblem(file);
+            Solution solution = Solvers.minimizeDdo(model(problem), s -> s.runtime() > timeLimit);
+            long nodes = solution.statistics() instanceof DdoStats stats ? stats.totalNodes() : 0;
+            System.out.printf("%-16s %-10d %-12d %-12d %-12.0f %-10.1f %-10s%n",
+                    Path.of(file).getFileName(),
+                    solution.statistics().runtime(),
+                    solution.statistics().nbIterations(),
+                    nodes,
+                    1000.0 * nodes / Math.max(1, solution.statistics().runtime()),
+                    solution.statistics().incumbent(),
+                    solution.statistics().status());
+        }
+    }
+
+    private static DdoModel<TSPTWState> model(TSPTWProblem problem) {
+        return new DdoModel<>() {
+            @Override
+            public Problem<TSPTWState> problem() {
+                return problem;
+            }
+
+            @Override
+            public TSPTWFastLowerBound lowerBound() {
+                return new TSPTWFastLowerBound(problem);
+            }
+
+            @Override
+            public DominanceChecker<TSPTWState> dominance() {
+                return new SimpleDominanceChecker<>(new TSPTWDominance(), problem.nbVars());
+            }
+
+            @Override
+            public TSPTWRelax relaxation() {
+                return new TSPTWRelax(problem);
+            }
+
+            @Override
+            public TSPTWRanking ranking() {
+                return new TSPTWRanking();
+            }
+
+            @Override
+            public boolean useCache() {
+                return true;
+            }
+        };
+    }
+}
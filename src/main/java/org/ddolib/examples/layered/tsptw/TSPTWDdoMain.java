@@ -115,6 +115,7 @@ public class TSPTWDdoMain {
             @Override
             public Frontier<TSPTWState> frontier() {
                 return new SimpleFrontier<>(ranking(), CutSetType.Frontier);
+//                return new ExplorationFrontier<>(ranking(), CutSetType.Frontier, ExplorationOrder.HYBRID, 100_000);
             }
 
             @Override
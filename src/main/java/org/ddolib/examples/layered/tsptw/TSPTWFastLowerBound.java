@@ -2,9 +2,10 @@ package org.ddolib.examples.layered.tsptw;
 
 import org.ddolib.modeling.layered.FastLowerBound;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import static java.lang.Integer.max;
 import static java.lang.Integer.min;
@@ -25,7 +26,9 @@ import static java.lang.Integer.min;
  * </p>
  *
  * <p>
- * Precomputes the cheapest outgoing edge for each node to speed up repeated lower bound calculations.
+ * Precomputes the cheapest outgoing edge for each node, and the nodes sorted by cheapest outgoing edge,
+ * to speed up repeated lower bound calculations: the cheapest edges needed to complete the tour are
+ * picked by scanning this order, without sorting anything when the bound is computed.
  * </p>
  */
 public class TSPTWFastLowerBound implements FastLowerBound<TSPTWState> {
@@ -35,6 +38,8 @@ public class TSPTWFastLowerBound implements FastLowerBound<TSPTWState> {
     private final int numVar;
     private final TSPTWProblem problem;
     private final int[] cheapestEdges;
+    /** The nodes sorted by increasing cheapest outgoing edge. */
+    private final int[] byCheapestEdge;
 
     /**
      * Constructs a fast lower bound calculator for a given TSPTW problem instance.
@@ -45,6 +50,10 @@ public class TSPTWFastLowerBound implements FastLowerBound<TSPTWState> {
         this.problem = problem;
         this.numVar = problem.distance.length;
         cheapestEdges = precomputeCheapestEdges();
+        byCheapestEdge = IntStream.range(0, numVar).boxed()
+                .sorted(Comparator.comparingInt(i -> cheapestEdges[i]))
+                .mapToInt(Integer::intValue)
+                .toArray();
     }
 
     /**
@@ -71,44 +80,50 @@ public class TSPTWFastLowerBound implements FastLowerBound<TSPTWState> {
 
         int travelCost = switch (state.position()) {
             case TSPNode(int pos) -> cheapestEdges[pos];
-            case VirtualNodes(Set<Integer> nodes) ->
-                    nodes.stream().mapToInt(pos -> cheapestEdges[pos]).min().getAsInt();
-
+            case VirtualNodes(Set<Integer> nodes) -> {
+                int min = INFINITY;
+                for (int pos : nodes) {
+                    min = min(min, cheapestEdges[pos]);
+                }
+                yield min;
+            }
         }; // The sum of shortest edges, starting from the current position
         int backToDepot = Integer.MAX_VALUE; // The shortest edges to the depot
         int maxEdge = travelCost;
 
-
-        var mustIt = state.mustVisit().stream().iterator();
-        while (mustIt.hasNext()) {
-            int i = mustIt.nextInt();
-            if (!problem.reachable(state, i)) return INFINITY;
+        BitSet unreachable = problem.unreachable(state);
+        BitSet must = state.mustVisit();
+        if (must.intersects(unreachable)) return INFINITY;
+        for (int i = must.nextSetBit(0); i >= 0; i = must.nextSetBit(i + 1)) {
             travelCost += cheapestEdges[i];
             maxEdge = max(maxEdge, cheapestEdges[i]);
             backToDepot = min(backToDepot, problem.distance[i][0]);
         }
 
 
-        int numToCompleteTour = numVar - state.depth() - 1 - state.mustVisit().cardinality();
+        int numToCompleteTour = numVar - state.depth() - 1 - must.cardinality();
         if (numToCompleteTour > 0) { // There are not enough mustVisit nodes. We complete the tour with the
             // possiblyVisit nodes
-            ArrayList<Integer> candidatesToCompleteTour = new ArrayList<>();
+            BitSet possibly = state.possiblyVisit();
+            int candidates = 0;
             int violation = 0;
-            var possiblyIt = state.possiblyVisit().stream().iterator();
-
-            while (possiblyIt.hasNext()) {
-                int i = possiblyIt.nextInt();
-                candidatesToCompleteTour.add(cheapestEdges[i]);
+            for (int i = possibly.nextSetBit(0); i >= 0; i = possibly.nextSetBit(i + 1)) {
+                candidates++;
                 backToDepot = min(backToDepot, problem.distance[i][0]);
-                if (!problem.reachable(state, i)) violation++;
+                if (unreachable.get(i)) violation++;
             }
-            if (candidatesToCompleteTour.size() - violation < numToCompleteTour) return INFINITY;
-
-            Collections.sort(candidatesToCompleteTour);
-
-            for (int maybeEdge : candidatesToCompleteTour.subList(0, numToCompleteTour)) {
-                travelCost += maybeEdge;
-                maxEdge = max(maxEdge, maybeEdge);
+            if (candidates - violation < numToCompleteTour) return INFINITY;
+
+            // The cheapest edges of the possiblyVisit nodes are found by scanning the nodes by increasing
+            // cheapest edge.
+            int taken = 0;
+            for (int k = 0; taken < numToCompleteTour; k++) {
+                int i = byCheapestEdge[k];
+                if (possibly.get(i)) {
+                    travelCost += cheapestEdges[i];
+                    maxEdge = max(maxEdge, cheapestEdges[i]);
+                    taken++;
+                }
             }
         }
 
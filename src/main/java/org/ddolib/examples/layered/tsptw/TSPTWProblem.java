@@ -57,6 +57,18 @@ public class TSPTWProblem implements Problem<TSPTWState> {
      */
     private final Optional<String> name;
 
+    /**
+     * For each node {@code p}, the latest times at which the vehicle can leave {@code p} and still
+     * reach each node within its time window, in increasing order.
+     */
+    private final int[][] latestDepartures;
+
+    /**
+     * {@code unreachableMasks[p][k]} is the set of the nodes that cannot be reached in time by leaving
+     * {@code p} after the {@code k}-th latest departure time of {@link #latestDepartures}{@code [p]}.
+     */
+    private final BitSet[][] unreachableMasks;
+
 
     /**
      * Constructs a TSPTW problem instance from a data file.
@@ -101,6 +113,45 @@ public class TSPTWProblem implements Problem<TSPTWState> {
         this.timeWindows = tw;
         this.optimal = opti;
         this.name = Optional.of(fname);
+        this.latestDepartures = new int[numVar][];
+        this.unreachableMasks = new BitSet[numVar][];
+        precomputeReachability();
+    }
+
+    /**
+     * Precomputes, for each node, the sets of nodes that are no longer reachable in time when leaving
+     * the node at a given time. These sets only change at the {@code n} latest departure times from
+     * the node, so that they are computed once for each of these time buckets.
+     */
+    private void precomputeReachability() {
+        int n = distance.length;
+        for (int p = 0; p < n; p++) {
+            final int from = p;
+            Integer[] order = new Integer[n];
+            for (int j = 0; j < n; j++) {
+                order[j] = j;
+            }
+            Arrays.sort(order, Comparator.comparingInt(j -> latestDeparture(from, j)));
+
+            latestDepartures[p] = new int[n];
+            unreachableMasks[p] = new BitSet[n + 1];
+            BitSet mask = new BitSet(n);
+            unreachableMasks[p][0] = mask;
+            for (int k = 0; k < n; k++) {
+                latestDepartures[p][k] = latestDeparture(p, order[k]);
+                mask = (BitSet) mask.clone();
+                mask.set(order[k]);
+                unreachableMasks[p][k + 1] = mask;
+            }
+        }
+    }
+
+    /**
+     * Returns the latest time at which the vehicle can leave a node and still reach another one within its
+     * time window.
+     */
+    private int latestDeparture(int from, int to) {
+        return timeWindows[to].end() - distance[from][to];
     }
 
     @Override
@@ -137,34 +188,25 @@ public class TSPTWProblem implements Problem<TSPTWState> {
 
     @Override
     public Iterator<Integer> domain(TSPTWState state, int var) {
-        BitSet toReturn = new BitSet(state.mustVisit().length());
+        BitSet unreachable = unreachable(state);
         if (state.depth() == nbVars() - 1) {
             //The only decision for the last variable is to go back to the depot
-            toReturn.set(0, reachable(state, 0));
-        } else {
-
-            var mustIt = state.mustVisit().stream().iterator();
-            while (mustIt.hasNext()) {
-                int i = mustIt.nextInt();
-                if (!reachable(state, i)) {
-                    // We found a node that is no more reachable at the current time.
-                    // Eventually, this state will lead to unfeasible solution.
-                    // So we return now an empty set of decision to cut the sub diagram.
-                    return Collections.emptyIterator();
-                } else {
-                    toReturn.set(i, true);
-                }
-            }
+            return unreachable.get(0) ? Collections.emptyIterator() : List.of(0).iterator();
+        }
+        if (state.mustVisit().intersects(unreachable)) {
+            // We found a node that is no more reachable at the current time.
+            // Eventually, this state will lead to unfeasible solution.
+            // So we return now an empty set of decision to cut the sub diagram.
+            return Collections.emptyIterator();
+        }
 
-            if (state.mustVisit().cardinality() < nbVars() - state.depth()) {
-                // The state is a merged state. Its mustVisit set can be too small. In that case, we can take decision
-                // from the possiblyVisit state.
-                var possiblyIt = state.possiblyVisit().stream().iterator();
-                while (possiblyIt.hasNext()) {
-                    int i = possiblyIt.nextInt();
-                    toReturn.set(i, reachable(state, i));
-                }
-            }
+        BitSet toReturn = (BitSet) state.mustVisit().clone();
+        if (state.mustVisit().cardinality() < nbVars() - state.depth()) {
+            // The state is a merged state. Its mustVisit set can be too small. In that case, we can take decision
+            // from the possiblyVisit state.
+            BitSet possibly = (BitSet) state.possiblyVisit().clone();
+            possibly.andNot(unreachable);
+            toReturn.or(possibly);
         }
         return toReturn.stream().iterator();
     }
@@ -240,11 +282,60 @@ public class TSPTWProblem implements Problem<TSPTWState> {
      * @param to   Target node.
      * @return {@code true} if node can be reached before its time window closes; {@code false} otherwise.
      */
-    boolean reachable(TSPTWState from, Integer to) {
+    boolean reachable(TSPTWState from, int to) {
         int duration = minDuration(from, to);
         return from.time() + duration <= timeWindows[to].end();
     }
 
+    /**
+     * Returns the set of the nodes that cannot be reached within their time window from the given state.
+     * <p>
+     * The set is read from the precomputed time buckets of the position of the state, or of each of
+     * its positions for a merged state. It must not be modified.
+     * </p>
+     *
+     * @param from Current state.
+     * @return The nodes {@code i} such that {@code reachable(from, i)} is {@code false}.
+     */
+    BitSet unreachable(TSPTWState from) {
+        return switch (from.position()) {
+            case TSPNode(int value) -> unreachableFrom(value, from.time());
+            case VirtualNodes(Set<Integer> nodes) -> {
+                // A node is unreachable from a merged state if it is unreachable from all its positions
+                BitSet toReturn = null;
+                for (int p : nodes) {
+                    BitSet mask = unreachableFrom(p, from.time());
+                    if (toReturn == null) {
+                        toReturn = (BitSet) mask.clone();
+                    } else {
+                        toReturn.and(mask);
+                    }
+                }
+                yield toReturn;
+            }
+        };
+    }
+
+    /**
+     * Returns the set of the nodes that cannot be reached within their time window when leaving a node at
+     * a given time.
+     */
+    private BitSet unreachableFrom(int position, int time) {
+        int[] departures = latestDepartures[position];
+        // Binary search of the number of latest departure times before the given time
+        int lo = 0;
+        int hi = departures.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (departures[mid] < time) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return unreachableMasks[position][lo];
+    }
+
     /**
      * Computes the minimal duration to reach a target node from the current state.
      *
@@ -252,11 +343,16 @@ public class TSPTWProblem implements Problem<TSPTWState> {
      * @param to   Target node.
      * @return Minimum travel time to reach node {@code to}.
      */
-    int minDuration(TSPTWState from, Integer to) {
+    int minDuration(TSPTWState from, int to) {
         return switch (from.position()) {
             case TSPNode(int value) -> distance[value][to];
-            case VirtualNodes(Set<Integer> nodes) ->
-                    nodes.stream().mapToInt(x -> distance[x][to]).min().getAsInt();
+            case VirtualNodes(Set<Integer> nodes) -> {
+                int min = Integer.MAX_VALUE;
+                for (int x : nodes) {
+                    min = Integer.min(min, distance[x][to]);
+                }
+                yield min;
+            }
         };
     }
 
@@ -268,7 +364,7 @@ public class TSPTWProblem implements Problem<TSPTWState> {
      * @param to   Target node.
      * @return Arrival time at node {@code to}.
      */
-    int arrivalTime(TSPTWState from, Integer to) {
+    int arrivalTime(TSPTWState from, int to) {
         int time = from.time() + minDuration(from, to);
         return Integer.max(time, timeWindows[to].start());
     }
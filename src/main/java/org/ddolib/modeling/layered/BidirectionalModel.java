@@ -0,0 +1,96 @@
+package org.ddolib.modeling.layered;
+
+/**
+ * Defines an exact model that can also be explored backward, from the last variable to the first one,
+ * used by the {@link org.ddolib.solving.ddo.core.solver.layered.BidirectionalSolver}.
+ * <p>
+ * The bidirectional solver explores the forward {@link #problem()} from its root, assigning the
+ * variables {@code 0, 1, ..., meetDepth() - 1}, while it concurrently explores the
+ * {@link #backwardProblem()} from its own root, assigning the variables
+ * {@code nbVars - 1, nbVars - 2, ..., meetDepth()}. Both searches are exact layered dynamic programs
+ * which only keep the states of their current layer. They finally meet at the layer {@code meetDepth()}:
+ * a forward state and a backward state can be joined into a complete solution if and only if
+ * their keys, given by {@link #forwardKey(Object)} and {@link #backwardKey(Object)}, are equal.
+ * The value of such a solution is the value of the forward state, plus the value of the backward state,
+ * plus the {@link #joinCost(Object, Object) join cost}.
+ * </p>
+ *
+ * <p>
+ * The decisions of the backward problem use the indices of the forward variables: the first decision
+ * taken from the backward root assigns the variable {@code nbVars - 1}. Its initial value must not
+ * count the initial value of the forward problem.
+ * </p>
+ *
+ * <p>
+ * As this model is an {@link ExactModel}, it can also be solved by the
+ * {@link org.ddolib.solving.ddo.core.solver.layered.ExactSolver}.
+ * </p>
+ *
+ * @param <T> the type representing the forward state space of the problem
+ * @param <B> the type representing the backward state space of the problem
+ */
+public abstract class BidirectionalModel<T, B> extends ExactModel<T> {
+
+    /**
+     * Returns the problem explored backward, from the last variable to the first one.
+     *
+     * @return the backward problem
+     */
+    public abstract Problem<B> backwardProblem();
+
+    /**
+     * Returns the key of a forward state of the meeting layer.
+     *
+     * @param state a state of the forward problem
+     * @return the key that a backward state must have to be joined with this state
+     */
+    public abstract Object forwardKey(T state);
+
+    /**
+     * Returns the key of a backward state of the meeting layer.
+     *
+     * @param state a state of the backward problem
+     * @return the key that a forward state must have to be joined with this state
+     */
+    public abstract Object backwardKey(B state);
+
+    /**
+     * Returns the cost of joining a forward state with a backward state of the same key.
+     * <p>
+     * By default, joining two states costs nothing.
+     * </p>
+     *
+     * @param forward  a state of the forward problem
+     * @param backward a state of the backward problem with the same key
+     * @return the cost added to the values of both states
+     */
+    public double joinCost(T forward, B backward) {
+        return 0.0;
+    }
+
+    /**
+     * Returns the fast lower bound of the backward problem.
+     * <p>
+     * For a backward state, this bound must not exceed the value of the forward part of any
+     * solution extending it, join cost included. By default, no bound is used.
+     * </p>
+     *
+     * @return the fast lower bound of the backward problem
+     */
+    public FastLowerBound<B> backwardLowerBound() {
+        return new DefaultFastLowerBound<>();
+    }
+
+    /**
+     * Returns the depth of the layer where the forward and backward searches meet.
+     * <p>
+     * The forward search assigns {@code meetDepth()} variables and the backward search
+     * assigns the other ones. By default, both searches assign half of the variables.
+     * </p>
+     *
+     * @return a depth between {@code 0} and the number of variables of the problem
+     */
+    public int meetDepth() {
+        return problem().nbVars() / 2;
+    }
+}
@@ -10,9 +10,16 @@ import org.ddolib.solving.ddo.core.heuristics.cluster.layered.StateDistance;
 import org.ddolib.solving.ddo.core.heuristics.variable.layered.VariableHeuristic;
 import org.ddolib.solving.ddo.core.heuristics.width.FixedWidth;
 import org.ddolib.solving.ddo.core.heuristics.width.WidthHeuristic;
+import org.ddolib.solving.ddo.core.mdd.export.BinaryDiagramExporter;
+import org.ddolib.solving.ddo.core.mdd.export.DiagramExporter;
+import org.ddolib.solving.ddo.core.mdd.export.DotDiagramExporter;
+import org.ddolib.solving.ddo.core.mdd.export.SampledDiagramExporter;
+import org.ddolib.solving.ddo.core.profiling.Profiler;
 import org.ddolib.util.debug.DebugLevel;
 import org.ddolib.util.verbosity.VerbosityLevel;
 
+import java.nio.file.Path;
+
 /**
  * Defines the interface for a Dynamic Decision Diagram Optimization (DDO) model.
  * <p>
@@ -117,6 +124,24 @@ public interface DdoModel<T> extends Model<T> {
         return false;
     }
 
+    /**
+     * Returns the exporter to which a decision diagram is streamed when {@link #exportDot()} is enabled.
+     * <p>
+     * The diagram is streamed while its layers are compiled, so that large diagrams can be exported
+     * without being kept in memory. By default, it is written in DOT format to
+     * {@code output/<name>.dot}. Override this method to write the compact binary format of
+     * {@link BinaryDiagramExporter}, or to only export a sample of the diagram with
+     * {@link SampledDiagramExporter}.
+     * </p>
+     *
+     * @param name the name of the diagram, made of the name of the problem and of the type of
+     *             the compilation (e.g. {@code Knapsack_restricted})
+     * @return the exporter of the diagram
+     */
+    default DiagramExporter<T> diagramExporter(String name) {
+        return DotDiagramExporter.toFile(Path.of("output", name + ".dot"));
+    }
+
     /**
      * Strategy to select which nodes should be merged together on a relaxed DD.
      */
@@ -139,6 +164,22 @@ public interface DdoModel<T> extends Model<T> {
         return false;
     }
 
+    /**
+     * Returns the profiler recording where the time of the compilations goes.
+     * <p>
+     * When a profiler is given, the DDO solvers record in it the calls to the transitions, the fast
+     * lower bound, the relaxation, the reduction strategy, the dominance checker and the cache, as
+     * well as the widths of the layers, and attach its report to the {@link
+     * org.ddolib.common.solver.layered.Solution}. The profiler can be disabled and enabled while the
+     * search runs. Default is {@code null} (no profiling).
+     * </p>
+     *
+     * @return the {@link Profiler} of the search, or {@code null} if the search must not be profiled
+     */
+    default Profiler profiler() {
+        return null;
+    }
+
 
     /**
      * Returns a copy of this model but with a fixed width.
@@ -208,6 +249,11 @@ public interface DdoModel<T> extends Model<T> {
                 return DdoModel.this.exportDot();
             }
 
+            @Override
+            public DiagramExporter<T> diagramExporter(String name) {
+                return DdoModel.this.diagramExporter(name);
+            }
+
             @Override
             public boolean useLNS() {
                 return DdoModel.this.useLNS();
@@ -283,6 +329,11 @@ public interface DdoModel<T> extends Model<T> {
                 return DdoModel.this.exportDot();
             }
 
+            @Override
+            public DiagramExporter<T> diagramExporter(String name) {
+                return DdoModel.this.diagramExporter(name);
+            }
+
             @Override
             public boolean useLNS() {
                 return DdoModel.this.useLNS();
@@ -358,6 +409,11 @@ public interface DdoModel<T> extends Model<T> {
                 return DdoModel.this.exportDot();
             }
 
+            @Override
+            public DiagramExporter<T> diagramExporter(String name) {
+                return DdoModel.this.diagramExporter(name);
+            }
+
             @Override
             public boolean useLNS() {
                 return DdoModel.this.useLNS();
@@ -423,6 +479,11 @@ public interface DdoModel<T> extends Model<T> {
                 return DdoModel.this.exportDot();
             }
 
+            @Override
+            public DiagramExporter<T> diagramExporter(String name) {
+                return DdoModel.this.diagramExporter(name);
+            }
+
             @Override
             public boolean useLNS() {
                 return DdoModel.this.useLNS();
@@ -488,6 +549,11 @@ public interface DdoModel<T> extends Model<T> {
                 return DdoModel.this.exportDot();
             }
 
+            @Override
+            public DiagramExporter<T> diagramExporter(String name) {
+                return DdoModel.this.diagramExporter(name);
+            }
+
             @Override
             public DdoModel<T> fixWidth(int width) {
                 return DdoModel.this.fixWidth(width);
@@ -536,6 +602,11 @@ public interface DdoModel<T> extends Model<T> {
                 return DdoModel.this.exportDot();
             }
 
+            @Override
+            public DiagramExporter<T> diagramExporter(String name) {
+                return DdoModel.this.diagramExporter(name);
+            }
+
             @Override
             public ExactModel<T> toExactModel() {
                 return DdoModel.this.toExactModel();
@@ -543,4 +614,152 @@ public interface DdoModel<T> extends Model<T> {
         };
     }
 
+    /**
+     * Convert this model into a model for the Anytime Column Search solver.
+     *
+     * @return a model usable by an {@link org.ddolib.solving.acs.core.solver.layered.AcsSolver}
+     */
+    default AcsModel<T> toAcsModel() {
+        return new AcsModel<T>() {
+            @Override
+            public Problem<T> problem() {
+                return DdoModel.this.problem();
+            }
+
+            @Override
+            public FastLowerBound<T> lowerBound() {
+                return DdoModel.this.lowerBound();
+            }
+
+            @Override
+            public double upperBound() {
+                return DdoModel.this.upperBound();
+            }
+
+            @Override
+            public DominanceChecker<T> dominance() {
+                return DdoModel.this.dominance();
+            }
+
+            @Override
+            public VariableHeuristic<T> variableHeuristic() {
+                return DdoModel.this.variableHeuristic();
+            }
+
+            @Override
+            public VerbosityLevel verbosityLevel() {
+                return DdoModel.this.verbosityLevel();
+            }
+
+            @Override
+            public DebugLevel debugMode() {
+                return DdoModel.this.debugMode();
+            }
+        };
+    }
+
+    /**
+     * Convert this model into a model for the Anytime Weighted A* solver.
+     *
+     * @return a model usable by an {@link org.ddolib.solving.awastar.core.solver.layered.AwAstarSolver}
+     */
+    default AwAstarModel<T> toAwAstarModel() {
+        return new AwAstarModel<T>() {
+            @Override
+            public Problem<T> problem() {
+                return DdoModel.this.problem();
+            }
+
+            @Override
+            public FastLowerBound<T> lowerBound() {
+                return DdoModel.this.lowerBound();
+            }
+
+            @Override
+            public double upperBound() {
+                return DdoModel.this.upperBound();
+            }
+
+            @Override
+            public DominanceChecker<T> dominance() {
+                return DdoModel.this.dominance();
+            }
+
+            @Override
+            public VariableHeuristic<T> variableHeuristic() {
+                return DdoModel.this.variableHeuristic();
+            }
+
+            @Override
+            public VerbosityLevel verbosityLevel() {
+                return DdoModel.this.verbosityLevel();
+            }
+
+            @Override
+            public DebugLevel debugMode() {
+                return DdoModel.this.debugMode();
+            }
+        };
+    }
+
+    /**
+     * Convert this model into a model for the Large Neighborhood Search solver. The restricted
+     * diagrams of the LNS use the ranking, the width and the restriction strategy of this model.
+     *
+     * @return a model usable by an {@link org.ddolib.solving.lns.core.solver.layered.LnsSolver}
+     */
+    default LnsModel<T> toLnsModel() {
+        return new LnsModel<T>() {
+            @Override
+            public Problem<T> problem() {
+                return DdoModel.this.problem();
+            }
+
+            @Override
+            public FastLowerBound<T> lowerBound() {
+                return DdoModel.this.lowerBound();
+            }
+
+            @Override
+            public DominanceChecker<T> dominance() {
+                return DdoModel.this.dominance();
+            }
+
+            @Override
+            public VariableHeuristic<T> variableHeuristic() {
+                return DdoModel.this.variableHeuristic();
+            }
+
+            @Override
+            public VerbosityLevel verbosityLevel() {
+                return DdoModel.this.verbosityLevel();
+            }
+
+            @Override
+            public DebugLevel debugMode() {
+                return DdoModel.this.debugMode();
+            }
+
+            @Override
+            public StateRanking<T> ranking() {
+                return DdoModel.this.ranking();
+            }
+
+            @Override
+            public WidthHeuristic<T> widthHeuristic() {
+                return DdoModel.this.widthHeuristic();
+            }
+
+            @Override
+            public ReductionStrategy<T> restrictStrategy() {
+                return DdoModel.this.restrictStrategy();
+            }
+
+            @Override
+            public StateDistance<T> stateDistance() {
+                return DdoModel.this.stateDistance();
+            }
+        };
+    }
+
 }
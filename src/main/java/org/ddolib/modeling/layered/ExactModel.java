@@ -68,6 +68,23 @@ public abstract class ExactModel<T> implements DdoModel<T> {
         return DdoModel.super.variableHeuristic();
     }
 
+    /**
+     * Returns whether the exact decision diagram should be compiled in a memory-lean way.
+     * <p>
+     * By default, the whole diagram is kept in memory until the end of the compilation. When
+     * this method returns {@code true}, only the layer being expanded and the next one are kept,
+     * along with a compact trail of back-pointers to reconstruct the optimal solution: the peak
+     * memory is then proportional to the maximum width of the diagram rather than to its size.
+     * The lean mode is ignored when the diagram is exported or when the debug mode is enabled,
+     * as both need the whole diagram.
+     * </p>
+     *
+     * @return {@code true} to compile the exact diagram with the lean memory mode
+     */
+    public boolean leanMemory() {
+        return false;
+    }
+
     /**
      * Relaxation that does nothing
      */
@@ -7,8 +7,15 @@ import org.ddolib.solving.ddo.core.heuristics.cluster.layered.StateDistance;
 import org.ddolib.solving.ddo.core.heuristics.variable.layered.VariableHeuristic;
 import org.ddolib.solving.ddo.core.heuristics.width.FixedWidth;
 import org.ddolib.solving.ddo.core.heuristics.width.WidthHeuristic;
+import org.ddolib.solving.ddo.core.mdd.export.BinaryDiagramExporter;
+import org.ddolib.solving.ddo.core.mdd.export.DiagramExporter;
+import org.ddolib.solving.ddo.core.mdd.export.DotDiagramExporter;
+import org.ddolib.solving.ddo.core.mdd.export.SampledDiagramExporter;
 import org.ddolib.util.debug.DebugLevel;
 import org.ddolib.util.verbosity.VerbosityLevel;
+
+import java.nio.file.Path;
+
 /**
  * Interface representing a model for Large Neighborhood Search (LNS) problems.
  *
@@ -85,6 +92,23 @@ public interface LnsModel<T> extends Model<T> {
     default boolean exportDot() {
         return false;
     }
+    /**
+     * Returns the exporter to which a decision diagram is streamed when {@link #exportDot()} is enabled.
+     * <p>
+     * The diagram is streamed while its layers are compiled, so that large diagrams can be exported
+     * without being kept in memory. By default, it is written in DOT format to
+     * {@code output/<name>.dot}. Override this method to write the compact binary format of
+     * {@link BinaryDiagramExporter}, or to only export a sample of the diagram with
+     * {@link SampledDiagramExporter}.
+     * </p>
+     *
+     * @param name the name of the diagram, made of the name of the problem and of the type of
+     *             the compilation (e.g. {@code Knapsack_restricted})
+     * @return the exporter of the diagram
+     */
+    default DiagramExporter<T> diagramExporter(String name) {
+        return DotDiagramExporter.toFile(Path.of("output", name + ".dot"));
+    }
     /**
      * Returns the strategy used to restrict the search neighborhood.
      *
@@ -179,6 +203,11 @@ public interface LnsModel<T> extends Model<T> {
                 return LnsModel.this.exportDot();
             }
 
+            @Override
+            public DiagramExporter<T> diagramExporter(String name) {
+                return LnsModel.this.diagramExporter(name);
+            }
+
             @Override
             public boolean useLNS() {
                 return LnsModel.this.useLNS();
@@ -239,6 +268,11 @@ public interface LnsModel<T> extends Model<T> {
                 return LnsModel.this.exportDot();
             }
 
+            @Override
+            public DiagramExporter<T> diagramExporter(String name) {
+                return LnsModel.this.diagramExporter(name);
+            }
+
             @Override
             public int[] initialSolution() {return  solution;}
 
@@ -301,6 +335,11 @@ public interface LnsModel<T> extends Model<T> {
                 return LnsModel.this.exportDot();
             }
 
+            @Override
+            public DiagramExporter<T> diagramExporter(String name) {
+                return LnsModel.this.diagramExporter(name);
+            }
+
             @Override
             public int[] initialSolution() {return  LnsModel.this.initialSolution();}
 
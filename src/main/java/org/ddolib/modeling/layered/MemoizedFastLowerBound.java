@@ -0,0 +1,155 @@
+package org.ddolib.modeling.layered;
+
+import org.ddolib.util.GenerationalCache;
+
+import java.util.BitSet;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link FastLowerBound} remembering the bounds computed by another one.
+ * <p>
+ * The same states are met again and again during a search: by the successive diagrams compiled
+ * by a branch-and-bound, or by the children generated by A*. When the fast lower bound is
+ * expensive, e.g. when it sorts the candidate edges of a routing problem, remembering the bound of
+ * each pair of state and remaining variables avoids computing it again. This bound is used by the
+ * solvers when {@link Model#useLowerBoundCache()} returns {@code true}.
+ * </p>
+ *
+ * <p>
+ * The memory used by the cache is bounded by a {@link GenerationalCache}, which keeps the most
+ * recently used bounds.
+ * </p>
+ *
+ * <p>
+ * This bound is thread-safe if the memoized one is. The states must be immutable, and the memoized
+ * bound must only depend on the state and on the remaining variables.
+ * </p>
+ *
+ * @param <T> the type representing the problem state
+ */
+public final class MemoizedFastLowerBound<T> implements FastLowerBound<T> {
+    /** Default maximum number of memoized bounds. */
+    public static final int DEFAULT_CAPACITY = 1 << 20;
+
+    /** The memoized bound. */
+    private final FastLowerBound<T> delegate;
+    /** The memoized bounds. */
+    private final GenerationalCache<Key<T>, Double> cache;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * A state with the set of variables that remain to be assigned.
+     */
+    private record Key<T>(T state, BitSet variables) {
+    }
+
+    /**
+     * Creates a bound memoizing at most {@link #DEFAULT_CAPACITY} bounds.
+     *
+     * @param delegate the bound to memoize
+     */
+    public MemoizedFastLowerBound(FastLowerBound<T> delegate) {
+        this(delegate, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a bound memoizing at most the given number of bounds.
+     *
+     * @param delegate the bound to memoize
+     * @param capacity the maximum number of memoized bounds
+     */
+    public MemoizedFastLowerBound(FastLowerBound<T> delegate, int capacity) {
+        this.delegate = delegate;
+        this.cache = new GenerationalCache<>(capacity);
+    }
+
+    /**
+     * Returns the fast lower bound the solvers must use for the given model: the bound of the
+     * model, memoized if {@link Model#useLowerBoundCache()} returns {@code true}. The
+     * {@link DefaultFastLowerBound}, which costs nothing, is never memoized.
+     *
+     * @param model a model
+     * @param <T>   the type representing the problem state
+     * @return the fast lower bound to use
+     */
+    public static <T> FastLowerBound<T> of(Model<T> model) {
+        FastLowerBound<T> lb = model.lowerBound();
+        if (!model.useLowerBoundCache() || lb instanceof DefaultFastLowerBound || lb instanceof MemoizedFastLowerBound) {
+            return lb;
+        }
+        return new MemoizedFastLowerBound<>(lb);
+    }
+
+    @Override
+    public double fastLowerBound(T state, Set<Integer> variables) {
+        BitSet vars = new BitSet();
+        for (int v : variables) {
+            vars.set(v);
+        }
+        Key<T> key = new Key<>(state, vars);
+
+        Double bound = cache.get(key);
+        if (bound == null) {
+            misses.increment();
+            bound = delegate.fastLowerBound(state, variables);
+            cache.putIfAbsent(key, bound);
+        } else {
+            hits.increment();
+        }
+        return bound;
+    }
+
+    /**
+     * Returns the number of bounds found in the cache.
+     *
+     * @return the number of cache hits
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of bounds computed by the memoized bound.
+     *
+     * @return the number of cache misses
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the proportion of the bounds found in the cache.
+     *
+     * @return the hit rate, between 0 and 1, or 0 if no bound was asked
+     */
+    public double hitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    /**
+     * Returns the number of memoized bounds.
+     *
+     * @return the number of entries of the cache
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Forgets all the memoized bounds. The hit and miss counters are kept.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MemoizedFastLowerBound(%s) - hits: %d - misses: %d - hit rate: %.1f%%",
+                delegate, hits(), misses(), 100 * hitRate());
+    }
+}
@@ -0,0 +1,256 @@
+package org.ddolib.modeling.layered;
+
+import org.ddolib.modeling.InvalidSolutionException;
+import org.ddolib.solving.ddo.core.Decision;
+import org.ddolib.util.GenerationalCache;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link Problem} interning the states and remembering the transitions of another one.
+ * <p>
+ * The successive diagrams compiled by a branch-and-bound overlap, so that the same transitions are
+ * computed again and again, each one creating a new state. This problem can:
+ * </p>
+ * <ul>
+ *     <li>intern the states: the states it returns are shared by all the equal states, so that equal
+ *     states mostly compare by identity and the duplicates can be garbage collected;</li>
+ *     <li>remember the transitions: the next state and the cost of a decision taken from a state are
+ *     computed once, then read from a cache.</li>
+ * </ul>
+ * <p>
+ * A model uses it by returning it from {@link Model#problem()}, always the same instance. Both tables
+ * are bounded by a {@link GenerationalCache}: a state dropped from the interning table may thus have
+ * several instances, which is harmless.
+ * </p>
+ * <p>
+ * Hashing a state costs about as much as the transitions of the example problems, so that this
+ * problem only pays off for expensive transitions, or for states kept in large numbers.
+ * </p>
+ *
+ * <p>
+ * This problem is thread-safe if the memoized one is. The states must be immutable, with consistent
+ * {@code equals} and {@code hashCode}, and the transitions must only depend on the state and on the
+ * decision.
+ * </p>
+ *
+ * @param <T> the type representing the problem state
+ */
+public final class MemoizedProblem<T> implements Problem<T> {
+    /** Default maximum number of entries of each table. */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    /** The memoized problem. */
+    private final Problem<T> delegate;
+    /** The interned states, {@code null} if the states are not interned. */
+    private final GenerationalCache<Key<T>, T> states;
+    /** The remembered transitions, {@code null} if the transitions are not remembered. */
+    private final GenerationalCache<Key<T>, Transition<T>> transitions;
+    /**
+     * The last transition looked up: the solvers ask for the next state and for the cost of a
+     * decision one after the other, which is answered by a single lookup.
+     */
+    private volatile Transition<T> last;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * A state, or a decision taken from a state. The hash code of the state is computed once,
+     * although the key is hashed several times by a lookup.
+     */
+    private static final class Key<T> {
+        final T state;
+        final Decision decision;
+        final int hash;
+
+        Key(T state, Decision decision) {
+            this.state = state;
+            this.decision = decision;
+            this.hash = 31 * state.hashCode() + (decision == null ? 0 : decision.hashCode());
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key<?> other && hash == other.hash
+                    && state.equals(other.state) && Objects.equals(decision, other.decision);
+        }
+    }
+
+    /**
+     * The state reached by a decision taken from a state, and its cost.
+     */
+    private record Transition<T>(T from, Decision decision, T state, double cost) {
+    }
+
+    /**
+     * Creates a problem whose tables hold at most {@link #DEFAULT_CAPACITY} entries.
+     *
+     * @param delegate         the problem to memoize
+     * @param internStates     whether the states must be interned
+     * @param cacheTransitions whether the transitions must be remembered
+     */
+    public MemoizedProblem(Problem<T> delegate, boolean internStates, boolean cacheTransitions) {
+        this(delegate, internStates, cacheTransitions, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a problem whose tables hold at most the given number of entries.
+     *
+     * @param delegate         the problem to memoize
+     * @param internStates     whether the states must be interned
+     * @param cacheTransitions whether the transitions must be remembered
+     * @param capacity         the maximum number of entries of each table
+     */
+    public MemoizedProblem(Problem<T> delegate, boolean internStates, boolean cacheTransitions, int capacity) {
+        this.delegate = delegate;
+        this.states = internStates ? new GenerationalCache<>(capacity) : null;
+        this.transitions = cacheTransitions ? new GenerationalCache<>(capacity) : null;
+    }
+
+    /**
+     * Returns the memoized problem.
+     *
+     * @return the problem whose states are interned and whose transitions are remembered
+     */
+    public Problem<T> delegate() {
+        return delegate;
+    }
+
+    @Override
+    public int nbVars() {
+        return delegate.nbVars();
+    }
+
+    @Override
+    public T initialState() {
+        return intern(delegate.initialState());
+    }
+
+    @Override
+    public double initialValue() {
+        return delegate.initialValue();
+    }
+
+    @Override
+    public Iterator<Integer> domain(T state, int var) {
+        return delegate.domain(state, var);
+    }
+
+    @Override
+    public T transition(T state, Decision decision) {
+        if (transitions == null) {
+            return intern(delegate.transition(state, decision));
+        }
+        return lookup(state, decision).state;
+    }
+
+    @Override
+    public double transitionCost(T state, Decision decision) {
+        if (transitions == null) {
+            return delegate.transitionCost(state, decision);
+        }
+        return lookup(state, decision).cost;
+    }
+
+    @Override
+    public Optional<Double> optimalValue() {
+        return delegate.optimalValue();
+    }
+
+    @Override
+    public double evaluate(int[] solution) throws InvalidSolutionException {
+        return delegate.evaluate(solution);
+    }
+
+    /**
+     * Returns the instance shared by all the states equal to the given one.
+     *
+     * @param state a state
+     * @return the interned state equal to the given one, or the given state if the states are not interned
+     */
+    public T intern(T state) {
+        if (states == null) {
+            return state;
+        }
+        Key<T> key = new Key<>(state, null);
+        T interned = states.get(key);
+        if (interned == null) {
+            interned = states.putIfAbsent(key, state);
+        }
+        return interned == null ? state : interned;
+    }
+
+    /**
+     * Returns the remembered transition of a decision taken from a state, computing it if needed.
+     */
+    private Transition<T> lookup(T state, Decision decision) {
+        Transition<T> transition = last;
+        if (transition != null && transition.from == state && transition.decision.equals(decision)) {
+            return transition;
+        }
+        Key<T> key = new Key<>(state, decision);
+        transition = transitions.get(key);
+        if (transition == null) {
+            misses.increment();
+            double cost = delegate.transitionCost(state, decision);
+            transition = new Transition<>(state, decision, intern(delegate.transition(state, decision)), cost);
+            transitions.putIfAbsent(key, transition);
+        } else {
+            hits.increment();
+        }
+        last = transition;
+        return transition;
+    }
+
+    /**
+     * Returns the number of transitions read from the cache.
+     *
+     * @return the number of cache hits
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of transitions computed by the memoized problem.
+     *
+     * @return the number of cache misses
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the proportion of the transitions read from the cache.
+     *
+     * @return the hit rate, between 0 and 1, or 0 if the transitions are not remembered
+     */
+    public double hitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    /**
+     * Returns the number of interned states.
+     *
+     * @return the number of entries of the interning table, 0 if the states are not interned
+     */
+    public int nbInternedStates() {
+        return states == null ? 0 : states.size();
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
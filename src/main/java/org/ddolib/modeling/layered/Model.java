@@ -7,6 +7,8 @@ import org.ddolib.solving.ddo.core.heuristics.variable.layered.VariableHeuristic
 import org.ddolib.util.debug.DebugLevel;
 import org.ddolib.util.verbosity.VerbosityLevel;
 
+import java.nio.file.Path;
+
 /**
  * Defines the core model interface for describing an optimization problem to be
  * solved within the Decision Diagram Optimization (DDO) framework.
@@ -114,6 +116,66 @@ public interface Model<T> {
         return DebugLevel.OFF;
     }
 
+    /**
+     * Returns the codec used to serialize the states of the problem.
+     * <p>
+     * A codec is only required by components that store states outside the Java heap,
+     * such as {@link org.ddolib.solving.ddo.core.frontier.ExternalMemoryFrontier}.
+     * Default is {@code null} (the states cannot be serialized).
+     * </p>
+     *
+     * @return the {@link StateCodec} of the states, or {@code null} if none is provided
+     */
+    default StateCodec<T> stateCodec() {
+        return null;
+    }
+
+    /**
+     * Returns the file where the solver periodically checkpoints its search.
+     * <p>
+     * When a file is given, the {@link org.ddolib.solving.ddo.core.solver.layered.SequentialSolver},
+     * {@link org.ddolib.solving.astar.core.solver.layered.AStarSolver} and
+     * {@link org.ddolib.solving.acs.core.solver.layered.AcsSolver} regularly write their open
+     * subproblems, their incumbent and their statistics in it, using the {@link #stateCodec()}.
+     * The search can then be resumed with {@link Solvers#resumeDdo(DdoModel, Path)},
+     * {@link Solvers#resumeAstar(Model, Path)} or {@link Solvers#resumeAcs(AcsModel, Path)}.
+     * Default is {@code null} (no checkpoint).
+     * </p>
+     *
+     * @return the checkpoint file, or {@code null} if the search must not be checkpointed
+     */
+    default Path checkpointFile() {
+        return null;
+    }
+
+    /**
+     * Returns the delay between two checkpoints of the search (see {@link #checkpointFile()}).
+     * <p>
+     * The solvers may postpone a checkpoint so that writing them never takes more than a
+     * small fraction of the runtime. Default is one minute.
+     * </p>
+     *
+     * @return the delay between two checkpoints in milliseconds
+     */
+    default long checkpointInterval() {
+        return 60_000L;
+    }
+
+    /**
+     * Indicates whether the solvers should memoize the bounds computed by the {@link #lowerBound()}.
+     * <p>
+     * When enabled, the solvers wrap the fast lower bound in a {@link MemoizedFastLowerBound}, so
+     * that the bound of a state met again for the same remaining variables is not computed twice.
+     * This pays off when the bound is expensive and the states are often met again, and requires
+     * immutable states with consistent {@code equals} and {@code hashCode}. Default is {@code false}.
+     * </p>
+     *
+     * @return {@code true} if the fast lower bound must be memoized, {@code false} otherwise
+     */
+    default boolean useLowerBoundCache() {
+        return false;
+    }
+
 
     /**
      * Returns a copy of this model but without dominance.
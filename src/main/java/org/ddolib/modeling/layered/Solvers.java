@@ -4,13 +4,19 @@ import org.ddolib.solving.acs.core.solver.layered.AcsSolver;
 import org.ddolib.solving.astar.core.solver.layered.AStarSolver;
 import org.ddolib.solving.awastar.core.solver.layered.AwAstarSolver;
 import org.ddolib.common.solver.layered.Solution;
+import org.ddolib.common.solver.layered.Solver;
 import org.ddolib.common.solver.stat.SearchStatistics;
+import org.ddolib.solving.ddo.core.solver.layered.BidirectionalSolver;
 import org.ddolib.solving.ddo.core.solver.layered.ExactSolver;
 import org.ddolib.solving.ddo.core.solver.layered.RelaxationSolver;
 import org.ddolib.solving.ddo.core.solver.layered.RestrictionSolver;
 import org.ddolib.solving.ddo.core.solver.layered.SequentialSolver;
 import org.ddolib.solving.lns.core.solver.layered.LnsSolver;
+import org.ddolib.solving.portfolio.core.solver.layered.PortfolioSolver;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 
@@ -29,6 +35,8 @@ import java.util.function.Predicate;
  *       refines solutions over time using bounded-width decision diagrams.</li>
  *   <li><b>Anytime Weighted A*</b> - A variant of A* algorithm that progressively refines
  *   solution using a weighted heuristic function.</li>
+ *   <li><b>Portfolio</b> - Races several of the above solvers in parallel threads, sharing
+ *   their incumbent.</li>
  * </ul>
  *
  * @see DdoModel
@@ -337,6 +345,39 @@ public class Solvers {
         return new ExactSolver<>(model).minimize(s -> false, onSolution);
     }
 
+    // =============================================================
+    // Bidirectional Exact Solver Methods
+    // =============================================================
+
+    /**
+     * Solves the given model by exploring it exactly from both ends of its variable order,
+     * the forward and backward searches meeting in the middle.
+     * <p>
+     * The method configures and delegates the solving process to a {@link BidirectionalSolver}.
+     *
+     * @param model the bidirectional model to solve
+     * @return a solution to the related problem with search statistics summarizing solver's performance
+     */
+    public static <T, B> Solution minimizeBidirectional(BidirectionalModel<T, B> model) {
+        return new BidirectionalSolver<>(model).minimize(s -> false, (sol, s) -> {
+        });
+    }
+
+    /**
+     * Solves the given model by exploring it exactly from both ends of its variable order,
+     * with a solution callback.
+     * <p>
+     * The method configures and delegates the solving process to a {@link BidirectionalSolver}.
+     *
+     * @param model      the bidirectional model to solve
+     * @param onSolution callback invoked when the optimal solution is found
+     * @return a solution to the related problem with search statistics summarizing solver's performance
+     */
+    public static <T, B> Solution minimizeBidirectional(BidirectionalModel<T, B> model,
+                                                        BiConsumer<int[], SearchStatistics> onSolution) {
+        return new BidirectionalSolver<>(model).minimize(s -> false, onSolution);
+    }
+
 
     /**
      * Runs a Large Neighborhood Search (LNS) on the specified model with a given
@@ -390,4 +431,230 @@ public class Solvers {
         return minimizeLns(model, limit, (sol, s) -> {
         });
     }
+
+    /**
+     * Runs a parallel Large Neighborhood Search (LNS) on the specified model, with the given
+     * number of workers.
+     * <p>
+     * Each worker runs its own LNS in its own thread and explores different neighborhoods of the
+     * incumbent: different numbers of fixed variables, different random destructions, and either
+     * a fixed prefix or a free window of variables (see {@link LnsSolver#LnsSolver(LnsModel, int, int)}).
+     * The workers share their incumbent: as soon as one of them improves it, the others restart
+     * from it. With a single thread, this is the sequential LNS.
+     * </p>
+     * <p>
+     * <b>Warning:</b> the problem and the lower bound of the model are shared by the threads
+     * and must be thread-safe.
+     * </p>
+     *
+     * @param <T>        the type of state used in the problem
+     * @param model      the {@link LnsModel} describing the problem and search heuristics
+     * @param threads    the number of concurrent workers
+     * @param limit      a {@link Predicate} on {@link SearchStatistics} defining when to stop each worker
+     * @param onSolution a {@link BiConsumer} called each time a worker improves the incumbent
+     * @return the best {@link Solution} found during the search
+     */
+    public static <T> Solution minimizeLns(LnsModel<T> model, int threads,
+                                           Predicate<SearchStatistics> limit,
+                                           BiConsumer<int[], SearchStatistics> onSolution) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("The number of threads must be >= 1");
+        }
+        if (threads == 1) {
+            return minimizeLns(model, limit, onSolution);
+        }
+        List<Solver> workers = new ArrayList<>(threads);
+        for (int worker = 0; worker < threads; worker++) {
+            workers.add(new LnsSolver<>(model, worker, threads));
+        }
+        return new PortfolioSolver(workers, Double.POSITIVE_INFINITY).minimize(limit, onSolution);
+    }
+
+    /**
+     * Runs a parallel Large Neighborhood Search (LNS) on the specified model with a termination
+     * condition but without processing intermediate solutions.
+     *
+     * @param <T>     the type of state used in the problem
+     * @param model   the {@link LnsModel} describing the problem and search heuristics
+     * @param threads the number of concurrent workers
+     * @param limit   a {@link Predicate} on {@link SearchStatistics} defining when to stop each worker
+     * @return the best {@link Solution} found during the search
+     * @see #minimizeLns(LnsModel, int, Predicate, BiConsumer)
+     */
+    public static <T> Solution minimizeLns(LnsModel<T> model, int threads, Predicate<SearchStatistics> limit) {
+        return minimizeLns(model, threads, limit, (sol, s) -> {
+        });
+    }
+
+    // =============================================================
+    // Portfolio Solver Methods
+    // =============================================================
+
+    /**
+     * Solves the given model by racing DDO, A*, ACS, AWA* and LNS, each one in its own thread.
+     * <p>
+     * The solvers share their incumbent: a solution found by one of them tightens the upper
+     * bound of all the others. The search stops as soon as one solver proves optimality, or when
+     * all of them are stopped by the limit. The A*, ACS, AWA* and LNS solvers are configured from
+     * the DDO model (see {@link DdoModel#toAcsModel()}, {@link DdoModel#toAwAstarModel()} and
+     * {@link DdoModel#toLnsModel()}).
+     * </p>
+     * <p>
+     * <b>Warning:</b> the problem, the relaxation and the lower bound of the model are shared by
+     * the threads and must be thread-safe.
+     * </p>
+     *
+     * @param model      the DDO model to solve
+     * @param limit      predicate defining the stopping criterion of each solver
+     * @param onSolution callback executed on discovery of a new best solution by any solver
+     * @return a solution to the related problem with search statistics summarizing the performance
+     * of the solver which ended the race
+     */
+    public static <T> Solution minimizePortfolio(DdoModel<T> model,
+                                                 Predicate<SearchStatistics> limit,
+                                                 BiConsumer<int[], SearchStatistics> onSolution) {
+        AcsModel<T> acsModel = model.toAcsModel();
+        List<Solver> solvers = List.of(
+                new SequentialSolver<>(model),
+                new AStarSolver<>(acsModel),
+                new AcsSolver<>(acsModel),
+                new AwAstarSolver<>(model.toAwAstarModel()),
+                new LnsSolver<>(model.toLnsModel()));
+        return new PortfolioSolver(solvers, model.upperBound()).minimize(limit, onSolution);
+    }
+
+    /**
+     * Solves the given model by racing DDO, A*, ACS, AWA* and LNS, each one in its own thread.
+     *
+     * @param model the DDO model to solve
+     * @return a solution to the related problem with search statistics summarizing the performance
+     * of the solver which ended the race
+     */
+    public static <T> Solution minimizePortfolio(DdoModel<T> model) {
+        return minimizePortfolio(model, s -> false, (sol, s) -> {
+        });
+    }
+
+    /**
+     * Solves the given model by racing DDO, A*, ACS, AWA* and LNS, stopping when the limit
+     * condition is satisfied.
+     *
+     * @param model the DDO model to solve
+     * @param limit predicate defining the stopping criterion of each solver
+     * @return a solution to the related problem with search statistics summarizing the performance
+     * of the solver which ended the race
+     */
+    public static <T> Solution minimizePortfolio(DdoModel<T> model, Predicate<SearchStatistics> limit) {
+        return minimizePortfolio(model, limit, (sol, s) -> {
+        });
+    }
+
+    /**
+     * Solves the given model by racing DDO, A*, ACS, AWA* and LNS, and calls the callback
+     * when a new incumbent is found.
+     *
+     * @param model      the DDO model to solve
+     * @param onSolution callback executed on discovery of a new best solution by any solver
+     * @return a solution to the related problem with search statistics summarizing the performance
+     * of the solver which ended the race
+     */
+    public static <T> Solution minimizePortfolio(DdoModel<T> model,
+                                                 BiConsumer<int[], SearchStatistics> onSolution) {
+        return minimizePortfolio(model, s -> false, onSolution);
+    }
+
+    // =============================================================
+    // Resuming a checkpointed search
+    // =============================================================
+
+    /**
+     * Resumes a DDO search from a checkpoint written by a previous run (see {@link Model#checkpointFile()}).
+     *
+     * @param model      the DDO model to solve; it must provide the {@link Model#stateCodec() codec}
+     *                   used to write the checkpoint
+     * @param checkpoint the checkpoint file
+     * @return a solution to the related problem with search statistics summarizing the solver's performance
+     */
+    public static <T> Solution resumeDdo(DdoModel<T> model, Path checkpoint) {
+        return resumeDdo(model, checkpoint, s -> false, (sol, s) -> {
+        });
+    }
+
+    /**
+     * Resumes a DDO search from a checkpoint written by a previous run, with a custom stop
+     * condition and a solution callback. The statistics given to {@code limit} continue the
+     * ones of the checkpointed run (iterations, runtime, ...).
+     *
+     * @param model      the DDO model to solve; it must provide the {@link Model#stateCodec() codec}
+     *                   used to write the checkpoint
+     * @param checkpoint the checkpoint file
+     * @param limit      a predicate defining when the solver should stop
+     * @param onSolution a callback invoked whenever a new best solution is found
+     * @return a solution to the related problem with search statistics summarizing the solver's performance
+     */
+    public static <T> Solution resumeDdo(DdoModel<T> model, Path checkpoint,
+                                         Predicate<SearchStatistics> limit,
+                                         BiConsumer<int[], SearchStatistics> onSolution) {
+        return new SequentialSolver<>(model, checkpoint).minimize(limit, onSolution);
+    }
+
+    /**
+     * Resumes an A* search from a checkpoint written by a previous run (see {@link Model#checkpointFile()}).
+     *
+     * @param model      the model to solve; it must provide the {@link Model#stateCodec() codec}
+     *                   used to write the checkpoint
+     * @param checkpoint the checkpoint file
+     * @return a solution to the related problem with search statistics summarizing the solver's performance
+     */
+    public static <T> Solution resumeAstar(Model<T> model, Path checkpoint) {
+        return resumeAstar(model, checkpoint, s -> false, (sol, s) -> {
+        });
+    }
+
+    /**
+     * Resumes an A* search from a checkpoint written by a previous run, with a custom stop
+     * condition and a solution callback.
+     *
+     * @param model      the model to solve; it must provide the {@link Model#stateCodec() codec}
+     *                   used to write the checkpoint
+     * @param checkpoint the checkpoint file
+     * @param limit      a predicate defining when the solver should stop
+     * @param onSolution a callback invoked whenever a new best solution is found
+     * @return a solution to the related problem with search statistics summarizing the solver's performance
+     */
+    public static <T> Solution resumeAstar(Model<T> model, Path checkpoint,
+                                           Predicate<SearchStatistics> limit,
+                                           BiConsumer<int[], SearchStatistics> onSolution) {
+        return new AStarSolver<>(model, checkpoint).minimize(limit, onSolution);
+    }
+
+    /**
+     * Resumes an ACS search from a checkpoint written by a previous run (see {@link Model#checkpointFile()}).
+     *
+     * @param model      the ACS model to solve; it must provide the {@link Model#stateCodec() codec}
+     *                   used to write the checkpoint
+     * @param checkpoint the checkpoint file
+     * @return a solution to the related problem with search statistics summarizing the solver's performance
+     */
+    public static <T> Solution resumeAcs(AcsModel<T> model, Path checkpoint) {
+        return resumeAcs(model, checkpoint, s -> false, (sol, s) -> {
+        });
+    }
+
+    /**
+     * Resumes an ACS search from a checkpoint written by a previous run, with a custom stop
+     * condition and a solution callback.
+     *
+     * @param model      the ACS model to solve; it must provide the {@link Model#stateCodec() codec}
+     *                   used to write the checkpoint
+     * @param checkpoint the checkpoint file
+     * @param limit      a predicate defining when the solver should stop
+     * @param onSolution a callback invoked whenever a new best solution is found
+     * @return a solution to the related problem with search statistics summarizing the solver's performance
+     */
+    public static <T> Solution resumeAcs(AcsModel<T> model, Path checkpoint,
+                                         Predicate<SearchStatistics> limit,
+                                         BiConsumer<int[], SearchStatistics> onSolution) {
+        return new AcsSolver<>(model, checkpoint).minimize(limit, onSolution);
+    }
 }
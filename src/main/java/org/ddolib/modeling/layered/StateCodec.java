@@ -0,0 +1,42 @@
+package org.ddolib.modeling.layered;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Defines how the states of a problem are written to and read back from a binary stream.
+ * <p>
+ * A {@code StateCodec} is needed by every component that has to move states out of
+ * the Java heap, for instance a frontier spilling its subproblems to disk
+ * ({@link org.ddolib.solving.ddo.core.frontier.ExternalMemoryFrontier}).
+ * The solvers never call it unless such a component is explicitly configured in the model.
+ * </p>
+ *
+ * <p>
+ * Implementations must be symmetric: a state written by {@link #write(Object, DataOutput)}
+ * must be decoded by {@link #read(DataInput)} into a state that is {@code equals} to the
+ * original one (and has the same hash code).
+ * </p>
+ *
+ * @param <T> the type representing the problem state
+ */
+public interface StateCodec<T> {
+    /**
+     * Writes the given state to the output stream.
+     *
+     * @param state the state to encode
+     * @param out   the stream to write to
+     * @throws IOException if the state cannot be written
+     */
+    void write(T state, DataOutput out) throws IOException;
+
+    /**
+     * Reads a state previously encoded with {@link #write(Object, DataOutput)}.
+     *
+     * @param in the stream to read from
+     * @return the decoded state
+     * @throws IOException if the state cannot be read
+     */
+    T read(DataInput in) throws IOException;
+}
@@ -1,6 +1,10 @@
 package org.ddolib.solving.acs.core.solver.layered;
 
 import org.ddolib.common.dominance.DominanceChecker;
+import org.ddolib.common.solver.SharedIncumbent;
+import org.ddolib.common.solver.checkpoint.CheckpointReader;
+import org.ddolib.common.solver.checkpoint.CheckpointSchedule;
+import org.ddolib.common.solver.checkpoint.CheckpointWriter;
 import org.ddolib.common.solver.layered.Solution;
 import org.ddolib.common.solver.layered.Solver;
 import org.ddolib.common.solver.stat.AstarStats;
@@ -12,7 +16,9 @@ import org.ddolib.solving.ddo.core.heuristics.variable.layered.VariableHeuristic
 import org.ddolib.modeling.layered.AcsModel;
 import org.ddolib.modeling.layered.DefaultFastLowerBound;
 import org.ddolib.modeling.layered.FastLowerBound;
+import org.ddolib.modeling.layered.MemoizedFastLowerBound;
 import org.ddolib.modeling.layered.Problem;
+import org.ddolib.util.IndexedOpenList;
 import org.ddolib.util.SolverUtil;
 import org.ddolib.util.StateAndDepth;
 import org.ddolib.util.debug.DebugLevel;
@@ -20,6 +26,7 @@ import org.ddolib.util.debug.DebugUtil;
 import org.ddolib.util.verbosity.VerboseMode;
 import org.ddolib.util.verbosity.VerbosityLevel;
 
+import java.nio.file.Path;
 import java.util.*;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
@@ -79,11 +86,10 @@ public final class AcsSolver<T> implements Solver {
      */
     private final HashMap<StateAndDepth<T>, Double> closed;
     /**
-     * HashMap mapping (state,depth) to the f value.
+     * The open nodes of each column (depth), indexed by (state,depth) and ordered by f value.
      * Open nodes are the ones in the frontier.
      */
-    private final HashMap<StateAndDepth<T>, Double> present;
-    private final List<PriorityQueue<SubProblem<T>>> open;
+    private final List<IndexedOpenList<T>> open;
     private final int columnWidth;
     private final SubProblem<T> root;
     private final VerboseMode verboseMode;
@@ -97,6 +103,22 @@ public final class AcsSolver<T> implements Solver {
      * If set, this keeps the info about the best solution so far.
      */
     private Optional<Set<Decision>> bestSol;
+    /**
+     * The model used to configure the solver.
+     */
+    private final AcsModel<T> model;
+    /**
+     * The file where the search is checkpointed, {@code null} if it is not checkpointed.
+     */
+    private final Path checkpointFile;
+    /**
+     * The checkpoint from which the search is resumed, {@code null} to start from the root.
+     */
+    private final Path resumeFrom;
+    /**
+     * The incumbent shared with other solvers, {@code null} if the solver runs alone.
+     */
+    private SharedIncumbent sharedIncumbent;
 
     /**
      * Constructs an ACS solver with all required and optional components provided via an {@link AcsModel}.
@@ -118,21 +140,36 @@ public final class AcsSolver<T> implements Solver {
      * @param model Provides all parameters needed to configure the solver
      */
     public AcsSolver(AcsModel<T> model) {
+        this(model, (Path) null);
+    }
+
+    /**
+     * Constructs an ACS solver resuming the search saved in the given checkpoint. The checkpoint
+     * must have been written by an {@code AcsSolver} solving the same problem, and the
+     * model must provide the {@link AcsModel#stateCodec() codec} used to write it.
+     * <p>
+     * Only the open subproblems are saved in a checkpoint: the closed set and the dominance
+     * checker are rebuilt while the search goes on, which may lead to re-expanding some states.
+     * </p>
+     *
+     * @param model      Provides all parameters needed to configure the solver
+     * @param checkpoint The checkpoint to resume from, or {@code null} to start a new search
+     */
+    public AcsSolver(AcsModel<T> model, Path checkpoint) {
         this.problem = model.problem();
         this.varh = model.variableHeuristic();
-        this.lb = model.lowerBound();
+        this.lb = MemoizedFastLowerBound.of(model);
         this.dominance = model.dominance();
         this.bestUB = model.upperBound();
         this.bestSol = Optional.empty();
         this.columnWidth = model.columnWidth();
 
         this.closed = new HashMap<>();
-        this.present = new HashMap<>();
 
 
         this.open = new ArrayList<>(problem.nbVars() + 1);
         for (int i = 0; i < problem.nbVars() + 1; i++) {
-            this.open.add(new PriorityQueue<>(Comparator.comparingDouble(SubProblem<T>::f)));
+            this.open.add(new IndexedOpenList<>(Comparator.comparingDouble(SubProblem<T>::f)));
         }
 
         this.verboseMode = new VerboseMode(model.verbosityLevel(), 500);
@@ -140,7 +177,12 @@ public final class AcsSolver<T> implements Solver {
 
         this.root = constructRoot(problem.initialState(), problem.initialValue(), 0);
         this.defaultLowerBoundValue = this.lb instanceof DefaultFastLowerBound<T>;
-
+        this.model = model;
+        this.checkpointFile = model.checkpointFile();
+        this.resumeFrom = checkpoint;
+        if ((checkpointFile != null || resumeFrom != null) && model.stateCodec() == null) {
+            throw new IllegalArgumentException("Checkpointing the search requires a state codec");
+        }
     }
 
     private AcsSolver(AcsModel<T> model, StateAndDepth<T> rootKey) {
@@ -153,16 +195,18 @@ public final class AcsSolver<T> implements Solver {
         this.columnWidth = model.columnWidth();
 
         this.closed = new HashMap<>();
-        this.present = new HashMap<>();
         this.open = new ArrayList<>(problem.nbVars() + 1);
         for (int i = 0; i < problem.nbVars() + 1; i++) {
-            this.open.add(new PriorityQueue<>(Comparator.comparingDouble(SubProblem<T>::f)));
+            this.open.add(new IndexedOpenList<>(Comparator.comparingDouble(SubProblem<T>::f)));
         }
 
         this.verboseMode = new VerboseMode(VerbosityLevel.SILENT, 500);
         this.debugLevel = DebugLevel.OFF;
         this.root = constructRoot(rootKey.state(), 0, rootKey.depth());
         this.defaultLowerBoundValue = this.lb instanceof DefaultFastLowerBound<T>;
+        this.model = model;
+        this.checkpointFile = null;
+        this.resumeFrom = null;
     }
 
     /**
@@ -171,7 +215,7 @@ public final class AcsSolver<T> implements Solver {
      * @return true if all open queues are empty, false otherwise
      */
     private boolean allEmpty() {
-        for (PriorityQueue<SubProblem<T>> q : open) {
+        for (IndexedOpenList<T> q : open) {
             if (!q.isEmpty()) {
                 return false;
             }
@@ -189,17 +233,39 @@ public final class AcsSolver<T> implements Solver {
     @Override
     public Solution minimize(Predicate<SearchStatistics> limit,
                              BiConsumer<int[], SearchStatistics> onSolution) {
-        AstarStats statistics = new AstarStats(System.currentTimeMillis(), bestUB);
-        open.getFirst().add(root);
-        present.put(new StateAndDepth<>(root.getState(), root.getDepth()), root.f());
+        try {
+            return search(limit, onSolution);
+        } finally {
+            // the messages of the search are written before the caller prints the solution
+            verboseMode.flush();
+        }
+    }
+
+    /**
+     * Runs the search of {@link #minimize(Predicate, BiConsumer)}.
+     */
+    private Solution search(Predicate<SearchStatistics> limit,
+                           BiConsumer<int[], SearchStatistics> onSolution) {
+        AstarStats statistics;
+        if (resumeFrom == null) {
+            statistics = new AstarStats(System.currentTimeMillis(), bestUB);
+            open.getFirst().add(root);
+        } else {
+            statistics = restore();
+        }
+        CheckpointSchedule checkpointSchedule =
+                checkpointFile == null ? null : new CheckpointSchedule(model.checkpointInterval());
 
         if (root.f() == Integer.MIN_VALUE) {
             defaultLowerBoundValue = true;
         }
         ArrayList<SubProblem<T>> candidates = new ArrayList<>();
         while (!allEmpty()) {
+            if (sharedIncumbent != null) {
+                statistics = pullSharedIncumbent(statistics);
+            }
             verboseMode.detailedSearchState(statistics.nbIterations(),
-                    open.stream().map(PriorityQueue::size).mapToInt(x -> x).sum(),
+                    open.stream().map(IndexedOpenList::size).mapToInt(x -> x).sum(),
                     bestUB,
                     open.stream()
                             .filter(pq -> !pq.isEmpty())
@@ -211,8 +277,16 @@ public final class AcsSolver<T> implements Solver {
             statistics = statistics.updateTime(System.currentTimeMillis()).updateGap(gap());
 
             if (limit.test(statistics)) {
+                if (checkpointFile != null) {
+                    checkpoint(statistics);
+                }
                 return new Solution(bestSolution(), statistics);
             }
+            if (checkpointSchedule != null && checkpointSchedule.isDue(statistics.currentTime())) {
+                long start = System.currentTimeMillis();
+                checkpoint(statistics);
+                checkpointSchedule.written(start, System.currentTimeMillis());
+            }
 
             for (int i = 0; i < problem.nbVars() + 1; i++) { // for each layer
                 candidates.clear();
@@ -223,8 +297,6 @@ public final class AcsSolver<T> implements Solver {
                     if (sub.getState() != null && dominance.updateDominance(sub.getState(), sub.getDepth(), sub.getValue())) {
                         continue;
                     }
-                    StateAndDepth<T> subKey = new StateAndDepth<>(sub.getState(), sub.getDepth());
-                    present.remove(subKey);
                     if (sub.f() < bestUB) {
                         candidates.add(sub);
                     } else {
@@ -254,7 +326,7 @@ public final class AcsSolver<T> implements Solver {
                 }
 
             }
-            statistics = statistics.updateFrontierMaxSize(open.stream().mapToInt(PriorityQueue::size).sum());
+            statistics = statistics.updateFrontierMaxSize(open.stream().mapToInt(IndexedOpenList::size).sum());
         }
 
         if (debugLevel != DebugLevel.OFF) {
@@ -293,6 +365,33 @@ public final class AcsSolver<T> implements Solver {
         return bestSol;
     }
 
+    @Override
+    public void shareIncumbent(SharedIncumbent incumbent) {
+        this.sharedIncumbent = incumbent;
+    }
+
+    /**
+     * Adopts the shared incumbent if it is better than ours and publishes the lower bound
+     * given by the open lists.
+     */
+    private AstarStats pullSharedIncumbent(AstarStats statistics) {
+        Optional<SharedIncumbent.Incumbent> shared = sharedIncumbent.snapshot();
+        if (shared.isPresent() && shared.get().value() < bestUB) {
+            bestUB = shared.get().value();
+            bestSol = Optional.of(shared.get().decisions());
+            statistics = statistics.updateIncumbent(bestUB, gap()).updateStatus(SearchStatus.SAT);
+        }
+        if (!defaultLowerBoundValue) {
+            double globalLB = open.stream()
+                    .filter(pq -> !pq.isEmpty())
+                    .mapToDouble(pq -> pq.peek().f())
+                    .min()
+                    .orElse(bestUB);
+            sharedIncumbent.offerLowerBound(Math.min(globalLB, bestUB));
+        }
+        return statistics;
+    }
+
     /**
      * Computes the gap (percentage difference) between the best known upper bound and the lowest
      * f-value in the open nodes, for anytime search reporting.
@@ -337,6 +436,44 @@ public final class AcsSolver<T> implements Solver {
                 nullDecisions);
     }
 
+    /**
+     * Writes the open subproblems of all the columns, the incumbent and the statistics of
+     * the search to the checkpoint file.
+     */
+    private void checkpoint(AstarStats statistics) {
+        try (CheckpointWriter<T> writer = new CheckpointWriter<>(checkpointFile, model.stateCodec())) {
+            writer.writeHeader(AcsSolver.class.getSimpleName(), bestUB, bestSol, statistics);
+            for (IndexedOpenList<T> column : open) {
+                for (SubProblem<T> sub : column) {
+                    writer.writeSubProblem(sub);
+                }
+            }
+            writer.commit();
+        }
+    }
+
+    /**
+     * Restores the open subproblems and the incumbent saved in the checkpoint to resume from.
+     *
+     * @return the statistics of the resumed search
+     */
+    private AstarStats restore() {
+        try (CheckpointReader<T> reader = new CheckpointReader<>(resumeFrom, model.stateCodec(),
+                AcsSolver.class.getSimpleName())) {
+            if (reader.bestUB() < bestUB) {
+                bestUB = reader.bestUB();
+                bestSol = reader.bestSolution();
+            }
+            SubProblem<T> sub = reader.nextSubProblem();
+            while (sub != null) {
+                open.get(sub.getDepth()).add(sub);
+                sub = reader.nextSubProblem();
+            }
+            return new AstarStats(System.currentTimeMillis() - reader.runtime(), bestUB)
+                    .resume(reader.nbIterations(), reader.frontierMaxSize());
+        }
+    }
+
     /**
      * Adds children of a subproblem to the open queues, applying lower bounds and dominance checks.
      *
@@ -367,20 +504,17 @@ public final class AcsSolver<T> implements Solver {
             if (debugLevel == DebugLevel.EXTENDED) {
                 DebugUtil.checkFlbConsistency(subProblem, newSub, cost);
             }
-            StateAndDepth<T> newKey = new StateAndDepth<>(newState, newSub.getDepth());
-            Double presentValue = present.get(newKey);
-            if (presentValue != null && presentValue > newSub.f()) {
-                open.get(newSub.getDepth()).add(newSub);
-                present.put(newKey, newSub.f());
-            } else if (presentValue == null) {
+            StateAndDepth<T> newKey = IndexedOpenList.key(newSub);
+            IndexedOpenList<T> column = open.get(newSub.getDepth());
+            if (column.contains(newKey)) {
+                column.add(newSub); // decrease-key if newSub is better
+            } else {
                 Double closedValue = closed.get(newKey);
-                if (closedValue != null && closedValue > newSub.f()) {
-                    open.get(newSub.getDepth()).add(newSub);
+                if (closedValue == null) {
+                    column.add(newSub);
+                } else if (closedValue > newSub.f()) {
                     closed.remove(newKey);
-                    present.put(newKey, newSub.f());
-                } else if (closedValue == null) {
-                    open.get(newSub.getDepth()).add(newSub);
-                    present.put(newKey, newSub.f());
+                    column.add(newSub);
                 }
             }
 
@@ -390,7 +524,9 @@ public final class AcsSolver<T> implements Solver {
 
     private void checkAdmissibility() {
         Set<StateAndDepth<T>> toCheck = new HashSet<>(closed.keySet());
-        toCheck.addAll(present.keySet());
+        for (IndexedOpenList<T> column : open) {
+            toCheck.addAll(column.keys());
+        }
 
         AcsModel<T> model = new AcsModel<>() {
 
@@ -66,6 +66,18 @@ public final class AcsSolver<T> implements Solver {
 
     @Override
     public Solution minimize(Predicate<SearchStatistics> limit, BiConsumer<int[], SearchStatistics> onSolution) {
+        try {
+            return search(limit, onSolution);
+        } finally {
+            // the messages of the search are written before the caller prints the solution
+            verboseMode.flush();
+        }
+    }
+
+    /**
+     * Runs the search of {@link #minimize(Predicate, BiConsumer)}.
+     */
+    private Solution search(Predicate<SearchStatistics> limit, BiConsumer<int[], SearchStatistics> onSolution) {
         AstarStats statistics = new AstarStats(System.currentTimeMillis(), bestUB);
         open.get(0).add(root);
         present.put(root.getState(), root.f());
@@ -1,6 +1,10 @@
 package org.ddolib.solving.astar.core.solver.layered;
 
 import org.ddolib.common.dominance.DominanceChecker;
+import org.ddolib.common.solver.SharedIncumbent;
+import org.ddolib.common.solver.checkpoint.CheckpointReader;
+import org.ddolib.common.solver.checkpoint.CheckpointSchedule;
+import org.ddolib.common.solver.checkpoint.CheckpointWriter;
 import org.ddolib.common.solver.layered.Solution;
 import org.ddolib.common.solver.layered.Solver;
 import org.ddolib.common.solver.stat.AstarStats;
@@ -11,8 +15,10 @@ import org.ddolib.solving.ddo.core.SubProblem;
 import org.ddolib.solving.ddo.core.heuristics.variable.layered.VariableHeuristic;
 import org.ddolib.modeling.layered.DefaultFastLowerBound;
 import org.ddolib.modeling.layered.FastLowerBound;
+import org.ddolib.modeling.layered.MemoizedFastLowerBound;
 import org.ddolib.modeling.layered.Model;
 import org.ddolib.modeling.layered.Problem;
+import org.ddolib.util.IndexedOpenList;
 import org.ddolib.util.SolverUtil;
 import org.ddolib.util.StateAndDepth;
 import org.ddolib.util.debug.DebugLevel;
@@ -20,6 +26,7 @@ import org.ddolib.util.debug.DebugUtil;
 import org.ddolib.util.verbosity.VerboseMode;
 import org.ddolib.util.verbosity.VerbosityLevel;
 
+import java.nio.file.Path;
 import java.util.*;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
@@ -46,12 +53,10 @@ public final class AStarSolver<T> implements Solver {
     private final VariableHeuristic<T> varh;
     // HashMap mapping (state,depth) to the f value
     private final HashMap<StateAndDepth<T>, Double> closed;
-    // HashMap mapping (state,depth) open nodes to the f value.
-    private final HashMap<StateAndDepth<T>, Double> present;
     // The dominance object that will be used to prune the search space.
     private final DominanceChecker<T> dominance;
-    // The priority queue containing the open subproblems by decreasing f = g + h (lower-bound
-    private final PriorityQueue<SubProblem<T>> open = new PriorityQueue<>(
+    // The open subproblems indexed by (state,depth), ordered by increasing f = g + h (lower-bound)
+    private final IndexedOpenList<T> open = new IndexedOpenList<>(
             Comparator.comparingDouble(SubProblem<T>::f));
     private final SubProblem<T> root;
     /**
@@ -81,21 +86,50 @@ public final class AStarSolver<T> implements Solver {
     private double bestUB;
     // If set, this keeps the info about the best solution so far.
     private Optional<Set<Decision>> bestSol;
+    // The model used to configure the solver.
+    private final Model<T> model;
+    // The file where the search is checkpointed, null if it is not checkpointed.
+    private final Path checkpointFile;
+    // The checkpoint from which the search is resumed, null to start from the root.
+    private final Path resumeFrom;
+    // The incumbent shared with other solvers, null if the solver runs alone.
+    private SharedIncumbent sharedIncumbent;
 
     public AStarSolver(Model<T> model) {
+        this(model, (Path) null);
+    }
+
+    /**
+     * Creates a solver resuming the search saved in the given checkpoint. The checkpoint
+     * must have been written by an {@code AStarSolver} solving the same problem, and the
+     * model must provide the {@link Model#stateCodec() codec} used to write it.
+     * <p>
+     * Only the open subproblems are saved in a checkpoint: the closed set and the dominance
+     * checker are rebuilt while the search goes on, which may lead to re-expanding some states.
+     * </p>
+     *
+     * @param model      All parameters needed to configure the solver.
+     * @param checkpoint The checkpoint to resume from, or {@code null} to start a new search.
+     */
+    public AStarSolver(Model<T> model, Path checkpoint) {
         this.problem = model.problem();
         this.varh = model.variableHeuristic();
-        this.lb = model.lowerBound();
+        this.lb = MemoizedFastLowerBound.of(model);
         this.dominance = model.dominance();
         this.bestUB = model.upperBound();
         this.bestSol = Optional.empty();
-        this.present = new HashMap<>();
         this.closed = new HashMap<>();
         this.verbosityLevel = model.verbosityLevel();
         this.verboseMode = new VerboseMode(this.verbosityLevel, 500L);
         this.debugLevel = model.debugMode();
         this.root = constructRoot(problem.initialState(), problem.initialValue(), 0);
         this.defaultLowerBoundValue = this.lb instanceof DefaultFastLowerBound<T>;
+        this.model = model;
+        this.checkpointFile = model.checkpointFile();
+        this.resumeFrom = checkpoint;
+        if ((checkpointFile != null || resumeFrom != null) && model.stateCodec() == null) {
+            throw new IllegalArgumentException("Checkpointing the search requires a state codec");
+        }
     }
 
     /**
@@ -116,22 +150,45 @@ public final class AStarSolver<T> implements Solver {
         this.dominance = model.dominance();
         this.bestUB = model.upperBound();
         this.bestSol = Optional.empty();
-        this.present = new HashMap<>();
         this.closed = new HashMap<>();
         this.verbosityLevel = VerbosityLevel.SILENT;
         this.verboseMode = new VerboseMode(VerbosityLevel.SILENT, 500);
         this.debugLevel = DebugLevel.OFF;
         this.root = constructRoot(rootKey.state(), 0, rootKey.depth());
         this.defaultLowerBoundValue = this.lb instanceof DefaultFastLowerBound<T>;
+        this.model = model;
+        this.checkpointFile = null;
+        this.resumeFrom = null;
     }
 
     @Override
     public Solution minimize(Predicate<SearchStatistics> limit,
                              BiConsumer<int[], SearchStatistics> onSolution) {
-        statistics = new AstarStats(System.currentTimeMillis(), bestUB);
-        open.add(root);
-        present.put(new StateAndDepth<>(root.getState(), root.getDepth()), root.f());
+        try {
+            return search(limit, onSolution);
+        } finally {
+            // the messages of the search are written before the caller prints the solution
+            verboseMode.flush();
+        }
+    }
+
+    /**
+     * Runs the search of {@link #minimize(Predicate, BiConsumer)}.
+     */
+    private Solution search(Predicate<SearchStatistics> limit,
+                           BiConsumer<int[], SearchStatistics> onSolution) {
+        if (resumeFrom == null) {
+            statistics = new AstarStats(System.currentTimeMillis(), bestUB);
+            open.add(root);
+        } else {
+            restore();
+        }
+        CheckpointSchedule checkpointSchedule =
+                checkpointFile == null ? null : new CheckpointSchedule(model.checkpointInterval());
         while (!open.isEmpty()) {
+            if (sharedIncumbent != null) {
+                pullSharedIncumbent();
+            }
             // -- debug, stat, verbosity, stopping  ---
             verboseMode.detailedSearchState(statistics.nbIterations(), open.size(), bestUB,
                     open.peek().getLowerBound(), 100 * gap());
@@ -143,8 +200,16 @@ public final class AStarSolver<T> implements Solver {
 
 
             if (limit.test(statistics)) { // user-defined stopping criterion
+                if (checkpointFile != null) {
+                    checkpoint();
+                }
                 return new Solution(bestSolution(), statistics);
             }
+            if (checkpointSchedule != null && checkpointSchedule.isDue(statistics.currentTime())) {
+                long start = System.currentTimeMillis();
+                checkpoint();
+                checkpointSchedule.written(start, System.currentTimeMillis());
+            }
             // -- end debug, stat, verbosity, stopping  ---
 
             SubProblem<T> sub = open.poll();
@@ -152,12 +217,7 @@ public final class AStarSolver<T> implements Solver {
             if (sub.getState() != null && dominance.updateDominance(sub.getState(), sub.getDepth(), sub.getValue())) {
                 continue;
             }
-            StateAndDepth<T> subKey = new StateAndDepth<>(sub.getState(), sub.getDepth());
-            present.remove(subKey);
-
-            // The current node has been explored. We can skip it.
-            if (closed.containsKey(subKey)) continue;
-
+            StateAndDepth<T> subKey = IndexedOpenList.key(sub);
             closed.put(subKey, sub.f());
 
             // sub can only lead to less good solution
@@ -199,6 +259,27 @@ public final class AStarSolver<T> implements Solver {
         return bestSol;
     }
 
+    @Override
+    public void shareIncumbent(SharedIncumbent incumbent) {
+        this.sharedIncumbent = incumbent;
+    }
+
+    /**
+     * Adopts the shared incumbent if it is better than ours and publishes the lower bound
+     * given by the open list.
+     */
+    private void pullSharedIncumbent() {
+        Optional<SharedIncumbent.Incumbent> shared = sharedIncumbent.snapshot();
+        if (shared.isPresent() && shared.get().value() < bestUB) {
+            bestUB = shared.get().value();
+            bestSol = Optional.of(shared.get().decisions());
+            statistics = statistics.updateIncumbent(bestUB, gap()).updateStatus(SearchStatus.SAT);
+        }
+        if (!defaultLowerBoundValue) {
+            sharedIncumbent.offerLowerBound(Math.min(open.peek().f(), bestUB));
+        }
+    }
+
     private double gap() {
         if (Double.isInfinite(bestUB)) {
             return Double.POSITIVE_INFINITY;
@@ -263,20 +344,16 @@ public final class AStarSolver<T> implements Solver {
             if (debugLevel == DebugLevel.EXTENDED) {
                 DebugUtil.checkFlbConsistency(subProblem, newSub, cost);
             }
-            StateAndDepth<T> newKey = new StateAndDepth<>(newState, newSub.getDepth());
-            Double presentValue = present.get(newKey);
-            if (presentValue != null && presentValue > newSub.f()) {
-                open.add(newSub);
-                present.put(newKey, newSub.f());
-            } else if (presentValue == null) {
+            StateAndDepth<T> newKey = IndexedOpenList.key(newSub);
+            if (open.contains(newKey)) {
+                open.add(newSub); // decrease-key if newSub is better
+            } else {
                 Double closedValue = closed.get(newKey);
-                if (closedValue != null && closedValue > newSub.f()) {
+                if (closedValue == null) {
                     open.add(newSub);
+                } else if (closedValue > newSub.f()) {
                     closed.remove(newKey);
-                    present.put(newKey, newSub.f());
-                } else if (closedValue == null) {
                     open.add(newSub);
-                    present.put(newKey, newSub.f());
                 }
             }
 
@@ -293,13 +370,48 @@ public final class AStarSolver<T> implements Solver {
         }
     }
 
+    /**
+     * Writes the open subproblems, the incumbent and the statistics of the search to the
+     * checkpoint file.
+     */
+    private void checkpoint() {
+        try (CheckpointWriter<T> writer = new CheckpointWriter<>(checkpointFile, model.stateCodec())) {
+            writer.writeHeader(AStarSolver.class.getSimpleName(), bestUB, bestSol, statistics);
+            for (SubProblem<T> sub : open) {
+                writer.writeSubProblem(sub);
+            }
+            writer.commit();
+        }
+    }
+
+    /**
+     * Restores the open subproblems, the incumbent and the statistics saved in the
+     * checkpoint to resume from.
+     */
+    private void restore() {
+        try (CheckpointReader<T> reader = new CheckpointReader<>(resumeFrom, model.stateCodec(),
+                AStarSolver.class.getSimpleName())) {
+            if (reader.bestUB() < bestUB) {
+                bestUB = reader.bestUB();
+                bestSol = reader.bestSolution();
+            }
+            SubProblem<T> sub = reader.nextSubProblem();
+            while (sub != null) {
+                open.add(sub);
+                sub = reader.nextSubProblem();
+            }
+            statistics = new AstarStats(System.currentTimeMillis() - reader.runtime(), bestUB)
+                    .resume(reader.nbIterations(), reader.frontierMaxSize());
+        }
+    }
+
     /**
      * Checks if the lower bound of explored nodes of the search is admissible.
      */
     private void checkFLBAdmissibility() {
 
         HashSet<StateAndDepth<T>> toCheck = new HashSet<>(closed.keySet());
-        toCheck.addAll(present.keySet());
+        toCheck.addAll(open.keys());
         Model<T> model = new Model<>() {
             @Override
             public Problem<T> problem() {
@@ -51,6 +51,19 @@ public final class AStarSolver<T> implements Solver {
     @Override
     public Solution minimize(Predicate<SearchStatistics> limit,
                              BiConsumer<int[], SearchStatistics> onSolution) {
+        try {
+            return search(limit, onSolution);
+        } finally {
+            // the messages of the search are written before the caller prints the solution
+            verboseMode.flush();
+        }
+    }
+
+    /**
+     * Runs the search of {@link #minimize(Predicate, BiConsumer)}.
+     */
+    private Solution search(Predicate<SearchStatistics> limit,
+                           BiConsumer<int[], SearchStatistics> onSolution) {
         statistics = new AstarStats(System.currentTimeMillis(), bestUB);
         if (dominance != null) dominance.clear();
         open.add(root);
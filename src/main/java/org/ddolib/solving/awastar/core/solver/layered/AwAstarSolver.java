@@ -1,6 +1,7 @@
 package org.ddolib.solving.awastar.core.solver.layered;
 
 import org.ddolib.common.dominance.DominanceChecker;
+import org.ddolib.common.solver.SharedIncumbent;
 import org.ddolib.common.solver.layered.Solution;
 import org.ddolib.common.solver.layered.Solver;
 import org.ddolib.common.solver.stat.AstarStats;
@@ -11,7 +12,9 @@ import org.ddolib.solving.ddo.core.SubProblem;
 import org.ddolib.modeling.layered.AwAstarModel;
 import org.ddolib.modeling.layered.DefaultFastLowerBound;
 import org.ddolib.modeling.layered.FastLowerBound;
+import org.ddolib.modeling.layered.MemoizedFastLowerBound;
 import org.ddolib.modeling.layered.Problem;
+import org.ddolib.util.IndexedOpenList;
 import org.ddolib.util.SolverUtil;
 import org.ddolib.util.StateAndDepth;
 import org.ddolib.util.debug.DebugLevel;
@@ -50,17 +53,16 @@ public final class AwAstarSolver<T> implements Solver {
     private final FastLowerBound<T> lb;
     // HashMap mapping (state,depth) to the f value
     private final HashMap<StateAndDepth<T>, Double> closed;
-    // HashMap mapping (state,depth) open nodes to the f value.
-    private final HashMap<StateAndDepth<T>, Double> present;
     // The dominance object that will be used to prune the search space.
     private final DominanceChecker<T> dominance;
 
     // The weight of add to the heuristic function
     private final double weight;
 
-    // The priority queue containing the open subproblems by decreasing f' = g + w *  h
-    private final PriorityQueue<SubProblem<T>> open;
-    private final PriorityQueue<SubProblem<T>> openByF;
+    // The open subproblems indexed by (state,depth), ordered by increasing f' = g + w *  h
+    private final IndexedOpenList<T> open;
+    // The same open subproblems, ordered by increasing f = g + h
+    private final IndexedOpenList<T> openByF;
 
 
     private final SubProblem<T> root;
@@ -92,6 +94,8 @@ public final class AwAstarSolver<T> implements Solver {
     private double bestUB;
     // If set, this keeps the info about the best solution so far.
     private Optional<Set<Decision>> bestSol;
+    // The incumbent shared with other solvers, null if the solver runs alone.
+    private SharedIncumbent sharedIncumbent;
 
 
     /**
@@ -108,20 +112,19 @@ public final class AwAstarSolver<T> implements Solver {
         }
 
         this.problem = model.problem();
-        this.lb = model.lowerBound();
+        this.lb = MemoizedFastLowerBound.of(model);
         this.dominance = model.dominance();
         this.bestUB = model.upperBound();
         this.bestSol = Optional.empty();
-        this.present = new HashMap<>();
         this.closed = new HashMap<>();
         this.verboseMode = new VerboseMode(model.verbosityLevel(), 500L);
         this.debugLevel = model.debugMode();
 
         this.weight = model.weight();
-        this.open = new PriorityQueue<>(
+        this.open = new IndexedOpenList<>(
                 Comparator.comparingDouble(sub -> sub.getValue() + weight * sub.getLowerBound()));
 
-        this.openByF = new PriorityQueue<>(Comparator.comparingDouble(SubProblem::f));
+        this.openByF = new IndexedOpenList<>(Comparator.comparingDouble(SubProblem::f));
         this.root = constructRoot(problem.initialState(), problem.initialValue(), 0);
         this.defaultLowerBoundValue = this.lb instanceof DefaultFastLowerBound<T>;
     }
@@ -133,26 +136,35 @@ public final class AwAstarSolver<T> implements Solver {
         this.dominance = model.dominance();
         this.bestUB = Double.POSITIVE_INFINITY;
         this.bestSol = Optional.empty();
-        this.present = new HashMap<>();
         this.closed = new HashMap<>();
         this.verboseMode = new VerboseMode(VerbosityLevel.SILENT, 500L);
         this.debugLevel = DebugLevel.OFF;
 
         this.weight = model.weight();
-        this.open = new PriorityQueue<>(
+        this.open = new IndexedOpenList<>(
                 Comparator.comparingDouble(sub -> sub.getValue() + weight * sub.getLowerBound()));
-        this.openByF = new PriorityQueue<>(Comparator.comparingDouble(SubProblem::f));
+        this.openByF = new IndexedOpenList<>(Comparator.comparingDouble(SubProblem::f));
         this.root = constructRoot(rootKey.state(), 0, rootKey.depth());
         this.defaultLowerBoundValue = this.lb instanceof DefaultFastLowerBound<T>;
     }
 
     @Override
     public Solution minimize(Predicate<SearchStatistics> limit, BiConsumer<int[], SearchStatistics> onSolution) {
+        try {
+            return search(limit, onSolution);
+        } finally {
+            // the messages of the search are written before the caller prints the solution
+            verboseMode.flush();
+        }
+    }
+
+    /**
+     * Runs the search of {@link #minimize(Predicate, BiConsumer)}.
+     */
+    private Solution search(Predicate<SearchStatistics> limit, BiConsumer<int[], SearchStatistics> onSolution) {
         statistics = new AstarStats(System.currentTimeMillis(), bestUB);
         open.add(root);
         openByF.add(root);
-        present.put(new StateAndDepth<>(root.getState(), root.getDepth()),
-                root.getValue() + weight * root.getLowerBound());
 
         if (root.getDepth() == problem.nbVars()) { //The root is the solution
             bestSol = Optional.of(root.getPath());
@@ -163,6 +175,9 @@ public final class AwAstarSolver<T> implements Solver {
         }
 
         while (!open.isEmpty()) {
+            if (sharedIncumbent != null) {
+                pullSharedIncumbent();
+            }
             // -- debug, stat, verbosity, stopping  ---
 
             verboseMode.detailedSearchState(statistics.nbIterations(), open.size(), bestUB,
@@ -181,13 +196,13 @@ public final class AwAstarSolver<T> implements Solver {
             // -- end debug, stat, verbosity, stopping  ---
 
             SubProblem<T> sub = open.poll();
-            openByF.remove(sub);
+            StateAndDepth<T> subKey = IndexedOpenList.key(sub);
+            openByF.remove(subKey);
 
             // if current state is dominated, we skip it
             if (dominance.updateDominance(sub.getState(), sub.getDepth(), sub.getValue())) continue;
 
-            StateAndDepth<T> subKey = new StateAndDepth<>(sub.getState(), sub.getDepth());
-            double subFprime = present.remove(subKey);
+            double subFprime = sub.getValue() + weight * sub.getLowerBound();
 
             // The current node has been explored. We can skip it.
             if (closed.containsKey(subKey)) continue;
@@ -221,6 +236,27 @@ public final class AwAstarSolver<T> implements Solver {
         return bestSol;
     }
 
+    @Override
+    public void shareIncumbent(SharedIncumbent incumbent) {
+        this.sharedIncumbent = incumbent;
+    }
+
+    /**
+     * Adopts the shared incumbent if it is better than ours and publishes the lower bound
+     * given by the open list ordered by f.
+     */
+    private void pullSharedIncumbent() {
+        Optional<SharedIncumbent.Incumbent> shared = sharedIncumbent.snapshot();
+        if (shared.isPresent() && shared.get().value() < bestUB) {
+            bestUB = shared.get().value();
+            bestSol = Optional.of(shared.get().decisions());
+            statistics = statistics.updateIncumbent(bestUB, gap()).updateStatus(SearchStatus.SAT);
+        }
+        if (!defaultLowerBoundValue) {
+            sharedIncumbent.offerLowerBound(Math.min(openByF.peek().f(), bestUB));
+        }
+    }
+
     private double gap() {
         if (Double.isInfinite(bestUB)) return Double.POSITIVE_INFINITY;
 
@@ -262,20 +298,17 @@ public final class AwAstarSolver<T> implements Solver {
             if (f + 1e-10 >= bestUB) continue;
 
             SubProblem<T> newSub = new SubProblem<>(newState, g, h, path);
-            StateAndDepth<T> newKey = new StateAndDepth<>(newState, newSub.getDepth());
-
-            Double previousFprime = present.get(newKey);
-            if (previousFprime != null && fprime < previousFprime) {
-                open.remove(newSub);
-                open.add(newSub);
-                openByF.remove(newSub);
-                openByF.add(newSub);
-                present.put(newKey, fprime);
-                nbSelectedChildren++;
-            } else if (previousFprime == null) {
+            StateAndDepth<T> newKey = IndexedOpenList.key(newSub);
+
+            if (open.contains(newKey)) {
+                // decrease-key if newSub is better, for both orders since h does not change
+                if (open.add(newSub)) {
+                    openByF.add(newSub);
+                    nbSelectedChildren++;
+                }
+            } else {
                 open.add(newSub);
                 openByF.add(newSub);
-                present.put(newKey, fprime);
                 nbSelectedChildren++;
 
                 Double closedFprime = closed.get(newKey);
@@ -327,7 +360,7 @@ public final class AwAstarSolver<T> implements Solver {
     private void checkFLBAdmissibility() {
 
         HashSet<StateAndDepth<T>> toCheck = new HashSet<>(closed.keySet());
-        toCheck.addAll(present.keySet());
+        toCheck.addAll(open.keys());
         AwAstarModel<T> model = new AwAstarModel<>() {
             @Override
             public Problem<T> problem() {
@@ -0,0 +1,124 @@
+package org.ddolib.solving.ddo.core;
+
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable set of {@link Decision decisions} forming a path from the root of a problem.
+ * <p>
+ * A path is a persistent linked list: extending a path with {@link #with(Decision)} does not copy
+ * it, the new path shares all the decisions of its prefix. The paths of the subproblems emitted
+ * from a decision diagram thus share the decisions of their common ancestors, and building the
+ * path of a node only costs the decisions that are not already part of the path of its parent.
+ * </p>
+ *
+ * <p>
+ * The list ends with a <i>base</i> set, which is the path of the residual problem the diagram was
+ * compiled from when this one was not a {@code DecisionPath} itself. The base set is not copied
+ * and must not be modified afterward.
+ * </p>
+ *
+ * <p>
+ * The decisions of a path are assumed to assign distinct variables. {@link #size()} takes constant
+ * time, {@link #contains(Object)} takes a time linear in the length of the path.
+ * </p>
+ */
+public final class DecisionPath extends AbstractSet<Decision> {
+    /**
+     * The empty path.
+     */
+    private static final DecisionPath EMPTY = new DecisionPath(null, null, Collections.emptySet(), 0);
+
+    /**
+     * The last decision of the path, {@code null} for a base path.
+     */
+    private final Decision last;
+    /**
+     * The path without its last decision, {@code null} for a base path.
+     */
+    private final DecisionPath prefix;
+    /**
+     * The decisions of a base path, {@code null} otherwise.
+     */
+    private final Set<Decision> base;
+    /**
+     * The number of decisions of the path.
+     */
+    private final int size;
+
+    private DecisionPath(Decision last, DecisionPath prefix, Set<Decision> base, int size) {
+        this.last = last;
+        this.prefix = prefix;
+        this.base = base;
+        this.size = size;
+    }
+
+    /**
+     * Returns a path made of the given decisions.
+     *
+     * @param decisions a set of decisions, which is not copied
+     * @return the given set if it already is a {@code DecisionPath}, a path ending with it otherwise
+     */
+    public static DecisionPath of(Set<Decision> decisions) {
+        if (decisions instanceof DecisionPath path) {
+            return path;
+        } else if (decisions.isEmpty()) {
+            return EMPTY;
+        } else {
+            return new DecisionPath(null, null, decisions, decisions.size());
+        }
+    }
+
+    /**
+     * Returns the path extending this one with a decision.
+     *
+     * @param decision the decision appended to this path
+     * @return a new path sharing all the decisions of this one
+     */
+    public DecisionPath with(Decision decision) {
+        return new DecisionPath(decision, this, null, size + 1);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        DecisionPath current = this;
+        while (current.base == null) {
+            if (current.last.equals(o)) return true;
+            current = current.prefix;
+        }
+        return current.base.contains(o);
+    }
+
+    @Override
+    public Iterator<Decision> iterator() {
+        return new Iterator<>() {
+            private DecisionPath current = DecisionPath.this;
+            private Iterator<Decision> base = null;
+
+            @Override
+            public boolean hasNext() {
+                if (base != null) return base.hasNext();
+                if (current.base == null) return true;
+                base = current.base.iterator();
+                return base.hasNext();
+            }
+
+            @Override
+            public Decision next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                if (base != null) return base.next();
+                Decision decision = current.last;
+                current = current.prefix;
+                return decision;
+            }
+        };
+    }
+}
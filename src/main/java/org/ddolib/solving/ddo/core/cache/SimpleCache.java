@@ -67,11 +67,6 @@ public class SimpleCache<T> implements Cache<T> {
     @Override
     public Optional<Threshold> getThreshold(T state, int depth) {
         if (depth >= thresholdsByLayer.size()) return Optional.empty();
-        for (T s : thresholdsByLayer.get(depth).map.keySet()) {
-            if (s.equals(state)) {
-                return Optional.of(thresholdsByLayer.get(depth).map.get(s));
-            }
-        }
         return thresholdsByLayer.get(depth).get(state);
     }
 
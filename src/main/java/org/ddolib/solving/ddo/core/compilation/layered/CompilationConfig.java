@@ -1,5 +1,6 @@
 package org.ddolib.solving.ddo.core.compilation.layered;
 
+import org.ddolib.common.solver.SharedIncumbent;
 import org.ddolib.solving.ddo.core.compilation.CompilationType;
 import org.ddolib.common.dominance.DominanceChecker;
 import org.ddolib.solving.ddo.core.SubProblem;
@@ -7,10 +8,13 @@ import org.ddolib.solving.ddo.core.cache.SimpleCache;
 import org.ddolib.solving.ddo.core.frontier.CutSetType;
 import org.ddolib.solving.ddo.core.heuristics.cluster.layered.ReductionStrategy;
 import org.ddolib.solving.ddo.core.heuristics.variable.layered.VariableHeuristic;
+import org.ddolib.solving.ddo.core.mdd.export.DiagramExporter;
+import org.ddolib.solving.ddo.core.profiling.Profiler;
 import org.ddolib.modeling.layered.*;
 import org.ddolib.util.debug.DebugLevel;
 
 import java.util.Optional;
+import java.util.Random;
 
 /**
  * Represents the configuration parameters used during the compilation
@@ -106,12 +110,32 @@ public class CompilationConfig<T> {
      */
     public Double bestUB = null;
 
+    /**
+     * Live handle on the incumbent shared with other solvers, {@code null} if there is none.
+     * <p>
+     * It is read at each layer of the compilation, so that a better solution found meanwhile
+     * by another solver prunes the rest of the diagram. The bound used by the compilation is
+     * the smallest of {@link #bestUB} and the value of this incumbent.
+     * </p>
+     */
+    public SharedIncumbent incumbent = null;
+
     /**
      * Indicates whether the compiled MDD should be exported as a DOT file
      * (Graphviz format) for visualization purposes.
      */
     public Boolean exportAsDot = null;
 
+    /**
+     * Exporter to which the compiled MDD is streamed as its layers are finalized, {@code null} if
+     * there is none.
+     * <p>
+     * When it is {@code null} and {@link #exportAsDot} is set, the MDD is exported in memory. The
+     * exporter is not copied by {@link #copy()}, as an export can only be done once.
+     * </p>
+     */
+    public DiagramExporter<T> exporter = null;
+
     /**
      * Debugging level controlling logging and internal consistency checks.
      * <p>
@@ -155,12 +179,24 @@ public class CompilationConfig<T> {
      */
     public double probability = 0;
 
+    /**
+     * Source of randomness of the randomized strategies, a fresh one is used
+     * for each restriction when {@code null}.
+     */
+    public Random random = null;
+
     /**
      * Indicates whether Large Neighborhood Search (LNS) should be used
      * to improve solutions during compilation.
      */
     public Boolean useLNS = null;
 
+    /**
+     * Profiler recording the operations of the compilation, {@code null} if the compilation
+     * is not profiled. It is not copied by {@link #copy()}.
+     */
+    public Profiler profiler = null;
+
     /**
      * Constructs a new compilation configuration for the given model.
      *
@@ -208,6 +244,7 @@ public class CompilationConfig<T> {
         compilation.flb = model.lowerBound();
         compilation.dominance = model.dominance();
         compilation.bestUB = this.bestUB;
+        compilation.incumbent = this.incumbent;
 
         compilation.exportAsDot = this.exportAsDot;
         compilation.debugLevel = model.debugMode();
@@ -217,6 +254,7 @@ public class CompilationConfig<T> {
 
         compilation.initialSolution = this.initialSolution;
         compilation.probability = this.probability;
+        compilation.random = this.random;
         compilation.useLNS = this.useLNS;
         compilation.solution = this.initialSolution;
 
@@ -0,0 +1,267 @@
+package org.ddolib.solving.ddo.core.frontier;
+
+import org.ddolib.modeling.layered.StateRanking;
+import org.ddolib.solving.ddo.core.SubProblem;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * A {@link Frontier} whose subproblems are kept in one priority queue per depth, and popped
+ * in a configurable {@link ExplorationOrder}.
+ * <p>
+ * A {@link SimpleFrontier} is strictly best-first: it only finds new solutions when the most
+ * promising subproblem leads to them, and it grows until the optimality is proven. Exploring the
+ * deepest subproblems first finds solutions earlier and keeps the frontier smaller, at the expense
+ * of the global lower bound. Whatever the order, {@link #bestInFrontier()} returns the exact lowest
+ * lower bound of the frontier, so that the gap reported by the solver stays valid.
+ * </p>
+ *
+ * <p>
+ * The solver stops when the best subproblem of the frontier cannot improve the incumbent. As the
+ * subproblems are not always popped by increasing lower bound with this frontier, the solver skips
+ * a popped subproblem that cannot improve the incumbent, and goes on with the next ones.
+ * {@link #purge(double)} removes all these subproblems at once when a better solution is found.
+ * </p>
+ *
+ * @param <T> the type of state in the subproblems
+ */
+public final class ExplorationFrontier<T> implements Frontier<T> {
+    /** The order used to compare the subproblems of a depth. */
+    private final SubProblemComparator<T> comparator;
+
+    /** The type of cutset used in the decision diagram compilation. */
+    private final CutSetType cutSetType;
+
+    /** The order in which the subproblems are popped. */
+    private final ExplorationOrder order;
+
+    /** The number of subproblems above which the {@link ExplorationOrder#HYBRID} order is depth-first. */
+    private final int maxBestFirstSize;
+
+    /** The subproblems of each depth. */
+    private final ArrayList<PriorityQueue<SubProblem<T>>> buckets = new ArrayList<>();
+
+    /** The number of subproblems in the frontier. */
+    private int size = 0;
+
+    /** The depth of the last subproblem popped in the {@link ExplorationOrder#CYCLIC} order. */
+    private int cursor = -1;
+
+    /**
+     * Constructs a new {@code ExplorationFrontier}.
+     *
+     * @param ranking    the ordering used to break the ties between subproblems of equal lower bound
+     * @param cutSetType the type of cutset to use: {@link CutSetType#LastExactLayer} or {@link CutSetType#Frontier}
+     * @param order      the order in which the subproblems are popped, except {@link ExplorationOrder#HYBRID}
+     *                   which needs a size limit
+     */
+    public ExplorationFrontier(final StateRanking<T> ranking, final CutSetType cutSetType,
+                               final ExplorationOrder order) {
+        this(ranking, cutSetType, order, Integer.MAX_VALUE);
+        if (order == ExplorationOrder.HYBRID) {
+            throw new IllegalArgumentException("The hybrid order requires a maximum best-first size");
+        }
+    }
+
+    /**
+     * Constructs a new {@code ExplorationFrontier}.
+     *
+     * @param ranking          the ordering used to break the ties between subproblems of equal lower bound
+     * @param cutSetType       the type of cutset to use: {@link CutSetType#LastExactLayer} or
+     *                         {@link CutSetType#Frontier}
+     * @param order            the order in which the subproblems are popped
+     * @param maxBestFirstSize the number of subproblems above which the {@link ExplorationOrder#HYBRID}
+     *                         order switches to depth-first; ignored by the other orders
+     */
+    public ExplorationFrontier(final StateRanking<T> ranking, final CutSetType cutSetType,
+                               final ExplorationOrder order, final int maxBestFirstSize) {
+        if (maxBestFirstSize <= 0) {
+            throw new IllegalArgumentException("The maximum best-first size must be positive: " + maxBestFirstSize);
+        }
+        this.comparator = new SubProblemComparator<>(ranking);
+        this.cutSetType = cutSetType;
+        this.order = order;
+        this.maxBestFirstSize = maxBestFirstSize;
+    }
+
+    /**
+     * Adds a subproblem to the queue of its depth.
+     *
+     * @param sub the subproblem to add
+     */
+    @Override
+    public void push(final SubProblem<T> sub) {
+        int depth = sub.getDepth();
+        while (buckets.size() <= depth) {
+            buckets.add(null);
+        }
+        PriorityQueue<SubProblem<T>> bucket = buckets.get(depth);
+        if (bucket == null) {
+            bucket = new PriorityQueue<>(comparator);
+            buckets.set(depth, bucket);
+        }
+        bucket.add(sub);
+        size++;
+    }
+
+    /**
+     * Removes and returns the next subproblem according to the exploration order.
+     *
+     * @return the next subproblem, or {@code null} if the frontier is empty
+     */
+    @Override
+    public SubProblem<T> pop() {
+        if (size == 0) return null;
+        int depth = switch (order) {
+            case BEST_FIRST -> bestDepth();
+            case DEPTH_FIRST -> deepest();
+            case CYCLIC -> cursor = nextDepth(cursor);
+            case HYBRID -> size > maxBestFirstSize ? deepest() : bestDepth();
+        };
+        size--;
+        return buckets.get(depth).poll();
+    }
+
+    /**
+     * Clears all subproblems from the frontier.
+     */
+    @Override
+    public void clear() {
+        for (PriorityQueue<SubProblem<T>> bucket : buckets) {
+            if (bucket != null) bucket.clear();
+        }
+        size = 0;
+        cursor = -1;
+    }
+
+    /**
+     * Returns the number of subproblems currently in the frontier.
+     *
+     * @return the size of the frontier
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the type of cutset used in the frontier.
+     *
+     * @return the cutset type
+     */
+    @Override
+    public CutSetType cutSetType() {
+        return cutSetType;
+    }
+
+    /**
+     * Returns the order in which the subproblems are popped.
+     *
+     * @return the exploration order
+     */
+    public ExplorationOrder order() {
+        return order;
+    }
+
+    @Override
+    public int purge(double bestUB) {
+        int removed = 0;
+        for (PriorityQueue<SubProblem<T>> bucket : buckets) {
+            if (bucket == null || bucket.isEmpty()) continue;
+            int before = bucket.size();
+            bucket.removeIf(sub -> sub.getLowerBound() >= bestUB);
+            removed += before - bucket.size();
+        }
+        size -= removed;
+        return removed;
+    }
+
+    @Override
+    public Iterator<SubProblem<T>> iterator() {
+        return new Iterator<>() {
+            private int depth = -1;
+            private Iterator<SubProblem<T>> current = null;
+
+            @Override
+            public boolean hasNext() {
+                while (current == null || !current.hasNext()) {
+                    if (++depth >= buckets.size()) return false;
+                    PriorityQueue<SubProblem<T>> bucket = buckets.get(depth);
+                    current = bucket == null ? null : bucket.iterator();
+                }
+                return true;
+            }
+
+            @Override
+            public SubProblem<T> next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return current.next();
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        Iterator<SubProblem<T>> it = iterator();
+        while (it.hasNext()) {
+            if (sb.length() > 1) sb.append(", ");
+            sb.append(it.next());
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Returns the lowest lower bound among the subproblems in the frontier, whatever the order
+     * in which they are popped.
+     *
+     * @return the lowest lower bound of the frontier
+     */
+    @Override
+    public double bestInFrontier() {
+        return buckets.get(bestDepth()).peek().getLowerBound();
+    }
+
+    /**
+     * Returns the depth of the subproblem of lowest lower bound, the deepest one in case of tie.
+     */
+    private int bestDepth() {
+        int best = -1;
+        for (int d = buckets.size() - 1; d >= 0; d--) {
+            PriorityQueue<SubProblem<T>> bucket = buckets.get(d);
+            if (bucket == null || bucket.isEmpty()) continue;
+            if (best < 0 || bucket.peek().getLowerBound() < buckets.get(best).peek().getLowerBound()) {
+                best = d;
+            }
+        }
+        if (best < 0) throw new IllegalStateException("The frontier is empty");
+        return best;
+    }
+
+    /**
+     * Returns the deepest non-empty depth.
+     */
+    private int deepest() {
+        for (int d = buckets.size() - 1; d >= 0; d--) {
+            PriorityQueue<SubProblem<T>> bucket = buckets.get(d);
+            if (bucket != null && !bucket.isEmpty()) return d;
+        }
+        throw new IllegalStateException("The frontier is empty");
+    }
+
+    /**
+     * Returns the first non-empty depth after the given one, cycling back to the shallowest depth.
+     */
+    private int nextDepth(int after) {
+        int n = buckets.size();
+        for (int k = 1; k <= n; k++) {
+            int d = Math.floorMod(after + k, n);
+            PriorityQueue<SubProblem<T>> bucket = buckets.get(d);
+            if (bucket != null && !bucket.isEmpty()) return d;
+        }
+        throw new IllegalStateException("The frontier is empty");
+    }
+}
@@ -0,0 +1,31 @@
+package org.ddolib.solving.ddo.core.frontier;
+
+/**
+ * The orders in which an {@link ExplorationFrontier} pops its subproblems.
+ * <p>
+ * Within a depth, the subproblems are always popped by increasing lower bound. The orders differ
+ * by the depth of the next popped subproblem.
+ * </p>
+ */
+public enum ExplorationOrder {
+    /**
+     * Best-first: the subproblem of lowest lower bound, the deepest one among those of equal bound.
+     * Going deeper first among equally promising subproblems completes solutions earlier.
+     */
+    BEST_FIRST,
+    /**
+     * Depth-first: the subproblem of lowest lower bound among the deepest ones. The frontier stays
+     * small and solutions are found early, but the global lower bound improves slowly.
+     */
+    DEPTH_FIRST,
+    /**
+     * Cyclic best-first: each pop takes the best subproblem of the next non-empty depth, cycling over
+     * the depths as Anytime Column Search does over the layers.
+     */
+    CYCLIC,
+    /**
+     * Best-first while the frontier holds at most a given number of subproblems, depth-first when it
+     * holds more, until it shrinks back under this limit.
+     */
+    HYBRID,
+}
@@ -0,0 +1,429 @@
+package org.ddolib.solving.ddo.core.frontier;
+
+import org.ddolib.modeling.layered.StateCodec;
+import org.ddolib.modeling.layered.StateRanking;
+import org.ddolib.solving.ddo.core.Decision;
+import org.ddolib.solving.ddo.core.SubProblem;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * A {@link Frontier} that keeps a bounded number of subproblems in memory and spills
+ * the remaining ones to disk.
+ * <p>
+ * The most promising subproblems are stored in a binary heap whose size never exceeds
+ * {@code maxInMemory}. When a push makes the heap overflow, its least promising half is
+ * sorted and written to a <em>run</em> file. Each run is read back lazily through a small
+ * buffer, so that only its head is kept in memory. When popping, the frontier returns the
+ * best subproblem among the top of the heap and the heads of the runs: this is a k-way
+ * merge, hence the subproblems are popped in exactly the same order as with a
+ * {@link SimpleFrontier}. To bound the number of open files, the runs are merged
+ * together as soon as there are more than {@value #MAX_RUNS} of them.
+ * </p>
+ *
+ * <p>
+ * The states are serialized with the {@link StateCodec} given at construction
+ * (typically the one returned by {@link org.ddolib.modeling.layered.Model#stateCodec()}).
+ * This frontier is meant for long-running searches whose frontier does not fit in the heap.
+ * </p>
+ *
+ * @param <T> the type of state in the subproblems
+ */
+public final class ExternalMemoryFrontier<T> implements Frontier<T> {
+    /** Maximum number of runs that can be open at the same time before being merged. */
+    private static final int MAX_RUNS = 16;
+    /** Size of the buffers used to read and write the runs. */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** The ordering of the subproblems. */
+    private final Comparator<SubProblem<T>> comparator;
+    /** The type of cutset used in the decision diagram compilation. */
+    private final CutSetType cutSetType;
+    /** The codec used to write the states on disk. */
+    private final StateCodec<T> codec;
+    /** The maximum number of subproblems kept in memory. */
+    private final int maxInMemory;
+    /** The directory where the runs are written. */
+    private final Path directory;
+    /** The in-memory part of the frontier. */
+    private final PriorityQueue<SubProblem<T>> heap;
+    /** The runs stored on disk, ordered by their head. */
+    private final PriorityQueue<Run> runs;
+    /** The number of subproblems stored on disk that have not been popped yet. */
+    private long spilled = 0;
+    /** Used to give a unique name to each run. */
+    private int runCounter = 0;
+
+    /**
+     * Constructs a new {@code ExternalMemoryFrontier} writing its runs in a fresh temporary directory.
+     *
+     * @param ranking     the ordering used to determine which subproblem is most promising
+     *                    and should be explored first
+     * @param cutSetType  the type of cutset to use: {@link CutSetType#LastExactLayer} or {@link CutSetType#Frontier}
+     * @param codec       the codec used to serialize the states
+     * @param maxInMemory the maximum number of subproblems kept in memory
+     */
+    public ExternalMemoryFrontier(final StateRanking<T> ranking, final CutSetType cutSetType,
+                                  final StateCodec<T> codec, final int maxInMemory) {
+        this(ranking, cutSetType, codec, maxInMemory, createTempDirectory());
+    }
+
+    /**
+     * Constructs a new {@code ExternalMemoryFrontier}.
+     *
+     * @param ranking     the ordering used to determine which subproblem is most promising
+     *                    and should be explored first
+     * @param cutSetType  the type of cutset to use: {@link CutSetType#LastExactLayer} or {@link CutSetType#Frontier}
+     * @param codec       the codec used to serialize the states
+     * @param maxInMemory the maximum number of subproblems kept in memory
+     * @param directory   an existing directory where the runs are written
+     */
+    public ExternalMemoryFrontier(final StateRanking<T> ranking, final CutSetType cutSetType,
+                                  final StateCodec<T> codec, final int maxInMemory, final Path directory) {
+        if (codec == null) {
+            throw new IllegalArgumentException("An external memory frontier requires a state codec");
+        }
+        if (maxInMemory < 2) {
+            throw new IllegalArgumentException("At least two subproblems must be kept in memory");
+        }
+        this.comparator = new SubProblemComparator<>(ranking);
+        this.cutSetType = cutSetType;
+        this.codec = codec;
+        this.maxInMemory = maxInMemory;
+        this.directory = directory;
+        this.heap = new PriorityQueue<>(comparator);
+        this.runs = new PriorityQueue<>((r1, r2) -> comparator.compare(r1.head, r2.head));
+    }
+
+    @Override
+    public void push(final SubProblem<T> sub) {
+        heap.add(sub);
+        if (heap.size() > maxInMemory) {
+            spill();
+        }
+    }
+
+    @Override
+    public SubProblem<T> pop() {
+        Run run = runs.peek();
+        SubProblem<T> top = heap.peek();
+        if (run == null || (top != null && comparator.compare(top, run.head) <= 0)) {
+            return heap.poll();
+        }
+        runs.poll();
+        SubProblem<T> sub = run.head;
+        run.advance();
+        if (run.head != null) {
+            runs.add(run);
+        }
+        spilled--;
+        return sub;
+    }
+
+    @Override
+    public void clear() {
+        heap.clear();
+        for (Run run : runs) {
+            run.close();
+        }
+        runs.clear();
+        spilled = 0;
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(Integer.MAX_VALUE, heap.size() + spilled);
+    }
+
+    @Override
+    public CutSetType cutSetType() {
+        return cutSetType;
+    }
+
+    @Override
+    public double bestInFrontier() {
+        Run run = runs.peek();
+        SubProblem<T> top = heap.peek();
+        if (run == null && top == null) {
+            throw new IllegalStateException("The frontier is empty");
+        } else if (run == null) {
+            return top.getLowerBound();
+        } else if (top == null) {
+            return run.head.getLowerBound();
+        } else {
+            return Math.min(top.getLowerBound(), run.head.getLowerBound());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The subproblems stored on disk are read back from a fresh stream on each run,
+     * without affecting the state of the frontier.
+     * </p>
+     */
+    @Override
+    public Iterator<SubProblem<T>> iterator() {
+        List<Iterator<SubProblem<T>>> parts = new ArrayList<>();
+        parts.add(heap.iterator());
+        for (Run run : runs) {
+            parts.add(run.remainingSubProblems());
+        }
+        Iterator<Iterator<SubProblem<T>>> partsIterator = parts.iterator();
+        return new Iterator<>() {
+            private Iterator<SubProblem<T>> current = partsIterator.next();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext() && partsIterator.hasNext()) {
+                    current = partsIterator.next();
+                }
+                return current.hasNext();
+            }
+
+            @Override
+            public SubProblem<T> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+    }
+
+    /**
+     * Returns the number of subproblems currently stored on disk.
+     *
+     * @return the number of spilled subproblems
+     */
+    public long spilledSize() {
+        return spilled;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ExternalMemoryFrontier(in memory: %d - on disk: %d - runs: %d)",
+                heap.size(), spilled, runs.size());
+    }
+
+    /**
+     * Writes the least promising half of the heap to a new run.
+     */
+    private void spill() {
+        List<SubProblem<T>> all = new ArrayList<>(heap);
+        heap.clear();
+        all.sort(comparator);
+        int keep = maxInMemory / 2;
+        heap.addAll(all.subList(0, keep));
+        List<SubProblem<T>> toSpill = all.subList(keep, all.size());
+
+        Path file = nextRunFile();
+        try (DataOutputStream out = openWriter(file)) {
+            for (SubProblem<T> sub : toSpill) {
+                writeSubProblem(sub, out);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        spilled += toSpill.size();
+        openRun(file, toSpill.size());
+
+        if (runs.size() > MAX_RUNS) {
+            mergeRuns();
+        }
+    }
+
+    /**
+     * Merges all the runs into a single one.
+     */
+    private void mergeRuns() {
+        Path file = nextRunFile();
+        long count = 0;
+        try (DataOutputStream out = openWriter(file)) {
+            while (!runs.isEmpty()) {
+                Run run = runs.poll();
+                writeSubProblem(run.head, out);
+                count++;
+                run.advance();
+                if (run.head != null) {
+                    runs.add(run);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        openRun(file, count);
+    }
+
+    private void openRun(Path file, long count) {
+        Run run = new Run(file, count);
+        if (run.head != null) {
+            runs.add(run);
+        }
+    }
+
+    private Path nextRunFile() {
+        return directory.resolve("run-" + (runCounter++) + ".bin");
+    }
+
+    private static DataOutputStream openWriter(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        return new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+    }
+
+    private void writeSubProblem(SubProblem<T> sub, DataOutputStream out) throws IOException {
+        out.writeDouble(sub.getValue());
+        out.writeDouble(sub.getLowerBound());
+        out.writeInt(sub.getPath().size());
+        for (Decision d : sub.getPath()) {
+            out.writeInt(d.variable());
+            out.writeInt(d.value());
+        }
+        codec.write(sub.getState(), out);
+    }
+
+    private SubProblem<T> readSubProblem(DataInputStream in) throws IOException {
+        double value = in.readDouble();
+        double lb = in.readDouble();
+        int pathSize = in.readInt();
+        Set<Decision> path = new HashSet<>(pathSize * 2);
+        for (int i = 0; i < pathSize; i++) {
+            path.add(new Decision(in.readInt(), in.readInt()));
+        }
+        T state = codec.read(in);
+        return new SubProblem<>(state, value, lb, path);
+    }
+
+    private static DataInputStream openReader(Path file) {
+        try {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+            return new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), BUFFER_SIZE));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Path createTempDirectory() {
+        try {
+            Path dir = Files.createTempDirectory("ddo-frontier");
+            dir.toFile().deleteOnExit();
+            return dir;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * A sorted file of subproblems that is read sequentially.
+     * Only its head (the next subproblem to be merged) is kept in memory.
+     */
+    private final class Run {
+        /** The file containing the run. */
+        private final Path file;
+        /** The total number of subproblems in the run. */
+        private final long count;
+        /** The stream used to read the run. */
+        private final DataInputStream in;
+        /** The number of subproblems that still have to be read. */
+        private long remaining;
+        /** The next subproblem of the run, {@code null} when the run is exhausted. */
+        private SubProblem<T> head;
+
+        private Run(Path file, long count) {
+            this.file = file;
+            this.count = count;
+            this.remaining = count;
+            this.in = openReader(file);
+            advance();
+        }
+
+        /**
+         * Returns a lazy iterator over the head and the unread subproblems of this run.
+         * A separate stream is opened, hence the run itself is not modified.
+         */
+        private Iterator<SubProblem<T>> remainingSubProblems() {
+            DataInputStream reader = openReader(file);
+            try {
+                for (long i = 0; i < count - remaining - 1; i++) {
+                    readSubProblem(reader);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            long toRead = remaining + 1;
+            return new Iterator<>() {
+                private long left = toRead;
+
+                @Override
+                public boolean hasNext() {
+                    return left > 0;
+                }
+
+                @Override
+                public SubProblem<T> next() {
+                    if (left == 0) {
+                        throw new NoSuchElementException();
+                    }
+                    try {
+                        SubProblem<T> sub = readSubProblem(reader);
+                        if (--left == 0) {
+                            reader.close();
+                        }
+                        return sub;
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+            };
+        }
+
+        /**
+         * Reads the next subproblem of the run. The file is deleted once all its
+         * subproblems have been read.
+         */
+        private void advance() {
+            if (remaining == 0) {
+                close();
+                return;
+            }
+            try {
+                head = readSubProblem(in);
+                remaining--;
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        /**
+         * Closes and deletes the run.
+         */
+        private void close() {
+            head = null;
+            remaining = 0;
+            try {
+                in.close();
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
@@ -2,6 +2,8 @@ package org.ddolib.solving.ddo.core.frontier;
 
 import org.ddolib.solving.ddo.core.SubProblem;
 
+import java.util.Iterator;
+
 /**
  * Defines the abstraction of a <b>frontier</b> (or <em>open list</em>) used by solvers
  * to manage and prioritize the remaining subproblems that must be explored.
@@ -19,8 +21,10 @@ import org.ddolib.solving.ddo.core.SubProblem;
  * <h2>Contract:</h2>
  * <ul>
  *   <li>Nodes (<em>subproblems</em>) are pushed into the frontier using {@link #push(SubProblem)}.</li>
- *   <li>Nodes are extracted in <b>descending order of upper bound value</b> using {@link #pop()}.</li>
- *   <li>Implementations must maintain this priority invariant to ensure correct solver behavior.</li>
+ *   <li>Nodes are extracted in <b>descending order of upper bound value</b> using {@link #pop()},
+ *   unless the frontier explicitly uses another exploration order (see {@link ExplorationFrontier}).</li>
+ *   <li>Whatever the exploration order, {@link #bestInFrontier()} must return the exact best bound of
+ *   the frontier, as the solver relies on it to prove optimality.</li>
  * </ul>
  *
  * @param <T> the type representing the problem state stored in each {@link SubProblem}
@@ -94,6 +98,46 @@ public interface Frontier<T> {
         return size() == 0;
     }
 
+    /**
+     * Returns an iterator over the subproblems currently stored in the frontier, in no
+     * particular order. The frontier must not be modified while it is being iterated.
+     * <p>
+     * This is used to checkpoint a search. By default, this operation is not supported.
+     * </p>
+     *
+     * @return an iterator over the subproblems of the frontier
+     * @throws UnsupportedOperationException if the frontier cannot be iterated
+     */
+    default Iterator<SubProblem<T>> iterator() {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " cannot be iterated");
+    }
+
+    /**
+     * Removes from the frontier the subproblems that cannot improve the given incumbent, i.e.
+     * whose lower bound is greater than or equal to it.
+     * <p>
+     * The solvers call this method when they find a better solution, so that the frontier does not
+     * keep useless subproblems until they are popped. By default, nothing is removed.
+     * </p>
+     *
+     * @param bestUB the value of the best known solution
+     * @return the number of removed subproblems
+     */
+    default int purge(double bestUB) {
+        return 0;
+    }
+
+    /**
+     * Returns the number of subproblems pushed in this frontier that have been merged with a
+     * subproblem of the same state and depth instead of being added to it. By default, the
+     * subproblems are never merged.
+     *
+     * @return the number of merged subproblems since the creation of the frontier
+     */
+    default long nbMerged() {
+        return 0;
+    }
+
     /**
      * Returns the current <b>best upper bound</b> among all subproblems stored in the frontier.
      * <p>
@@ -0,0 +1,151 @@
+package org.ddolib.solving.ddo.core.frontier;
+
+import org.ddolib.modeling.layered.StateRanking;
+import org.ddolib.solving.ddo.core.SubProblem;
+import org.ddolib.util.IndexedOpenList;
+import org.ddolib.util.StateAndDepth;
+
+import java.util.Iterator;
+
+/**
+ * A {@link Frontier} holding at most one subproblem per state and depth.
+ * <p>
+ * The same state can be reached at the same depth by the exact cutsets of several relaxed
+ * diagrams. A {@link SimpleFrontier} keeps all these subproblems, which are all compiled when
+ * popped. This frontier merges a pushed subproblem with the open subproblem of the same state and
+ * depth, if any: the merged subproblem keeps the best value and its path, and its lower bound is
+ * the best value plus the largest of the bounds on the cost of the remaining decisions of both
+ * subproblems, both being valid for their common state.
+ * </p>
+ *
+ * <p>
+ * Merging two subproblems assumes that their state and depth determine the variables that remain
+ * to be assigned, as it is the case with the default variable heuristic.
+ * </p>
+ *
+ * <p>
+ * This frontier also implements {@link #purge(double)}, which removes all the subproblems that
+ * cannot improve the incumbent in a single pass.
+ * </p>
+ *
+ * @param <T> the type of state in the subproblems
+ */
+public final class MergingFrontier<T> implements Frontier<T> {
+    /** The open subproblems, indexed by state and depth. */
+    private final IndexedOpenList<T> open;
+
+    /** The type of cutset used in the decision diagram compilation. */
+    private final CutSetType cutSetType;
+
+    /** The number of pushed subproblems merged with an open subproblem. */
+    private long nbMerged = 0;
+
+    /**
+     * Constructs a new {@code MergingFrontier}.
+     *
+     * @param ranking    the ordering used to break the ties between subproblems of equal lower bound
+     * @param cutSetType the type of cutset to use: {@link CutSetType#LastExactLayer} or {@link CutSetType#Frontier}
+     */
+    public MergingFrontier(final StateRanking<T> ranking, final CutSetType cutSetType) {
+        this.open = new IndexedOpenList<>(new SubProblemComparator<>(ranking));
+        this.cutSetType = cutSetType;
+    }
+
+    /**
+     * Adds a subproblem to the frontier, or merges it with the open subproblem of the same
+     * state and depth.
+     *
+     * @param sub the subproblem to add
+     */
+    @Override
+    public void push(final SubProblem<T> sub) {
+        StateAndDepth<T> key = IndexedOpenList.key(sub);
+        SubProblem<T> other = open.get(key);
+        if (other == null) {
+            open.add(sub);
+            return;
+        }
+        nbMerged++;
+        SubProblem<T> best = sub.getValue() < other.getValue() ? sub : other;
+        double remaining = Math.max(sub.getLowerBound() - sub.getValue(), other.getLowerBound() - other.getValue());
+        double lb = best.getValue() + remaining;
+        if (best == other && lb == other.getLowerBound()) {
+            return;
+        }
+        open.remove(key);
+        open.add(new SubProblem<>(best.getState(), best.getValue(), lb, best.getPath()));
+    }
+
+    /**
+     * Removes and returns the most promising subproblem from the frontier.
+     *
+     * @return the subproblem with highest priority, or {@code null} if the frontier is empty
+     */
+    @Override
+    public SubProblem<T> pop() {
+        return open.poll();
+    }
+
+    /**
+     * Clears all subproblems from the frontier.
+     */
+    @Override
+    public void clear() {
+        open.clear();
+    }
+
+    /**
+     * Returns the number of subproblems currently in the frontier.
+     *
+     * @return the size of the frontier
+     */
+    @Override
+    public int size() {
+        return open.size();
+    }
+
+    /**
+     * Returns the type of cutset used in the frontier.
+     *
+     * @return the cutset type
+     */
+    @Override
+    public CutSetType cutSetType() {
+        return cutSetType;
+    }
+
+    @Override
+    public int purge(double bestUB) {
+        return open.removeIf(sub -> sub.getLowerBound() >= bestUB);
+    }
+
+    @Override
+    public long nbMerged() {
+        return nbMerged;
+    }
+
+    @Override
+    public Iterator<SubProblem<T>> iterator() {
+        return open.iterator();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (SubProblem<T> sub : open) {
+            if (sb.length() > 1) sb.append(", ");
+            sb.append(sub);
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Returns the best (lowest) lower bound among the subproblems in the frontier.
+     *
+     * @return the lower bound of the most promising subproblem
+     */
+    @Override
+    public double bestInFrontier() {
+        return open.peek().getLowerBound();
+    }
+}
@@ -4,7 +4,7 @@ package org.ddolib.solving.ddo.core.frontier;
 import org.ddolib.solving.ddo.core.SubProblem;
 import org.ddolib.modeling.layered.StateRanking;
 
-import java.util.Comparator;
+import java.util.Iterator;
 import java.util.PriorityQueue;
 
 /**
@@ -80,34 +80,22 @@ public final class SimpleFrontier<T> implements Frontier<T> {
     }
 
     /**
-     * A comparator for {@link SubProblem} that sorts subproblems first by their lower bound,
-     * and then by the state ranking if bounds are equal.
+     * Removes the subproblems whose lower bound is not better than the given incumbent,
+     * in a single pass over the heap.
      *
-     * @param <T> the type of state in the subproblems
+     * @param bestUB the value of the best known solution
+     * @return the number of removed subproblems
      */
-    private static final class SubProblemComparator<T> implements Comparator<SubProblem<T>> {
-        /** The decorated state ranking used as a tiebreaker. */
-        private final StateRanking<T> delegate;
-
-        /**
-         * Constructs a new comparator decorating the given ranking.
-         *
-         * @param delegate the ranking to use for tie-breaking
-         */
-
-        public SubProblemComparator(final StateRanking<T> delegate) {
-            this.delegate = delegate;
-        }
+    @Override
+    public int purge(double bestUB) {
+        int before = heap.size();
+        heap.removeIf(sub -> sub.getLowerBound() >= bestUB);
+        return before - heap.size();
+    }
 
-        @Override
-        public int compare(SubProblem<T> o1, SubProblem<T> o2) {
-            double cmp = o1.getLowerBound() - o2.getLowerBound();
-            if (cmp == 0) {
-                return delegate.reversed().compare(o1.getState(), o2.getState());
-            } else {
-                return Double.compare(o1.getLowerBound(), o2.getLowerBound());
-            }
-        }
+    @Override
+    public Iterator<SubProblem<T>> iterator() {
+        return heap.iterator();
     }
 
     @Override
@@ -0,0 +1,39 @@
+package org.ddolib.solving.ddo.core.frontier;
+
+import org.ddolib.modeling.layered.StateRanking;
+import org.ddolib.solving.ddo.core.SubProblem;
+
+import java.util.Comparator;
+
+/**
+ * A comparator for {@link SubProblem} that sorts subproblems first by their lower bound,
+ * and then by the state ranking if bounds are equal.
+ * <p>
+ * This is the ordering shared by the frontiers of this package.
+ * </p>
+ *
+ * @param <T> the type of state in the subproblems
+ */
+final class SubProblemComparator<T> implements Comparator<SubProblem<T>> {
+    /** The decorated state ranking used as a tiebreaker. */
+    private final StateRanking<T> delegate;
+
+    /**
+     * Constructs a new comparator decorating the given ranking.
+     *
+     * @param delegate the ranking to use for tie-breaking
+     */
+    SubProblemComparator(final StateRanking<T> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public int compare(SubProblem<T> o1, SubProblem<T> o2) {
+        double cmp = o1.getLowerBound() - o2.getLowerBound();
+        if (cmp == 0) {
+            return delegate.reversed().compare(o1.getState(), o2.getState());
+        } else {
+            return Double.compare(o1.getLowerBound(), o2.getLowerBound());
+        }
+    }
+}
@@ -1,8 +1,9 @@
 /**
  * This package contains the classes implementing solver frontiers.
  * <p>
- * In a first version of this library, and to keep things simple and easy,
- * only one implementation will be provided: the simple frontier which
- * is an almost direct mapping to a binary heap.
+ * Two implementations are provided: the simple frontier which
+ * is an almost direct mapping to a binary heap, and the external memory
+ * frontier which keeps a bounded heap in memory and spills the other
+ * subproblems to sorted files on disk.
  */
 package org.ddolib.solving.ddo.core.frontier;
@@ -0,0 +1,46 @@
+package org.ddolib.solving.ddo.core.heuristics.cluster.layered;
+
+import org.ddolib.solving.ddo.core.mdd.layered.NodeSubProblem;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Helpers shared by the reduction strategies of this package.
+ */
+final class Clusters {
+
+    private Clusters() {
+    }
+
+    /**
+     * Turns groups of nodes into exactly {@code min(maxWidth, number of nodes)} clusters.
+     * <p>
+     * Empty groups are dropped. While there are fewer clusters than {@code maxWidth}, the last node
+     * of the largest cluster is moved to a cluster of its own, so that the reduced layer keeps as
+     * many nodes as allowed.
+     *
+     * @param groups the groups of nodes, at most {@code maxWidth} of them being non-empty
+     * @param maxWidth the maximum width of the layer after reduction
+     * @return an array of non-empty clusters
+     */
+    static <T> List<NodeSubProblem<T>>[] fill(List<List<NodeSubProblem<T>>> groups, int maxWidth) {
+        PriorityQueue<List<NodeSubProblem<T>>> bySize =
+                new PriorityQueue<>(Comparator.comparingInt((List<NodeSubProblem<T>> c) -> c.size()).reversed());
+        for (List<NodeSubProblem<T>> group : groups) {
+            if (!group.isEmpty()) bySize.add(group);
+        }
+        while (bySize.size() < maxWidth && !bySize.isEmpty() && bySize.peek().size() > 1) {
+            List<NodeSubProblem<T>> largest = bySize.poll();
+            List<NodeSubProblem<T>> single = new ArrayList<>(1);
+            single.add(largest.removeLast());
+            bySize.add(largest);
+            bySize.add(single);
+        }
+        @SuppressWarnings("unchecked")
+        List<NodeSubProblem<T>>[] clusters = (List<NodeSubProblem<T>>[]) bySize.toArray(new List<?>[0]);
+        return clusters;
+    }
+}
@@ -0,0 +1,359 @@
+package org.ddolib.solving.ddo.core.heuristics.cluster.layered;
+
+import org.ddolib.solving.ddo.core.mdd.layered.NodeSubProblem;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Generalized Hyperplane Partitioning (GHP) reduction strategy working on the positions of the nodes
+ * in the layer.
+ *
+ * <p>
+ * This strategy computes the same clusters as {@link GHP} for the same seed, but it is designed for
+ * wide layers:
+ * <ul>
+ *   <li>the nodes are identified by their position in the shuffled layer, so that the distance of each
+ *   node to the pivot of its cluster is kept in a {@code double} array instead of a map keyed by state,
+ *   and the pivots are recognized by their position instead of comparing states;</li>
+ *   <li>the distances to the first pivot computed while selecting the pivots are reused for the first
+ *   split instead of being computed again;</li>
+ *   <li>the distances of the nodes of a large cluster to a pivot are computed in parallel, in the common
+ *   {@link ForkJoinPool}. The assignment of the nodes to the clusters stays sequential, so that the
+ *   clusters do not depend on the parallelism;</li>
+ *   <li>when the distance is a {@link WordSetDistance}, the sets of the states are computed once per
+ *   layer, and the distances of the nodes to a pivot are computed by chunks with its batch kernel.</li>
+ * </ul>
+ *
+ * <p>
+ * The distance function must be thread-safe when the layers are larger than the parallel threshold.
+ *
+ * @param <T> the type of states associated with the nodes
+ */
+public class FastGHP<T> implements ReductionStrategy<T> {
+    /** Default minimum number of distances computed in parallel. */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 4096;
+    /** Maximum number of distances computed sequentially by a single fork-join task. */
+    private static final int CHUNK = 1024;
+
+    /** Distance function used to measure distances between states. */
+    final private StateDistance<T> distance;
+    /** Random number generator for shuffling and tie-breaking. */
+    final private Random rnd;
+    /** Minimum number of distances to compute for them to be computed in parallel. */
+    final private int parallelThreshold;
+
+    /**
+     * Constructs a fast GHP reduction strategy with a default random seed.
+     *
+     * @param distance the distance function used to compare states
+     */
+    public FastGHP(StateDistance<T> distance) {
+        this(distance, new Random().nextLong(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Constructs a fast GHP reduction strategy with a specified random seed.
+     *
+     * @param distance the distance function used to compare states
+     * @param seed the random seed
+     */
+    public FastGHP(StateDistance<T> distance, long seed) {
+        this(distance, seed, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Constructs a fast GHP reduction strategy with a specified random seed and parallel threshold.
+     *
+     * @param distance the distance function used to compare states
+     * @param seed the random seed
+     * @param parallelThreshold the minimum size of a cluster for the distances of its nodes to be
+     *                          computed in parallel, {@code Integer.MAX_VALUE} to always compute them
+     *                          sequentially
+     */
+    public FastGHP(StateDistance<T> distance, long seed, int parallelThreshold) {
+        this.distance = distance;
+        this.rnd = new Random(seed);
+        if (parallelThreshold <= 0) {
+            throw new IllegalArgumentException("The parallel threshold must be positive: " + parallelThreshold);
+        }
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Sets the seed of the internal random number generator.
+     *
+     * @param seed the new seed value
+     */
+    public void setSeed(long seed) {
+        this.rnd.setSeed(seed);
+    }
+
+    /**
+     * Partitions the given layer into clusters using Generalized Hyperplane Partitioning.
+     *
+     * @param layer the list of nodes at the current layer
+     * @param maxWidth the desired number of clusters (maximum width after reduction)
+     * @return an array of clusters, each cluster being a list of nodes
+     */
+    @Override
+    public List<NodeSubProblem<T>>[] defineClusters(List<NodeSubProblem<T>> layer, int maxWidth) {
+        Collections.shuffle(layer, rnd);
+        final int n = layer.size();
+        final List<T> states = new ArrayList<>(n);
+        for (NodeSubProblem<T> node : layer) {
+            states.add(node.state);
+        }
+        // sets of the states, by position, if the distance compares sets
+        final long[][] words = distance instanceof WordSetDistance<T> wordDistance ? words(wordDistance, states) : null;
+        int[] all = new int[n];
+        for (int i = 0; i < n; i++) {
+            all[i] = i;
+        }
+        // distance of each node to the pivot of its cluster
+        double[] distanceWithPivot = new double[n];
+        // distance of each node of the cluster being split to the second pivot
+        double[] scratch = new double[n];
+
+        int pivotA = 0;
+        int pivotB = selectFurthest(pivotA, states, words, all, n, scratch);
+        pivotA = selectFurthest(pivotB, states, words, all, n, scratch);
+        pivotB = selectFurthest(pivotA, states, words, all, n, distanceWithPivot);
+
+        PriorityQueue<Cluster> pqClusters = new PriorityQueue<>(Comparator.reverseOrder());
+        pqClusters.add(new Cluster(0.0, all, n, pivotA, pivotB));
+
+        while (pqClusters.size() < maxWidth) {
+            // Poll the next cluster to divide
+            Cluster current = pqClusters.poll();
+            assert current != null;
+            if (current.size <= 1) {
+                pqClusters.add(current);
+                break;
+            }
+            pivotA = current.pivot;
+            pivotB = current.furthestFromPivot;
+            computeDistances(pivotB, states, words, current.members, current.size, scratch);
+
+            // Generates the two clusters
+            int[] membersA = new int[current.size];
+            int[] membersB = new int[current.size];
+            int sizeA = 0;
+            int sizeB = 0;
+            membersA[sizeA++] = pivotA;
+            membersB[sizeB++] = pivotB;
+            distanceWithPivot[pivotB] = 0.0;
+
+            int furthestFromA = pivotA;
+            double maxDistanceA = -1;
+            int furthestFromB = pivotB;
+            double maxDistanceB = -1;
+
+            for (int k = 0; k < current.size; k++) {
+                int node = current.members[k];
+                if (node == pivotA || node == pivotB) {
+                    continue;
+                }
+                double distWithA = distanceWithPivot[node];
+                double distWithB = scratch[node];
+                if (distWithA < distWithB) {
+                    membersA[sizeA++] = node;
+                    if (distWithA > maxDistanceA) {
+                        furthestFromA = node;
+                        maxDistanceA = distWithA;
+                    }
+                } else {
+                    membersB[sizeB++] = node;
+                    distanceWithPivot[node] = distWithB;
+                    if (distWithB > maxDistanceB) {
+                        furthestFromB = node;
+                        maxDistanceB = distWithB;
+                    }
+                }
+            }
+
+            double priorityA = sizeA == 1 ? -1 : maxDistanceA;
+            double priorityB = sizeB == 1 ? -1 : maxDistanceB;
+
+            // Add the two clusters to the queue
+            pqClusters.add(new Cluster(priorityA, membersA, sizeA, pivotA, furthestFromA));
+            pqClusters.add(new Cluster(priorityB, membersB, sizeB, pivotB, furthestFromB));
+        }
+
+        // Retrieve the clusters from the queue
+        @SuppressWarnings("unchecked")
+        List<NodeSubProblem<T>>[] clusters = (List<NodeSubProblem<T>>[]) new List<?>[pqClusters.size()];
+        int index = 0;
+        for (Cluster cluster : pqClusters) {
+            List<NodeSubProblem<T>> nodes = new ArrayList<>(cluster.size);
+            for (int k = 0; k < cluster.size; k++) {
+                nodes.add(layer.get(cluster.members[k]));
+            }
+            clusters[index++] = nodes;
+        }
+        return clusters;
+    }
+
+    /**
+     * Computes the sets of the states of a layer.
+     *
+     * @param distance the distance comparing the sets of the states
+     * @param states the states of the layer, by position
+     * @return the sets of the states, as arrays of words, by position
+     */
+    private static <T> long[][] words(WordSetDistance<T> distance, List<T> states) {
+        long[][] words = new long[states.size()][];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = distance.words(states.get(i));
+        }
+        return words;
+    }
+
+    /**
+     * Selects the node farthest from a reference node, and records the distances of all nodes to it.
+     *
+     * @param ref the position of the reference node
+     * @param states the states of the layer, by position
+     * @param words the sets of the states of the layer, by position, or {@code null}
+     * @param members the positions of the nodes to search
+     * @param size the number of nodes to search
+     * @param distances receives, at the position of each searched node, its distance to the reference
+     * @return the position of the farthest node, or {@code ref} if all nodes have its state
+     */
+    private int selectFurthest(int ref, List<T> states, long[][] words, int[] members, int size,
+                               double[] distances) {
+        computeDistances(ref, states, words, members, size, distances);
+        T refState = states.get(ref);
+        double maxDistance = -1;
+        int furthest = ref;
+        for (int k = 0; k < size; k++) {
+            int node = members[k];
+            if (distances[node] > maxDistance && !states.get(node).equals(refState)) {
+                maxDistance = distances[node];
+                furthest = node;
+            }
+        }
+        return furthest;
+    }
+
+    /**
+     * Computes the distances of some nodes to a pivot, in parallel if there are many of them.
+     *
+     * @param pivot the position of the pivot
+     * @param states the states of the layer, by position
+     * @param words the sets of the states of the layer, by position, or {@code null}
+     * @param members the positions of the nodes
+     * @param size the number of nodes
+     * @param distances receives, at the position of each node, its distance to the pivot
+     */
+    private void computeDistances(int pivot, List<T> states, long[][] words, int[] members, int size,
+                                  double[] distances) {
+        DistanceTask task = new DistanceTask(pivot, states, words, members, 0, size, distances);
+        if (size >= parallelThreshold) {
+            ForkJoinPool.commonPool().invoke(task);
+        } else {
+            task.compute();
+        }
+    }
+
+    /**
+     * Fork-join task computing the distances of a range of nodes to a pivot.
+     */
+    private final class DistanceTask extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final int pivot;
+        private final transient List<T> states;
+        private final long[][] words;
+        private final int[] members;
+        private final int from;
+        private final int to;
+        private final double[] distances;
+
+        DistanceTask(int pivot, List<T> states, long[][] words, int[] members, int from, int to,
+                     double[] distances) {
+            this.pivot = pivot;
+            this.states = states;
+            this.words = words;
+            this.members = members;
+            this.from = from;
+            this.to = to;
+            this.distances = distances;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= Math.min(CHUNK, parallelThreshold)) {
+                if (words != null) {
+                    computeBatch();
+                    return;
+                }
+                T pivotState = states.get(pivot);
+                for (int k = from; k < to; k++) {
+                    int node = members[k];
+                    distances[node] = distance.distance(states.get(node), pivotState);
+                }
+            } else {
+                int mid = (from + to) >>> 1;
+                invokeAll(new DistanceTask(pivot, states, words, members, from, mid, distances),
+                        new DistanceTask(pivot, states, words, members, mid, to, distances));
+            }
+        }
+
+        /**
+         * Computes the distances of the range with the batch kernel of the distance.
+         */
+        private void computeBatch() {
+            long[][] others = new long[to - from][];
+            for (int k = from; k < to; k++) {
+                others[k - from] = words[members[k]];
+            }
+            double[] out = new double[to - from];
+            ((WordSetDistance<T>) distance).distances(words[pivot], others, out);
+            for (int k = from; k < to; k++) {
+                distances[members[k]] = out[k - from];
+            }
+        }
+    }
+
+    /**
+     * Internal class representing a cluster with its pivot nodes and priority.
+     */
+    private static final class Cluster implements Comparable<Cluster> {
+        /** Priority of the cluster for splitting (based on maximum distance from pivot). */
+        final double priority;
+        /** Positions of the nodes contained in the cluster. */
+        final int[] members;
+        /** Number of nodes contained in the cluster. */
+        final int size;
+        /** Position of the primary pivot node of the cluster. */
+        final int pivot;
+        /** Position of the node farthest from the primary pivot, used for recursive splitting. */
+        final int furthestFromPivot;
+
+        Cluster(double priority, int[] members, int size, int pivot, int furthestFromPivot) {
+            this.priority = priority;
+            this.members = members;
+            this.size = size;
+            this.pivot = pivot;
+            this.furthestFromPivot = furthestFromPivot;
+        }
+
+        @Override
+        public int compareTo(Cluster o) {
+            if (this.priority == o.priority) {
+                return Integer.compare(this.size, o.size);
+            } else {
+                return Double.compare(this.priority, o.priority);
+            }
+        }
+    }
+}
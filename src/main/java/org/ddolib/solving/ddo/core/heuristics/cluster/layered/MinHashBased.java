@@ -0,0 +1,177 @@
+package org.ddolib.solving.ddo.core.heuristics.cluster.layered;
+
+import org.ddolib.solving.ddo.core.mdd.layered.NodeSubProblem;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * MinHash locality-sensitive hashing (LSH) reduction strategy for decision diagram layers whose
+ * states are, or contain, sets.
+ *
+ * <p>
+ * This class implements {@link ReductionStrategy} and buckets the nodes of a layer according to the
+ * MinHash signature of their sets: the probability that two sets share the {@code i}-th value of their
+ * signatures is their Jaccard similarity, so that nodes sharing a long prefix of their signatures are
+ * likely to have similar sets.
+ * <ol>
+ *   <li>the signature of each set is made of the minimum, over its elements, of {@code rows}
+ *   random universal hash functions;</li>
+ *   <li>the nodes are grouped by prefix of their signatures, using the longest prefix giving at most
+ *   {@code maxWidth} groups;</li>
+ *   <li>to get closer to {@code maxWidth} clusters, the groups of the next longer prefix are kept as
+ *   they are, except the smallest ones which are merged back into their common parent group;</li>
+ *   <li>finally, the largest clusters are split until there are {@code maxWidth} of them.</li>
+ * </ol>
+ *
+ * <p>
+ * The reduction takes a time linear in the total size of the sets and in the number of rows:
+ * no distance between two nodes is ever computed.
+ *
+ * @param <T> the type of states associated with the nodes
+ */
+public class MinHashBased<T> implements ReductionStrategy<T> {
+    /** The Mersenne prime 2^31 - 1, modulus of the hash functions. */
+    private static final long PRIME = (1L << 31) - 1;
+
+    /** The set of each state. */
+    final private Function<T, BitSet> features;
+    /** Multipliers of the hash functions. */
+    final private long[] a;
+    /** Offsets of the hash functions. */
+    final private long[] b;
+
+    /**
+     * Constructs a MinHash reduction strategy with signatures of 8 values.
+     *
+     * @param features the set of each state
+     * @param seed the random seed
+     */
+    public MinHashBased(Function<T, BitSet> features, long seed) {
+        this(features, 8, seed);
+    }
+
+    /**
+     * Constructs a MinHash reduction strategy.
+     *
+     * @param features the set of each state
+     * @param rows the number of values of the signatures
+     * @param seed the random seed
+     */
+    public MinHashBased(Function<T, BitSet> features, int rows, long seed) {
+        if (rows <= 0) {
+            throw new IllegalArgumentException("The number of rows must be positive: " + rows);
+        }
+        this.features = features;
+        Random rnd = new Random(seed);
+        this.a = new long[rows];
+        this.b = new long[rows];
+        for (int r = 0; r < rows; r++) {
+            a[r] = 1 + rnd.nextInt((int) PRIME - 1);
+            b[r] = rnd.nextInt((int) PRIME);
+        }
+    }
+
+    @Override
+    public List<NodeSubProblem<T>>[] defineClusters(List<NodeSubProblem<T>> layer, int maxWidth) {
+        final int n = layer.size();
+        final int rows = a.length;
+
+        // keys[i][p] identifies the prefix of length p of the signature of node i
+        long[][] keys = new long[n][rows + 1];
+        for (int i = 0; i < n; i++) {
+            BitSet set = features.apply(layer.get(i).state);
+            long[] key = keys[i];
+            for (int r = 0; r < rows; r++) {
+                long min = PRIME;
+                for (int e = set.nextSetBit(0); e >= 0; e = set.nextSetBit(e + 1)) {
+                    min = Math.min(min, (a[r] * e + b[r]) % PRIME);
+                }
+                key[r + 1] = key[r] * 1_000_000_007L + min;
+            }
+        }
+
+        // longest prefix giving at most maxWidth groups
+        int prefix = 0;
+        Map<Long, List<NodeSubProblem<T>>> groups = group(layer, keys, 0);
+        for (int p = 1; p <= rows; p++) {
+            Map<Long, List<NodeSubProblem<T>>> finer = group(layer, keys, p);
+            if (finer.size() > maxWidth) break;
+            groups = finer;
+            prefix = p;
+        }
+
+        List<List<NodeSubProblem<T>>> clusters;
+        if (prefix < rows) {
+            clusters = refine(layer, keys, prefix, maxWidth);
+        } else {
+            clusters = new ArrayList<>(groups.values());
+        }
+        return Clusters.fill(clusters, maxWidth);
+    }
+
+    /**
+     * Groups the nodes by prefix of their signatures.
+     *
+     * @param layer the nodes
+     * @param keys the keys of the prefixes of the signatures of the nodes
+     * @param prefix the length of the prefix
+     * @return the groups, by key of prefix
+     */
+    private Map<Long, List<NodeSubProblem<T>>> group(List<NodeSubProblem<T>> layer, long[][] keys, int prefix) {
+        Map<Long, List<NodeSubProblem<T>>> groups = new HashMap<>();
+        for (int i = 0; i < layer.size(); i++) {
+            groups.computeIfAbsent(keys[i][prefix], key -> new ArrayList<>()).add(layer.get(i));
+        }
+        return groups;
+    }
+
+    /**
+     * Groups the nodes by prefix of length {@code prefix + 1}, merging the smallest groups back into
+     * their parent group of prefix {@code prefix} until there are at most {@code maxWidth} groups.
+     *
+     * @param layer the nodes
+     * @param keys the keys of the prefixes of the signatures of the nodes
+     * @param prefix the length of the longest prefix giving at most {@code maxWidth} groups
+     * @param maxWidth the maximum number of groups
+     * @return the groups
+     */
+    private List<List<NodeSubProblem<T>>> refine(List<NodeSubProblem<T>> layer, long[][] keys,
+                                                 int prefix, int maxWidth) {
+        Map<Long, List<NodeSubProblem<T>>> children = new HashMap<>();
+        Map<Long, Long> parentOf = new HashMap<>();
+        for (int i = 0; i < layer.size(); i++) {
+            long child = keys[i][prefix + 1];
+            children.computeIfAbsent(child, key -> new ArrayList<>()).add(layer.get(i));
+            parentOf.putIfAbsent(child, keys[i][prefix]);
+        }
+
+        List<Map.Entry<Long, List<NodeSubProblem<T>>>> bySize = new ArrayList<>(children.entrySet());
+        bySize.sort(Map.Entry.comparingByValue((x, y) -> Integer.compare(x.size(), y.size())));
+
+        Map<Long, List<NodeSubProblem<T>>> remainders = new HashMap<>();
+        List<List<NodeSubProblem<T>>> kept = new ArrayList<>();
+        int count = bySize.size();
+        int next = 0;
+        for (; next < bySize.size() && count > maxWidth; next++) {
+            Map.Entry<Long, List<NodeSubProblem<T>>> child = bySize.get(next);
+            List<NodeSubProblem<T>> remainder = remainders.get(parentOf.get(child.getKey()));
+            if (remainder == null) {
+                remainders.put(parentOf.get(child.getKey()), new ArrayList<>(child.getValue()));
+            } else {
+                remainder.addAll(child.getValue());
+                count--;
+            }
+        }
+        for (; next < bySize.size(); next++) {
+            kept.add(bySize.get(next).getValue());
+        }
+        kept.addAll(remainders.values());
+        return kept;
+    }
+}
@@ -0,0 +1,39 @@
+package org.ddolib.solving.ddo.core.heuristics.cluster.layered;
+
+import org.ddolib.util.DistanceUtil;
+
+import java.util.BitSet;
+
+/**
+ * Distance between states that are compared through a set, e.g. the set of the items they cover.
+ *
+ * <p>
+ * The set of a state is given as an array of 64-bit words, in the layout of
+ * {@link BitSet#toLongArray()}. {@link FastGHP} computes the words of the states of a layer once,
+ * and then the distances between a pivot and many nodes at once with {@link #distances}, which
+ * relies on the batch kernels of {@link DistanceUtil} instead of computing each distance separately.
+ *
+ * <p>
+ * The distances computed by {@link #distances} must be equal to those of {@link #distance(Object, Object)}.
+ *
+ * @param <T> the type of states
+ */
+public interface WordSetDistance<T> extends StateDistance<T> {
+
+    /**
+     * Gives the set of a state as an array of words.
+     *
+     * @param state the state
+     * @return the set compared by the distance, as an array of words
+     */
+    long[] words(T state);
+
+    /**
+     * Computes the distances between a set and each of the given sets.
+     *
+     * @param ref the set of the reference state, as an array of words
+     * @param others the sets of the other states, as arrays of words
+     * @param out receives at index {@code i} the distance between {@code ref} and {@code others[i]}
+     */
+    void distances(long[] ref, long[][] others, double[] out);
+}
@@ -0,0 +1,131 @@
+package org.ddolib.solving.ddo.core.heuristics.variable.layered;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * A dynamic {@link VariableHeuristic} learning which variables produce narrow layers.
+ * <p>
+ * Each time a variable is selected, the heuristic observes the width of the layer it produced at the
+ * next call of the same compilation, that is the number of states of the next layer before any
+ * restriction or relaxation, and records the growth ratio between both layers for this variable. The variable with the smallest mean
+ * ratio is then preferred, variables that were never tried being tried first. To keep learning while
+ * the search goes on, a random variable is selected instead with probability {@code epsilon}
+ * (epsilon-greedy). Ties are broken in favor of the smallest variable index.
+ * </p>
+ *
+ * <p>
+ * The observations are accumulated over all the compilations using this heuristic. The compilations
+ * are told apart by {@link #compilationStarted()}, and the last selection is kept per thread, so that
+ * the heuristic can be shared by compilations running in parallel. Observing a layer only costs one
+ * pass over its states.
+ * </p>
+ *
+ * <p>
+ * <b>Warning:</b> as with any dynamic ordering, the states of a same depth may have different sets of
+ * unassigned variables in different compilations. Dominance rules and the cache must therefore only be
+ * used together with this heuristic when the state itself determines its unassigned variables.
+ * </p>
+ *
+ * @param <T> the type representing the problem state
+ */
+public final class Learned<T> implements VariableHeuristic<T> {
+    /** The probability of selecting a random variable. */
+    private final double epsilon;
+    /** Random number generator used for exploration. */
+    private final Random rnd;
+    /** For each variable, the sum of the observed growth ratios. */
+    private final double[] ratios;
+    /** For each variable, the number of observed growth ratios. */
+    private final int[] observations;
+
+    /** The previous selection of the compilation running in each thread. */
+    private final ThreadLocal<Selection> last = ThreadLocal.withInitial(Selection::new);
+
+    /**
+     * A variable selected by a compilation, and the width of the layer it was selected for.
+     */
+    private static final class Selection {
+        /** The selected variable, -1 if none. */
+        int variable = -1;
+        /** The width of the layer seen when selecting the variable. */
+        int width = 0;
+    }
+
+    /**
+     * Creates a learned heuristic.
+     *
+     * @param nbVars  the number of variables of the problem
+     * @param epsilon the probability of selecting a random variable, between 0 and 1
+     * @param seed    the seed of the random number generator
+     */
+    public Learned(int nbVars, double epsilon, long seed) {
+        if (epsilon < 0 || epsilon > 1) {
+            throw new IllegalArgumentException("Epsilon must be between 0 and 1: " + epsilon);
+        }
+        this.epsilon = epsilon;
+        this.rnd = new Random(seed);
+        this.ratios = new double[nbVars];
+        this.observations = new int[nbVars];
+    }
+
+    @Override
+    public void compilationStarted() {
+        Selection previous = last.get();
+        previous.variable = -1;
+        previous.width = 0;
+    }
+
+    @Override
+    public synchronized Integer nextVariable(final Set<Integer> variables, final Iterator<T> states) {
+        int width = 0;
+        while (states.hasNext()) {
+            states.next();
+            width++;
+        }
+        // The previous selection of this compilation produced this layer
+        Selection previous = last.get();
+        if (previous.variable >= 0 && previous.width > 0) {
+            ratios[previous.variable] += (double) width / previous.width;
+            observations[previous.variable]++;
+        }
+        if (variables.isEmpty()) {
+            previous.variable = -1;
+            return null;
+        }
+
+        int[] candidates = VariableHeuristics.sorted(variables);
+        int selected;
+        if (rnd.nextDouble() < epsilon) {
+            selected = candidates[rnd.nextInt(candidates.length)];
+        } else {
+            selected = candidates[0];
+            for (int v : candidates) {
+                if (observations[v] == 0) {
+                    selected = v;
+                    break;
+                }
+                if (mean(v) < mean(selected)) selected = v;
+            }
+        }
+
+        previous.variable = selected;
+        previous.width = width;
+        return selected;
+    }
+
+    /**
+     * Returns the mean growth ratio observed for a variable.
+     *
+     * @param variable a variable of the problem
+     * @return the mean growth ratio of this variable, or {@code 0} if it was never observed
+     */
+    public synchronized double meanRatio(int variable) {
+        return observations[variable] == 0 ? 0.0 : mean(variable);
+    }
+
+    private double mean(int variable) {
+        return ratios[variable] / observations[variable];
+    }
+}
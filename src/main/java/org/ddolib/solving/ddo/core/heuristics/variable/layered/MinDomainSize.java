@@ -0,0 +1,79 @@
+package org.ddolib.solving.ddo.core.heuristics.variable.layered;
+
+import org.ddolib.modeling.layered.Problem;
+
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * A dynamic {@link VariableHeuristic} selecting the variable with the smallest domain over the layer.
+ * <p>
+ * The size of the domain of every unassigned variable is summed over the states of the layer, in a
+ * single pass over the states, and the variable with the smallest total is selected: branching first
+ * on the most restricted variables tends to keep the next layers narrow. Ties are broken in favor of
+ * the smallest variable index, so that the selection is deterministic.
+ * </p>
+ *
+ * <p>
+ * On wide layers, the sums can be estimated from the first {@code sampleSize} states of the layer only.
+ * </p>
+ *
+ * <p>
+ * <b>Warning:</b> as with any dynamic ordering, the states of a same depth may have different sets of
+ * unassigned variables in different compilations. Dominance rules and the cache must therefore only be
+ * used together with this heuristic when the state itself determines its unassigned variables.
+ * </p>
+ *
+ * @param <T> the type representing the problem state
+ */
+public final class MinDomainSize<T> implements VariableHeuristic<T> {
+    /** The problem whose domains are evaluated. */
+    private final Problem<T> problem;
+    /** The maximum number of states of a layer evaluated. */
+    private final int sampleSize;
+
+    /**
+     * Creates a heuristic evaluating the domains of all the states of the layer.
+     *
+     * @param problem the problem whose domains are evaluated
+     */
+    public MinDomainSize(Problem<T> problem) {
+        this(problem, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a heuristic evaluating the domains of at most {@code sampleSize} states of the layer.
+     *
+     * @param problem    the problem whose domains are evaluated
+     * @param sampleSize the maximum number of states of a layer evaluated
+     */
+    public MinDomainSize(Problem<T> problem, int sampleSize) {
+        if (sampleSize <= 0) {
+            throw new IllegalArgumentException("The sample size must be positive: " + sampleSize);
+        }
+        this.problem = problem;
+        this.sampleSize = sampleSize;
+    }
+
+    @Override
+    public Integer nextVariable(final Set<Integer> variables, final Iterator<T> states) {
+        if (variables.isEmpty()) return null;
+        int[] candidates = VariableHeuristics.sorted(variables);
+        long[] sizes = new long[candidates.length];
+        for (int n = 0; n < sampleSize && states.hasNext(); n++) {
+            T state = states.next();
+            for (int i = 0; i < candidates.length; i++) {
+                Iterator<Integer> domain = problem.domain(state, candidates[i]);
+                while (domain.hasNext()) {
+                    domain.next();
+                    sizes[i]++;
+                }
+            }
+        }
+        int best = 0;
+        for (int i = 1; i < candidates.length; i++) {
+            if (sizes[i] < sizes[best]) best = i;
+        }
+        return candidates[best];
+    }
+}
@@ -0,0 +1,70 @@
+package org.ddolib.solving.ddo.core.heuristics.variable.layered;
+
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * A dynamic {@link VariableHeuristic} selecting the most constrained variable according to a
+ * user-provided {@link VariableScore}.
+ * <p>
+ * The scores of every unassigned variable are summed over the states of the layer, in a single pass
+ * over the states, and the variable with the highest total is selected. Ties are broken in favor of
+ * the smallest variable index, so that the selection is deterministic. On wide layers, the sums can be
+ * estimated from the first {@code sampleSize} states of the layer only.
+ * </p>
+ *
+ * <p>
+ * <b>Warning:</b> as with any dynamic ordering, the states of a same depth may have different sets of
+ * unassigned variables in different compilations. Dominance rules and the cache must therefore only be
+ * used together with this heuristic when the state itself determines its unassigned variables.
+ * </p>
+ *
+ * @param <T> the type representing the problem state
+ */
+public final class ScoreBased<T> implements VariableHeuristic<T> {
+    /** The score of a variable in a state. */
+    private final VariableScore<T> score;
+    /** The maximum number of states of a layer evaluated. */
+    private final int sampleSize;
+
+    /**
+     * Creates a heuristic evaluating the scores on all the states of the layer.
+     *
+     * @param score the score of a variable in a state
+     */
+    public ScoreBased(VariableScore<T> score) {
+        this(score, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a heuristic evaluating the scores on at most {@code sampleSize} states of the layer.
+     *
+     * @param score      the score of a variable in a state
+     * @param sampleSize the maximum number of states of a layer evaluated
+     */
+    public ScoreBased(VariableScore<T> score, int sampleSize) {
+        if (sampleSize <= 0) {
+            throw new IllegalArgumentException("The sample size must be positive: " + sampleSize);
+        }
+        this.score = score;
+        this.sampleSize = sampleSize;
+    }
+
+    @Override
+    public Integer nextVariable(final Set<Integer> variables, final Iterator<T> states) {
+        if (variables.isEmpty()) return null;
+        int[] candidates = VariableHeuristics.sorted(variables);
+        double[] scores = new double[candidates.length];
+        for (int n = 0; n < sampleSize && states.hasNext(); n++) {
+            T state = states.next();
+            for (int i = 0; i < candidates.length; i++) {
+                scores[i] += score.score(state, candidates[i]);
+            }
+        }
+        int best = 0;
+        for (int i = 1; i < candidates.length; i++) {
+            if (scores[i] > scores[best]) best = i;
+        }
+        return candidates[best];
+    }
+}
@@ -37,4 +37,15 @@ public interface VariableHeuristic<T> {
      *         no decision can be made at this point
      */
     Integer nextVariable(final Set<Integer> variables, final Iterator<T> states);
+
+    /**
+     * Notifies the heuristic that a new decision diagram is being compiled, before the first call
+     * to {@link #nextVariable(Set, Iterator)} of this compilation, in the thread compiling it.
+     * <p>
+     * Heuristics learning from the successive layers of a compilation use it to tell the
+     * compilations apart. By default, it does nothing.
+     * </p>
+     */
+    default void compilationStarted() {
+    }
 }
@@ -0,0 +1,29 @@
+package org.ddolib.solving.ddo.core.heuristics.variable.layered;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Helpers shared by the variable heuristics of this package.
+ */
+final class VariableHeuristics {
+
+    private VariableHeuristics() {
+    }
+
+    /**
+     * Returns the given variables in increasing order.
+     *
+     * @param variables a set of variables
+     * @return a new array containing these variables, sorted
+     */
+    static int[] sorted(Set<Integer> variables) {
+        int[] sorted = new int[variables.size()];
+        int i = 0;
+        for (int v : variables) {
+            sorted[i++] = v;
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+}
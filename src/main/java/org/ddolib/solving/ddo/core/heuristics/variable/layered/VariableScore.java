@@ -0,0 +1,20 @@
+package org.ddolib.solving.ddo.core.heuristics.variable.layered;
+
+/**
+ * A user-provided measure of how constrained a variable is in a given state,
+ * used by the {@link ScoreBased} variable heuristic.
+ *
+ * @param <T> the type representing the problem state
+ */
+@FunctionalInterface
+public interface VariableScore<T> {
+    /**
+     * Returns how constrained a variable is in a state. The higher the score, the sooner the variable
+     * should be assigned.
+     *
+     * @param state    a state of the layer
+     * @param variable an unassigned variable
+     * @return the score of the variable in this state
+     */
+    double score(T state, int variable);
+}
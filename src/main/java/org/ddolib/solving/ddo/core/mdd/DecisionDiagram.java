@@ -3,7 +3,9 @@ package org.ddolib.solving.ddo.core.mdd;
 import org.ddolib.solving.ddo.core.Decision;
 import org.ddolib.solving.ddo.core.SubProblem;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -86,6 +88,39 @@ public interface DecisionDiagram<T> {
      */
     Iterator<SubProblem<T>> exactCutset();
 
+    /**
+     * Provides an iterator over the subproblems of the <em>exact cutset</em> whose lower bound is
+     * strictly smaller than the given bound, i.e. the subproblems that may still lead to a better
+     * solution.
+     * <p>
+     * Implementations are encouraged to discard the other nodes before building their
+     * subproblems, and to report how many of them were discarded through {@link #nbCutsetPruned()}.
+     * By default, the subproblems of {@link #exactCutset()} are filtered after being built.
+     * </p>
+     *
+     * @param bound the value of the best known solution
+     * @return an {@link Iterator} over the subproblems of the exact cutset that may improve the bound
+     */
+    default Iterator<SubProblem<T>> exactCutset(double bound) {
+        Iterator<SubProblem<T>> all = exactCutset();
+        List<SubProblem<T>> kept = new ArrayList<>();
+        while (all.hasNext()) {
+            SubProblem<T> sub = all.next();
+            if (sub.getLowerBound() < bound) kept.add(sub);
+        }
+        return kept.iterator();
+    }
+
+    /**
+     * Returns the number of nodes of the exact cutset discarded by the last call to
+     * {@link #exactCutset(double)} before their subproblem was built.
+     *
+     * @return the number of cutset nodes pruned before materialization
+     */
+    default int nbCutsetPruned() {
+        return 0;
+    }
+
     /**
      * Checks whether the best path found in the relaxed decision diagram is exact.
      * <p>
@@ -119,4 +154,16 @@ public interface DecisionDiagram<T> {
     int nbNodes();
 
     double minLowerBound();
+
+    /**
+     * Returns whether the last compilation was aborted because no node of one of its layers
+     * could improve the best known solution. An aborted diagram has no solution and an empty
+     * exact cutset: the compiled subproblem cannot improve the best known solution.
+     * By default, the compilations are never aborted.
+     *
+     * @return {@code true} if the last compilation was aborted
+     */
+    default boolean compilationAborted() {
+        return false;
+    }
 }
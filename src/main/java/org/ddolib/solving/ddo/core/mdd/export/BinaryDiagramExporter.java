@@ -0,0 +1,155 @@
+package org.ddolib.solving.ddo.core.mdd.export;
+
+import org.ddolib.solving.ddo.core.Decision;
+import org.ddolib.solving.ddo.core.compilation.CompilationType;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Exports a decision diagram in a compact binary format, for the offline analysis of diagrams too
+ * large for Graphviz.
+ * <p>
+ * The file is a sequence of big-endian records, written as the diagram is compiled:
+ * </p>
+ * <ul>
+ *     <li>a header: the {@link #MAGIC} int, the {@link #VERSION} byte, the ordinal of the
+ *     {@link CompilationType} as a byte, and a boolean byte telling whether the states are written;</li>
+ *     <li>a node: the {@link #NODE} byte, then its int id, its int depth, a byte of flags
+ *     ({@link #RELAXED} and {@link #TERMINAL}), its double lower bound, its double value, and
+ *     if the states are written, the int length and the UTF-8 bytes of the text of its state;</li>
+ *     <li>an edge: the {@link #EDGE} byte, then the int ids of its origin and destination, the int
+ *     variable and value of its decision, and its double weight;</li>
+ *     <li>a highlighted edge: the {@link #HIGHLIGHT} byte, the same fields as an edge, and the int
+ *     {@code 0xRRGGBB} color of the highlight;</li>
+ *     <li>the {@link #END} byte.</li>
+ * </ul>
+ * <p>
+ * Without the states, a node takes 26 bytes and an edge 25 bytes.
+ * </p>
+ *
+ * @param <T> the type of the states of the diagram
+ */
+public class BinaryDiagramExporter<T> implements DiagramExporter<T> {
+    /** First int of the file. */
+    public static final int MAGIC = 0x44444F47;
+    /** Version of the format. */
+    public static final byte VERSION = 1;
+    /** Tag of the end of the diagram. */
+    public static final byte END = 0;
+    /** Tag of a node record. */
+    public static final byte NODE = 1;
+    /** Tag of an edge record. */
+    public static final byte EDGE = 2;
+    /** Tag of a highlighted edge record. */
+    public static final byte HIGHLIGHT = 3;
+    /** Flag of the relaxed nodes. */
+    public static final byte RELAXED = 1;
+    /** Flag of the nodes of the last layer. */
+    public static final byte TERMINAL = 2;
+
+    private final DataOutputStream out;
+    private final boolean withStates;
+
+    /**
+     * Creates an exporter writing the diagram to the given output.
+     *
+     * @param out        the output of the records, closed at the end of the export
+     * @param withStates whether the text of the states is written
+     */
+    public BinaryDiagramExporter(OutputStream out, boolean withStates) {
+        this.out = new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+        this.withStates = withStates;
+    }
+
+    /**
+     * Creates an exporter writing the diagram to the given file.
+     *
+     * @param file       the file to write, and its parent directories, created if needed
+     * @param withStates whether the text of the states is written
+     * @param <T>        the type of the states of the diagram
+     * @return the exporter writing to the file
+     */
+    public static <T> BinaryDiagramExporter<T> toFile(Path file, boolean withStates) {
+        try {
+            if (file.getParent() != null) Files.createDirectories(file.getParent());
+            return new BinaryDiagramExporter<>(Files.newOutputStream(file), withStates);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void begin(CompilationType type) {
+        try {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeByte(type.ordinal());
+            out.writeBoolean(withStates);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void node(int id, int depth, T state, double lowerBound, double value, boolean relaxed, boolean terminal) {
+        try {
+            out.writeByte(NODE);
+            out.writeInt(id);
+            out.writeInt(depth);
+            out.writeByte((relaxed ? RELAXED : 0) | (terminal ? TERMINAL : 0));
+            out.writeDouble(lowerBound);
+            out.writeDouble(value);
+            if (withStates) {
+                byte[] text = String.valueOf(state).getBytes(StandardCharsets.UTF_8);
+                out.writeInt(text.length);
+                out.write(text);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void edge(int origin, int destination, Decision decision, double weight) {
+        try {
+            out.writeByte(EDGE);
+            writeEdge(origin, destination, decision, weight);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void highlight(int origin, int destination, Decision decision, double weight, int color) {
+        try {
+            out.writeByte(HIGHLIGHT);
+            writeEdge(origin, destination, decision, weight);
+            out.writeInt(color);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void end() {
+        try (out) {
+            out.writeByte(END);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void writeEdge(int origin, int destination, Decision decision, double weight) throws IOException {
+        out.writeInt(origin);
+        out.writeInt(destination);
+        out.writeInt(decision.variable());
+        out.writeInt(decision.value());
+        out.writeDouble(weight);
+    }
+}
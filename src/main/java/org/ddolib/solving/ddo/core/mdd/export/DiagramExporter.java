@@ -0,0 +1,72 @@
+package org.ddolib.solving.ddo.core.mdd.export;
+
+import org.ddolib.solving.ddo.core.Decision;
+import org.ddolib.solving.ddo.core.compilation.CompilationType;
+
+/**
+ * Receives the nodes and edges of a decision diagram while it is compiled.
+ * <p>
+ * The diagram streams its nodes layer by layer, as soon as each layer is finalized: a node is
+ * followed by the edges leading to it, whose origins are nodes already exported. The paths
+ * highlighted by the diagram, such as its best path, are only known at the end of the compilation:
+ * their edges are given again as an overlay, just before {@link #end()}. The exporter thus never
+ * needs to keep the diagram in memory.
+ * </p>
+ *
+ * <p>
+ * The nodes are identified by an integer unique within the diagram. The I/O errors are thrown as
+ * {@link RuntimeException}s.
+ * </p>
+ *
+ * @param <T> the type of the states of the diagram
+ * @see DotDiagramExporter
+ * @see BinaryDiagramExporter
+ * @see SampledDiagramExporter
+ */
+public interface DiagramExporter<T> {
+    /**
+     * Starts the export of a diagram.
+     *
+     * @param type the type of the compilation of the diagram
+     */
+    void begin(CompilationType type);
+
+    /**
+     * Exports a node of the diagram.
+     *
+     * @param id         the identifier of the node
+     * @param depth      the depth of the node, from the root of the diagram
+     * @param state      the state of the node
+     * @param lowerBound the fast lower bound of the node
+     * @param value      the length of the longest path from the root to the node
+     * @param relaxed    whether the node is relaxed
+     * @param terminal   whether the node is in the last layer of the diagram
+     */
+    void node(int id, int depth, T state, double lowerBound, double value, boolean relaxed, boolean terminal);
+
+    /**
+     * Exports an edge of the diagram.
+     *
+     * @param origin      the identifier of the origin of the edge
+     * @param destination the identifier of the destination of the edge
+     * @param decision    the decision labelling the edge
+     * @param weight      the weight of the edge
+     */
+    void edge(int origin, int destination, Decision decision, double weight);
+
+    /**
+     * Highlights an edge already exported, because it is on a path of interest of the diagram.
+     *
+     * @param origin      the identifier of the origin of the edge
+     * @param destination the identifier of the destination of the edge
+     * @param decision    the decision labelling the edge
+     * @param weight      the weight of the edge
+     * @param color       the color of the highlight, as a {@code 0xRRGGBB} integer
+     */
+    void highlight(int origin, int destination, Decision decision, double weight, int color);
+
+    /**
+     * Ends the export of the diagram, and releases the output of the exporter.
+     */
+    void end();
+}
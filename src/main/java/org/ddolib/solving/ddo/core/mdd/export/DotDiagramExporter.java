@@ -0,0 +1,115 @@
+package org.ddolib.solving.ddo.core.mdd.export;
+
+import org.ddolib.solving.ddo.core.Decision;
+import org.ddolib.solving.ddo.core.compilation.CompilationType;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.DecimalFormat;
+
+/**
+ * Exports a decision diagram in DOT format (Graphviz).
+ * <p>
+ * Each node is written with the edges leading to it as soon as it is received: the text of the
+ * diagram is never built in memory, unless the output is itself in memory. The exact nodes are
+ * drawn as rounded rectangles, the relaxed ones as boxes and the terminal ones are filled. The
+ * highlighted edges are drawn again over the original ones, in their color.
+ * </p>
+ *
+ * @param <T> the type of the states of the diagram
+ */
+public class DotDiagramExporter<T> implements DiagramExporter<T> {
+    private final Writer out;
+    private final DecimalFormat df = new DecimalFormat("#.##########");
+
+    /**
+     * Creates an exporter writing the diagram to the given output.
+     *
+     * @param out the output of the DOT text, closed at the end of the export
+     */
+    public DotDiagramExporter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * Creates an exporter writing the diagram to the given file.
+     *
+     * @param file the file to write, and its parent directories, created if needed
+     * @param <T>  the type of the states of the diagram
+     * @return the exporter writing to the file
+     */
+    public static <T> DotDiagramExporter<T> toFile(Path file) {
+        try {
+            if (file.getParent() != null) Files.createDirectories(file.getParent());
+            return new DotDiagramExporter<>(Files.newBufferedWriter(file, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void begin(CompilationType type) {
+        write("digraph %s{%n".formatted(type.toString().toLowerCase()));
+    }
+
+    @Override
+    public void node(int id, int depth, T state, double lowerBound, double value, boolean relaxed, boolean terminal) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(id);
+        sb.append(" [label=\"").append(escape(String.valueOf(state)))
+                .append("\nh: ").append(df.format(lowerBound))
+                .append(" - g: ").append(df.format(value)).append('"');
+        if (relaxed) {
+            sb.append(", shape=box, tooltip=\"Relaxed node\"");
+        } else {
+            sb.append(", style=rounded, shape=rectangle, tooltip=\"Exact node\"");
+        }
+        if (terminal) {
+            sb.append(", style=\"filled, rounded\", shape=rectangle, color=black, fontcolor=white");
+            sb.append(", tooltip=\"Terminal node\"");
+        }
+        sb.append("];\n");
+        write(sb.toString());
+    }
+
+    @Override
+    public void edge(int origin, int destination, Decision decision, double weight) {
+        write(origin + " -> " + destination + " [label=" + df.format(weight) +
+                ", tooltip=\"" + decision + "\"];\n");
+    }
+
+    @Override
+    public void highlight(int origin, int destination, Decision decision, double weight, int color) {
+        String html = "#%06x".formatted(color);
+        write(origin + " -> " + destination + " [label=" + df.format(weight) +
+                ", tooltip=\"" + decision + "\", color=\"" + html + "\", fontcolor=\"" + html +
+                "\", penwidth=2];\n");
+    }
+
+    @Override
+    public void end() {
+        try (out) {
+            out.write("}\n");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void write(String text) {
+        try {
+            out.write(text);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Escapes the double quotes of a label.
+     */
+    private static String escape(String label) {
+        return label.replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,85 @@
+package org.ddolib.solving.ddo.core.mdd.export;
+
+import org.ddolib.solving.ddo.core.Decision;
+import org.ddolib.solving.ddo.core.compilation.CompilationType;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Exports a sample of a decision diagram to another exporter.
+ * <p>
+ * Only the first nodes of each layer are kept, down to a maximum depth, along with the edges
+ * between kept nodes. It gives a readable picture of the top of a diagram that is too wide or too
+ * deep to be exported entirely.
+ * </p>
+ *
+ * @param <T> the type of the states of the diagram
+ */
+public class SampledDiagramExporter<T> implements DiagramExporter<T> {
+    private final DiagramExporter<T> delegate;
+    private final int maxNodesPerLayer;
+    private final int maxDepth;
+
+    /** Identifiers of the nodes exported to the delegate. */
+    private final Set<Integer> kept = new HashSet<>();
+    private int layerDepth = -1;
+    private int layerSize = 0;
+
+    /**
+     * Creates an exporter sampling the diagram.
+     *
+     * @param delegate         the exporter receiving the sample
+     * @param maxNodesPerLayer the maximum number of nodes kept in each layer
+     * @param maxDepth         the maximum depth of the kept nodes
+     */
+    public SampledDiagramExporter(DiagramExporter<T> delegate, int maxNodesPerLayer, int maxDepth) {
+        if (maxNodesPerLayer < 1 || maxDepth < 0) {
+            throw new IllegalArgumentException("Invalid sample: %d nodes per layer, depth %d"
+                    .formatted(maxNodesPerLayer, maxDepth));
+        }
+        this.delegate = delegate;
+        this.maxNodesPerLayer = maxNodesPerLayer;
+        this.maxDepth = maxDepth;
+    }
+
+    @Override
+    public void begin(CompilationType type) {
+        kept.clear();
+        layerDepth = -1;
+        layerSize = 0;
+        delegate.begin(type);
+    }
+
+    @Override
+    public void node(int id, int depth, T state, double lowerBound, double value, boolean relaxed, boolean terminal) {
+        if (depth != layerDepth) {
+            layerDepth = depth;
+            layerSize = 0;
+        }
+        if (depth > maxDepth || layerSize >= maxNodesPerLayer) return;
+        layerSize++;
+        kept.add(id);
+        delegate.node(id, depth, state, lowerBound, value, relaxed, terminal);
+    }
+
+    @Override
+    public void edge(int origin, int destination, Decision decision, double weight) {
+        if (kept.contains(origin) && kept.contains(destination)) {
+            delegate.edge(origin, destination, decision, weight);
+        }
+    }
+
+    @Override
+    public void highlight(int origin, int destination, Decision decision, double weight, int color) {
+        if (kept.contains(origin) && kept.contains(destination)) {
+            delegate.highlight(origin, destination, decision, weight, color);
+        }
+    }
+
+    @Override
+    public void end() {
+        kept.clear();
+        delegate.end();
+    }
+}
@@ -0,0 +1,291 @@
+package org.ddolib.solving.ddo.core.mdd.layered;
+
+import org.ddolib.solving.ddo.core.Decision;
+import org.ddolib.solving.ddo.core.SubProblem;
+import org.ddolib.solving.ddo.core.compilation.layered.CompilationConfig;
+import org.ddolib.solving.ddo.core.mdd.DecisionDiagram;
+import org.ddolib.solving.ddo.core.profiling.Profiler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.ddolib.util.MathUtil.saturatedAdd;
+
+/**
+ * Exact decision diagram whose memory footprint is proportional to its width rather than to its size.
+ * <p>
+ * A {@link LinkedDecisionDiagram} keeps every node of the diagram with its incoming edges, so that the
+ * whole diagram stays reachable until the end of the compilation. This diagram only keeps the states
+ * of the layer being expanded and of the next one. The longest path to each expanded node is recorded
+ * in a <i>trail</i> of back-pointers made of two {@code int} arrays: for each node, the position in the
+ * trail of its best parent and the value assigned to the variable of its layer. This is just enough
+ * to reconstruct the optimal solution at the end of the compilation.
+ * </p>
+ *
+ * <p>
+ * The compilation is otherwise the same as the exact compilation of a {@link LinkedDecisionDiagram}:
+ * the same variable heuristic, dominance checker and fast lower bound are used. As the diagram does
+ * not keep its nodes, it can neither be exported as a DOT file nor checked by the debug mode, and
+ * its exact cutset is empty.
+ * </p>
+ *
+ * @param <T> the type of state used in the problem modeled by this decision diagram
+ */
+public final class LeanExactDecisionDiagram<T> implements DecisionDiagram<T> {
+    /**
+     * Configuration and parameters for compiling the decision diagram.
+     */
+    private final CompilationConfig<T> config;
+
+    /**
+     * Nodes of the next layer, mapped by state.
+     */
+    private final HashMap<T, Slot> nextLayer = new HashMap<>();
+
+    /**
+     * Position in the trail of the best parent of each recorded node.
+     */
+    private int[] trailParent = new int[1024];
+    /**
+     * Value of the decision leading from its best parent to each recorded node.
+     */
+    private int[] trailValue = new int[1024];
+    /**
+     * Number of nodes recorded in the trail.
+     */
+    private int trailSize = 0;
+    /**
+     * The variable assigned at each depth of the diagram.
+     */
+    private int[] variables = new int[16];
+
+    /**
+     * The best node of the terminal layer, if one exists.
+     */
+    private Slot best = null;
+    /**
+     * Depth of the terminal layer.
+     */
+    private int depth = 0;
+    /**
+     * The minimum lower bound among all expanded nodes in the decision diagram.
+     */
+    private double lowerBound = Double.MAX_VALUE;
+    /**
+     * Total number of nodes created in this diagram.
+     */
+    private int nodesCount = 0;
+
+    /**
+     * A node of the current or next layer: the length of its longest path, and how this path
+     * is recorded in the trail.
+     */
+    private static final class Slot {
+        /** The length of the longest path to this node. */
+        double value;
+        /** The position in the trail of the last node of the longest path, before this one. */
+        int parent;
+        /** The value of the decision leading to this node on its longest path. */
+        int decision;
+        /** The position of this node in the trail, once it has been expanded. */
+        int trail = -1;
+
+        Slot(double value, int parent, int decision) {
+            this.value = value;
+            this.parent = parent;
+            this.decision = decision;
+        }
+    }
+
+    /**
+     * Creates a new lean exact decision diagram.
+     *
+     * @param config the configuration object containing problem parameters, heuristics,
+     *               dominance checkers, and compilation settings
+     */
+    public LeanExactDecisionDiagram(CompilationConfig<T> config) {
+        this.config = config;
+    }
+
+    @Override
+    public void compile() {
+        final Profiler profiler = config.profiler;
+        if (profiler == null) {
+            compileLayers();
+            return;
+        }
+        profiler.compilationStarted(config.compilationType);
+        try {
+            compileLayers();
+        } finally {
+            profiler.compilationEnded();
+        }
+    }
+
+    /**
+     * Compiles the layers of the decision diagram, see {@link #compile()}.
+     */
+    private void compileLayers() {
+        final Set<Integer> free = new HashSet<>();
+        for (int i = 0; i < config.problem.nbVars(); i++) {
+            free.add(i);
+        }
+        for (Decision d : config.residual.getPath()) {
+            free.remove(d.variable());
+        }
+
+        int depthGlobalDD = config.residual.getDepth();
+        nextLayer.put(config.residual.getState(), new Slot(config.residual.getValue(), -1, 0));
+        nodesCount++;
+        List<T> currentStates = new ArrayList<>();
+        List<Slot> currentSlots = new ArrayList<>();
+
+        config.variableHeuristic.compilationStarted();
+        while (!free.isEmpty()) {
+            Integer nextVar = config.variableHeuristic.nextVariable(free, nextLayer.keySet().iterator());
+
+            currentStates.clear();
+            currentSlots.clear();
+            for (Entry<T, Slot> e : nextLayer.entrySet()) {
+                T state = e.getKey();
+                Slot slot = e.getValue();
+                if (!config.dominance.updateDominance(state, depthGlobalDD, slot.value)) {
+                    double rlb = saturatedAdd(slot.value, config.flb.fastLowerBound(state, free));
+                    if (rlb >= config.bestUB) continue;
+                    lowerBound = Math.min(lowerBound, rlb);
+                    slot.trail = record(slot.parent, slot.decision);
+                    currentStates.add(state);
+                    currentSlots.add(slot);
+                }
+            }
+            nextLayer.clear();
+            if (config.profiler != null) config.profiler.layerBuilt(currentStates.size());
+
+            // There is no feasible solution to this subproblem, we can stop the compilation here
+            if (currentStates.isEmpty()) return;
+            // Some variables simply can't be assigned
+            if (nextVar == null) return;
+
+            free.remove(nextVar);
+            if (depth == variables.length) variables = Arrays.copyOf(variables, 2 * depth);
+            variables[depth++] = nextVar;
+
+            for (int i = 0; i < currentStates.size(); i++) {
+                T state = currentStates.get(i);
+                Slot parent = currentSlots.get(i);
+                Iterator<Integer> domain = config.problem.domain(state, nextVar);
+                while (domain.hasNext()) {
+                    int val = domain.next();
+                    Decision decision = new Decision(nextVar, val);
+                    T next = config.problem.transition(state, decision);
+                    double value = saturatedAdd(parent.value, config.problem.transitionCost(state, decision));
+                    Slot slot = nextLayer.get(next);
+                    if (slot == null) {
+                        nextLayer.put(next, new Slot(value, parent.trail, val));
+                        nodesCount++;
+                    } else if (value <= slot.value) {
+                        slot.value = value;
+                        slot.parent = parent.trail;
+                        slot.decision = val;
+                    }
+                }
+            }
+            depthGlobalDD += 1;
+        }
+
+        for (Slot slot : nextLayer.values()) {
+            if (best == null || slot.value < best.value) best = slot;
+        }
+        nextLayer.clear();
+    }
+
+    /**
+     * Appends a node to the trail.
+     *
+     * @param parent   the position in the trail of the best parent of the node
+     * @param decision the value of the decision leading from this parent to the node
+     * @return the position of the node in the trail
+     */
+    private int record(int parent, int decision) {
+        if (trailSize == trailParent.length) {
+            trailParent = Arrays.copyOf(trailParent, 2 * trailSize);
+            trailValue = Arrays.copyOf(trailValue, 2 * trailSize);
+        }
+        trailParent[trailSize] = parent;
+        trailValue[trailSize] = decision;
+        return trailSize++;
+    }
+
+    @Override
+    public boolean isExact() {
+        return true;
+    }
+
+    @Override
+    public Optional<Double> bestValue() {
+        return best == null ? Optional.empty() : Optional.of(best.value);
+    }
+
+    @Override
+    public Optional<Set<Decision>> bestSolution() {
+        if (best == null) return Optional.empty();
+        Set<Decision> sol = new HashSet<>(config.residual.getPath());
+        if (best.parent >= 0) {
+            int d = depth - 1;
+            sol.add(new Decision(variables[d], best.decision));
+            // the root is the first node of the trail, it has no decision
+            for (int t = best.parent; t > 0; t = trailParent[t]) {
+                d--;
+                sol.add(new Decision(variables[d], trailValue[t]));
+            }
+        }
+        return Optional.of(sol);
+    }
+
+    @Override
+    public Iterator<SubProblem<T>> exactCutset() {
+        return Collections.emptyIterator();
+    }
+
+    @Override
+    public boolean relaxedBestPathIsExact() {
+        return false;
+    }
+
+    /**
+     * The nodes of this diagram are not kept, it cannot be exported.
+     *
+     * @return an empty DOT graph
+     */
+    @Override
+    public String exportAsDot() {
+        return "digraph exact{\n}";
+    }
+
+    @Override
+    public int nbNodes() {
+        return nodesCount;
+    }
+
+    @Override
+    public double minLowerBound() {
+        return lowerBound;
+    }
+
+    /**
+     * Returns the number of nodes recorded in the back-pointer trail.
+     *
+     * @return the size of the trail
+     */
+    public int trailSize() {
+        return trailSize;
+    }
+}
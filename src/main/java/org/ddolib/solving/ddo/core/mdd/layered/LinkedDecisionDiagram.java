@@ -2,6 +2,7 @@ package org.ddolib.solving.ddo.core.mdd.layered;
 
 import org.ddolib.solving.ddo.core.mdd.DecisionDiagram;
 import org.ddolib.solving.ddo.core.Decision;
+import org.ddolib.solving.ddo.core.DecisionPath;
 import org.ddolib.solving.ddo.core.SubProblem;
 import org.ddolib.solving.ddo.core.cache.SimpleCache;
 import org.ddolib.solving.ddo.core.cache.Threshold;
@@ -9,15 +10,21 @@ import org.ddolib.solving.ddo.core.compilation.layered.CompilationConfig;
 import org.ddolib.solving.ddo.core.compilation.CompilationType;
 import org.ddolib.solving.ddo.core.frontier.CutSetType;
 import org.ddolib.solving.ddo.core.heuristics.cluster.layered.ReductionStrategy;
+import org.ddolib.solving.ddo.core.mdd.export.DiagramExporter;
+import org.ddolib.solving.ddo.core.mdd.export.DotDiagramExporter;
+import org.ddolib.solving.ddo.core.profiling.Operation;
+import org.ddolib.solving.ddo.core.profiling.Profiler;
 import org.ddolib.modeling.layered.FastLowerBound;
 import org.ddolib.modeling.layered.Problem;
 import org.ddolib.modeling.layered.Relaxation;
+import org.ddolib.modeling.layered.StateRanking;
 import org.ddolib.util.debug.DebugLevel;
 import org.ddolib.util.debug.DebugUtil;
 
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.DecimalFormat;
@@ -55,7 +62,12 @@ public final class LinkedDecisionDiagram<T> implements DecisionDiagram<T> {
     /**
      * The set of decisions that led to the root of this decision diagram.
      */
-    private final Set<Decision> pathToRoot;
+    private DecisionPath pathToRoot;
+
+    /**
+     * Number of nodes of the exact cutset discarded by their bound before their path was built.
+     */
+    private int nbCutsetPruned = 0;
 
     /**
      * Nodes from the previous layer, mapped to their associated subproblems.
@@ -77,30 +89,51 @@ public final class LinkedDecisionDiagram<T> implements DecisionDiagram<T> {
      */
     private final List<NodeSubProblem<T>> cutset = new ArrayList<>();
     /**
-     * String builder used for generating DOT representation of the MDD.
+     * Color of the edges of the best path in the exported diagram.
+     */
+    private static final int BEST_PATH_COLOR = 0x6fb052;
+    /**
+     * Color of the edges of the paths described by the debug checks in the exported diagram.
+     */
+    private static final int DEBUG_PATH_COLOR = 0xff0000;
+    /**
+     * Exporter receiving the nodes and edges of the diagram as its layers are finalized,
+     * {@code null} when the export and the extended debug mode are disabled.
+     */
+    private DiagramExporter<T> exporter = null;
+    /**
+     * DOT text of the diagram, when it is exported in memory because no exporter was configured.
+     */
+    private StringWriter dotBuffer = null;
+    /**
+     * Edges to highlight at the end of the export, with their destination and color.
      */
-    private final StringBuilder dotStr = new StringBuilder();
+    private LinkedHashMap<Edge, Highlight> highlighted = null;
     /**
-     * Maps edge hash codes to their DOT representation.
+     * Whether the export of the last compilation is finished.
      */
-    private final HashMap<Integer, String> edgesDotStr = new HashMap<>();
+    private boolean exportEnded = true;
     /**
      * Debug level for additional checks and information during compilation.
      */
-    private final DebugLevel debugLevel;
+    private DebugLevel debugLevel;
     /**
      * Configuration and parameters for compiling the decision diagram.
      */
-    private final CompilationConfig<T> config;
+    private CompilationConfig<T> config;
 
     /**
      * Optional cache used to store thresholds and avoid redundant computations.
      */
-    private final Optional<SimpleCache<T>> cache;
+    private Optional<SimpleCache<T>> cache;
     /**
      * Comparator used to rank nodes within a layer based on their associated subproblems.
      */
-    private final NodeSubProblemComparator<T> ranking;
+    private NodeSubProblemComparator<T> ranking;
+    /**
+     * The state ranking the comparator is built from.
+     */
+    private StateRanking<T> stateRanking = null;
     /**
      * List of depths for the current relaxed compilation of the decision diagram.
      */
@@ -125,6 +158,10 @@ public final class LinkedDecisionDiagram<T> implements DecisionDiagram<T> {
      * The best node in the terminal layer, if one exists.
      */
     private Node best = null;
+    /**
+     * Whether the last compilation was aborted because a whole layer could not improve the incumbent.
+     */
+    private boolean aborted = false;
     /**
      * Depth of the last exact layer.
      */
@@ -147,24 +184,91 @@ public final class LinkedDecisionDiagram<T> implements DecisionDiagram<T> {
      *               relaxation operators, dominance checkers, and compilation settings
      */
     public LinkedDecisionDiagram(CompilationConfig<T> config) {
-        final SubProblem<T> residual = config.residual;
-        final Node root = createNode(residual.getValue());
-        this.pathToRoot = residual.getPath();
-        this.nextLayer.put(residual.getState(), root);
-        this.debugLevel = config.debugLevel;
-        this.config = config;
-        this.lowerBound = Double.MAX_VALUE;
-        this.ranking = new NodeSubProblemComparator<>(config.stateRanking);
+        reset(config);
+    }
 
-        dotStr.append("digraph %s{%n".formatted(config.compilationType.toString().toLowerCase()));
+    /**
+     * Prepares this diagram for a new compilation of the given configuration.
+     * <p>
+     * The result of the previous compilation is discarded, but the layers, maps and lists
+     * allocated by this diagram are kept and reused. A solver compiling many diagrams should
+     * thus reset the same instance rather than creating a new one for each subproblem.
+     * </p>
+     *
+     * @param config the configuration object containing problem parameters, heuristics,
+     *               relaxation operators, dominance checkers, and compilation settings
+     */
+    public void reset(CompilationConfig<T> config) {
+        this.config = config;
+        this.debugLevel = config.debugLevel;
         this.cache = config.cache;
+        if (ranking == null || stateRanking != config.stateRanking) {
+            this.stateRanking = config.stateRanking;
+            this.ranking = new NodeSubProblemComparator<>(config.stateRanking);
+        }
+
+        prevLayer.clear();
+        currentLayer.clear();
+        nextLayer.clear();
+        cutset.clear();
+        exact = true;
+        best = null;
+        aborted = false;
+        depthLEL = -1;
+        lowerBound = Double.MAX_VALUE;
+        nodesCount = 0;
+        nbCutsetPruned = 0;
+
+        dotBuffer = null;
+        if (config.exporter != null) {
+            exporter = config.exporter;
+        } else if (config.exportAsDot || debugLevel == DebugLevel.EXTENDED) {
+            dotBuffer = new StringWriter();
+            exporter = new DotDiagramExporter<>(dotBuffer);
+        } else {
+            exporter = null;
+        }
+        highlighted = exporter == null ? null : new LinkedHashMap<>();
+        exportEnded = exporter == null;
+        if (exporter != null) exporter.begin(config.compilationType);
+
         if (this.cache.isPresent()) {
-            listDepths = new ArrayList<>();
-            nodeSubProblemPerLayer = new ArrayList<>();
-            layersThresholds = new ArrayList<>();
-            pruned = new ArrayList<>();
+            if (listDepths == null) {
+                listDepths = new ArrayList<>();
+                nodeSubProblemPerLayer = new ArrayList<>();
+                layersThresholds = new ArrayList<>();
+                pruned = new ArrayList<>();
+            } else {
+                listDepths.clear();
+                nodeSubProblemPerLayer.clear();
+                layersThresholds.clear();
+                pruned.clear();
+            }
         }
 
+        final SubProblem<T> residual = config.residual;
+        final Node root = createNode(residual.getValue());
+        this.pathToRoot = DecisionPath.of(residual.getPath());
+        this.nextLayer.put(residual.getState(), root);
+    }
+
+    /**
+     * Prepares this diagram for the compilation of another subproblem. The other parameters
+     * of the configuration of the previous compilation are kept, except its exporter whose
+     * export is finished.
+     *
+     * @param residual the subproblem to compile
+     * @param type     the type of compilation (exact, relaxed or restricted)
+     * @param maxWidth the maximum width of the layers
+     * @param bestUB   the value of the best known solution
+     */
+    public void reset(SubProblem<T> residual, CompilationType type, int maxWidth, double bestUB) {
+        config.residual = residual;
+        config.compilationType = type;
+        config.maxWidth = maxWidth;
+        config.bestUB = bestUB;
+        config.exporter = null;
+        reset(config);
     }
 
     /**
@@ -190,6 +294,27 @@ public final class LinkedDecisionDiagram<T> implements DecisionDiagram<T> {
      */
     @Override
     public void compile() {
+        final Profiler profiler = config.profiler;
+        try {
+            if (profiler == null) {
+                compileLayers();
+                return;
+            }
+            profiler.compilationStarted(config.compilationType);
+            try {
+                compileLayers();
+            } finally {
+                profiler.compilationEnded();
+            }
+        } finally {
+            finishExport();
+        }
+    }
+
+    /**
+     * Compiles the layers of the decision diagram, see {@link #compile()}.
+     */
+    private void compileLayers() {
         // Identify the set of variables to be assigned
         final Set<Integer> variables = varSet(config);
 
@@ -197,6 +322,7 @@ public final class LinkedDecisionDiagram<T> implements DecisionDiagram<T> {
         int depthCurrentDD = 0;
         int initialDepth = depthGlobalDD;
 
+        config.variableHeuristic.compilationStarted();
         while (!variables.isEmpty()) {
             Integer nextVar = config.variableHeuristic.nextVariable(variables, nextLayer.keySet().iterator());
 
@@ -209,10 +335,19 @@ public final class LinkedDecisionDiagram<T> implements DecisionDiagram<T> {
             if (cache.isPresent()) pruneFromCache(depthGlobalDD, initialDepth);
 
             this.nextLayer.clear();
+            if (config.profiler != null) config.profiler.layerBuilt(currentLayer.size());
 
             // There is no feasible solution to this subproblem, we can stop the compilation here
             if (currentLayer.isEmpty()) return;
 
+            // Every path goes through this layer: if none of its nodes can improve the incumbent,
+            // neither can the rest of the diagram. The layer is not even reduced.
+            final double bestUB = bestUB();
+            if (cannotImprove(bestUB)) {
+                abort();
+                return;
+            }
+
 
             // Some variables simply can't be assigned
             if (nextVar == null) return;
@@ -234,10 +369,9 @@ public final class LinkedDecisionDiagram<T> implements DecisionDiagram<T> {
             variables.remove(nextVar);
 
             for (NodeSubProblem<T> n : currentLayer) {
-                if (config.exportAsDot || debugLevel == DebugLevel.EXTENDED)
-                    dotStr.append(generateDotStr(n, false));
+                if (exporter != null) exportNode(n, depthCurrentDD, false);
 
-                if (n.lb >= config.bestUB) continue;
+                if (n.lb >= bestUB) continue;
 
                 // Create children nodes from the current node
                 genChildren(n, nextVar);
@@ -271,12 +405,12 @@ public final class LinkedDecisionDiagram<T> implements DecisionDiagram<T> {
             if (best == null || n.value < best.value) best = n;
         }
 
-        if (config.exportAsDot || debugLevel == DebugLevel.EXTENDED) {
+        if (exporter != null) {
             for (Entry<T, Node> entry : nextLayer.entrySet()) {
                 T state = entry.getKey();
                 Node node = entry.getValue();
                 NodeSubProblem<T> subProblem = new NodeSubProblem<>(state, best.value, node);
-                dotStr.append(generateDotStr(subProblem, true));
+                exportNode(subProblem, depthCurrentDD, true);
             }
         }
 
@@ -292,6 +426,44 @@ public final class LinkedDecisionDiagram<T> implements DecisionDiagram<T> {
             checkFlb(config.problem);
     }
 
+    /**
+     * Returns the value of the best known solution, read from the shared incumbent if any.
+     *
+     * @return the bound below which a node must be to be expanded
+     */
+    private double bestUB() {
+        if (config.incumbent == null) return config.bestUB;
+        return Math.min(config.bestUB, config.incumbent.value());
+    }
+
+    /**
+     * Returns whether no node of the current layer can improve the given bound.
+     *
+     * @param bestUB the value of the best known solution
+     * @return {@code true} if the lower bound of every node of the current layer reaches the bound
+     */
+    private boolean cannotImprove(double bestUB) {
+        for (NodeSubProblem<T> n : currentLayer) {
+            if (n.lb < bestUB) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Stops the compilation: the diagram has no solution, and its cutset is discarded
+     * since none of its subproblems can improve the incumbent.
+     */
+    private void abort() {
+        aborted = true;
+        best = null;
+        cutset.clear();
+    }
+
+    @Override
+    public boolean compilationAborted() {
+        return aborted;
+    }
+
     /**
      * Returns whether the decision diagram is exact.
      *
@@ -332,7 +504,6 @@ public final class LinkedDecisionDiagram<T> implements DecisionDiagram<T> {
             Edge eb = best.best;
             while (eb != null) {
                 sol.add(eb.decision);
-                updateBestEdgeColor(eb.hashCode(), "#6fb052");
                 eb = eb.origin == null ? null : eb.origin.best;
             }
             return Optional.of(sol);
@@ -346,7 +517,54 @@ public final class LinkedDecisionDiagram<T> implements DecisionDiagram<T> {
      */
     @Override
     public Iterator<SubProblem<T>> exactCutset() {
-        return new NodeSubProblemsAsSubProblemsIterator<>(cutset.iterator(), pathToRoot);
+        return new NodeSubProblemsAsSubProblemsIterator<>(cutset.iterator(), this::pathTo);
+    }
+
+    /**
+     * Returns an iterator over the nodes in the exact cutset whose lower bound is smaller than the
+     * given bound. The other nodes are discarded before their path is built.
+     *
+     * @param bound the value of the best known solution
+     * @return iterator of the subproblems in the exact cutset that may improve the bound
+     */
+    @Override
+    public Iterator<SubProblem<T>> exactCutset(double bound) {
+        List<NodeSubProblem<T>> kept = new ArrayList<>(cutset.size());
+        for (NodeSubProblem<T> n : cutset) {
+            if (n.lowerBound() < bound) {
+                kept.add(n);
+            }
+        }
+        nbCutsetPruned = cutset.size() - kept.size();
+        return new NodeSubProblemsAsSubProblemsIterator<>(kept.iterator(), this::pathTo);
+    }
+
+    @Override
+    public int nbCutsetPruned() {
+        return nbCutsetPruned;
+    }
+
+    /**
+     * Returns the decisions of the longest path from the root of the problem to the given node.
+     * The path is memoized on the node and on its ancestors, whose paths are prefixes of it.
+     *
+     * @param node a node of this diagram
+     * @return the path to the node, sharing its prefix with the path of its parent
+     */
+    private DecisionPath pathTo(Node node) {
+        ArrayDeque<Node> ancestors = new ArrayDeque<>();
+        Node current = node;
+        while (current != null && current.path == null && current.best != null) {
+            ancestors.push(current);
+            current = current.best.origin;
+        }
+        DecisionPath path = current != null && current.path != null ? current.path : pathToRoot;
+        while (!ancestors.isEmpty()) {
+            Node n = ancestors.pop();
+            path = path.with(n.best.decision);
+            n.path = path;
+        }
+        return path;
     }
 
     /**
@@ -371,17 +589,21 @@ public final class LinkedDecisionDiagram<T> implements DecisionDiagram<T> {
 
     /**
      * Exports the compiled decision diagram in DOT format.
+     * <p>
+     * The diagram is only kept in memory when it is exported without an exporter in the
+     * configuration. When an exporter is configured, the diagram is streamed to it during the
+     * compilation and the returned graph is empty.
+     * </p>
      *
      * @return a string containing the DOT representation of the MDD
      */
     @Override
     public String exportAsDot() {
-        for (String e : edgesDotStr.values()) {
-            dotStr.append(e);
-            dotStr.append("];\n");
+        if (dotBuffer == null) {
+            return "digraph %s{%n}".formatted(config.compilationType.toString().toLowerCase());
         }
-        dotStr.append("}");
-        return dotStr.toString();
+        finishExport();
+        return dotBuffer.toString();
     }
 
     @Override
@@ -445,14 +667,19 @@ public final class LinkedDecisionDiagram<T> implements DecisionDiagram<T> {
     private void pruneFromCache(int depthGlobalDD, int initialDepth) {
         pruned.clear();
         if (depthGlobalDD > initialDepth) {
-            for (NodeSubProblem<T> n : this.currentLayer) {
-                if (cache.get().getLayer(depthGlobalDD).containsKey(n.state)
-                        && cache.get().getThreshold(n.state, depthGlobalDD).isPresent()
-                        && n.node.value >= cache.get().getThreshold(n.state, depthGlobalDD).get().getValue()) {
+            SimpleCache.Layer<T> layer = cache.get().getLayer(depthGlobalDD);
+            final Profiler profiler = config.profiler;
+            // a single pass: removing the pruned nodes one by one would be quadratic in the width
+            currentLayer.removeIf(n -> {
+                long start = profiler == null ? 0 : profiler.start(Operation.CACHE_LOOKUP);
+                Optional<Threshold> threshold = layer.containsKey(n.state) ? layer.get(n.state) : Optional.empty();
+                if (profiler != null) profiler.stop(Operation.CACHE_LOOKUP, start);
+                if (threshold.isPresent() && n.node.value >= threshold.get().getValue()) {
                     pruned.add(n);
+                    return true;
                 }
-            }
-            currentLayer.removeAll(pruned);
+                return false;
+            });
         }
     }
 
@@ -582,7 +809,7 @@ public final class LinkedDecisionDiagram<T> implements DecisionDiagram<T> {
             List<NodeSubProblem<T>> layer = new ArrayList<>(currentLayer);
             currentLayer.clear();
             int frontier = 0;
-            Random random = new Random();
+            Random random = config.random != null ? config.random : new Random();
             for (int k = 0; k < layer.size(); k++) {
                 if (layer.get(k).getValue() == costInSolutionAtDepth(config.solution, depth) || random.nextDouble() < config.probability) {
                     swap(layer, frontier, k);
@@ -834,7 +1061,8 @@ public final class LinkedDecisionDiagram<T> implements DecisionDiagram<T> {
     }
 
     /**
-     * Performs the bottom up traversal of the mdd to compute and update the cache
+     * Performs the bottom up traversal of the mdd to compute and update the cache.
+     * Each node and each edge is visited once.
      */
     private void computeAndUpdateThreshold(SimpleCache<T> simpleCache,
                                            ArrayList<Integer> listDepth,
@@ -842,52 +1070,58 @@ public final class LinkedDecisionDiagram<T> implements DecisionDiagram<T> {
                                            ArrayList<ArrayList<Threshold>> currentCache,
                                            double ub,
                                            CutSetType cutSetType) {
+        // position of each node in its layer, so that the origin of an edge is found in constant time
+        IdentityHashMap<Node, Integer> positions = new IdentityHashMap<>();
         for (int j = listDepth.size() - 1; j >= 0; j--) {
             int depth = listDepth.get(j);
-            for (int i = 0; i < nodePerLayer.get(j).size(); i++) {
-                NodeSubProblem<T> sub = nodePerLayer.get(j).get(i);
-                if (simpleCache.getLayer(depth).containsKey(sub.state)
-                        && simpleCache.getLayer(depth).get(sub.state).isPresent()
-                        && sub.node.value >= simpleCache.getLayer(depth).get(sub.state).get().getValue()) {
-                    double value = simpleCache.getLayer(depth).get(sub.state).get().getValue();
-                    currentCache.get(j).get(i).setValue(value);
+            SimpleCache.Layer<T> cacheLayer = simpleCache.getLayer(depth);
+            ArrayList<NodeSubProblem<T>> layer = nodePerLayer.get(j);
+            ArrayList<Threshold> thresholds = currentCache.get(j);
+            positions.clear();
+            if (j > 0) {
+                ArrayList<NodeSubProblem<T>> parents = nodePerLayer.get(j - 1);
+                for (int k = 0; k < parents.size(); k++) {
+                    positions.put(parents.get(k).node, k);
+                }
+            }
+            for (int i = 0; i < layer.size(); i++) {
+                NodeSubProblem<T> sub = layer.get(i);
+                Threshold threshold = thresholds.get(i);
+                Optional<Threshold> cached = cacheLayer.containsKey(sub.state)
+                        ? cacheLayer.get(sub.state) : Optional.empty();
+                if (cached.isPresent() && sub.node.value >= cached.get().getValue()) {
+                    threshold.setValue(cached.get().getValue());
                 } else {
                     if (sub.lb >= ub) {
                         double rlb = saturatedDiff(sub.lb, sub.node.value);
                         double value = saturatedDiff(ub, rlb);
-                        currentCache.get(j).get(i).setValue(value);
+                        threshold.setValue(value);
                     } else if (sub.node.isInExactCutSet) {
                         if (sub.node.suffix != null && saturatedAdd(sub.node.value, sub.node.suffix) >= ub) {
-                            double value = Math.min(currentCache.get(j).get(i).getValue(), saturatedDiff(ub, sub.node.suffix));
-                            currentCache.get(j).get(i).setValue(value);
+                            double value = Math.min(threshold.getValue(), saturatedDiff(ub, sub.node.suffix));
+                            threshold.setValue(value);
                         } else {
-                            currentCache.get(j).get(i).setValue(sub.node.value);
+                            threshold.setValue(sub.node.value);
                         }
                     }
                     if (sub.node.type == NodeType.EXACT) {
                         if (sub.node.isAboveExactCutSet && !sub.node.isInExactCutSet) {
-                            currentCache.get(j).get(i).setExplored(true);
+                            threshold.setExplored(true);
                         }
                         if (cutSetType == CutSetType.LastExactLayer
-                                && sub.node.value > currentCache.get(j).get(i).getValue()
+                                && sub.node.value > threshold.getValue()
                                 && sub.node.isInExactCutSet)
-                            currentCache.get(j).get(i).setExplored(true);
-                        if (currentCache.get(j).get(i).isExplored()) {
-                            simpleCache.getLayer(depth).update(sub.state, currentCache.get(j).get(i));
+                            threshold.setExplored(true);
+                        if (threshold.isExplored()) {
+                            cacheLayer.update(sub.state, threshold);
                         }
                     }
                 }
                 for (Edge e : sub.node.edges) {
-                    Node origin = e.origin;
-                    int index = -1;
-                    for (int k = 0; k < nodePerLayer.get(j - 1).size(); k++) {
-                        if (nodePerLayer.get(j - 1).get(k).node.equals(origin)) {
-                            index = k;
-                            break;
-                        }
-                    }
-                    double value = Math.max(currentCache.get(j - 1).get(index).getValue(), saturatedDiff(currentCache.get(j).get(i).getValue(), e.weight));
-                    currentCache.get(j - 1).get(index).setValue(value);
+                    int index = positions.get(e.origin);
+                    Threshold parent = currentCache.get(j - 1).get(index);
+                    double value = Math.max(parent.getValue(), saturatedDiff(threshold.getValue(), e.weight));
+                    parent.setValue(value);
                 }
             }
         }
@@ -897,59 +1131,57 @@ public final class LinkedDecisionDiagram<T> implements DecisionDiagram<T> {
     // ----- DEBUG AND EXPORT STUFF -----
 
     /**
-     * Given a node, returns the .dot formatted string containing the node and the edges leading to this node.
+     * Exports a node and the edges leading to it.
      *
-     * @param node      The node to add to the .dot string
+     * @param node      The node to export.
+     * @param depth     The depth of the node from the root of the diagram.
      * @param lastLayer Whether the given node is in the last layer. Used to give it a dedicated format.
-     * @return A .dot formatted string containing the node and the edges leading to this node.
      */
-    private StringBuilder generateDotStr(NodeSubProblem<T> node, boolean lastLayer) {
-        DecimalFormat df = new DecimalFormat("#.##########");
-
+    private void exportNode(NodeSubProblem<T> node, int depth, boolean lastLayer) {
         if (lastLayer) {
             node.node.flb = config.flb.fastLowerBound(node.state, new HashSet<>());
         }
-        String nodeStr = "\"%s\nh: %s - g: %s\"".formatted(
-                node.state,
-                df.format(node.node.flb),
-                df.format(node.node.value)
-        );
-
-        StringBuilder sb = new StringBuilder();
-        sb.append(node.node.hashCode());
-        sb.append(" [label=").append(nodeStr);
-        if (node.node.type == NodeType.RELAXED) {
-            sb.append(", shape=box, tooltip=\"Relaxed node\"");
-        } else {
-            sb.append(", style=rounded, shape=rectangle, tooltip=\"Exact node\"");
-        }
-        if (lastLayer) {
-            sb.append(", style=\"filled, rounded\", shape=rectangle, color=black, fontcolor=white");
-            sb.append(", tooltip=\"Terminal node\"");
-        }
-        sb.append("];\n");
-
+        int id = node.node.hashCode();
+        exporter.node(id, depth, node.state, node.node.flb, node.node.value,
+                node.node.type == NodeType.RELAXED, lastLayer);
         for (Edge e : node.node.edges) {
-            String edgeStr = e.origin.hashCode() + " -> " + node.node.hashCode() +
-                    " [label=" + df.format(e.weight) +
-                    ", tooltip=\"" + e.decision.toString() + "\"";
-            edgesDotStr.put(e.hashCode(), edgeStr);
+            exporter.edge(e.origin.hashCode(), id, e.decision, e.weight);
         }
-        return sb;
     }
 
     /**
-     * Given the hashcode of an edge, updates its color. Used when the best solution is constructed.
+     * Given an edge, highlights it in the exported diagram. The highlighted edges are exported at the
+     * end of the compilation, when the paths they belong to are known.
      *
-     * @param edgeHash The hashcode of the edge to color.
-     * @param color    HTML string for the color of the edge
-     */
-    private void updateBestEdgeColor(int edgeHash, String color) {
-        String edgeStr = edgesDotStr.get(edgeHash);
-        if (edgeStr != null) {
-            edgeStr += ", color=\"" + color + "\", fontcolor=\"" + color + "\"";
-            edgesDotStr.replace(edgeHash, edgeStr);
+     * @param edge        The edge to highlight.
+     * @param destination The node the edge leads to.
+     * @param color       The color of the highlight, as a 0xRRGGBB integer.
+     */
+    private void highlight(Edge edge, Node destination, int color) {
+        if (highlighted == null || exportEnded) return;
+        highlighted.put(edge, new Highlight(edge, destination, color));
+    }
+
+    /**
+     * Highlights the best path of the diagram, exports the highlighted edges and ends the export.
+     * Does nothing if the export is already finished.
+     */
+    private void finishExport() {
+        if (exportEnded) return;
+        Node destination = best;
+        Edge eb = best == null ? null : best.best;
+        while (eb != null) {
+            highlight(eb, destination, BEST_PATH_COLOR);
+            destination = eb.origin;
+            eb = destination.best;
+        }
+        exportEnded = true;
+        for (Highlight h : highlighted.values()) {
+            exporter.highlight(h.edge.origin.hashCode(), h.destination.hashCode(), h.edge.decision,
+                    h.edge.weight, h.color);
         }
+        highlighted = null;
+        exporter.end();
     }
 
 
@@ -1023,8 +1255,9 @@ public final class LinkedDecisionDiagram<T> implements DecisionDiagram<T> {
             Edge e = bestEdgeToSuccessor.get(curr);
             if (e == null) break;
             path.add(e.decision);
-            if (debugLevel == DebugLevel.EXTENDED) updateBestEdgeColor(e.hashCode(), "#ff0000");
-            curr = successors.get(curr);
+            Node next = successors.get(curr);
+            if (debugLevel == DebugLevel.EXTENDED) highlight(e, next, DEBUG_PATH_COLOR);
+            curr = next;
         }
         return path;
     }
@@ -1038,13 +1271,15 @@ public final class LinkedDecisionDiagram<T> implements DecisionDiagram<T> {
     private LinkedList<PathInfo> constructPathFromRoot(Node node, double lengthToEnd) {
         LinkedList<PathInfo> path = new LinkedList<>();
         Edge eb = node.best;
+        Node destination = node;
         double currentLength = lengthToEnd;
         while (eb != null) {
             currentLength += eb.weight;
             PathInfo info = new PathInfo(eb.decision, eb.origin.flb, currentLength);
             path.addFirst(info);
-            if (debugLevel == DebugLevel.EXTENDED) updateBestEdgeColor(eb.hashCode(), "#ff0000");
-            eb = eb.origin.best;
+            if (debugLevel == DebugLevel.EXTENDED) highlight(eb, destination, DEBUG_PATH_COLOR);
+            destination = eb.origin;
+            eb = destination.best;
 
         }
         return path;
@@ -1203,7 +1438,7 @@ public final class LinkedDecisionDiagram<T> implements DecisionDiagram<T> {
             if (!failureMsg.isEmpty()) {
                 failureMsg += "\n";
                 if (debugLevel == DebugLevel.EXTENDED) {
-                    dotStr.append(generateDotStr(relaxedNode, false));
+                    exportNode(relaxedNode, relaxationDepth - config.residual.getDepth(), false);
                     failureMsg = finalizeErrorMsgAndExport(failureMsg);
                 }
                 throw new RuntimeException(failureMsg);
@@ -1212,6 +1447,11 @@ public final class LinkedDecisionDiagram<T> implements DecisionDiagram<T> {
     }
 
     private String finalizeErrorMsgAndExport(String failureMsg) {
+        if (dotBuffer == null) {
+            // The diagram is streamed to the exporter of the configuration
+            finishExport();
+            return failureMsg + "MDD saved by the exporter of the compilation\n";
+        }
         String dot = exportAsDot();
         Path path = Path.of("output", "failed.dot");
         try {
@@ -1304,6 +1544,16 @@ public final class LinkedDecisionDiagram<T> implements DecisionDiagram<T> {
     private record PathInfo(Decision decision, double flbOfOrigin, double lengthToEnd) {
     }
 
+    /**
+     * An edge highlighted in the exported diagram.
+     *
+     * @param edge        the highlighted edge
+     * @param destination the node the edge leads to
+     * @param color       the color of the highlight
+     */
+    private record Highlight(Edge edge, Node destination, int color) {
+    }
+
 
 }
 
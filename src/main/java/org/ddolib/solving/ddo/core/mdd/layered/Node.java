@@ -1,5 +1,7 @@
 package org.ddolib.solving.ddo.core.mdd.layered;
 
+import org.ddolib.solving.ddo.core.DecisionPath;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -33,6 +35,9 @@ final public class Node {
     /** Overapproximation of the shortest path from this node to a terminal node. */
     public double flb = Double.NEGATIVE_INFINITY;
 
+    /** The decisions of the longest path to this node, built lazily when the node leaves the diagram. */
+    public DecisionPath path = null;
+
     // Fields used if working with a cache
 
     /** Flag indicating if the node is in the exact cutset. */
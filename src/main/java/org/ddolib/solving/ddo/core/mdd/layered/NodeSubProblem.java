@@ -1,6 +1,7 @@
 package org.ddolib.solving.ddo.core.mdd.layered;
 
 import org.ddolib.solving.ddo.core.Decision;
+import org.ddolib.solving.ddo.core.DecisionPath;
 import org.ddolib.solving.ddo.core.SubProblem;
 
 import java.text.DecimalFormat;
@@ -70,13 +71,33 @@ public final class NodeSubProblem<T> {
             e = e.origin == null ? null : e.origin.best;
         }
 
+        return new SubProblem<>(state, node.value, lowerBound(), path);
+    }
+
+    /**
+     * Converts this node-state association into an actual {@link SubProblem} whose path is the
+     * given one, without copying it.
+     *
+     * @param path the decisions of the longest path from the root of the problem to this node
+     * @return a {@link SubProblem} representing this node-state association
+     */
+    public SubProblem<T> toSubProblem(final DecisionPath path) {
+        return new SubProblem<>(state, node.value, lowerBound(), path);
+    }
+
+    /**
+     * Tightens the lower bound of this node with the length of its longest suffix, if known.
+     * This is the lower bound of the subproblem this node is converted into.
+     *
+     * @return the lower bound associated with this node
+     */
+    public double lowerBound() {
         double locb = Double.POSITIVE_INFINITY;
         if (node.suffix != null) {
             locb = saturatedAdd(node.value, node.suffix);
         }
         lb = Math.max(lb, locb);
-
-        return new SubProblem<>(state, node.value, lb, path);
+        return lb;
     }
 
     @Override
@@ -1,16 +1,17 @@
 package org.ddolib.solving.ddo.core.mdd.layered;
 
-import org.ddolib.solving.ddo.core.Decision;
+import org.ddolib.solving.ddo.core.DecisionPath;
 import org.ddolib.solving.ddo.core.SubProblem;
 
 import java.util.Iterator;
-import java.util.Set;
+import java.util.function.Function;
 
 /**
  * An iterator that converts inner {@link NodeSubProblem} instances into full {@link SubProblem} objects.
  * <p>
  * This iterator decorates another iterator over {@code NodeSubProblem} objects and, for each element,
- * applies the path of decisions from the root to create a complete {@code SubProblem}.
+ * builds the path of decisions from the root to create a complete {@code SubProblem}. The paths are
+ * only built when the subproblems are requested.
  * </p>
  *
  * @param <T> the type of state contained in the subproblems
@@ -19,18 +20,19 @@ final class NodeSubProblemsAsSubProblemsIterator<T> implements Iterator<SubProbl
     /** The underlying iterator over node subproblems. */
     private final Iterator<NodeSubProblem<T>> it;
 
-    /** The set of decisions that form the path from the root to the node. */
-    private final Set<Decision> ptr;
+    /** The function giving the path of decisions from the root to a node. */
+    private final Function<Node, DecisionPath> paths;
 
     /**
      * Constructs a new iterator that converts {@link NodeSubProblem} instances into {@link SubProblem}.
      *
-     * @param it  the iterator over {@code NodeSubProblem} objects
-     * @param ptr the path of decisions from the root to each node
+     * @param it    the iterator over {@code NodeSubProblem} objects
+     * @param paths the function giving the path of decisions from the root to each node
      */
-    public NodeSubProblemsAsSubProblemsIterator(final Iterator<NodeSubProblem<T>> it, final Set<Decision> ptr) {
+    public NodeSubProblemsAsSubProblemsIterator(final Iterator<NodeSubProblem<T>> it,
+                                                final Function<Node, DecisionPath> paths) {
         this.it = it;
-        this.ptr = ptr;
+        this.paths = paths;
     }
     /**
      * Returns {@code true} if the underlying iterator has more elements.
@@ -42,12 +44,13 @@ final class NodeSubProblemsAsSubProblemsIterator<T> implements Iterator<SubProbl
         return it.hasNext();
     }
     /**
-     * Returns the next {@link SubProblem} by converting the next {@link NodeSubProblem} using the path to root.
+     * Returns the next {@link SubProblem} by converting the next {@link NodeSubProblem} using its path.
      *
      * @return the next full {@code SubProblem}
      */
     @Override
     public SubProblem<T> next() {
-        return it.next().toSubProblem(ptr);
+        NodeSubProblem<T> n = it.next();
+        return n.toSubProblem(paths.apply(n.node));
     }
-}
\ No newline at end of file
+}
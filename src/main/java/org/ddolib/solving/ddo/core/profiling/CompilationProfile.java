@@ -0,0 +1,98 @@
+package org.ddolib.solving.ddo.core.profiling;
+
+import org.ddolib.solving.ddo.core.compilation.CompilationType;
+
+/**
+ * The measures recorded by a {@link Profiler} during a single compilation.
+ */
+public final class CompilationProfile {
+    private final CompilationType type;
+    private final long nanos;
+    private final int nbLayers;
+    private final int maxWidth;
+    private final long totalWidth;
+    private final long[] calls;
+    private final double[] estimatedNanos;
+
+    CompilationProfile(CompilationType type, long nanos, int nbLayers, int maxWidth, long totalWidth,
+                       long[] calls, double[] estimatedNanos) {
+        this.type = type;
+        this.nanos = nanos;
+        this.nbLayers = nbLayers;
+        this.maxWidth = maxWidth;
+        this.totalWidth = totalWidth;
+        this.calls = calls;
+        this.estimatedNanos = estimatedNanos;
+    }
+
+    /**
+     * Returns the type of the compilation.
+     *
+     * @return the type of the compilation
+     */
+    public CompilationType type() {
+        return type;
+    }
+
+    /**
+     * Returns the duration of the compilation.
+     *
+     * @return the duration of the compilation in nanoseconds
+     */
+    public long nanos() {
+        return nanos;
+    }
+
+    /**
+     * Returns the number of layers built by the compilation.
+     *
+     * @return the number of layers
+     */
+    public int nbLayers() {
+        return nbLayers;
+    }
+
+    /**
+     * Returns the width of the largest layer, before its reduction.
+     *
+     * @return the maximum width of the layers
+     */
+    public int maxWidth() {
+        return maxWidth;
+    }
+
+    /**
+     * Returns the mean width of the layers, before their reduction.
+     *
+     * @return the mean width of the layers, {@code 0} if no layer was built
+     */
+    public double meanWidth() {
+        return nbLayers == 0 ? 0.0 : (double) totalWidth / nbLayers;
+    }
+
+    /**
+     * Returns the number of calls to an operation during the compilation.
+     *
+     * @param op an operation
+     * @return the number of calls to the operation
+     */
+    public long calls(Operation op) {
+        return calls[op.ordinal()];
+    }
+
+    /**
+     * Returns the estimated time spent in an operation during the compilation.
+     *
+     * @param op an operation
+     * @return the estimated time in nanoseconds
+     */
+    public double estimatedNanos(Operation op) {
+        return estimatedNanos[op.ordinal()];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s compilation: %.3f ms - layers: %d - max width: %d - mean width: %.1f",
+                type, nanos / 1e6, nbLayers, maxWidth, meanWidth());
+    }
+}
@@ -0,0 +1,23 @@
+package org.ddolib.solving.ddo.core.profiling;
+
+/**
+ * The operations of the compilation of a decision diagram whose calls are recorded by a {@link Profiler}.
+ */
+public enum Operation {
+    /** {@link org.ddolib.modeling.layered.Problem#transition} */
+    TRANSITION,
+    /** {@link org.ddolib.modeling.layered.Problem#transitionCost} */
+    TRANSITION_COST,
+    /** {@link org.ddolib.modeling.layered.FastLowerBound#fastLowerBound} */
+    FAST_LOWER_BOUND,
+    /** {@link org.ddolib.modeling.layered.Relaxation#mergeStates} */
+    MERGE_STATES,
+    /** {@link org.ddolib.modeling.layered.Relaxation#relaxEdge} */
+    RELAX_EDGE,
+    /** {@link org.ddolib.solving.ddo.core.heuristics.cluster.layered.ReductionStrategy#defineClusters} */
+    DEFINE_CLUSTERS,
+    /** {@link org.ddolib.common.dominance.DominanceChecker#updateDominance} */
+    DOMINANCE,
+    /** Lookup of the threshold of a node in the {@link org.ddolib.solving.ddo.core.cache.SimpleCache} */
+    CACHE_LOOKUP,
+}
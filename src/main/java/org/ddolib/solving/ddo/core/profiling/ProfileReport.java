@@ -0,0 +1,131 @@
+package org.ddolib.solving.ddo.core.profiling;
+
+import org.ddolib.solving.ddo.core.compilation.CompilationType;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A snapshot of the measures recorded by a {@link Profiler} during a run.
+ * <p>
+ * The times of the operations are estimated from their timed calls, see {@link Profiler}.
+ * </p>
+ */
+public final class ProfileReport {
+    private final long[] calls;
+    private final double[] estimatedNanos;
+    private final long[] compilations;
+    private final long[] compilationNanos;
+    private final long nbLayers;
+    private final int maxWidth;
+    private final long totalWidth;
+    private final List<CompilationProfile> lastCompilations;
+
+    ProfileReport(long[] calls, double[] estimatedNanos, long[] compilations, long[] compilationNanos,
+                  long nbLayers, int maxWidth, long totalWidth, List<CompilationProfile> lastCompilations) {
+        this.calls = calls;
+        this.estimatedNanos = estimatedNanos;
+        this.compilations = compilations;
+        this.compilationNanos = compilationNanos;
+        this.nbLayers = nbLayers;
+        this.maxWidth = maxWidth;
+        this.totalWidth = totalWidth;
+        this.lastCompilations = Collections.unmodifiableList(lastCompilations);
+    }
+
+    /**
+     * Returns the number of calls to an operation during the run.
+     *
+     * @param op an operation
+     * @return the number of calls to the operation
+     */
+    public long calls(Operation op) {
+        return calls[op.ordinal()];
+    }
+
+    /**
+     * Returns the estimated time spent in an operation during the run.
+     *
+     * @param op an operation
+     * @return the estimated time in nanoseconds
+     */
+    public double estimatedNanos(Operation op) {
+        return estimatedNanos[op.ordinal()];
+    }
+
+    /**
+     * Returns the number of compilations of a given type during the run.
+     *
+     * @param type a type of compilation
+     * @return the number of compilations of this type
+     */
+    public long compilations(CompilationType type) {
+        return compilations[type.ordinal()];
+    }
+
+    /**
+     * Returns the total time of the compilations of a given type during the run.
+     *
+     * @param type a type of compilation
+     * @return the total time of the compilations of this type in nanoseconds
+     */
+    public long compilationNanos(CompilationType type) {
+        return compilationNanos[type.ordinal()];
+    }
+
+    /**
+     * Returns the number of layers built during the run.
+     *
+     * @return the number of layers
+     */
+    public long nbLayers() {
+        return nbLayers;
+    }
+
+    /**
+     * Returns the width of the largest layer built during the run, before its reduction.
+     *
+     * @return the maximum width of the layers
+     */
+    public int maxWidth() {
+        return maxWidth;
+    }
+
+    /**
+     * Returns the mean width of the layers built during the run, before their reduction.
+     *
+     * @return the mean width of the layers, {@code 0} if no layer was built
+     */
+    public double meanWidth() {
+        return nbLayers == 0 ? 0.0 : (double) totalWidth / nbLayers;
+    }
+
+    /**
+     * Returns the profiles of the last compilations of the run, from the oldest to the most recent.
+     *
+     * @return the profiles of the last compilations
+     */
+    public List<CompilationProfile> lastCompilations() {
+        return lastCompilations;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-18s %14s %14s %12s%n", "operation", "calls", "time (ms)", "ns/call"));
+        for (Operation op : Operation.values()) {
+            long n = calls(op);
+            double ns = estimatedNanos(op);
+            sb.append(String.format("%-18s %14d %14.3f %12.1f%n", op, n, ns / 1e6, n == 0 ? 0.0 : ns / n));
+        }
+        for (CompilationType type : CompilationType.values()) {
+            if (compilations(type) > 0) {
+                sb.append(String.format("%s compilations: %d - %.3f ms%n",
+                        type, compilations(type), compilationNanos(type) / 1e6));
+            }
+        }
+        sb.append(String.format("layers: %d - max width: %d - mean width: %.1f",
+                nbLayers, maxWidth, meanWidth()));
+        return sb.toString();
+    }
+}
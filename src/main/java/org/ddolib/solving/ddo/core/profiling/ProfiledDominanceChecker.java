@@ -0,0 +1,33 @@
+package org.ddolib.solving.ddo.core.profiling;
+
+import org.ddolib.common.dominance.DominanceChecker;
+
+/**
+ * Dominance checker recording its checks in a {@link Profiler}.
+ *
+ * @param <T> the type of states
+ */
+final class ProfiledDominanceChecker<T> extends DominanceChecker<T> {
+    private final DominanceChecker<T> delegate;
+    private final Profiler profiler;
+
+    ProfiledDominanceChecker(DominanceChecker<T> delegate, Profiler profiler) {
+        // the dominance relation is only used by the decorated checker
+        super(null);
+        this.delegate = delegate;
+        this.profiler = profiler;
+    }
+
+    @Override
+    public boolean updateDominance(T state, int depth, double objValue) {
+        long start = profiler.start(Operation.DOMINANCE);
+        boolean dominated = delegate.updateDominance(state, depth, objValue);
+        profiler.stop(Operation.DOMINANCE, start);
+        return dominated;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+}
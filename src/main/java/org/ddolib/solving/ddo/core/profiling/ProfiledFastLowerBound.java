@@ -0,0 +1,28 @@
+package org.ddolib.solving.ddo.core.profiling;
+
+import org.ddolib.modeling.layered.FastLowerBound;
+
+import java.util.Set;
+
+/**
+ * Fast lower bound recording its evaluations in a {@link Profiler}.
+ *
+ * @param <T> the type of states
+ */
+final class ProfiledFastLowerBound<T> implements FastLowerBound<T> {
+    private final FastLowerBound<T> delegate;
+    private final Profiler profiler;
+
+    ProfiledFastLowerBound(FastLowerBound<T> delegate, Profiler profiler) {
+        this.delegate = delegate;
+        this.profiler = profiler;
+    }
+
+    @Override
+    public double fastLowerBound(T state, Set<Integer> variables) {
+        long start = profiler.start(Operation.FAST_LOWER_BOUND);
+        double lb = delegate.fastLowerBound(state, variables);
+        profiler.stop(Operation.FAST_LOWER_BOUND, start);
+        return lb;
+    }
+}
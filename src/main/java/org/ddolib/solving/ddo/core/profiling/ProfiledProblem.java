@@ -0,0 +1,74 @@
+package org.ddolib.solving.ddo.core.profiling;
+
+import org.ddolib.modeling.InvalidSolutionException;
+import org.ddolib.modeling.layered.Problem;
+import org.ddolib.solving.ddo.core.Decision;
+
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * Problem recording its transitions in a {@link Profiler}.
+ *
+ * @param <T> the type of states
+ */
+final class ProfiledProblem<T> implements Problem<T> {
+    private final Problem<T> delegate;
+    private final Profiler profiler;
+
+    ProfiledProblem(Problem<T> delegate, Profiler profiler) {
+        this.delegate = delegate;
+        this.profiler = profiler;
+    }
+
+    @Override
+    public int nbVars() {
+        return delegate.nbVars();
+    }
+
+    @Override
+    public T initialState() {
+        return delegate.initialState();
+    }
+
+    @Override
+    public double initialValue() {
+        return delegate.initialValue();
+    }
+
+    @Override
+    public Iterator<Integer> domain(T state, int var) {
+        return delegate.domain(state, var);
+    }
+
+    @Override
+    public T transition(T state, Decision decision) {
+        long start = profiler.start(Operation.TRANSITION);
+        T next = delegate.transition(state, decision);
+        profiler.stop(Operation.TRANSITION, start);
+        return next;
+    }
+
+    @Override
+    public double transitionCost(T state, Decision decision) {
+        long start = profiler.start(Operation.TRANSITION_COST);
+        double cost = delegate.transitionCost(state, decision);
+        profiler.stop(Operation.TRANSITION_COST, start);
+        return cost;
+    }
+
+    @Override
+    public Optional<Double> optimalValue() {
+        return delegate.optimalValue();
+    }
+
+    @Override
+    public double evaluate(int[] solution) throws InvalidSolutionException {
+        return delegate.evaluate(solution);
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
@@ -0,0 +1,29 @@
+package org.ddolib.solving.ddo.core.profiling;
+
+import org.ddolib.solving.ddo.core.heuristics.cluster.layered.ReductionStrategy;
+import org.ddolib.solving.ddo.core.mdd.layered.NodeSubProblem;
+
+import java.util.List;
+
+/**
+ * Reduction strategy recording its clusterings in a {@link Profiler}.
+ *
+ * @param <T> the type of states
+ */
+final class ProfiledReductionStrategy<T> implements ReductionStrategy<T> {
+    private final ReductionStrategy<T> delegate;
+    private final Profiler profiler;
+
+    ProfiledReductionStrategy(ReductionStrategy<T> delegate, Profiler profiler) {
+        this.delegate = delegate;
+        this.profiler = profiler;
+    }
+
+    @Override
+    public List<NodeSubProblem<T>>[] defineClusters(List<NodeSubProblem<T>> layer, int maxWidth) {
+        long start = profiler.start(Operation.DEFINE_CLUSTERS);
+        List<NodeSubProblem<T>>[] clusters = delegate.defineClusters(layer, maxWidth);
+        profiler.stop(Operation.DEFINE_CLUSTERS, start);
+        return clusters;
+    }
+}
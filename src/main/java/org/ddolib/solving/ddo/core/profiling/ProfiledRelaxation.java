@@ -0,0 +1,37 @@
+package org.ddolib.solving.ddo.core.profiling;
+
+import org.ddolib.modeling.layered.Relaxation;
+import org.ddolib.solving.ddo.core.Decision;
+
+import java.util.Iterator;
+
+/**
+ * Relaxation recording its merges and relaxed edges in a {@link Profiler}.
+ *
+ * @param <T> the type of states
+ */
+final class ProfiledRelaxation<T> implements Relaxation<T> {
+    private final Relaxation<T> delegate;
+    private final Profiler profiler;
+
+    ProfiledRelaxation(Relaxation<T> delegate, Profiler profiler) {
+        this.delegate = delegate;
+        this.profiler = profiler;
+    }
+
+    @Override
+    public T mergeStates(Iterator<T> states) {
+        long start = profiler.start(Operation.MERGE_STATES);
+        T merged = delegate.mergeStates(states);
+        profiler.stop(Operation.MERGE_STATES, start);
+        return merged;
+    }
+
+    @Override
+    public double relaxEdge(T from, T to, T merged, Decision d, double cost) {
+        long start = profiler.start(Operation.RELAX_EDGE);
+        double relaxed = delegate.relaxEdge(from, to, merged, d, cost);
+        profiler.stop(Operation.RELAX_EDGE, start);
+        return relaxed;
+    }
+}
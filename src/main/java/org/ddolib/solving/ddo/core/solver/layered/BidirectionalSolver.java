@@ -0,0 +1,372 @@
+package org.ddolib.solving.ddo.core.solver.layered;
+
+import org.ddolib.common.solver.layered.Solution;
+import org.ddolib.common.solver.layered.Solver;
+import org.ddolib.common.solver.stat.DdoStats;
+import org.ddolib.common.solver.stat.SearchStatistics;
+import org.ddolib.common.solver.stat.SearchStatus;
+import org.ddolib.modeling.layered.BidirectionalModel;
+import org.ddolib.modeling.layered.FastLowerBound;
+import org.ddolib.modeling.layered.MemoizedFastLowerBound;
+import org.ddolib.modeling.layered.Problem;
+import org.ddolib.solving.ddo.core.Decision;
+import org.ddolib.util.verbosity.VerbosityLevel;
+
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+import static org.ddolib.util.MathUtil.saturatedAdd;
+
+/**
+ * Exact solver exploring a {@link BidirectionalModel} from both ends of its variable order.
+ * <p>
+ * The forward problem is explored from its root on the calling thread, assigning the variables
+ * {@code 0, ..., m - 1} where {@code m} is the {@link BidirectionalModel#meetDepth() meeting depth},
+ * while the backward problem is concurrently explored from its own root on a background thread,
+ * assigning the variables {@code n - 1, ..., m}. Each search is an exact layered dynamic program:
+ * the states of a layer are merged when they are equal, keeping the shortest path, and only the
+ * current layer is kept in memory along with a compact trail of back-pointers to rebuild the paths.
+ * Once both searches reached the meeting layer, the forward and backward states with the same key
+ * are joined and the best combination is the optimal solution.
+ * </p>
+ *
+ * <p>
+ * When the exact diagram of a problem is widest in its middle layers, both searches only build the
+ * narrower half of the diagram on their side, and the two halves are built in parallel.
+ * </p>
+ *
+ * <p>
+ * Unlike the {@link ExactSolver}, this solver follows the fixed variable order imposed by the meeting
+ * scheme and does not use the dominance checker of the model: a dominated state could be the only one
+ * of its key to meet its counterpart. States are still pruned with the fast lower bounds of both
+ * directions and the {@link BidirectionalModel#upperBound() upper bound} of the model.
+ * </p>
+ *
+ * @param <T> the type of the forward states
+ * @param <B> the type of the backward states
+ */
+public final class BidirectionalSolver<T, B> implements Solver {
+
+    /**
+     * The model to solve.
+     */
+    private final BidirectionalModel<T, B> model;
+    /**
+     * Verbosity level controlling output during the solving process.
+     */
+    private final VerbosityLevel verbosityLevel;
+    /**
+     * Optional set containing the best solution found so far.
+     */
+    private Optional<Set<Decision>> bestSol = Optional.empty();
+    /**
+     * Optional value of the best solution found so far.
+     */
+    private Optional<Double> bestValue = Optional.empty();
+    /**
+     * Whether the search has been interrupted by its limit.
+     */
+    private volatile boolean stopped = false;
+
+    /**
+     * Creates a new bidirectional solver.
+     *
+     * @param model the bidirectional model to solve
+     */
+    public BidirectionalSolver(BidirectionalModel<T, B> model) {
+        this.model = model;
+        this.verbosityLevel = model.verbosityLevel();
+    }
+
+    /**
+     * Minimizes the problem by exploring it from both ends and joining both searches at the
+     * meeting layer.
+     *
+     * @param limit      a predicate checked between two layers of the forward search; when it
+     *                   holds, both searches are stopped and no solution is returned
+     * @param onSolution a callback invoked when the optimal solution is found
+     * @return the optimal solution and the statistics of the search
+     */
+    @Override
+    public Solution minimize(Predicate<SearchStatistics> limit,
+                             BiConsumer<int[], SearchStatistics> onSolution) {
+        DdoStats statistics = new DdoStats(System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        Problem<T> problem = model.problem();
+        int n = problem.nbVars();
+        int meet = Math.max(0, Math.min(n, model.meetDepth()));
+        double ub = model.upperBound();
+
+        int[] forwardVars = new int[meet];
+        for (int i = 0; i < meet; i++) {
+            forwardVars[i] = i;
+        }
+        int[] backwardVars = new int[n - meet];
+        for (int i = 0; i < n - meet; i++) {
+            backwardVars[i] = n - 1 - i;
+        }
+
+        HalfSearch<T> forward = new HalfSearch<>(problem, MemoizedFastLowerBound.of(model), forwardVars, ub);
+        HalfSearch<B> backward = new HalfSearch<>(model.backwardProblem(), model.backwardLowerBound(), backwardVars, ub);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "bidirectional-backward");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final DdoStats startStats = statistics;
+        try {
+            Future<?> backwardRun = executor.submit(() -> backward.run(() -> stopped));
+            forward.run(() -> {
+                if (!stopped && limit.test(startStats.updateTime(System.currentTimeMillis()))) {
+                    stopped = true;
+                }
+                return stopped;
+            });
+            if (forward.isEmpty()) {
+                // no need to finish the backward search, the problem is infeasible
+                stopped = true;
+            }
+            backwardRun.get();
+        } catch (ExecutionException e) {
+            stopped = true;
+            throw new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            stopped = true;
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } finally {
+            executor.shutdown();
+        }
+
+        statistics = statistics.addNodes(forward.nodesCount + backward.nodesCount)
+                .updateMaxDepth(n)
+                .updateTime(System.currentTimeMillis())
+                .incrementNbIter();
+
+        if (!forward.isEmpty() && !backward.isEmpty() && stopped) {
+            return new Solution(Optional.empty(), statistics.updateStatus(SearchStatus.UNKNOWN));
+        }
+
+        join(forward, backward);
+
+        if (bestValue.isPresent()) {
+            statistics = statistics.updateIncumbent(bestValue.get(), 0.0).updateStatus(SearchStatus.OPTIMAL);
+            if (verbosityLevel != VerbosityLevel.SILENT) {
+                DecimalFormat df = new DecimalFormat("#.##########");
+                System.out.printf("best solution found: %s\n", df.format(bestValue.get()));
+            }
+        } else {
+            statistics = statistics.updateStatus(SearchStatus.UNSAT);
+        }
+
+        final SearchStatistics finalStats = statistics;
+        bestSol.ifPresent(sol -> onSolution.accept(constructSolution(sol), finalStats));
+        return new Solution(bestSol, finalStats);
+    }
+
+    /**
+     * Joins the states of the meeting layer reached by both searches and keeps the best solution.
+     *
+     * @param forward  the completed forward search
+     * @param backward the completed backward search
+     */
+    private void join(HalfSearch<T> forward, HalfSearch<B> backward) {
+        Map<Object, List<Map.Entry<B, HalfSearch.Slot>>> byKey = new HashMap<>();
+        for (Map.Entry<B, HalfSearch.Slot> e : backward.layer.entrySet()) {
+            byKey.computeIfAbsent(model.backwardKey(e.getKey()), k -> new ArrayList<>(1)).add(e);
+        }
+
+        double best = Double.POSITIVE_INFINITY;
+        HalfSearch.Slot bestForward = null;
+        HalfSearch.Slot bestBackward = null;
+        for (Map.Entry<T, HalfSearch.Slot> f : forward.layer.entrySet()) {
+            List<Map.Entry<B, HalfSearch.Slot>> candidates = byKey.get(model.forwardKey(f.getKey()));
+            if (candidates == null) continue;
+            for (Map.Entry<B, HalfSearch.Slot> b : candidates) {
+                double value = saturatedAdd(saturatedAdd(f.getValue().value, b.getValue().value),
+                        model.joinCost(f.getKey(), b.getKey()));
+                if (value < best) {
+                    best = value;
+                    bestForward = f.getValue();
+                    bestBackward = b.getValue();
+                }
+            }
+        }
+
+        if (bestForward != null && best < model.upperBound()) {
+            Set<Decision> sol = new HashSet<>();
+            forward.path(bestForward, sol);
+            backward.path(bestBackward, sol);
+            bestSol = Optional.of(sol);
+            bestValue = Optional.of(best);
+        }
+    }
+
+    @Override
+    public Optional<Double> bestValue() {
+        return bestValue;
+    }
+
+    @Override
+    public Optional<Set<Decision>> bestSolution() {
+        return bestSol;
+    }
+
+    /**
+     * Exact layered dynamic program over a fixed order of variables, which only keeps the states
+     * of its current layer and a trail of back-pointers to rebuild their shortest paths.
+     *
+     * @param <S> the type of the explored states
+     */
+    private static final class HalfSearch<S> {
+        /**
+         * A state of the current layer: the length of its shortest path, and how this path is
+         * recorded in the trail.
+         */
+        private static final class Slot {
+            /** The length of the shortest path to this state. */
+            double value;
+            /** The position in the trail of the last state of the shortest path, before this one. */
+            int parent;
+            /** The value of the decision leading to this state on its shortest path. */
+            int decision;
+            /** The position of this state in the trail, once it has been expanded. */
+            int trail = -1;
+
+            Slot(double value, int parent, int decision) {
+                this.value = value;
+                this.parent = parent;
+                this.decision = decision;
+            }
+        }
+
+        private final Problem<S> problem;
+        private final FastLowerBound<S> flb;
+        /** The variables assigned by this search, in order. */
+        private final int[] variables;
+        /** States whose lower bound reaches this bound are pruned. */
+        private final double ub;
+
+        /** The states of the current layer, then of the meeting layer once the search is over. */
+        private HashMap<S, Slot> layer = new HashMap<>();
+        /** Position in the trail of the best parent of each expanded state. */
+        private int[] trailParent = new int[1024];
+        /** Value of the decision leading from its best parent to each expanded state. */
+        private int[] trailValue = new int[1024];
+        /** Number of states recorded in the trail. */
+        private int trailSize = 0;
+        /** Total number of states created by this search. */
+        private int nodesCount = 0;
+
+        HalfSearch(Problem<S> problem, FastLowerBound<S> flb, int[] variables, double ub) {
+            this.problem = problem;
+            this.flb = flb;
+            this.variables = variables;
+            this.ub = ub;
+        }
+
+        /**
+         * Explores all the layers of this search, unless it is stopped.
+         *
+         * @param stop checked before expanding each layer
+         */
+        void run(BooleanSupplier stop) {
+            Set<Integer> free = new HashSet<>();
+            for (int i = 0; i < problem.nbVars(); i++) {
+                free.add(i);
+            }
+            layer.put(problem.initialState(), new Slot(problem.initialValue(), -1, 0));
+            nodesCount++;
+
+            for (int depth = 0; ; depth++) {
+                layer.entrySet().removeIf(e ->
+                        saturatedAdd(e.getValue().value, flb.fastLowerBound(e.getKey(), free)) >= ub);
+                if (depth == variables.length || layer.isEmpty() || stop.getAsBoolean()) return;
+
+                int var = variables[depth];
+                free.remove(var);
+                HashMap<S, Slot> next = new HashMap<>();
+                for (Map.Entry<S, Slot> e : layer.entrySet()) {
+                    S state = e.getKey();
+                    Slot parent = e.getValue();
+                    parent.trail = record(parent.parent, parent.decision);
+                    Iterator<Integer> domain = problem.domain(state, var);
+                    while (domain.hasNext()) {
+                        int val = domain.next();
+                        Decision decision = new Decision(var, val);
+                        S succ = problem.transition(state, decision);
+                        double value = saturatedAdd(parent.value, problem.transitionCost(state, decision));
+                        Slot slot = next.get(succ);
+                        if (slot == null) {
+                            next.put(succ, new Slot(value, parent.trail, val));
+                            nodesCount++;
+                        } else if (value <= slot.value) {
+                            slot.value = value;
+                            slot.parent = parent.trail;
+                            slot.decision = val;
+                        }
+                    }
+                }
+                layer = next;
+            }
+        }
+
+        /**
+         * Returns whether this search has no state left in its current layer.
+         *
+         * @return {@code true} if no state of the meeting layer can be reached
+         */
+        boolean isEmpty() {
+            return layer.isEmpty();
+        }
+
+        /**
+         * Adds the decisions of the shortest path to a state of the meeting layer.
+         *
+         * @param slot a state of the meeting layer
+         * @param sol  the set the decisions are added to
+         */
+        void path(Slot slot, Set<Decision> sol) {
+            if (variables.length == 0) return;
+            int d = variables.length - 1;
+            sol.add(new Decision(variables[d], slot.decision));
+            // the root is the first state of the trail, it has no decision
+            for (int t = slot.parent; t > 0; t = trailParent[t]) {
+                d--;
+                sol.add(new Decision(variables[d], trailValue[t]));
+            }
+        }
+
+        /**
+         * Appends a state to the trail.
+         *
+         * @param parent   the position in the trail of the best parent of the state
+         * @param decision the value of the decision leading from this parent to the state
+         * @return the position of the state in the trail
+         */
+        private int record(int parent, int decision) {
+            if (trailSize == trailParent.length) {
+                trailParent = Arrays.copyOf(trailParent, 2 * trailSize);
+                trailValue = Arrays.copyOf(trailValue, 2 * trailSize);
+            }
+            trailParent[trailSize] = parent;
+            trailValue[trailSize] = decision;
+            return trailSize++;
+        }
+    }
+}
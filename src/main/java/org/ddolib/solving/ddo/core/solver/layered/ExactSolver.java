@@ -11,16 +11,16 @@ import org.ddolib.solving.ddo.core.compilation.layered.CompilationConfig;
 import org.ddolib.solving.ddo.core.compilation.CompilationType;
 import org.ddolib.solving.ddo.core.frontier.CutSetType;
 import org.ddolib.solving.ddo.core.mdd.DecisionDiagram;
+import org.ddolib.solving.ddo.core.mdd.layered.LeanExactDecisionDiagram;
 import org.ddolib.solving.ddo.core.mdd.layered.LinkedDecisionDiagram;
+import org.ddolib.solving.ddo.core.profiling.Profiler;
 import org.ddolib.modeling.layered.DdoModel;
 import org.ddolib.modeling.layered.ExactModel;
+import org.ddolib.modeling.layered.MemoizedFastLowerBound;
 import org.ddolib.modeling.layered.Problem;
+import org.ddolib.util.debug.DebugLevel;
 import org.ddolib.util.verbosity.VerbosityLevel;
 
-import java.io.BufferedWriter;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.nio.file.Paths;
 import java.text.DecimalFormat;
 import java.util.Collections;
 import java.util.Optional;
@@ -65,6 +65,10 @@ public final class ExactSolver<T> implements Solver {
      */
     private final boolean exportAsDot;
     private final ExactModel<T> model;
+    /**
+     * Profiler recording the operations of the compilations, {@code null} if the search is not profiled.
+     */
+    private final Profiler profiler;
     /**
      * Optional set containing the best solution found so far.
      */
@@ -88,6 +92,7 @@ public final class ExactSolver<T> implements Solver {
         this.verbosityLevel = model.verbosityLevel();
         this.exportAsDot = model.exportDot();
         this.model = model;
+        this.profiler = model.profiler();
     }
 
     /**
@@ -125,23 +130,25 @@ public final class ExactSolver<T> implements Solver {
         compilation.stateRanking = model.ranking();
         compilation.residual = root;
         compilation.maxWidth = Integer.MAX_VALUE;
-        compilation.flb = model.lowerBound();
+        compilation.flb = MemoizedFastLowerBound.of(model);
         compilation.dominance = model.dominance();
         compilation.cache = Optional.empty();
         compilation.bestUB = Double.POSITIVE_INFINITY;
         compilation.cutSetType = CutSetType.LastExactLayer;
         compilation.exportAsDot = this.exportAsDot;
+        if (exportAsDot) {
+            String problemName = problem.getClass().getSimpleName().replace("Problem", "");
+            compilation.exporter = model.diagramExporter(problemName + "_exact");
+        }
         compilation.debugLevel = model.debugMode();
         compilation.useLNS = false;
+        if (profiler != null) profiler.instrument(compilation);
 
-        DecisionDiagram<T> mdd = new LinkedDecisionDiagram<>(compilation);
+        DecisionDiagram<T> mdd = model.leanMemory() && !exportAsDot && model.debugMode() == DebugLevel.OFF
+                ? new LeanExactDecisionDiagram<>(compilation)
+                : new LinkedDecisionDiagram<>(compilation);
         mdd.compile();
         extractBest(mdd);
-        if (exportAsDot) {
-            String problemName = problem.getClass().getSimpleName().replace("Problem", "");
-            exportDot(mdd.exportAsDot(),
-                    Paths.get("output", problemName + "_exact.dot").toString());
-        }
 
         statistics = statistics.updateTime(System.currentTimeMillis()).incrementNbIter();
 
@@ -154,7 +161,7 @@ public final class ExactSolver<T> implements Solver {
         final SearchStatistics finalStats = statistics;
 
         bestSol.ifPresent(sol -> onSolution.accept(constructSolution(bestSol.get()), finalStats));
-        return new Solution(bestSolution(), finalStats);
+        return new Solution(bestSolution(), finalStats, profiler == null ? null : profiler.report());
     }
 
     /**
@@ -192,18 +199,4 @@ public final class ExactSolver<T> implements Solver {
                 System.out.printf("best solution found: %s\n", df.format(ddval.get()));
         }
     }
-
-    /**
-     * Exports a DOT representation of the MDD to a file.
-     *
-     * @param dot      the DOT string representing the MDD
-     * @param fileName the output file path
-     */
-    private void exportDot(String dot, String fileName) {
-        try (BufferedWriter bw = new BufferedWriter(new FileWriter(fileName))) {
-            bw.write(dot);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-    }
 }
@@ -13,6 +13,7 @@ import org.ddolib.solving.ddo.core.heuristics.variable.layered.VariableHeuristic
 import org.ddolib.solving.ddo.core.heuristics.width.WidthHeuristic;
 import org.ddolib.solving.ddo.core.mdd.DecisionDiagram;
 import org.ddolib.solving.ddo.core.mdd.layered.LinkedDecisionDiagram;
+import org.ddolib.solving.ddo.core.profiling.Profiler;
 import org.ddolib.modeling.layered.*;
 import org.ddolib.util.verbosity.VerboseMode;
 import org.ddolib.util.verbosity.VerbosityLevel;
@@ -66,6 +67,10 @@ public final class RelaxationSolver<T> {
     private final DominanceChecker<T> dominance;
 
     private final DdoModel<T> model;
+    /**
+     * Profiler recording the operations of the compilations, {@code null} if the search is not profiled.
+     */
+    private final Profiler profiler;
 
 
     /**
@@ -115,10 +120,24 @@ public final class RelaxationSolver<T> {
         this.exportAsDot = model.exportDot();
         this.dominance = model.dominance();
         this.model = model;
+        this.profiler = model.profiler();
     }
 
     public Solution minimize(Predicate<SearchStatistics> limit,
                              BiConsumer<int[], SearchStatistics> onSolution) {
+        try {
+            return search(limit, onSolution);
+        } finally {
+            // the messages of the search are written before the caller prints the solution
+            verboseMode.flush();
+        }
+    }
+
+    /**
+     * Runs the search of {@link #minimize(Predicate, BiConsumer)}.
+     */
+    private Solution search(Predicate<SearchStatistics> limit,
+                           BiConsumer<int[], SearchStatistics> onSolution) {
         DdoStats statistics = new DdoStats(System.currentTimeMillis(), bestUB);
 
         SubProblem<T> sub = root();
@@ -130,7 +149,7 @@ public final class RelaxationSolver<T> {
         maybeUpdateBest(relaxedMdd, exportAsDot);
 
         statistics = statistics.updateTime(System.currentTimeMillis()).updateIncumbent(bestUB, 100);
-        return new Solution(bestSolution(), statistics);
+        return new Solution(bestSolution(), statistics, profiler == null ? null : profiler.report());
     }
 
     public Optional<Double> bestValue() {
@@ -200,13 +219,15 @@ public final class RelaxationSolver<T> {
         compilation.stateRanking = model.ranking();
         compilation.residual = sub;
         compilation.maxWidth = maxWidth;
-        compilation.flb = model.lowerBound();
+        compilation.flb = MemoizedFastLowerBound.of(model);
         compilation.dominance = this.dominance;
         compilation.bestUB = this.bestUB;
         compilation.cutSetType = frontier.cutSetType();
         compilation.exportAsDot = exportAsDot;
         compilation.debugLevel = model.debugMode();
+        compilation.useLNS = false;
         compilation.reductionStrategy = model.relaxStrategy();
+        if (profiler != null) profiler.instrument(compilation);
 
         return compilation;
     }
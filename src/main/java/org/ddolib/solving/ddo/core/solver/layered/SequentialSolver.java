@@ -1,6 +1,10 @@
 package org.ddolib.solving.ddo.core.solver.layered;
 
 import org.ddolib.common.dominance.DominanceChecker;
+import org.ddolib.common.solver.SharedIncumbent;
+import org.ddolib.common.solver.checkpoint.CheckpointReader;
+import org.ddolib.common.solver.checkpoint.CheckpointSchedule;
+import org.ddolib.common.solver.checkpoint.CheckpointWriter;
 import org.ddolib.common.solver.layered.Solution;
 import org.ddolib.common.solver.layered.Solver;
 import org.ddolib.common.solver.stat.DdoStats;
@@ -17,14 +21,12 @@ import org.ddolib.solving.ddo.core.heuristics.variable.layered.VariableHeuristic
 import org.ddolib.solving.ddo.core.heuristics.width.WidthHeuristic;
 import org.ddolib.solving.ddo.core.mdd.DecisionDiagram;
 import org.ddolib.solving.ddo.core.mdd.layered.LinkedDecisionDiagram;
+import org.ddolib.solving.ddo.core.profiling.Profiler;
 import org.ddolib.modeling.layered.*;
 import org.ddolib.util.verbosity.VerboseMode;
 import org.ddolib.util.verbosity.VerbosityLevel;
 
-import java.io.BufferedWriter;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.nio.file.Paths;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.Optional;
@@ -137,6 +139,10 @@ public final class SequentialSolver<T> implements Solver {
      * This is the cache used to prune the search tree
      */
     private final Optional<SimpleCache<T>> cache;
+    /**
+     * Profiler recording the operations of the compilations, {@code null} if the search is not profiled.
+     */
+    private final Profiler profiler;
     /**
      * Value of the best known upper bound.
      */
@@ -155,6 +161,28 @@ public final class SequentialSolver<T> implements Solver {
     private boolean firstRelaxed = true;
 
     private DominanceChecker<T> dominance;
+    /**
+     * The fast lower bound of the model, memoized if the model asks for it.
+     */
+    private final FastLowerBound<T> flb;
+    /**
+     * The file where the search is checkpointed, {@code null} if it is not checkpointed.
+     */
+    private final Path checkpointFile;
+    /**
+     * The checkpoint from which the search is resumed, {@code null} to start from the root.
+     */
+    private final Path resumeFrom;
+    /**
+     * The incumbent shared with other solvers, {@code null} if the solver runs alone.
+     */
+    private SharedIncumbent sharedIncumbent;
+    /**
+     * The diagrams compiling the restricted and relaxed DDs of the subproblems. They are
+     * reset from one subproblem to the next so that their layers are only allocated once.
+     */
+    private LinkedDecisionDiagram<T> restrictedMdd = null;
+    private LinkedDecisionDiagram<T> relaxedMdd = null;
 
     /**
      * Creates a fully qualified instance. The parameters of this solver are given via a
@@ -163,6 +191,22 @@ public final class SequentialSolver<T> implements Solver {
      * @param model All the parameters needed to configure the solver.
      */
     public SequentialSolver(DdoModel<T> model) {
+        this(model, null);
+    }
+
+    /**
+     * Creates a solver resuming the search saved in the given checkpoint. The checkpoint
+     * must have been written by a {@code SequentialSolver} solving the same problem, and the
+     * model must provide the {@link Model#stateCodec() codec} used to write it.
+     * <p>
+     * The frontier, the incumbent and the statistics are restored from the checkpoint. The
+     * cache and the dominance checker are not saved: they are rebuilt while the search goes on.
+     * </p>
+     *
+     * @param model      All the parameters needed to configure the solver.
+     * @param checkpoint The checkpoint to resume from, or {@code null} to start a new search.
+     */
+    public SequentialSolver(DdoModel<T> model, Path checkpoint) {
         this.problem = model.problem();
         this.width = model.widthHeuristic();
         this.cache = model.useCache() ? Optional.of(new SimpleCache<>()) : Optional.empty();
@@ -173,18 +217,55 @@ public final class SequentialSolver<T> implements Solver {
         this.verboseMode = new VerboseMode(verbosityLevel, 500L);
         this.exportAsDot = model.exportDot();
         this.dominance = model.dominance();
+        this.flb = MemoizedFastLowerBound.of(model);
         this.model = model;
+        this.profiler = model.profiler();
+        this.checkpointFile = model.checkpointFile();
+        this.resumeFrom = checkpoint;
+        if ((checkpointFile != null || resumeFrom != null) && model.stateCodec() == null) {
+            throw new IllegalArgumentException("Checkpointing the search requires a state codec");
+        }
     }
 
     @Override
     public Solution minimize(Predicate<SearchStatistics> limit,
                              BiConsumer<int[], SearchStatistics> onSolution) {
+        try {
+            return search(limit, onSolution);
+        } finally {
+            // the messages of the search are written before the caller prints the solution
+            verboseMode.flush();
+        }
+    }
+
+    /**
+     * Runs the search of {@link #minimize(Predicate, BiConsumer)}.
+     */
+    private Solution search(Predicate<SearchStatistics> limit,
+                           BiConsumer<int[], SearchStatistics> onSolution) {
 
-        DdoStats statistics = new DdoStats(System.currentTimeMillis(), bestUB);
-        frontier.push(root());
+        DdoStats statistics;
+        if (resumeFrom == null) {
+            statistics = new DdoStats(System.currentTimeMillis(), bestUB);
+            frontier.push(root());
+        } else {
+            statistics = restore();
+        }
         cache.ifPresent(c -> c.initialize());
+        CheckpointSchedule checkpointSchedule =
+                checkpointFile == null ? null : new CheckpointSchedule(model.checkpointInterval());
 
+        // the incumbent for which the frontier has last been purged
+        double purgedUB = Double.POSITIVE_INFINITY;
         while (!frontier.isEmpty()) {
+            if (sharedIncumbent != null) {
+                statistics = pullSharedIncumbent(statistics);
+            }
+            if (bestUB < purgedUB) {
+                statistics = statistics.addPurged(frontier.purge(bestUB));
+                purgedUB = bestUB;
+                if (frontier.isEmpty()) break;
+            }
             verboseMode.detailedSearchState(statistics.nbIterations(), frontier.size(), bestUB,
                     frontier.bestInFrontier(), gap());
 
@@ -201,39 +282,43 @@ public final class SequentialSolver<T> implements Solver {
                     .updateMaxDepth(sub.getDepth());
 
             if (limit.test(statistics)) {
-                return new Solution(bestSolution(), statistics);
+                if (checkpointFile != null) {
+                    checkpoint(statistics, sub);
+                }
+                return new Solution(bestSolution(), statistics, profiler == null ? null : profiler.report());
+            }
+            if (checkpointSchedule != null && checkpointSchedule.isDue(statistics.currentTime())) {
+                long start = System.currentTimeMillis();
+                checkpoint(statistics, sub);
+                checkpointSchedule.written(start, System.currentTimeMillis());
             }
-
 
             verboseMode.currentSubProblem(statistics.nbIterations(), sub);
             if (nodeLB >= bestUB) {
+                // the frontier may not pop its subproblems by increasing lower bound: better ones can remain
+                if (!frontier.isEmpty() && frontier.bestInFrontier() < bestUB) continue;
                 frontier.clear();
                 statistics =
                         statistics.updateTime(System.currentTimeMillis()).updateStatus(SearchStatus.OPTIMAL).updateGap(0);
-                return new Solution(bestSolution(), statistics);
+                return new Solution(bestSolution(), statistics, profiler == null ? null : profiler.report());
             }
 
             int maxWidth = width.maximumWidth(sub.getState());
-            CompilationConfig<T> compilation = configureCompilation(CompilationType.Restricted,
+            restrictedMdd = prepareCompilation(restrictedMdd, CompilationType.Restricted,
                     sub, maxWidth, model.exportDot() && this.firstRestricted);
             if (this.dominance != null) this.dominance.clear();
-            DecisionDiagram<T> restrictedMdd = new LinkedDecisionDiagram<>(compilation);
 
             restrictedMdd.compile();
             statistics = statistics.addNodes(restrictedMdd.nbNodes());
+            if (restrictedMdd.compilationAborted()) statistics = statistics.addAborted(1);
 
-            String problemName = problem.getClass().getSimpleName().replace("Problem", "");
-            boolean newbest = maybeUpdateBest(restrictedMdd, exportAsDot && firstRestricted);
+            boolean newbest = maybeUpdateBest(restrictedMdd);
             if (newbest) {
                 statistics = statistics.updateTime(System.currentTimeMillis())
                         .updateIncumbent(bestUB, gap())
                         .updateStatus(SearchStatus.SAT);
                 onSolution.accept(constructSolution(bestSol.get()), statistics);
             }
-            if (exportAsDot && firstRestricted) {
-                exportDot(restrictedMdd.exportAsDot(),
-                        Paths.get("output", problemName + "_restricted.dot").toString());
-            }
             firstRestricted = false;
 
 
@@ -242,16 +327,20 @@ public final class SequentialSolver<T> implements Solver {
             }
 
             // 2. RELAXATION
-            compilation = configureCompilation(CompilationType.Relaxed, sub, maxWidth,
+            relaxedMdd = prepareCompilation(relaxedMdd, CompilationType.Relaxed, sub, maxWidth,
                     model.exportDot() && this.firstRelaxed);
             if (this.dominance != null) this.dominance.clear();
-            DecisionDiagram<T> relaxedMdd = new LinkedDecisionDiagram<>(compilation);
             relaxedMdd.compile();
             statistics = statistics.addNodes(relaxedMdd.nbNodes());
+            if (relaxedMdd.compilationAborted()) {
+                // no node of a layer could improve the incumbent, nor can this subproblem
+                statistics = statistics.addAborted(1);
+                continue;
+            }
 
-            if (compilation.compilationType == CompilationType.Relaxed && relaxedMdd.relaxedBestPathIsExact()
+            if (relaxedMdd.relaxedBestPathIsExact()
                     && frontier.cutSetType() == CutSetType.Frontier) {
-                newbest = maybeUpdateBest(relaxedMdd, exportAsDot && firstRelaxed);
+                newbest = maybeUpdateBest(relaxedMdd);
                 if (newbest) {
                     statistics = statistics.updateTime(System.currentTimeMillis())
                             .updateIncumbent(bestUB, gap())
@@ -259,15 +348,9 @@ public final class SequentialSolver<T> implements Solver {
                     onSolution.accept(constructSolution(bestSol.get()), statistics);
                 }
             }
-            if (exportAsDot && firstRelaxed) {
-                if (!relaxedMdd.isExact())
-                    relaxedMdd.bestSolution();
-                exportDot(relaxedMdd.exportAsDot(),
-                        Paths.get("output", problemName + "_relaxed.dot").toString());
-            }
             firstRelaxed = false;
             if (relaxedMdd.isExact()) {
-                newbest = maybeUpdateBest(relaxedMdd, false);
+                newbest = maybeUpdateBest(relaxedMdd);
                 if (newbest) {
                     statistics = statistics.updateTime(System.currentTimeMillis())
                             .updateIncumbent(bestUB, gap())
@@ -275,7 +358,10 @@ public final class SequentialSolver<T> implements Solver {
                     onSolution.accept(constructSolution(bestSol.get()), statistics);
                 }
             } else if (relaxedMdd.bestValue().isEmpty() || relaxedMdd.bestValue().get() < bestUB) {
+                long merged = frontier.nbMerged();
                 enqueueCutset(relaxedMdd);
+                statistics = statistics.addCutsetPruned(relaxedMdd.nbCutsetPruned())
+                        .addMerged(frontier.nbMerged() - merged);
             }
         }
 
@@ -284,7 +370,7 @@ public final class SequentialSolver<T> implements Solver {
         if (bestSol.isPresent()) statistics = statistics.updateStatus(SearchStatus.OPTIMAL).updateGap(0);
         else statistics = statistics.updateStatus(SearchStatus.UNSAT);
 
-        return new Solution(bestSolution(), statistics);
+        return new Solution(bestSolution(), statistics, profiler == null ? null : profiler.report());
     }
 
     @Override
@@ -301,6 +387,26 @@ public final class SequentialSolver<T> implements Solver {
         return bestSol;
     }
 
+    @Override
+    public void shareIncumbent(SharedIncumbent incumbent) {
+        this.sharedIncumbent = incumbent;
+    }
+
+    /**
+     * Adopts the shared incumbent if it is better than ours and publishes the lower bound
+     * given by the frontier.
+     */
+    private DdoStats pullSharedIncumbent(DdoStats statistics) {
+        Optional<SharedIncumbent.Incumbent> shared = sharedIncumbent.snapshot();
+        if (shared.isPresent() && shared.get().value() < bestUB) {
+            bestUB = shared.get().value();
+            bestSol = Optional.of(shared.get().decisions());
+            statistics = statistics.updateIncumbent(bestUB, gap()).updateStatus(SearchStatus.SAT);
+        }
+        sharedIncumbent.offerLowerBound(Math.min(frontier.bestInFrontier(), bestUB));
+        return statistics;
+    }
+
     private double gap() {
         if (frontier.isEmpty() || Double.isInfinite(bestUB)) {
             return Double.POSITIVE_INFINITY;
@@ -326,41 +432,82 @@ public final class SequentialSolver<T> implements Solver {
      * case the best value of the current `mdd` expansion improves the current
      * bounds.
      */
-    private boolean maybeUpdateBest(DecisionDiagram<T> currentMdd, boolean exportDot) {
+    private boolean maybeUpdateBest(DecisionDiagram<T> currentMdd) {
         Optional<Double> ddval = currentMdd.bestValue();
         if (ddval.isPresent() && ddval.get() < bestUB) {
             bestUB = ddval.get();
             bestSol = currentMdd.bestSolution();
             verboseMode.newBest(bestUB);
             return true;
-        } else if (exportDot) {
-            currentMdd.exportAsDot(); // to be sure to update the color of the edges.
         }
         return false;
     }
 
     /**
      * If necessary, tightens the bound of nodes in the cutset of `mdd` and
-     * then add the relevant nodes to the shared fringe.
+     * then add the relevant nodes to the shared fringe. The nodes that cannot
+     * improve the best solution are discarded before their path is built.
      */
     private void enqueueCutset(DecisionDiagram<T> currentMdd) {
-        Iterator<SubProblem<T>> cutset = currentMdd.exactCutset();
+        Iterator<SubProblem<T>> cutset = currentMdd.exactCutset(bestUB);
         while (cutset.hasNext()) {
-            SubProblem<T> cutsetNode = cutset.next();
-            if (cutsetNode.getLowerBound() < bestUB) {
-                frontier.push(cutsetNode);
+            frontier.push(cutset.next());
+        }
+    }
+
+    /**
+     * Writes the open subproblems (the frontier and the subproblem being explored),
+     * the incumbent and the statistics of the search to the checkpoint file.
+     */
+    private void checkpoint(DdoStats statistics, SubProblem<T> current) {
+        try (CheckpointWriter<T> writer = new CheckpointWriter<>(checkpointFile, model.stateCodec())) {
+            writer.writeHeader(SequentialSolver.class.getSimpleName(), bestUB, bestSol, statistics);
+            writer.writeSubProblem(current);
+            Iterator<SubProblem<T>> open = frontier.iterator();
+            while (open.hasNext()) {
+                writer.writeSubProblem(open.next());
             }
+            writer.commit();
         }
     }
 
-    private void exportDot(String dot, String fileName) {
-        try (BufferedWriter bw = new BufferedWriter(new FileWriter(fileName))) {
-            bw.write(dot);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+    /**
+     * Restores the frontier and the incumbent saved in the checkpoint to resume from.
+     *
+     * @return the statistics of the resumed search
+     */
+    private DdoStats restore() {
+        try (CheckpointReader<T> reader = new CheckpointReader<>(resumeFrom, model.stateCodec(),
+                SequentialSolver.class.getSimpleName())) {
+            if (reader.bestUB() < bestUB) {
+                bestUB = reader.bestUB();
+                bestSol = reader.bestSolution();
+            }
+            SubProblem<T> sub = reader.nextSubProblem();
+            while (sub != null) {
+                frontier.push(sub);
+                sub = reader.nextSubProblem();
+            }
+            return new DdoStats(System.currentTimeMillis() - reader.runtime(), bestUB)
+                    .resume(reader.nbIterations(), reader.frontierMaxSize(),
+                            reader.totalNodes(), reader.maxExploredDepth());
         }
     }
 
+    /**
+     * Returns the diagram to compile the given subproblem: the given diagram reset for this
+     * subproblem if it exists, or a new diagram otherwise. A new diagram is also created
+     * when the DDs are exported, so that only the first ones are exported.
+     */
+    private LinkedDecisionDiagram<T> prepareCompilation(LinkedDecisionDiagram<T> mdd, CompilationType type,
+                                                        SubProblem<T> sub, int maxWidth, boolean exportAsDot) {
+        if (mdd == null || this.exportAsDot) {
+            return new LinkedDecisionDiagram<>(configureCompilation(type, sub, maxWidth, exportAsDot));
+        }
+        mdd.reset(sub, type, maxWidth, bestUB);
+        return mdd;
+    }
+
     /**
      * Initialize the parameters of a compilation.
      *
@@ -380,12 +527,17 @@ public final class SequentialSolver<T> implements Solver {
         compilation.stateRanking = model.ranking();
         compilation.residual = sub;
         compilation.maxWidth = maxWidth;
-        compilation.flb = model.lowerBound();
+        compilation.flb = this.flb;
         compilation.dominance = this.dominance;
         compilation.cache = this.cache;
         compilation.bestUB = this.bestUB;
+        compilation.incumbent = this.sharedIncumbent;
         compilation.cutSetType = frontier.cutSetType();
         compilation.exportAsDot = exportAsDot;
+        if (exportAsDot) {
+            String problemName = problem.getClass().getSimpleName().replace("Problem", "");
+            compilation.exporter = model.diagramExporter(problemName + "_" + type.toString().toLowerCase());
+        }
         compilation.debugLevel = model.debugMode();
 
         if (type == CompilationType.Relaxed) {
@@ -394,6 +546,7 @@ public final class SequentialSolver<T> implements Solver {
             compilation.reductionStrategy = model.restrictStrategy();
         }
         compilation.useLNS = false;
+        if (profiler != null) profiler.instrument(compilation);
 
         return compilation;
     }
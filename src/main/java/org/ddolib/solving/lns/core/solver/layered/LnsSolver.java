@@ -1,5 +1,6 @@
 package org.ddolib.solving.lns.core.solver.layered;
 
+import org.ddolib.common.solver.SharedIncumbent;
 import org.ddolib.common.solver.layered.Solution;
 import org.ddolib.common.solver.layered.Solver;
 import org.ddolib.common.solver.stat.DdoStats;
@@ -12,18 +13,17 @@ import org.ddolib.solving.ddo.core.compilation.CompilationType;
 import org.ddolib.solving.ddo.core.heuristics.width.WidthHeuristic;
 import org.ddolib.solving.ddo.core.mdd.DecisionDiagram;
 import org.ddolib.solving.ddo.core.mdd.layered.LinkedDecisionDiagram;
+import org.ddolib.modeling.layered.FastLowerBound;
 import org.ddolib.modeling.layered.LnsModel;
+import org.ddolib.modeling.layered.MemoizedFastLowerBound;
 import org.ddolib.modeling.layered.Problem;
 import org.ddolib.util.verbosity.VerboseMode;
 import org.ddolib.util.verbosity.VerbosityLevel;
 
-import java.io.BufferedWriter;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
@@ -44,14 +44,23 @@ public final class LnsSolver<T> implements Solver {
     private final WidthHeuristic<T> width;
     private final VerbosityLevel verbosityLevel;
     private final VerboseMode verboseMode;
-    private final boolean exportAsDot;
     private final LnsModel<T> model;
+    private final FastLowerBound<T> flb;
     private double bestUB;
     private Optional<Set<Decision>> bestSol;
     private boolean firstRestricted = true;
     private int maxDepth;
     private int d;
+    // The number of fixed variables of the first neighborhood, and after each improvement
+    private final int startDepth;
+    // The randomness of the neighborhoods, null to use a fresh source for each of them
+    private final Random random;
+    // Whether the free variables are a window at a random position instead of a suffix
+    private final boolean slidingWindow;
     private int[] solution;
+    private SharedIncumbent sharedIncumbent;
+    // The diagram compiling the neighborhoods, reset from one iteration to the next
+    private LinkedDecisionDiagram<T> restrictedMdd = null;
 
     /**
      * Creates a new LNS solver for the provided model.
@@ -59,22 +68,56 @@ public final class LnsSolver<T> implements Solver {
      * @param model model containing the problem definition and LNS/DD configuration
      */
     public LnsSolver(LnsModel<T> model) {
+        this(model, 0, 1);
+    }
+
+    /**
+     * Creates one of the workers of a parallel LNS.
+     *
+     * <p>The workers explore different neighborhoods of the incumbent: each one starts with
+     * a different number of fixed variables and draws its destructions from its own seeded
+     * source of randomness. Half of the workers fix the first variables of the incumbent, as the
+     * sequential LNS does; the other half leave free a window of consecutive variables at a random
+     * position. The workers are meant to share their incumbent through
+     * {@link #shareIncumbent(SharedIncumbent)}.</p>
+     *
+     * @param model     model containing the problem definition and LNS/DD configuration
+     * @param worker    the index of this worker, in {@code [0, nbWorkers)}
+     * @param nbWorkers the number of workers of the parallel LNS
+     */
+    public LnsSolver(LnsModel<T> model, int worker, int nbWorkers) {
         this.problem = model.problem();
         this.width = model.widthHeuristic();
         this.bestUB = Double.POSITIVE_INFINITY;
         this.bestSol = Optional.empty();
         this.verbosityLevel = model.verbosityLevel();
         this.verboseMode = new VerboseMode(verbosityLevel, 500L);
-        this.exportAsDot = model.exportDot();
         this.model = model;
+        this.flb = MemoizedFastLowerBound.of(model);
         this.maxDepth = Math.max(0, problem.nbVars() - 2);
-        this.d = maxDepth;
+        this.startDepth = maxDepth - (worker * maxDepth) / nbWorkers;
+        this.d = startDepth;
+        this.random = nbWorkers == 1 ? null : new Random(worker);
+        this.slidingWindow = worker % 2 == 1;
         this.solution = new int[problem.nbVars()];
     }
 
     @Override
     public Solution minimize(Predicate<SearchStatistics> limit,
                              BiConsumer<int[], SearchStatistics> onSolution) {
+        try {
+            return search(limit, onSolution);
+        } finally {
+            // the messages of the search are written before the caller prints the solution
+            verboseMode.flush();
+        }
+    }
+
+    /**
+     * Runs the search of {@link #minimize(Predicate, BiConsumer)}.
+     */
+    private Solution search(Predicate<SearchStatistics> limit,
+                           BiConsumer<int[], SearchStatistics> onSolution) {
         long start = System.currentTimeMillis();
         int nbIter = 0;
         int queueMaxSize = 0;
@@ -95,6 +138,9 @@ public final class LnsSolver<T> implements Solver {
             verboseMode.detailedSearchState(nbIter, queueMaxSize, bestUB,
                     Double.POSITIVE_INFINITY, gap);
 
+            if (sharedIncumbent != null) {
+                stats = pullSharedIncumbent(stats, gap);
+            }
             if (bestSol.isPresent()) {
                 solution = constructSolution(bestSol.get());
             } else {
@@ -109,8 +155,14 @@ public final class LnsSolver<T> implements Solver {
                 }
             }
 
+            Problem<T> neighborhood = problem;
             if (solution == null || !model.useLNS()) {
                 rootPrime = root();
+            } else if (slidingWindow) {
+                // the d fixed variables are the ones outside a window of nbVars - d variables
+                int from = random.nextInt(d + 1);
+                neighborhood = new WindowProblem<>(problem, solution, from, from + problem.nbVars() - d);
+                rootPrime = root();
             } else {
                 rootPrime = buildInitialSubProblem(solution, d);
             }
@@ -123,13 +175,18 @@ public final class LnsSolver<T> implements Solver {
 
             CompilationConfig<T> compilation = configureCompilation(CompilationType.Restricted,
                     sub, maxWidth, model.exportDot() && this.firstRestricted);
+            compilation.problem = neighborhood;
 
-            DecisionDiagram<T> restrictedMdd = new LinkedDecisionDiagram<>(compilation);
+            if (restrictedMdd == null) {
+                restrictedMdd = new LinkedDecisionDiagram<>(compilation);
+            } else {
+                restrictedMdd.reset(compilation);
+            }
             restrictedMdd.compile();
 
             gap = computeGap(bestUB, restrictedMdd.minLowerBound());
 
-            boolean newbest = maybeUpdateBest(restrictedMdd, exportAsDot && firstRestricted);
+            boolean newbest = maybeUpdateBest(restrictedMdd);
             if (newbest) {
                 gap = computeGap(bestUB, restrictedMdd.minLowerBound());
                 stats = stats
@@ -139,11 +196,6 @@ public final class LnsSolver<T> implements Solver {
                         .updateGap(gap);
                 onSolution.accept(constructSolution(bestSol.get()), stats);
             }
-            if (exportAsDot && firstRestricted) {
-                String problemName = problem.getClass().getSimpleName().replace("Problem", "");
-                exportDot(restrictedMdd.exportAsDot(),
-                        Paths.get("output", problemName + "_restricted.dot").toString());
-            }
             firstRestricted = false;
 
             if (d == 0 && restrictedMdd.isExact()) {
@@ -184,24 +236,41 @@ public final class LnsSolver<T> implements Solver {
         return bestSol;
     }
 
+    @Override
+    public void shareIncumbent(SharedIncumbent incumbent) {
+        this.sharedIncumbent = incumbent;
+    }
+
+    /**
+     * Adopts the shared incumbent if it is better than ours. The next neighborhoods are
+     * then built around it, starting again from the largest one.
+     */
+    private DdoStats pullSharedIncumbent(DdoStats stats, double gap) {
+        Optional<SharedIncumbent.Incumbent> shared = sharedIncumbent.snapshot();
+        if (shared.isPresent() && shared.get().value() < bestUB) {
+            bestUB = shared.get().value();
+            bestSol = Optional.of(shared.get().decisions());
+            if (model.useLNS()) d = startDepth;
+            stats = stats.updateIncumbent(bestUB, gap).updateStatus(SearchStatus.SAT);
+        }
+        return stats;
+    }
+
     /**
      * Updates the incumbent solution if the current restricted DD found a strict improvement.
      *
      * @param currentMdd restricted decision diagram compiled at the current iteration
-     * @param exportDot  whether to force DOT materialization to reflect incumbent edge coloring
      * @return {@code true} if the incumbent was improved, {@code false} otherwise
      */
-    private boolean maybeUpdateBest(DecisionDiagram<T> currentMdd, boolean exportDot) {
+    private boolean maybeUpdateBest(DecisionDiagram<T> currentMdd) {
         Optional<Double> ddval = currentMdd.bestValue();
         if (ddval.isPresent() && ddval.get() < bestUB) {
             bestUB = ddval.get();
             bestSol = currentMdd.bestSolution();
-            if (model.useLNS()) d = maxDepth;
+            if (model.useLNS()) d = startDepth;
             verboseMode.newBest(bestUB);
             return true;
         } else {
-            if (exportDot)
-                currentMdd.exportAsDot(); // to be sure to update the color of the edges.
             if (model.useLNS()) {
                 if (d == 0) {
                     d = maxDepth;
@@ -213,20 +282,6 @@ public final class LnsSolver<T> implements Solver {
         return false;
     }
 
-    /**
-     * Writes a DOT representation to disk.
-     *
-     * @param dot      DOT graph content
-     * @param fileName output file path
-     */
-    private void exportDot(String dot, String fileName) {
-        try (BufferedWriter bw = new BufferedWriter(new FileWriter(fileName))) {
-            bw.write(dot);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
 
     /**
      * Builds the root subproblem covering all decision variables.
@@ -239,7 +294,7 @@ public final class LnsSolver<T> implements Solver {
         return new SubProblem<>(
                 problem.initialState(),
                 problem.initialValue(),
-                model.lowerBound().fastLowerBound(problem.initialState(), vars),
+                flb.fastLowerBound(problem.initialState(), vars),
                 Collections.emptySet());
     }
 
@@ -271,7 +326,7 @@ public final class LnsSolver<T> implements Solver {
         return new SubProblem<>(
                 state,
                 sum,
-                model.lowerBound().fastLowerBound(state, vars),
+                flb.fastLowerBound(state, vars),
                 decisionSet
         );
     }
@@ -334,14 +389,19 @@ public final class LnsSolver<T> implements Solver {
         compilation.stateRanking = model.ranking();
         compilation.residual = sub;
         compilation.maxWidth = maxWidth;
-        compilation.flb = model.lowerBound();
+        compilation.flb = this.flb;
         compilation.dominance = model.dominance();
         compilation.bestUB = this.bestUB;
         compilation.exportAsDot = exportAsDot;
+        if (exportAsDot) {
+            String problemName = problem.getClass().getSimpleName().replace("Problem", "");
+            compilation.exporter = model.diagramExporter(problemName + "_" + type.toString().toLowerCase());
+        }
         compilation.debugLevel = model.debugMode();
         compilation.reductionStrategy = model.restrictStrategy();
         compilation.initialSolution = model.initialSolution();
         compilation.probability = model.probability();
+        compilation.random = random;
         compilation.useLNS = model.useLNS();
         if (bestSol.isPresent()) {
             compilation.solution = constructSolution(bestSol.get());
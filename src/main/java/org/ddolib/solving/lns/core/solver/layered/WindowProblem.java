@@ -0,0 +1,89 @@
+package org.ddolib.solving.lns.core.solver.layered;
+
+import org.ddolib.modeling.InvalidSolutionException;
+import org.ddolib.modeling.layered.Problem;
+import org.ddolib.solving.ddo.core.Decision;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Neighborhood of a solution in which only a window of consecutive variables is free.
+ * <p>
+ * Every variable outside of the window {@code [from, to)} can only take the value it has in the
+ * given solution. Compiling a decision diagram of this problem from its root thus explores the
+ * solutions that only differ from the given one on the window.
+ * </p>
+ *
+ * @param <T> the type of states
+ */
+final class WindowProblem<T> implements Problem<T> {
+    private final Problem<T> problem;
+    private final int[] solution;
+    private final int from;
+    private final int to;
+
+    /**
+     * @param problem  the problem to restrict
+     * @param solution the solution fixing the variables outside the window
+     * @param from     the first free variable
+     * @param to       the first fixed variable after the window
+     */
+    WindowProblem(Problem<T> problem, int[] solution, int from, int to) {
+        this.problem = problem;
+        this.solution = solution;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public int nbVars() {
+        return problem.nbVars();
+    }
+
+    @Override
+    public T initialState() {
+        return problem.initialState();
+    }
+
+    @Override
+    public double initialValue() {
+        return problem.initialValue();
+    }
+
+    @Override
+    public Iterator<Integer> domain(T state, int var) {
+        Iterator<Integer> domain = problem.domain(state, var);
+        if (var >= from && var < to) {
+            return domain;
+        }
+        while (domain.hasNext()) {
+            if (domain.next() == solution[var]) {
+                return List.of(solution[var]).iterator();
+            }
+        }
+        return Collections.emptyIterator();
+    }
+
+    @Override
+    public T transition(T state, Decision decision) {
+        return problem.transition(state, decision);
+    }
+
+    @Override
+    public double transitionCost(T state, Decision decision) {
+        return problem.transitionCost(state, decision);
+    }
+
+    @Override
+    public Optional<Double> optimalValue() {
+        return problem.optimalValue();
+    }
+
+    @Override
+    public double evaluate(int[] solution) throws InvalidSolutionException {
+        return problem.evaluate(solution);
+    }
+}
@@ -0,0 +1,167 @@
+package org.ddolib.solving.portfolio.core.solver.layered;
+
+import org.ddolib.common.solver.SharedIncumbent;
+import org.ddolib.common.solver.layered.Solution;
+import org.ddolib.common.solver.layered.Solver;
+import org.ddolib.common.solver.stat.SearchStatistics;
+import org.ddolib.common.solver.stat.SearchStatus;
+import org.ddolib.solving.ddo.core.Decision;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Solver racing several solvers on the same problem, each one in its own thread.
+ * <p>
+ * The solvers share a {@link SharedIncumbent}: every solution found by one of them is published
+ * and adopted by the others, which tightens their upper bound and thus their pruning. The
+ * lower bounds proven by the solvers are gathered into a global optimality gap.
+ * </p>
+ *
+ * <p>
+ * The race stops as soon as one solver proves that the incumbent is optimal (or that the
+ * problem is unsatisfiable), as soon as the proven lower bound reaches the incumbent, or when
+ * every solver has been stopped by the user-defined limit.
+ * </p>
+ *
+ * <p><b>Usage Notes:</b></p>
+ * <ul>
+ *   <li>The solvers must be distinct instances; they are not reused after the race.</li>
+ *   <li>The solvers run concurrently: the problem, the relaxation and the bounds they share
+ *       must be thread-safe (this is the case when they do not mutate any field).</li>
+ *   <li>The callback {@code onSolution} is only called for solutions improving the shared
+ *       incumbent, one at a time.</li>
+ * </ul>
+ *
+ * @see SharedIncumbent
+ */
+public final class PortfolioSolver implements Solver {
+    /**
+     * The solvers racing on the problem.
+     */
+    private final List<Solver> solvers;
+    /**
+     * The incumbent shared by all the solvers.
+     */
+    private final SharedIncumbent incumbent;
+
+    /**
+     * Creates a portfolio of solvers.
+     *
+     * @param solvers    the solvers to run concurrently
+     * @param upperBound a known upper bound on the optimal value
+     */
+    public PortfolioSolver(List<? extends Solver> solvers, double upperBound) {
+        if (solvers.isEmpty()) {
+            throw new IllegalArgumentException("A portfolio needs at least one solver");
+        }
+        this.solvers = List.copyOf(solvers);
+        this.incumbent = new SharedIncumbent(upperBound);
+    }
+
+    @Override
+    public Solution minimize(Predicate<SearchStatistics> limit,
+                             BiConsumer<int[], SearchStatistics> onSolution) {
+        AtomicBoolean stop = new AtomicBoolean(false);
+        Predicate<SearchStatistics> stopping = s -> stop.get() || incumbent.isClosed() || limit.test(s);
+        Object publishing = new Object();
+        BiConsumer<int[], SearchStatistics> publish = (sol, s) -> {
+            synchronized (publishing) {
+                if (incumbent.offer(s.incumbent(), sol)) {
+                    onSolution.accept(sol, s);
+                }
+            }
+        };
+
+        AtomicInteger threadId = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(solvers.size(), r -> {
+            Thread thread = new Thread(r, "portfolio-" + threadId.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletionService<Solution> race = new ExecutorCompletionService<>(executor);
+        for (Solver solver : solvers) {
+            solver.shareIncumbent(incumbent);
+            race.submit(() -> solver.minimize(stopping, publish));
+        }
+
+        Solution winner = null;
+        Solution first = null;
+        Throwable failure = null;
+        try {
+            for (int i = 0; i < solvers.size(); i++) {
+                Solution solution;
+                try {
+                    solution = race.take().get();
+                } catch (ExecutionException e) {
+                    stop.set(true);
+                    if (failure == null) failure = e.getCause();
+                    continue;
+                }
+                if (first == null) first = solution;
+                if (solution.solution().length > 0) {
+                    // the last solution of a solver may not have been reported (e.g. A* target)
+                    publish.accept(solution.solution(), solution.statistics());
+                }
+                SearchStatus status = solution.statistics().status();
+                if (winner == null && (status == SearchStatus.OPTIMAL || status == SearchStatus.UNSAT)) {
+                    winner = solution;
+                    incumbent.close();
+                    stop.set(true);
+                }
+            }
+        } catch (InterruptedException e) {
+            stop.set(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } finally {
+            executor.shutdown();
+        }
+        if (failure != null) {
+            throw new RuntimeException(failure);
+        }
+
+        SearchStatistics statistics = (winner != null ? winner : first).statistics();
+        if (incumbent.snapshot().isPresent() && incumbent.value() < statistics.incumbent()) {
+            statistics = statistics.updateIncumbent(incumbent.value(), incumbent.gap());
+        }
+        if (incumbent.isClosed()) {
+            statistics = incumbent.snapshot().isPresent()
+                    ? statistics.updateStatus(SearchStatus.OPTIMAL).updateGap(0)
+                    : statistics.updateStatus(SearchStatus.UNSAT);
+        } else {
+            statistics = statistics.updateGap(incumbent.gap());
+            if (incumbent.snapshot().isPresent()) statistics = statistics.updateStatus(SearchStatus.SAT);
+        }
+        return new Solution(bestSolution(), statistics);
+    }
+
+    @Override
+    public Optional<Double> bestValue() {
+        return incumbent.snapshot().map(SharedIncumbent.Incumbent::value);
+    }
+
+    @Override
+    public Optional<Set<Decision>> bestSolution() {
+        return incumbent.snapshot().map(SharedIncumbent.Incumbent::decisions);
+    }
+
+    /**
+     * Returns the best lower bound proven by the solvers of the portfolio.
+     *
+     * @return the best lower bound on the optimal value
+     */
+    public double bestLowerBound() {
+        return incumbent.lowerBound();
+    }
+}
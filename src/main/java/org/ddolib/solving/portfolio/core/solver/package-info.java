@@ -0,0 +1,4 @@
+/**
+ * This package implements a portfolio solver running several solvers concurrently on the same problem.
+ */
+package org.ddolib.solving.portfolio.core.solver;
@@ -6,6 +6,15 @@ import static java.lang.Math.*;
 
 /**
  * Utility methods for common distance metrics used by clustering and heuristics.
+ * <p>
+ * The set distances are available on {@link BitSet}s and on sets stored as arrays of 64-bit words,
+ * in the layout of {@link BitSet#toLongArray()}: bit {@code i} of the set is bit {@code i % 64} of
+ * word {@code i / 64}, and both arrays may have different lengths. The word kernels count bits with
+ * {@link Long#bitCount(long)}, which the JIT compiles to the hardware population count instruction.
+ * The batch variants compute the distances between one set and many others at once, e.g. between a
+ * pivot and all the states of a layer. None of the set distances allocates: the {@link BitSet}
+ * variants walk the elements with {@link BitSet#nextSetBit(int)} instead of combining copies.
+ * </p>
  */
 public class DistanceUtil {
 
@@ -16,14 +25,10 @@ public class DistanceUtil {
      * @return 1 - |a ∩ b| / |a ∪ b|
      */
     public static double jaccardDistance(BitSet a, BitSet b) {
-
-        BitSet tmp = (BitSet) a.clone();
-        tmp.and(b);
-        int intersectionSize = tmp.cardinality();
-
-        tmp = (BitSet) a.clone();
-        tmp.or(b);
-        int unionSize = tmp.cardinality();
+        int sizeA = a.cardinality();
+        int sizeB = b.cardinality();
+        int intersectionSize = sizeA <= sizeB ? intersectionSize(a, b) : intersectionSize(b, a);
+        int unionSize = sizeA + sizeB - intersectionSize;
 
         return (1.0 - ((double) intersectionSize) / unionSize);
     }
@@ -36,17 +41,20 @@ public class DistanceUtil {
      * @return the weighted Jaccard Distance between a and b
      */
     public static double weightedJaccardDistance(BitSet a, BitSet b, double[] weights) {
-        double intersectionSize =0;
+        double intersectionSize = 0;
         double unionSize = 0;
 
-        int maxIndex = max(a.length(), b.length());
-        for (int i = 0; i < maxIndex; i++) {
-            if (a.get(i) || b.get(i)) {
-                unionSize += weights[i];
-                if (a.get(i) && b.get(i)) {
-                    intersectionSize+= weights[i];
-                }
+        // merges the elements of a and b in increasing order
+        int ia = a.nextSetBit(0);
+        int ib = b.nextSetBit(0);
+        while (ia >= 0 || ib >= 0) {
+            int i = ia < 0 ? ib : ib < 0 ? ia : min(ia, ib);
+            unionSize += weights[i];
+            if (ia == i && ib == i) {
+                intersectionSize += weights[i];
             }
+            if (ia == i) ia = a.nextSetBit(i + 1);
+            if (ib == i) ib = b.nextSetBit(i + 1);
         }
 
         return 1.0 - intersectionSize / unionSize;
@@ -59,12 +67,12 @@ public class DistanceUtil {
      * @return 1 - 2|a ∩ b| / (|a| + |b|)
      */
     public static double diceDistance(BitSet a, BitSet b) {
-        BitSet tmp = (BitSet) a.clone();
-        tmp.and(b);
-        double distance = tmp.cardinality();
+        int sizeA = a.cardinality();
+        int sizeB = b.cardinality();
+        double distance = sizeA <= sizeB ? intersectionSize(a, b) : intersectionSize(b, a);
 
         distance = distance*-2;
-        distance = distance / (a.cardinality() + b.cardinality());
+        distance = distance / (sizeA + sizeB);
         distance += 1;
 
         return distance;
@@ -93,9 +101,10 @@ public class DistanceUtil {
      * @return |a XOR b|
      */
     public static double symmetricDifferenceDistance(BitSet a, BitSet b) {
-        BitSet tmp = (BitSet) a.clone();
-        tmp.xor(b);
-        return tmp.cardinality();
+        int sizeA = a.cardinality();
+        int sizeB = b.cardinality();
+        int intersectionSize = sizeA <= sizeB ? intersectionSize(a, b) : intersectionSize(b, a);
+        return sizeA + sizeB - 2 * intersectionSize;
     }
 
     /**
@@ -105,14 +114,226 @@ public class DistanceUtil {
      * @return the weighted symmetric difference between a and b
      */
     public static double weightedSymmetricDifferenceDistance(BitSet a, BitSet b, double[] weights) {
-        BitSet tmp = (BitSet) a.clone();
-        tmp.xor(b);
-
         double distance = 0;
-        for (int i = tmp.nextSetBit(0); i > 0; i = tmp.nextSetBit(i)) {
-            distance += weights[i];
+
+        // merges the elements of a and b in increasing order, keeping those of only one of them
+        int ia = a.nextSetBit(0);
+        int ib = b.nextSetBit(0);
+        while (ia >= 0 || ib >= 0) {
+            if (ib < 0 || (ia >= 0 && ia < ib)) {
+                distance += weights[ia];
+                ia = a.nextSetBit(ia + 1);
+            } else if (ia < 0 || ib < ia) {
+                distance += weights[ib];
+                ib = b.nextSetBit(ib + 1);
+            } else {
+                ia = a.nextSetBit(ia + 1);
+                ib = b.nextSetBit(ib + 1);
+            }
+        }
+
+        return distance;
+    }
+
+    /**
+     * Computes the size of the intersection of the two given sets, by looking up each element of
+     * the first one in the second one. The first set should thus be the smaller one.
+     * @param a the first set
+     * @param b the second set
+     * @return |a ∩ b|
+     */
+    public static int intersectionSize(BitSet a, BitSet b) {
+        int end = b.length();
+        int size = 0;
+        for (int i = a.nextSetBit(0); i >= 0 && i < end; i = a.nextSetBit(i + 1)) {
+            if (b.get(i)) size++;
+        }
+        return size;
+    }
+
+    // =============================================================
+    // Kernels on sets stored as arrays of words
+    // =============================================================
+
+    /**
+     * Computes the size of the given set.
+     * @param a the set, as an array of words
+     * @return |a|
+     */
+    public static int cardinality(long[] a) {
+        int size = 0;
+        for (long word : a) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    /**
+     * Computes the size of the intersection of the two given sets.
+     * @param a the first set, as an array of words
+     * @param b the second set, as an array of words
+     * @return |a ∩ b|
+     */
+    public static int intersectionSize(long[] a, long[] b) {
+        int n = min(a.length, b.length);
+        int size = 0;
+        for (int w = 0; w < n; w++) {
+            size += Long.bitCount(a[w] & b[w]);
+        }
+        return size;
+    }
+
+    /**
+     * Computes the Jaccard Distance between the two given sets.
+     * @param a the first set, as an array of words
+     * @param b the second set, as an array of words
+     * @return 1 - |a ∩ b| / |a ∪ b|
+     */
+    public static double jaccardDistance(long[] a, long[] b) {
+        int intersectionSize = intersectionSize(a, b);
+        int unionSize = cardinality(a) + cardinality(b) - intersectionSize;
+        return (1.0 - ((double) intersectionSize) / unionSize);
+    }
+
+    /**
+     * Computes the Dice Distance between the two given sets.
+     * @param a the first set, as an array of words
+     * @param b the second set, as an array of words
+     * @return 1 - 2|a ∩ b| / (|a| + |b|)
+     */
+    public static double diceDistance(long[] a, long[] b) {
+        return 1.0 - 2.0 * intersectionSize(a, b) / (cardinality(a) + cardinality(b));
+    }
+
+    /**
+     * Computes the size of the symmetric difference between a and b
+     * @param a the first set, as an array of words
+     * @param b the second set, as an array of words
+     * @return |a XOR b|
+     */
+    public static double symmetricDifferenceDistance(long[] a, long[] b) {
+        long[] shorter = a.length <= b.length ? a : b;
+        long[] longer = a.length <= b.length ? b : a;
+        int size = 0;
+        for (int w = 0; w < shorter.length; w++) {
+            size += Long.bitCount(shorter[w] ^ longer[w]);
         }
+        for (int w = shorter.length; w < longer.length; w++) {
+            size += Long.bitCount(longer[w]);
+        }
+        return size;
+    }
+
+    /**
+     * Computes the weighted Jaccard Distance between the two given sets.
+     * @param a the first set, as an array of words
+     * @param b the second set, as an array of words
+     * @param weights the weight of each element in a and b
+     * @return the weighted Jaccard Distance between a and b
+     */
+    public static double weightedJaccardDistance(long[] a, long[] b, double[] weights) {
+        double intersectionSize = 0;
+        double unionSize = 0;
+        int n = max(a.length, b.length);
+        for (int w = 0; w < n; w++) {
+            long wa = w < a.length ? a[w] : 0L;
+            long wb = w < b.length ? b[w] : 0L;
+            intersectionSize += weightedSum(wa & wb, w, weights);
+            unionSize += weightedSum(wa | wb, w, weights);
+        }
+        return 1.0 - intersectionSize / unionSize;
+    }
 
+    /**
+     * Computes the weighted symmetric difference between a and b
+     * @param a the first set, as an array of words
+     * @param b the second set, as an array of words
+     * @param weights the weight of each element in a and b
+     * @return the weighted symmetric difference between a and b
+     */
+    public static double weightedSymmetricDifferenceDistance(long[] a, long[] b, double[] weights) {
+        double distance = 0;
+        int n = max(a.length, b.length);
+        for (int w = 0; w < n; w++) {
+            long wa = w < a.length ? a[w] : 0L;
+            long wb = w < b.length ? b[w] : 0L;
+            distance += weightedSum(wa ^ wb, w, weights);
+        }
         return distance;
     }
+
+    /**
+     * Sums the weights of the elements of a word.
+     * @param word the elements, as bits of the word
+     * @param index the index of the word in its set
+     * @param weights the weight of each element of the set
+     * @return the sum of the weights of the elements of the word
+     */
+    private static double weightedSum(long word, int index, double[] weights) {
+        double sum = 0;
+        int offset = index << 6;
+        while (word != 0) {
+            sum += weights[offset + Long.numberOfTrailingZeros(word)];
+            word &= word - 1;
+        }
+        return sum;
+    }
+
+    // =============================================================
+    // Batch kernels: one set against many
+    // =============================================================
+
+    /**
+     * Computes the Jaccard Distances between a set and each of the given sets.
+     * @param ref the reference set, as an array of words
+     * @param others the other sets, as arrays of words
+     * @param out receives at index {@code i} the distance between {@code ref} and {@code others[i]}
+     */
+    public static void jaccardDistances(long[] ref, long[][] others, double[] out) {
+        int refSize = cardinality(ref);
+        for (int i = 0; i < others.length; i++) {
+            int intersectionSize = intersectionSize(ref, others[i]);
+            int unionSize = refSize + cardinality(others[i]) - intersectionSize;
+            out[i] = 1.0 - ((double) intersectionSize) / unionSize;
+        }
+    }
+
+    /**
+     * Computes the Dice Distances between a set and each of the given sets.
+     * @param ref the reference set, as an array of words
+     * @param others the other sets, as arrays of words
+     * @param out receives at index {@code i} the distance between {@code ref} and {@code others[i]}
+     */
+    public static void diceDistances(long[] ref, long[][] others, double[] out) {
+        int refSize = cardinality(ref);
+        for (int i = 0; i < others.length; i++) {
+            out[i] = 1.0 - 2.0 * intersectionSize(ref, others[i]) / (refSize + cardinality(others[i]));
+        }
+    }
+
+    /**
+     * Computes the sizes of the symmetric differences between a set and each of the given sets.
+     * @param ref the reference set, as an array of words
+     * @param others the other sets, as arrays of words
+     * @param out receives at index {@code i} the distance between {@code ref} and {@code others[i]}
+     */
+    public static void symmetricDifferenceDistances(long[] ref, long[][] others, double[] out) {
+        int refSize = cardinality(ref);
+        for (int i = 0; i < others.length; i++) {
+            out[i] = refSize + cardinality(others[i]) - 2 * intersectionSize(ref, others[i]);
+        }
+    }
+
+    /**
+     * Computes the weighted Jaccard Distances between a set and each of the given sets.
+     * @param ref the reference set, as an array of words
+     * @param others the other sets, as arrays of words
+     * @param weights the weight of each element of the sets
+     * @param out receives at index {@code i} the distance between {@code ref} and {@code others[i]}
+     */
+    public static void weightedJaccardDistances(long[] ref, long[][] others, double[] weights, double[] out) {
+        for (int i = 0; i < others.length; i++) {
+            out[i] = weightedJaccardDistance(ref, others[i], weights);
+        }
+    }
 }
@@ -0,0 +1,115 @@
+package org.ddolib.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A concurrent map of bounded size, used to memoize the values computed during a search.
+ * <p>
+ * The entries are kept in two generations: the new entries go to the current generation and,
+ * when it is full, the previous generation is dropped and the current one becomes the previous
+ * one. An entry of the previous generation that is read again is copied back to the current one.
+ * The most recently used entries are thus kept, without any bookkeeping per lookup, and the cache
+ * never holds more than its capacity (an entry copied back being counted twice).
+ * </p>
+ *
+ * <p>
+ * All the operations are thread-safe and take constant time.
+ * </p>
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+public final class GenerationalCache<K, V> {
+    /**
+     * The number of entries of a generation.
+     */
+    private final int generationSize;
+    /**
+     * The entries added or read since the last change of generation.
+     */
+    private volatile ConcurrentHashMap<K, V> current = new ConcurrentHashMap<>();
+    /**
+     * The entries of the previous generation.
+     */
+    private volatile ConcurrentHashMap<K, V> previous = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param capacity the maximum number of entries, at least 2
+     */
+    public GenerationalCache(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("The capacity must be at least 2: " + capacity);
+        }
+        this.generationSize = capacity / 2;
+    }
+
+    /**
+     * Returns the value associated with a key, moving it to the current generation if needed.
+     *
+     * @param key a key
+     * @return the value associated with the key, or {@code null} if there is none
+     */
+    public V get(K key) {
+        ConcurrentHashMap<K, V> cur = current;
+        V value = cur.get(key);
+        if (value == null) {
+            value = previous.get(key);
+            if (value != null) {
+                V other = cur.putIfAbsent(key, value);
+                if (other != null) return other;
+                checkSize(cur);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Associates a value with a key, unless the current generation already holds one.
+     *
+     * @param key   a key
+     * @param value the value to associate with the key
+     * @return the value already associated with the key in the current generation, or {@code null}
+     * if the given value was added
+     */
+    public V putIfAbsent(K key, V value) {
+        ConcurrentHashMap<K, V> cur = current;
+        V other = cur.putIfAbsent(key, value);
+        if (other == null) {
+            checkSize(cur);
+        }
+        return other;
+    }
+
+    /**
+     * Returns the number of entries of the cache.
+     *
+     * @return the number of entries of both generations
+     */
+    public int size() {
+        return current.size() + previous.size();
+    }
+
+    /**
+     * Removes all the entries of the cache.
+     */
+    public synchronized void clear() {
+        current = new ConcurrentHashMap<>();
+        previous = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Starts a new generation if the given one is full and still the current one.
+     */
+    private void checkSize(ConcurrentHashMap<K, V> cur) {
+        if (cur.size() >= generationSize) {
+            synchronized (this) {
+                if (current == cur) {
+                    previous = cur;
+                    current = new ConcurrentHashMap<>();
+                }
+            }
+        }
+    }
+}
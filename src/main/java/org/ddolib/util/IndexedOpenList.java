@@ -0,0 +1,296 @@
+package org.ddolib.util;
+
+import org.ddolib.solving.ddo.core.SubProblem;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Open list of the best-first solvers (A*, ACS, AWA*).
+ * <p>
+ * It is a binary heap of subproblems indexed by their {@link StateAndDepth}: the list holds at most
+ * one subproblem per state and depth. When a subproblem reaching an already open state is added,
+ * it replaces the open one if it is better according to the ordering of the list (the classical
+ * <i>decrease-key</i> operation) and it is discarded otherwise. The size of the heap is thus
+ * always the number of distinct open states, and the duplicates never need to be popped and
+ * skipped.
+ * </p>
+ *
+ * <p>
+ * All the operations take {@code O(log n)} time, except {@link #peek()}, {@link #get(StateAndDepth)}
+ * and {@link #contains(StateAndDepth)} which take constant time, and {@link #removeIf(Predicate)}
+ * which takes linear time.
+ * </p>
+ *
+ * @param <T> the type of states
+ */
+public final class IndexedOpenList<T> implements Iterable<SubProblem<T>> {
+    /**
+     * The order of the subproblems, the smallest one is at the top of the heap.
+     */
+    private final Comparator<SubProblem<T>> comparator;
+    /**
+     * The binary heap.
+     */
+    private Entry<T>[] heap;
+    /**
+     * The number of subproblems in the heap.
+     */
+    private int size = 0;
+    /**
+     * The heap entry of each open state.
+     */
+    private final HashMap<StateAndDepth<T>, Entry<T>> index = new HashMap<>();
+
+    /**
+     * A subproblem of the heap with its position, so that moving it does not require any lookup.
+     */
+    private static final class Entry<T> {
+        final StateAndDepth<T> key;
+        SubProblem<T> sub;
+        int pos;
+
+        Entry(StateAndDepth<T> key, SubProblem<T> sub) {
+            this.key = key;
+            this.sub = sub;
+        }
+    }
+
+    /**
+     * Creates an empty open list.
+     *
+     * @param comparator the order of the subproblems; the smallest subproblem is popped first
+     */
+    @SuppressWarnings("unchecked")
+    public IndexedOpenList(Comparator<SubProblem<T>> comparator) {
+        this.comparator = comparator;
+        this.heap = (Entry<T>[]) new Entry<?>[16];
+    }
+
+    /**
+     * Returns the key of the given subproblem.
+     *
+     * @param sub a subproblem
+     * @param <T> the type of states
+     * @return the state and the depth of the subproblem
+     */
+    public static <T> StateAndDepth<T> key(SubProblem<T> sub) {
+        return new StateAndDepth<>(sub.getState(), sub.getDepth());
+    }
+
+    /**
+     * Adds a subproblem to the list. If a subproblem with the same state and depth is already open,
+     * the given one replaces it only if it is strictly better.
+     *
+     * @param sub the subproblem to add
+     * @return {@code true} if the subproblem has been added, {@code false} if it has been discarded
+     */
+    public boolean add(SubProblem<T> sub) {
+        StateAndDepth<T> key = key(sub);
+        Entry<T> entry = index.get(key);
+        if (entry == null) {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, 2 * size);
+            }
+            entry = new Entry<>(key, sub);
+            index.put(key, entry);
+            heap[size] = entry;
+            entry.pos = size;
+            siftUp(size++);
+            return true;
+        } else if (comparator.compare(sub, entry.sub) < 0) {
+            entry.sub = sub;
+            siftUp(entry.pos);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the best subproblem of the list without removing it.
+     *
+     * @return the best subproblem, or {@code null} if the list is empty
+     */
+    public SubProblem<T> peek() {
+        return size == 0 ? null : heap[0].sub;
+    }
+
+    /**
+     * Removes the best subproblem of the list.
+     *
+     * @return the best subproblem, or {@code null} if the list is empty
+     */
+    public SubProblem<T> poll() {
+        return size == 0 ? null : removeAt(0);
+    }
+
+    /**
+     * Returns the open subproblem of the given state and depth.
+     *
+     * @param key a state and a depth
+     * @return the open subproblem of this key, or {@code null} if there is none
+     */
+    public SubProblem<T> get(StateAndDepth<T> key) {
+        Entry<T> entry = index.get(key);
+        return entry == null ? null : entry.sub;
+    }
+
+    /**
+     * Returns whether a subproblem of the given state and depth is open.
+     *
+     * @param key a state and a depth
+     * @return {@code true} if the list contains a subproblem of this key
+     */
+    public boolean contains(StateAndDepth<T> key) {
+        return index.containsKey(key);
+    }
+
+    /**
+     * Removes the open subproblem of the given state and depth.
+     *
+     * @param key a state and a depth
+     * @return the removed subproblem, or {@code null} if there is none
+     */
+    public SubProblem<T> remove(StateAndDepth<T> key) {
+        Entry<T> entry = index.get(key);
+        return entry == null ? null : removeAt(entry.pos);
+    }
+
+    /**
+     * Removes all the open subproblems satisfying the given predicate. The heap is rebuilt
+     * in a single pass, in {@code O(n)} time.
+     *
+     * @param filter a predicate returning {@code true} for the subproblems to remove
+     * @return the number of removed subproblems
+     */
+    public int removeIf(Predicate<SubProblem<T>> filter) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            Entry<T> entry = heap[i];
+            if (filter.test(entry.sub)) {
+                index.remove(entry.key);
+            } else {
+                move(entry, kept++);
+            }
+        }
+        int removed = size - kept;
+        Arrays.fill(heap, kept, size, null);
+        size = kept;
+        if (removed > 0) {
+            for (int i = (size >>> 1) - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the keys of the open subproblems.
+     *
+     * @return an unmodifiable view of the open states and depths
+     */
+    public Set<StateAndDepth<T>> keys() {
+        return Collections.unmodifiableSet(index.keySet());
+    }
+
+    /**
+     * @return the number of open subproblems
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return {@code true} if there is no open subproblem
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all the subproblems of the list.
+     */
+    public void clear() {
+        Arrays.fill(heap, 0, size, null);
+        size = 0;
+        index.clear();
+    }
+
+    /**
+     * Returns an iterator over the open subproblems, in no particular order.
+     *
+     * @return an iterator over the open subproblems
+     */
+    @Override
+    public Iterator<SubProblem<T>> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public SubProblem<T> next() {
+                if (next >= size) throw new NoSuchElementException();
+                return heap[next++].sub;
+            }
+        };
+    }
+
+    private SubProblem<T> removeAt(int pos) {
+        Entry<T> removed = heap[pos];
+        index.remove(removed.key);
+        size--;
+        if (pos != size) {
+            move(heap[size], pos);
+            heap[size] = null;
+            if (siftUp(pos) == pos) {
+                siftDown(pos);
+            }
+        } else {
+            heap[size] = null;
+        }
+        return removed.sub;
+    }
+
+    private int siftUp(int pos) {
+        Entry<T> entry = heap[pos];
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (comparator.compare(entry.sub, heap[parent].sub) >= 0) break;
+            move(heap[parent], pos);
+            pos = parent;
+        }
+        move(entry, pos);
+        return pos;
+    }
+
+    private void siftDown(int pos) {
+        Entry<T> entry = heap[pos];
+        int half = size >>> 1;
+        while (pos < half) {
+            int child = 2 * pos + 1;
+            int right = child + 1;
+            if (right < size && comparator.compare(heap[right].sub, heap[child].sub) < 0) {
+                child = right;
+            }
+            if (comparator.compare(entry.sub, heap[child].sub) <= 0) break;
+            move(heap[child], pos);
+            pos = child;
+        }
+        move(entry, pos);
+    }
+
+    private void move(Entry<T> entry, int pos) {
+        heap[pos] = entry;
+        entry.pos = pos;
+    }
+}
@@ -1,7 +1,9 @@
 package org.ddolib.util;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.io.Serial;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 /**
  * Utility class to compute lower bounds for the Traveling Salesman Problem (TSP).
  * <p>
@@ -14,8 +16,82 @@ import java.util.Set;
  * The lower bound is used in more complex problems (like Production Scheduling Problem)
  * where the TSP component appears in the calculation of minimum changeover costs.
  * </p>
+ *
+ * <p>
+ * The subsets are represented by bitmasks: the i-th bit is 1 if node i is included in the
+ * subset. The bounds of all the subsets can be computed at once with
+ * {@link #lowerBoundForAllSubsets(int[][])}, which fills a table of {@code 2^n} entries in
+ * parallel. As this table becomes too large when the number of nodes grows, an instance of
+ * this class only precomputes it for at most {@link #MAX_PRECOMPUTED_NODES} nodes, and
+ * otherwise computes the bounds when they are first asked and memoizes them.
+ * </p>
  */
 public class TSPLowerBound {
+    /** Maximum number of nodes for which an instance precomputes the bounds of all the subsets. */
+    public static final int MAX_PRECOMPUTED_NODES = 20;
+    /** Maximum number of memoized bounds when they are not precomputed. */
+    public static final int MEMO_CAPACITY = 1 << 20;
+    /** Maximum number of subsets whose bounds are computed sequentially by a single fork-join task. */
+    private static final int CHUNK = 1 << 12;
+
+    /** {@code minEdge[a][b]} is the cheapest edge between {@code a} and {@code b}, in any direction. */
+    private final int[][] minEdge;
+    /** The bounds of all the subsets, {@code null} if there are too many nodes. */
+    private final int[] table;
+    /** The memoized bounds, {@code null} if the bounds are precomputed. */
+    private final GenerationalCache<Long, Integer> memo;
+
+    /**
+     * Creates a lower bound on the cost of visiting the subsets of nodes of the given cost matrix.
+     * <p>
+     * The bounds of all the subsets are precomputed if there are at most
+     * {@link #MAX_PRECOMPUTED_NODES} nodes, and lazily computed and memoized otherwise.
+     * </p>
+     *
+     * @param costMatrix a square matrix of size n x n representing the cost between nodes,
+     *                   with n at most 64
+     */
+    public TSPLowerBound(int[][] costMatrix) {
+        this(costMatrix, costMatrix.length <= MAX_PRECOMPUTED_NODES);
+    }
+
+    /**
+     * Creates a lower bound on the cost of visiting the subsets of nodes of the given cost matrix.
+     *
+     * @param costMatrix  a square matrix of size n x n representing the cost between nodes,
+     *                    with n at most 64
+     * @param precomputed whether the bounds of all the subsets must be precomputed, which requires
+     *                    n to be at most 30
+     */
+    public TSPLowerBound(int[][] costMatrix, boolean precomputed) {
+        if (costMatrix.length > Long.SIZE || (precomputed && costMatrix.length >= Integer.SIZE - 1)) {
+            throw new IllegalArgumentException("Too many nodes: " + costMatrix.length);
+        }
+        this.minEdge = minEdges(costMatrix);
+        this.table = precomputed ? computeAll(minEdge) : null;
+        this.memo = precomputed ? null : new GenerationalCache<>(MEMO_CAPACITY);
+    }
+
+    /**
+     * Returns the lower bound for a subset of nodes.
+     * <p>
+     * This method is thread-safe.
+     * </p>
+     *
+     * @param subset the bitmask of the subset
+     * @return the sum of the minimum incident edges of the subset
+     */
+    public int lowerBound(long subset) {
+        if (table != null) {
+            return table[(int) subset];
+        }
+        Integer bound = memo.get(subset);
+        if (bound == null) {
+            bound = sumMinIncident(subset, minEdge);
+            memo.putIfAbsent(subset, bound);
+        }
+        return bound;
+    }
 
     /**
      * Computes a lower-bound for all subsets of a set of nodes based on the given cost matrix.
@@ -28,7 +104,8 @@ public class TSPLowerBound {
      *
      * <p>
      * Each subset of nodes is represented by an integer using its binary representation:
-     * the i-th bit is 1 if node i is included in the subset, 0 otherwise.
+     * the i-th bit is 1 if node i is included in the subset, 0 otherwise. The subsets are
+     * split in ranges whose bounds are computed in parallel, in the common {@link ForkJoinPool}.
      * </p>
      *
      * @param costMatrix a square matrix of size n x n representing the cost between nodes
@@ -36,73 +113,109 @@ public class TSPLowerBound {
      *         for the subset corresponding to the binary representation of i
      */
     public static int[] lowerBoundForAllSubsets(int[][] costMatrix) {
-        int nItems = costMatrix.length;
-        int nPoss = 1 << nItems; // 2 ^ nItems = number of all possible subsets
-        int[] result = new int[nPoss];
-        for (int i = 0; i < nPoss; i++) {
-            Set<Integer> members = intToSet(i, nItems);
-            result[i] = (sumMinIncident(members, costMatrix));
+        if (costMatrix.length >= Integer.SIZE - 1) {
+            throw new IllegalArgumentException("Too many nodes: " + costMatrix.length);
+        }
+        return computeAll(minEdges(costMatrix));
+    }
+
+    /**
+     * Returns the matrix of the cheapest edges between two nodes, in any direction.
+     */
+    private static int[][] minEdges(int[][] costMatrix) {
+        int n = costMatrix.length;
+        int[][] minEdge = new int[n][n];
+        for (int a = 0; a < n; a++) {
+            for (int b = 0; b < n; b++) {
+                minEdge[a][b] = Math.min(costMatrix[a][b], costMatrix[b][a]);
+            }
+        }
+        return minEdge;
+    }
+
+    /**
+     * Computes the bounds of all the subsets of nodes.
+     */
+    private static int[] computeAll(int[][] minEdge) {
+        int[] result = new int[1 << minEdge.length]; // 2 ^ nItems = number of all possible subsets
+        SubsetTask task = new SubsetTask(minEdge, result, 0, result.length);
+        if (result.length > CHUNK) {
+            ForkJoinPool.commonPool().invoke(task);
+        } else {
+            task.compute();
         }
         return result;
     }
+
     /**
      * Computes the sum of the minimum incident edges for a given subset of nodes.
      * <p>
      * For each node in the subset, find the smallest edge connecting it to another node
      * in the subset and sum these minimum edges. Each node is counted at most once
-     * to avoid double-counting edges.
+     * to avoid double-counting edges. The nodes are considered by increasing index.
      * </p>
      *
-     * @param members a set of node indices representing the subset
-     * @param changeover a square cost matrix
+     * @param members the bitmask of the subset
+     * @param minEdge the cheapest edges between two nodes, in any direction
      * @return the sum of the minimum incident edges for the subset
      */
-    private static int sumMinIncident(Set<Integer> members, int[][] changeover) {
-        if (members.size() <= 1) {
+    private static int sumMinIncident(long members, int[][] minEdge) {
+        if (Long.bitCount(members) <= 1) {
             return 0;
         }
-        Set<Integer> covered = new HashSet<>();
+        long covered = 0L;
         int total = 0;
-        for (int a : members) {
-            if (covered.contains(a)) {
+        for (long rest = members; rest != 0; rest &= rest - 1) {
+            int a = Long.numberOfTrailingZeros(rest);
+            if ((covered & (1L << a)) != 0) {
                 continue;
             }
             int emin = Integer.MAX_VALUE; // minimum edge adjacent to a
             int bmin = a; // the other end of the minimum edge
-            for (int b : members) {
-                if (a == b) {
-                    continue;
-                }
-                int edge = Math.min(changeover[a][b], changeover[b][a]);
+            for (long others = members & ~(1L << a); others != 0; others &= others - 1) {
+                int b = Long.numberOfTrailingZeros(others);
+                int edge = minEdge[a][b];
                 if (edge < emin) {
                     emin = edge;
                     bmin = b;
                 }
             }
             total += emin;
-            covered.add(a);
-            covered.add(bmin);
+            covered |= (1L << a) | (1L << bmin);
         }
         return total;
     }
+
     /**
-     * Converts an integer representation of a subset to a set of node indices.
-     * <p>
-     * Each bit in the integer represents whether the corresponding node is included
-     * in the subset (1) or not (0).
-     * </p>
-     *
-     * @param num an integer representing the subset in binary
-     * @param size the total number of nodes
-     * @return a set of integers corresponding to the indices of nodes in the subset
+     * Fork-join task computing the bounds of a range of subsets.
      */
-    private static Set<Integer> intToSet(int num, int size) {
-        Set<Integer> set = new HashSet<>();
-        for (int i = 0; i < size; i++) {
-            if ((num & (1 << i)) != 0) {
-                set.add(i);
+    private static final class SubsetTask extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final int[][] minEdge;
+        private final int[] result;
+        private final int from;
+        private final int to;
+
+        SubsetTask(int[][] minEdge, int[] result, int from, int to) {
+            this.minEdge = minEdge;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK) {
+                for (int i = from; i < to; i++) {
+                    result[i] = sumMinIncident(i, minEdge);
+                }
+            } else {
+                int mid = (from + to) >>> 1;
+                invokeAll(new SubsetTask(minEdge, result, from, mid),
+                        new SubsetTask(minEdge, result, mid, to));
             }
         }
-        return set;
     }
 }
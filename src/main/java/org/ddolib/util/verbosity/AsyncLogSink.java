@@ -0,0 +1,322 @@
+package org.ddolib.util.verbosity;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Output of the verbose messages of the solvers, written by a background thread.
+ * <p>
+ * The messages are put in a bounded ring buffer and a single daemon thread writes them by batches
+ * to an output that stays open, flushing it after each batch. The messages that may be dropped are
+ * built by this thread too, so the solver never waits for the output unless the buffer is full.
+ * A full buffer is handled according to the {@link OverflowPolicy} of the sink, and the number of
+ * dropped messages is written to the output. The buffer is drained by {@link #flush()}, when the
+ * sink is closed and when the JVM shuts down.
+ * </p>
+ *
+ * <p>
+ * The solvers share one sink per output: {@link #console()} and {@link #file(Path)}. Their policy
+ * can be changed with {@link #setPolicy(OverflowPolicy)}. The messages of a thread are written in
+ * the order in which they are logged.
+ * </p>
+ *
+ * <p>
+ * All the methods are thread-safe.
+ * </p>
+ */
+public final class AsyncLogSink implements Closeable {
+    /** Default number of messages of the buffer. */
+    public static final int DEFAULT_CAPACITY = 1 << 14;
+    /** Proportion of the messages kept by {@link OverflowPolicy#SAMPLE} when the buffer is congested. */
+    public static final int SAMPLE_RATE = 16;
+    /** Maximum number of messages written between two flushes of the output. */
+    private static final int MAX_BATCH = 1024;
+    /** The message stopping the writer thread. */
+    private static final Object STOP = new Object();
+    /** The sinks shared by the solvers, by output. */
+    private static final Map<String, AsyncLogSink> SHARED = new ConcurrentHashMap<>();
+
+    /** Opens the output, the first time a message is written. */
+    private final Callable<Writer> output;
+    private final int capacity;
+    /** The messages to write: strings, or suppliers building them. */
+    private final ArrayBlockingQueue<Object> buffer;
+    private volatile OverflowPolicy policy;
+    private final Thread writer;
+    private final Thread shutdownHook;
+
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong sampled = new AtomicLong();
+    /** Number of messages put in the buffer. */
+    private final AtomicLong submitted = new AtomicLong();
+    /** Number of messages written to the output, guarded by {@code this}. */
+    private long written = 0;
+    private volatile Exception failure;
+
+    /**
+     * Creates a sink and starts its writer thread.
+     *
+     * @param output   opens the output of the messages; it is called by the writer thread when the first
+     *                 message is written, and the output is closed with the sink
+     * @param capacity the number of messages of the buffer
+     * @param policy   what to do with the messages that may be dropped when the buffer is congested
+     */
+    public AsyncLogSink(Callable<Writer> output, int capacity, OverflowPolicy policy) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("The capacity must be at least 2: " + capacity);
+        }
+        this.output = output;
+        this.capacity = capacity;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.policy = policy;
+        this.writer = new Thread(this::writeLoop, "ddo-verbose-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+        this.shutdownHook = new Thread(this::close, "ddo-verbose-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Returns the sink shared by the solvers to print messages in the console.
+     *
+     * @return the console sink, with a {@link OverflowPolicy#SAMPLE} policy by default
+     */
+    public static AsyncLogSink console() {
+        return shared("", () -> new VerboseMode.NonClosingPrintWriter(new PrintWriter(System.out)));
+    }
+
+    /**
+     * Returns the sink shared by the solvers to append messages to a file.
+     *
+     * @param file the file to write, created if needed
+     * @return the sink of the file, with a {@link OverflowPolicy#SAMPLE} policy by default
+     */
+    public static AsyncLogSink file(Path file) {
+        return shared(file.toAbsolutePath().normalize().toString(), () -> Files.newBufferedWriter(file,
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+    }
+
+    private static AsyncLogSink shared(String key, Callable<Writer> output) {
+        return SHARED.compute(key, (k, sink) -> sink == null || sink.isClosed() ?
+                new AsyncLogSink(output, DEFAULT_CAPACITY, OverflowPolicy.SAMPLE) : sink);
+    }
+
+    /**
+     * Logs a message that must not be dropped. If the buffer is full, waits until there is room for it.
+     *
+     * @param message the message to write
+     */
+    public void log(String message) {
+        checkFailure();
+        if (closed.get()) {
+            dropped.increment();
+            return;
+        }
+        try {
+            buffer.put(message);
+            submitted.incrementAndGet();
+        } catch (InterruptedException e) {
+            dropped.increment();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Logs a message that may be dropped, according to the policy of the sink, if the buffer is
+     * congested. The message is only built if it is kept, and it is built by the writer thread:
+     * what it describes must not be modified afterward.
+     *
+     * @param message builds the message to write
+     * @return {@code true} if the message is logged, {@code false} if it is dropped
+     */
+    public boolean logDroppable(Supplier<String> message) {
+        checkFailure();
+        OverflowPolicy p = policy;
+        if (closed.get()) {
+            dropped.increment();
+            return false;
+        }
+        if (p == OverflowPolicy.BLOCK) {
+            try {
+                buffer.put(message);
+                submitted.incrementAndGet();
+                return true;
+            } catch (InterruptedException e) {
+                dropped.increment();
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        boolean congested = p == OverflowPolicy.SAMPLE && buffer.size() >= capacity / 2
+                && sampled.incrementAndGet() % SAMPLE_RATE != 0;
+        if (congested || !buffer.offer(message)) {
+            dropped.increment();
+            return false;
+        }
+        submitted.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Waits until all the messages logged before this call are written and flushed.
+     */
+    public void flush() {
+        long target = submitted.get();
+        synchronized (this) {
+            while (written < target && writer.isAlive()) {
+                try {
+                    wait(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        checkFailure();
+    }
+
+    /**
+     * Writes the remaining messages, then closes the output and stops the writer thread.
+     * The messages logged afterward are dropped.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (writer.isAlive()) {
+                buffer.put(STOP);
+                writer.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (Thread.currentThread() != shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // The JVM is already shutting down
+            }
+        }
+    }
+
+    /**
+     * Returns whether the sink is closed.
+     *
+     * @return {@code true} if the sink no longer accepts messages
+     */
+    public boolean isClosed() {
+        return closed.get() || !writer.isAlive();
+    }
+
+    /**
+     * Returns the policy applied to the messages that may be dropped.
+     *
+     * @return the overflow policy of the sink
+     */
+    public OverflowPolicy policy() {
+        return policy;
+    }
+
+    /**
+     * Changes the policy applied to the messages that may be dropped.
+     *
+     * @param policy the new overflow policy
+     */
+    public void setPolicy(OverflowPolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * Returns the number of messages dropped since the creation of the sink.
+     *
+     * @return the number of messages that were not written
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    private void checkFailure() {
+        if (failure != null) {
+            throw new RuntimeException(failure);
+        }
+    }
+
+    /**
+     * Body of the writer thread: writes the messages by batches until the sink is closed.
+     */
+    private void writeLoop() {
+        List<Object> batch = new ArrayList<>(MAX_BATCH);
+        Writer out = null;
+        long reported = 0;
+        boolean stop = false;
+        try {
+            while (!stop) {
+                batch.add(buffer.take());
+                buffer.drainTo(batch, MAX_BATCH - 1);
+                int count = 0;
+                for (Object message : batch) {
+                    if (message == STOP) {
+                        stop = true;
+                        break;
+                    }
+                    if (out == null) {
+                        out = output.call();
+                    }
+                    out.write(message instanceof Supplier<?> supplier ? String.valueOf(supplier.get()) :
+                            (String) message);
+                    count++;
+                }
+                long nbDropped = dropped.sum();
+                if (out != null && nbDropped > reported) {
+                    out.write(String.format("\t[%d verbose messages dropped]\n", nbDropped - reported));
+                    reported = nbDropped;
+                }
+                if (out != null) {
+                    out.flush();
+                }
+                batch.clear();
+                synchronized (this) {
+                    written += count;
+                    notifyAll();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            failure = e;
+        } finally {
+            closed.set(true);
+            // Releases the threads waiting for room in the buffer if the output failed
+            buffer.clear();
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    if (failure == null) failure = e;
+                }
+            }
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+    }
+}
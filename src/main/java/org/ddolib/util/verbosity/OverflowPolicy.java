@@ -0,0 +1,32 @@
+package org.ddolib.util.verbosity;
+
+/**
+ * Defines what an {@link AsyncLogSink} does with the messages that may be dropped, such as the
+ * description of each explored subproblem, when its buffer fills up because the output is slower
+ * than the solver.
+ * <p>
+ * The important messages, such as the new best solutions, are never dropped: the solver waits
+ * until there is room for them in the buffer.
+ * </p>
+ */
+public enum OverflowPolicy {
+    /**
+     * The solver waits until there is room in the buffer.
+     * <p>
+     * No message is lost, but a slow output slows down the solver.
+     * </p>
+     */
+    BLOCK,
+    /**
+     * The messages that do not fit in the buffer are dropped.
+     */
+    DROP,
+    /**
+     * Once the buffer is half full, only one message out of {@link AsyncLogSink#SAMPLE_RATE} is kept,
+     * and the messages that do not fit in the buffer are dropped.
+     * <p>
+     * The output thus keeps a regular sample of the search while the buffer drains.
+     * </p>
+     */
+    SAMPLE,
+}
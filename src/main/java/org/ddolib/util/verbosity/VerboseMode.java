@@ -3,6 +3,7 @@ package org.ddolib.util.verbosity;
 import org.ddolib.solving.ddo.core.SubProblem;
 
 import java.io.*;
+import java.nio.file.Path;
 
 /**
  * Utility class for printing detailed information about the search process
@@ -14,7 +15,16 @@ import java.io.*;
  *     <li>New best solution values (NORMAL)</li>
  *     <li>New best solution values, frontier statistics, and details about
  *     each explored subproblem (LARGE)</li>
+ *     <li>The same information as LARGE, appended to {@code logs.txt} (EXPORT)</li>
  * </ul>
+ * <p>
+ * At the LARGE and EXPORT levels, a message is printed at each iteration. These messages are
+ * therefore written asynchronously by an {@link AsyncLogSink}, shared by all the solvers
+ * printing to the same output, so that the solver does not wait for the console or the file.
+ * When the output cannot keep up with the solver, some of the messages describing the explored
+ * subproblems may be dropped according to the {@link OverflowPolicy} of the sink; the new best
+ * solutions and the frontier statistics are always written.
+ * </p>
  */
 public class VerboseMode {
 
@@ -22,6 +32,8 @@ public class VerboseMode {
     private final VerbosityLevel verbosityLevel;
     private long nextPrint;
     private final long printInterval;
+    /** The asynchronous output of the LARGE and EXPORT levels, created when first needed. */
+    private AsyncLogSink sink;
 
     /**
      * Creates a {@code VerboseMode} instance with a given verbosity level
@@ -37,13 +49,29 @@ public class VerboseMode {
         nextPrint = System.currentTimeMillis() + printInterval;
     }
 
+    /**
+     * Creates a {@code VerboseMode} instance writing the messages of the LARGE and EXPORT levels to
+     * the given sink.
+     *
+     * @param verbosityLevel The level of details to print.
+     * @param printInterval  The minimum delay (in milliseconds) between
+     *                       consecutive prints of frontier statistics.
+     * @param sink           The output of the messages of the LARGE and EXPORT levels.
+     */
+    public VerboseMode(VerbosityLevel verbosityLevel, long printInterval, AsyncLogSink sink) {
+        this(verbosityLevel, printInterval);
+        this.sink = sink;
+    }
+
     /**
      * Prints message when a new best solution is found.
      *
      * @param best The value of the new best solution.
      */
     public void newBest(double best) {
-        if (verbosityLevel != VerbosityLevel.SILENT) {
+        if (isDetailed()) {
+            sink().log(String.format("new best: %g\n", best));
+        } else if (verbosityLevel != VerbosityLevel.SILENT) {
             try (Writer writer = getWriter()) {
                 writer.append(String.format("new best: %g\n", best));
                 writer.flush();
@@ -61,14 +89,8 @@ public class VerboseMode {
      * @param <T>    The type of the state.
      */
     public <T> void currentSubProblem(int nbIter, SubProblem<T> sub) {
-        if (verbosityLevel == VerbosityLevel.LARGE || verbosityLevel == VerbosityLevel.EXPORT) {
-            try (Writer writer = getWriter()) {
-                writer.append(String.format("\tit: %d\n\t\t%s\n", nbIter, sub));
-                writer.flush();
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-
+        if (isDetailed()) {
+            sink().logDroppable(() -> String.format("\tit: %d\n\t\t%s\n", nbIter, sub));
         }
     }
 
@@ -84,48 +106,93 @@ public class VerboseMode {
     public void detailedSearchState(int nbIter, int frontierSize, double bestObj,
                                     double bestInFrontier, double gap) {
         long now = System.currentTimeMillis();
-        if ((verbosityLevel == VerbosityLevel.LARGE || verbosityLevel == VerbosityLevel.EXPORT) && now >= nextPrint) {
-
-            try (Writer writer = getWriter()) {
-                String msg = String.format("\tit: %d - frontier size: %d - best obj: %g - " +
-                                "best in frontier: %g - gap: %g\n", nbIter, frontierSize,
-                        bestObj, bestInFrontier, gap);
-
-                writer.append(msg);
-                writer.flush();
-                nextPrint = now + printInterval;
+        if (isDetailed() && now >= nextPrint) {
+            String msg = String.format("\tit: %d - frontier size: %d - best obj: %g - " +
+                            "best in frontier: %g - gap: %g\n", nbIter, frontierSize,
+                    bestObj, bestInFrontier, gap);
+            sink().log(msg);
+            nextPrint = now + printInterval;
+        }
+    }
 
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
+    /**
+     * Waits until all the messages printed so far are written.
+     */
+    public void flush() {
+        if (sink != null) {
+            sink.flush();
         }
     }
 
     /**
      * Returns a writer depending on the verbosity level.
      *
-     * @return If the verbosity level is {@code EXPORT}, return of {@link BufferedWriter}
-     * saving logs into {@code logs.txt}. Otherwise, returns a {@link PrintWriter} to print logs
-     * in the console.
+     * @return If the verbosity level is {@code LARGE} or {@code EXPORT}, returns a writer sending
+     * the text to the {@link AsyncLogSink} of the level, as a single message each time it is
+     * flushed. Otherwise, returns a {@link PrintWriter} to print logs in the console.
      */
     public Writer getWriter() {
-        if (verbosityLevel == VerbosityLevel.EXPORT) {
-            try {
-                return new BufferedWriter(new FileWriter("logs.txt", true));
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
+        if (isDetailed()) {
+            return new SinkWriter(sink());
         } else {
             return new NonClosingPrintWriter(new PrintWriter(System.out));
         }
     }
 
+    /**
+     * Returns whether the messages are written by the asynchronous sink.
+     */
+    private boolean isDetailed() {
+        return verbosityLevel == VerbosityLevel.LARGE || verbosityLevel == VerbosityLevel.EXPORT;
+    }
+
+    /**
+     * Returns the sink of the LARGE and EXPORT levels: {@code logs.txt} for EXPORT and the console
+     * otherwise.
+     */
+    private AsyncLogSink sink() {
+        if (sink == null || sink.isClosed()) {
+            sink = verbosityLevel == VerbosityLevel.EXPORT ? AsyncLogSink.file(Path.of("logs.txt")) :
+                    AsyncLogSink.console();
+        }
+        return sink;
+    }
+
+    /**
+     * Writer sending its text to an {@link AsyncLogSink} when it is flushed.
+     */
+    private static class SinkWriter extends Writer {
+        private final AsyncLogSink sink;
+        private final StringBuilder text = new StringBuilder();
+
+        SinkWriter(AsyncLogSink sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            text.append(cbuf, off, len);
+        }
+
+        @Override
+        public void flush() {
+            if (!text.isEmpty()) {
+                sink.log(text.toString());
+                text.setLength(0);
+            }
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+    }
 
     /**
      * Class encapsulating a {@link PrintWriter} ensuring that {@code System.out} will not be
      * closed.
      */
-    private static class NonClosingPrintWriter extends FilterWriter {
+    static class NonClosingPrintWriter extends FilterWriter {
 
         public NonClosingPrintWriter(PrintWriter out) {
             super(out);
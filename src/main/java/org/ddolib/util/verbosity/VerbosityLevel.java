@@ -43,12 +43,17 @@ public enum VerbosityLevel {
      *     <li>Information about each developed subproblem as the search progresses.</li>
      * </ul>
      * This mode provides the highest level of detail and is useful for
-     * performance analysis and algorithmic tuning.
+     * performance analysis and algorithmic tuning. The messages are written by a
+     * background thread (see {@link AsyncLogSink}), which may drop some of the
+     * subproblem descriptions rather than slow down the search.
      */
     LARGE,
 
     /**
      * Same that {@code LARGE} but save the logs into {@code logs.txt} files.
+     * <p>
+     * The file is opened once, in append mode, and written by a background thread.
+     * </p>
      */
     EXPORT,
 }
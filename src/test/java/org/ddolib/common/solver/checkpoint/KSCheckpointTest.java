@@ -0,0 +1,114 @@
+package org.ddolib.common.solver.checkpoint;
+
+import org.ddolib.common.solver.layered.Solution;
+import org.ddolib.examples.layered.knapsack.*;
+import org.ddolib.modeling.layered.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KSCheckpointTest {
+
+    static Stream<KSProblem> dataProvider() {
+        return KSRandomInstances.generate(27, 51, 15, 30, 2);
+    }
+
+    private static final StateCodec<Integer> CODEC = new StateCodec<>() {
+        @Override
+        public void write(Integer state, DataOutput out) throws IOException {
+            out.writeInt(state);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    private static DdoModel<Integer> ddoModel(KSProblem problem, Path checkpoint) {
+        return new KSRandomInstances.Model(problem, 2) {
+            @Override
+            public StateCodec<Integer> stateCodec() {
+                return CODEC;
+            }
+
+            @Override
+            public Path checkpointFile() {
+                return checkpoint;
+            }
+        };
+    }
+
+    private static AcsModel<Integer> acsModel(KSProblem problem, Path checkpoint) {
+        return new AcsModel<>() {
+            @Override
+            public Problem<Integer> problem() {
+                return problem;
+            }
+
+            @Override
+            public FastLowerBound<Integer> lowerBound() {
+                return new KSFastLowerBound(problem);
+            }
+
+            @Override
+            public StateCodec<Integer> stateCodec() {
+                return CODEC;
+            }
+
+            @Override
+            public Path checkpointFile() {
+                return checkpoint;
+            }
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider")
+    public void testDdoResumesToOptimum(KSProblem problem) throws IOException {
+        Path checkpoint = Files.createTempFile("ks-ddo", ".ckpt");
+        double expected = Solvers.minimizeDdo(ddoModel(problem, null)).value();
+
+        Solution interrupted = Solvers.minimizeDdo(ddoModel(problem, checkpoint), s -> s.nbIterations() >= 3);
+        Solution resumed = Solvers.resumeDdo(ddoModel(problem, null), checkpoint);
+
+        assertEquals(expected, resumed.value());
+        assertTrue(resumed.statistics().nbIterations() >= interrupted.statistics().nbIterations());
+        Files.deleteIfExists(checkpoint);
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider")
+    public void testAstarResumesToOptimum(KSProblem problem) throws IOException {
+        Path checkpoint = Files.createTempFile("ks-astar", ".ckpt");
+        double expected = Solvers.minimizeDdo(ddoModel(problem, null)).value();
+
+        Solvers.minimizeAstar(acsModel(problem, checkpoint), s -> s.nbIterations() >= 5);
+        Solution resumed = Solvers.resumeAstar(acsModel(problem, null), checkpoint);
+
+        assertEquals(expected, resumed.value());
+        Files.deleteIfExists(checkpoint);
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider")
+    public void testAcsResumesToOptimum(KSProblem problem) throws IOException {
+        Path checkpoint = Files.createTempFile("ks-acs", ".ckpt");
+        double expected = Solvers.minimizeDdo(ddoModel(problem, null)).value();
+
+        Solvers.minimizeAcs(acsModel(problem, checkpoint), s -> s.nbIterations() >= 5);
+        Solution resumed = Solvers.resumeAcs(acsModel(problem, null), checkpoint);
+
+        assertEquals(expected, resumed.value());
+        Files.deleteIfExists(checkpoint);
+    }
+}
@@ -0,0 +1,95 @@
+package org.ddolib.examples.layered.knapsack;
+
+import org.ddolib.common.dominance.DominanceChecker;
+import org.ddolib.common.dominance.SimpleDominanceChecker;
+import org.ddolib.modeling.layered.DdoModel;
+import org.ddolib.modeling.layered.FastLowerBound;
+import org.ddolib.modeling.layered.Problem;
+import org.ddolib.modeling.layered.Relaxation;
+import org.ddolib.solving.ddo.core.heuristics.width.FixedWidth;
+import org.ddolib.solving.ddo.core.heuristics.width.WidthHeuristic;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Small random knapsack instances, and the DDO model solving them, shared by the tests of the solvers.
+ */
+public final class KSRandomInstances {
+
+    private KSRandomInstances() {
+    }
+
+    /**
+     * Generates random instances. The profit of each item is drawn in {@code [1, capacity / 2]} and
+     * its weight in {@code [minWeight, minWeight + capacity / 2 - 1]}.
+     *
+     * @param seed      the seed of the generator, so that the instances are the same at each run
+     * @param count     the number of instances
+     * @param nbVars    the number of items of each instance
+     * @param capacity  the capacity of the knapsack
+     * @param minWeight the minimum weight of an item
+     * @return the generated instances
+     */
+    public static Stream<KSProblem> generate(long seed, int count, int nbVars, int capacity, int minWeight) {
+        Random rand = new Random(seed);
+        return IntStream.range(0, count).mapToObj(k -> {
+            int[] profit = new int[nbVars];
+            int[] weight = new int[nbVars];
+            for (int i = 0; i < nbVars; i++) {
+                profit[i] = 1 + rand.nextInt(capacity / 2);
+                weight[i] = minWeight + rand.nextInt(capacity / 2);
+            }
+            return new KSProblem(capacity, profit, weight);
+        });
+    }
+
+    /**
+     * DDO model of a knapsack instance with a fixed width, the knapsack relaxation, ranking, fast
+     * lower bound and dominance. The tests override the parts they exercise.
+     */
+    public static class Model implements DdoModel<Integer> {
+        protected final KSProblem problem;
+        private final int width;
+
+        /**
+         * @param problem the instance to solve
+         * @param width   the maximum width of the compiled diagrams
+         */
+        public Model(KSProblem problem, int width) {
+            this.problem = problem;
+            this.width = width;
+        }
+
+        @Override
+        public Problem<Integer> problem() {
+            return problem;
+        }
+
+        @Override
+        public FastLowerBound<Integer> lowerBound() {
+            return new KSFastLowerBound(problem);
+        }
+
+        @Override
+        public DominanceChecker<Integer> dominance() {
+            return new SimpleDominanceChecker<>(new KSDominance(), problem.nbVars());
+        }
+
+        @Override
+        public Relaxation<Integer> relaxation() {
+            return new KSRelax();
+        }
+
+        @Override
+        public KSRanking ranking() {
+            return new KSRanking();
+        }
+
+        @Override
+        public WidthHeuristic<Integer> widthHeuristic() {
+            return new FixedWidth<>(width);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.ddolib.examples.layered.talentscheduling;
+
+import org.ddolib.common.solver.layered.Solution;
+import org.ddolib.common.solver.stat.SearchStatus;
+import org.ddolib.modeling.InvalidSolutionException;
+import org.ddolib.modeling.layered.BidirectionalModel;
+import org.ddolib.modeling.layered.FastLowerBound;
+import org.ddolib.modeling.layered.Problem;
+import org.ddolib.modeling.layered.Solvers;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TalentSchedBidirectionalTest {
+
+    static Stream<TSProblem> dataProvider() throws IOException {
+        return Files.list(Path.of("src", "test", "resources", "TalentScheduling"))
+                .filter(Files::isRegularFile)
+                .sorted()
+                .map(filePath -> {
+                    try {
+                        return new TSProblem(filePath.toString());
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+    }
+
+    private static BidirectionalModel<TSState, TSState> model(TSProblem problem, int meetDepth, boolean withBounds) {
+        return new BidirectionalModel<>() {
+            @Override
+            public Problem<TSState> problem() {
+                return problem;
+            }
+
+            @Override
+            public FastLowerBound<TSState> lowerBound() {
+                return withBounds ? new TSFastLowerBound(problem) : super.lowerBound();
+            }
+
+            @Override
+            public Problem<TSState> backwardProblem() {
+                return new TSBackwardProblem(problem);
+            }
+
+            @Override
+            public FastLowerBound<TSState> backwardLowerBound() {
+                if (!withBounds) return super.backwardLowerBound();
+                TSFastLowerBound flb = new TSFastLowerBound(problem);
+                double baseCost = problem.initialValue();
+                return (state, variables) -> baseCost + flb.fastLowerBound(state, variables);
+            }
+
+            @Override
+            public Object forwardKey(TSState state) {
+                return state.remainingScenes();
+            }
+
+            @Override
+            public Object backwardKey(TSState state) {
+                BitSet scheduled = new BitSet(problem.nbVars());
+                scheduled.set(0, problem.nbVars());
+                scheduled.andNot(state.remainingScenes());
+                return scheduled;
+            }
+
+            @Override
+            public int meetDepth() {
+                return meetDepth;
+            }
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider")
+    void testBidirectionalFindsTheOptimum(TSProblem problem) throws InvalidSolutionException {
+        int n = problem.nbVars();
+        for (int meetDepth : new int[]{0, 1, n / 2, n}) {
+            for (boolean withBounds : new boolean[]{false, true}) {
+                Solution solution = Solvers.minimizeBidirectional(model(problem, meetDepth, withBounds));
+
+                assertEquals(SearchStatus.OPTIMAL, solution.statistics().status());
+                assertEquals(problem.optimalValue().get(), solution.value(), 1e-10);
+                assertEquals(n, solution.solution().length);
+                assertEquals(solution.value(), problem.evaluate(solution.solution()), 1e-10);
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.ddolib.modeling.layered;
+
+import org.ddolib.common.solver.layered.Solution;
+import org.ddolib.examples.layered.knapsack.KSFastLowerBound;
+import org.ddolib.examples.layered.knapsack.KSProblem;
+import org.ddolib.examples.layered.knapsack.KSRandomInstances;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MemoizedFastLowerBoundTest {
+
+    static Stream<KSProblem> dataProvider() {
+        return KSRandomInstances.generate(11, 20, 15, 30, 1);
+    }
+
+    private static DdoModel<Integer> model(KSProblem problem, FastLowerBound<Integer> lb, boolean useLowerBoundCache) {
+        return new KSRandomInstances.Model(problem, 3) {
+            @Override
+            public FastLowerBound<Integer> lowerBound() {
+                return lb;
+            }
+
+            @Override
+            public boolean useLowerBoundCache() {
+                return useLowerBoundCache;
+            }
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider")
+    void testMemoizedBoundFindsTheSameSolution(KSProblem problem) {
+        Solution ddo = Solvers.minimizeDdo(model(problem, new KSFastLowerBound(problem), false));
+        Solution memoizedDdo = Solvers.minimizeDdo(model(problem, new KSFastLowerBound(problem), true));
+        assertEquals(ddo.value(), memoizedDdo.value(), 1e-10);
+
+        Solution astar = Solvers.minimizeAstar(model(problem, new KSFastLowerBound(problem), false));
+        Solution memoizedAstar = Solvers.minimizeAstar(model(problem, new KSFastLowerBound(problem), true));
+        assertEquals(astar.value(), memoizedAstar.value(), 1e-10);
+        assertEquals(ddo.value(), astar.value(), 1e-10);
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider")
+    void testMemoizedBoundIsComputedOncePerState(KSProblem problem) {
+        AtomicInteger calls = new AtomicInteger();
+        KSFastLowerBound ks = new KSFastLowerBound(problem);
+        FastLowerBound<Integer> counting = (state, variables) -> {
+            calls.incrementAndGet();
+            return ks.fastLowerBound(state, variables);
+        };
+        MemoizedFastLowerBound<Integer> memoized = (MemoizedFastLowerBound<Integer>)
+                MemoizedFastLowerBound.of(model(problem, counting, true));
+        Solvers.minimizeDdo(model(problem, memoized, false));
+
+        assertEquals(calls.get(), memoized.misses());
+        assertTrue(memoized.hits() > 0);
+        assertEquals((double) memoized.hits() / (memoized.hits() + memoized.misses()), memoized.hitRate(), 1e-10);
+    }
+
+    @Test
+    void testDisabledOrDefaultBoundIsNotMemoized() {
+        KSProblem problem = dataProvider().findFirst().get();
+        FastLowerBound<Integer> ks = new KSFastLowerBound(problem);
+        assertSame(ks, MemoizedFastLowerBound.of(model(problem, ks, false)));
+        DefaultFastLowerBound<Integer> none = new DefaultFastLowerBound<>();
+        assertSame(none, MemoizedFastLowerBound.of(model(problem, none, true)));
+    }
+
+    @Test
+    void testTheOldestGenerationIsDropped() {
+        AtomicInteger calls = new AtomicInteger();
+        MemoizedFastLowerBound<Integer> memoized = new MemoizedFastLowerBound<>((state, variables) -> {
+            calls.incrementAndGet();
+            return state;
+        }, 4);
+        Set<Integer> vars = Set.of(1, 2);
+        for (int state = 0; state < 4; state++) {
+            assertEquals(state, memoized.fastLowerBound(state, vars), 1e-10);
+        }
+        // 0 and 1 were moved to the previous generation, then dropped
+        assertEquals(0, memoized.fastLowerBound(0, vars), 1e-10);
+        assertEquals(5, calls.get());
+        // 2 is in the previous generation: it is moved back with 0, and 3 is dropped
+        assertEquals(2, memoized.fastLowerBound(2, vars), 1e-10);
+        assertEquals(5, calls.get());
+        assertEquals(3, memoized.fastLowerBound(3, vars), 1e-10);
+        assertEquals(6, calls.get());
+        // The same state with other variables is another entry
+        assertEquals(0, memoized.fastLowerBound(0, Set.of(1)), 1e-10);
+        assertEquals(7, calls.get());
+        assertEquals(1, memoized.hits());
+        assertEquals(7, memoized.misses());
+    }
+}
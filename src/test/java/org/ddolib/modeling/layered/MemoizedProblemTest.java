@@ -0,0 +1,89 @@
+package org.ddolib.modeling.layered;
+
+import org.ddolib.common.solver.layered.Solution;
+import org.ddolib.examples.layered.knapsack.KSProblem;
+import org.ddolib.examples.layered.knapsack.KSRandomInstances;
+import org.ddolib.modeling.InvalidSolutionException;
+import org.ddolib.solving.ddo.core.Decision;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MemoizedProblemTest {
+
+    static Stream<KSProblem> dataProvider() {
+        return KSRandomInstances.generate(13, 20, 15, 30, 1);
+    }
+
+    private static DdoModel<Integer> model(KSProblem ks, Problem<Integer> solved) {
+        return new KSRandomInstances.Model(ks, 3) {
+            @Override
+            public Problem<Integer> problem() {
+                return solved;
+            }
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider")
+    void testMemoizedProblemFindsTheSameSolution(KSProblem problem) throws InvalidSolutionException {
+        Solution ddo = Solvers.minimizeDdo(model(problem, problem));
+        Solution astar = Solvers.minimizeAstar(model(problem, problem));
+        for (boolean intern : new boolean[]{false, true}) {
+            for (boolean cache : new boolean[]{false, true}) {
+                Solution memoizedDdo = Solvers.minimizeDdo(
+                        model(problem, new MemoizedProblem<>(problem, intern, cache)));
+                assertEquals(ddo.value(), memoizedDdo.value(), 1e-10);
+                assertEquals(memoizedDdo.value(), problem.evaluate(memoizedDdo.solution()), 1e-10);
+                Solution memoizedAstar = Solvers.minimizeAstar(
+                        model(problem, new MemoizedProblem<>(problem, intern, cache)));
+                assertEquals(astar.value(), memoizedAstar.value(), 1e-10);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider")
+    void testTransitionsAreComputedOnce(KSProblem problem) {
+        MemoizedProblem<Integer> memoized = new MemoizedProblem<>(problem, true, true);
+        Solution solution = Solvers.minimizeDdo(model(problem, memoized));
+
+        assertEquals(Solvers.minimizeDdo(model(problem, problem)).value(), solution.value(), 1e-10);
+        assertTrue(memoized.hits() > 0);
+        assertTrue(memoized.misses() > 0);
+        assertTrue(memoized.nbInternedStates() > 0);
+    }
+
+    @Test
+    void testEqualStatesAreInterned() {
+        KSProblem problem = dataProvider().findFirst().get();
+        MemoizedProblem<Integer> memoized = new MemoizedProblem<>(problem, true, false);
+        Integer a = memoized.intern(1000);
+        Integer b = memoized.intern(1000);
+        assertSame(a, b);
+        assertSame(memoized.initialState(), memoized.initialState());
+        Decision skip = new Decision(0, 0);
+        assertSame(a, memoized.transition(a, skip));
+        assertEquals(0, memoized.hits());
+
+        MemoizedProblem<Integer> notInterned = new MemoizedProblem<>(problem, false, true);
+        Integer c = 1000;
+        assertSame(c, notInterned.intern(c));
+        assertEquals(problem.transitionCost(c, skip), notInterned.transitionCost(c, skip), 1e-10);
+        assertEquals(problem.transition(c, skip), notInterned.transition(c, skip));
+        // the next state and the cost of a decision are computed once
+        assertEquals(0, notInterned.hits());
+        assertEquals(1, notInterned.misses());
+        Decision take = new Decision(0, 1);
+        assertEquals(problem.transition(c, take), notInterned.transition(c, take));
+        assertEquals(problem.transition(c, skip), notInterned.transition(c, skip));
+        assertEquals(1, notInterned.hits());
+        assertEquals(2, notInterned.misses());
+    }
+}
@@ -0,0 +1,59 @@
+package org.ddolib.solving.ddo.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecisionPathTest {
+
+    @Test
+    void testEmptyPath() {
+        DecisionPath path = DecisionPath.of(Set.of());
+        assertTrue(path.isEmpty());
+        assertFalse(path.iterator().hasNext());
+        assertSame(path, DecisionPath.of(new HashSet<>()));
+    }
+
+    @Test
+    void testExtendedPathIsEqualToHashSet() {
+        Set<Decision> base = new HashSet<>(Set.of(new Decision(0, 1), new Decision(1, 0)));
+        DecisionPath path = DecisionPath.of(base)
+                .with(new Decision(2, 3))
+                .with(new Decision(3, 2));
+
+        Set<Decision> expected = new HashSet<>(base);
+        expected.add(new Decision(2, 3));
+        expected.add(new Decision(3, 2));
+
+        assertEquals(4, path.size());
+        assertEquals(expected, path);
+        assertEquals(path, expected);
+        assertEquals(expected.hashCode(), path.hashCode());
+        assertEquals(expected, new HashSet<>(path));
+        assertTrue(path.contains(new Decision(0, 1)));
+        assertTrue(path.contains(new Decision(3, 2)));
+        assertFalse(path.contains(new Decision(3, 3)));
+    }
+
+    @Test
+    void testPathsShareTheirPrefix() {
+        DecisionPath prefix = DecisionPath.of(Set.of()).with(new Decision(0, 0));
+        DecisionPath left = prefix.with(new Decision(1, 0));
+        DecisionPath right = prefix.with(new Decision(1, 1));
+
+        assertSame(prefix, DecisionPath.of(prefix));
+        assertEquals(Set.of(new Decision(0, 0)), prefix);
+        assertEquals(Set.of(new Decision(0, 0), new Decision(1, 0)), left);
+        assertEquals(Set.of(new Decision(0, 0), new Decision(1, 1)), right);
+    }
+
+    @Test
+    void testPathIsImmutable() {
+        DecisionPath path = DecisionPath.of(Set.of()).with(new Decision(0, 0));
+        assertThrows(UnsupportedOperationException.class, () -> path.add(new Decision(1, 0)));
+        assertThrows(UnsupportedOperationException.class, () -> path.remove(new Decision(0, 0)));
+    }
+}
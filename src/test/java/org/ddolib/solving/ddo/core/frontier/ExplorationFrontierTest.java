@@ -0,0 +1,102 @@
+package org.ddolib.solving.ddo.core.frontier;
+
+import org.ddolib.common.solver.layered.Solution;
+import org.ddolib.common.solver.stat.SearchStatus;
+import org.ddolib.examples.layered.knapsack.*;
+import org.ddolib.modeling.layered.*;
+import org.ddolib.solving.ddo.core.Decision;
+import org.ddolib.solving.ddo.core.SubProblem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExplorationFrontierTest {
+
+    static Stream<KSProblem> dataProvider() {
+        return KSRandomInstances.generate(42, 101, 12, 20, 2);
+    }
+
+    private static Solution solve(KSProblem problem, CutSetType cutSetType, ExplorationOrder order) {
+        final DdoModel<Integer> model = new KSRandomInstances.Model(problem, 2) {
+            @Override
+            public Frontier<Integer> frontier() {
+                if (order == null) {
+                    return new SimpleFrontier<>(ranking(), cutSetType);
+                } else {
+                    return new ExplorationFrontier<>(ranking(), cutSetType, order, 4);
+                }
+            }
+        };
+        return Solvers.minimizeDdo(model);
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider")
+    public void testSameOptimumAsSimpleFrontier(KSProblem problem) {
+        for (CutSetType cutSetType : CutSetType.values()) {
+            Solution expected = solve(problem, cutSetType, null);
+            for (ExplorationOrder order : ExplorationOrder.values()) {
+                Solution actual = solve(problem, cutSetType, order);
+                assertEquals(expected.value(), actual.value(), order.toString());
+                assertEquals(SearchStatus.OPTIMAL, actual.statistics().status());
+            }
+        }
+    }
+
+    private static SubProblem<Integer> sub(int state, int depth, double lb) {
+        Set<Decision> path = new HashSet<>();
+        for (int i = 0; i < depth; i++) {
+            path.add(new Decision(i, state));
+        }
+        return new SubProblem<>(state, 0, lb, path);
+    }
+
+    private static ExplorationFrontier<Integer> filled(ExplorationOrder order) {
+        ExplorationFrontier<Integer> frontier =
+                new ExplorationFrontier<>((a, b) -> 0, CutSetType.Frontier, order, 3);
+        frontier.push(sub(0, 1, 5));
+        frontier.push(sub(1, 1, 2));
+        frontier.push(sub(2, 2, 8));
+        frontier.push(sub(3, 2, 2));
+        frontier.push(sub(4, 3, 9));
+        return frontier;
+    }
+
+    private static int[] popAll(ExplorationFrontier<Integer> frontier) {
+        int[] states = new int[frontier.size()];
+        for (int i = 0; i < states.length; i++) {
+            double best = frontier.bestInFrontier();
+            SubProblem<Integer> sub = frontier.pop();
+            assertTrue(sub.getLowerBound() >= best);
+            states[i] = sub.getState();
+        }
+        assertTrue(frontier.isEmpty());
+        assertNull(frontier.pop());
+        return states;
+    }
+
+    @Test
+    public void testExplorationOrders() {
+        assertArrayEquals(new int[]{3, 1, 0, 2, 4}, popAll(filled(ExplorationOrder.BEST_FIRST)));
+        assertArrayEquals(new int[]{4, 3, 2, 1, 0}, popAll(filled(ExplorationOrder.DEPTH_FIRST)));
+        assertArrayEquals(new int[]{1, 3, 4, 0, 2}, popAll(filled(ExplorationOrder.CYCLIC)));
+        // depth-first while more than 3 subproblems are open, then best-first
+        assertArrayEquals(new int[]{4, 3, 1, 0, 2}, popAll(filled(ExplorationOrder.HYBRID)));
+    }
+
+    @Test
+    public void testBestInFrontierIsExact() {
+        ExplorationFrontier<Integer> frontier = filled(ExplorationOrder.DEPTH_FIRST);
+        assertEquals(2, frontier.bestInFrontier());
+        assertEquals(2, frontier.purge(8));
+        assertEquals(3, frontier.size());
+        assertEquals(2, frontier.bestInFrontier());
+        assertArrayEquals(new int[]{3, 1, 0}, popAll(frontier));
+    }
+}
@@ -0,0 +1,63 @@
+package org.ddolib.solving.ddo.core.frontier;
+
+import org.ddolib.common.solver.layered.Solution;
+import org.ddolib.examples.layered.knapsack.*;
+import org.ddolib.modeling.layered.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class KSExternalMemoryFrontierTest {
+
+    static Stream<KSProblem> dataProvider() {
+        return KSRandomInstances.generate(26, 201, 12, 20, 2);
+    }
+
+    private static final StateCodec<Integer> CODEC = new StateCodec<>() {
+        @Override
+        public void write(Integer state, DataOutput out) throws IOException {
+            out.writeInt(state);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    private static double optimalSolution(KSProblem problem, CutSetType cutSetType, boolean externalMemory) {
+        final DdoModel<Integer> model = new KSRandomInstances.Model(problem, 2) {
+            @Override
+            public StateCodec<Integer> stateCodec() {
+                return CODEC;
+            }
+
+            @Override
+            public Frontier<Integer> frontier() {
+                if (externalMemory) {
+                    return new ExternalMemoryFrontier<>(ranking(), cutSetType, stateCodec(), 2);
+                } else {
+                    return new SimpleFrontier<>(ranking(), cutSetType);
+                }
+            }
+        };
+
+        Solution bestSol = Solvers.minimizeDdo(model);
+        return bestSol.value();
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider")
+    public void testSameOptimumAsSimpleFrontier(KSProblem problem) {
+        for (CutSetType cutSetType : CutSetType.values()) {
+            assertEquals(optimalSolution(problem, cutSetType, false),
+                    optimalSolution(problem, cutSetType, true));
+        }
+    }
+}
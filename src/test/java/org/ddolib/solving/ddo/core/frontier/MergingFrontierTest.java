@@ -0,0 +1,93 @@
+package org.ddolib.solving.ddo.core.frontier;
+
+import org.ddolib.common.solver.layered.Solution;
+import org.ddolib.common.solver.stat.DdoStats;
+import org.ddolib.examples.layered.knapsack.*;
+import org.ddolib.modeling.layered.*;
+import org.ddolib.solving.ddo.core.Decision;
+import org.ddolib.solving.ddo.core.SubProblem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MergingFrontierTest {
+
+    static Stream<KSProblem> dataProvider() {
+        return KSRandomInstances.generate(41, 101, 12, 20, 2);
+    }
+
+    private static Solution solve(KSProblem problem, CutSetType cutSetType, boolean merging) {
+        final DdoModel<Integer> model = new KSRandomInstances.Model(problem, 2) {
+            @Override
+            public Frontier<Integer> frontier() {
+                if (merging) {
+                    return new MergingFrontier<>(ranking(), cutSetType);
+                } else {
+                    return new SimpleFrontier<>(ranking(), cutSetType);
+                }
+            }
+        };
+        return Solvers.minimizeDdo(model);
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider")
+    public void testSameOptimumAsSimpleFrontier(KSProblem problem) {
+        for (CutSetType cutSetType : CutSetType.values()) {
+            Solution simple = solve(problem, cutSetType, false);
+            Solution merging = solve(problem, cutSetType, true);
+            assertEquals(simple.value(), merging.value());
+            assertEquals(simple.statistics().status(), merging.statistics().status());
+            assertEquals(0, ((DdoStats) simple.statistics()).nbMerged());
+            assertTrue(merging.statistics().frontierMaxSize() <= simple.statistics().frontierMaxSize());
+        }
+    }
+
+    private static SubProblem<Integer> sub(int state, double value, double lb) {
+        return new SubProblem<>(state, value, lb, Set.of(new Decision(0, (int) value)));
+    }
+
+    @Test
+    public void testMergesSubProblemsOfTheSameState() {
+        MergingFrontier<Integer> frontier = new MergingFrontier<>((a, b) -> 0, CutSetType.Frontier);
+        frontier.push(sub(1, 10, 15));
+        frontier.push(sub(2, 4, 12));
+        // better value, weaker bound on the remaining cost
+        frontier.push(sub(1, 8, 10));
+        assertEquals(2, frontier.size());
+        assertEquals(1, frontier.nbMerged());
+
+        SubProblem<Integer> first = frontier.pop();
+        assertEquals(2, first.getState());
+        SubProblem<Integer> merged = frontier.pop();
+        assertEquals(1, merged.getState());
+        assertEquals(8, merged.getValue());
+        assertEquals(13, merged.getLowerBound());
+        assertEquals(Set.of(new Decision(0, 8)), merged.getPath());
+        assertTrue(frontier.isEmpty());
+    }
+
+    @Test
+    public void testPurgeRemovesSubProblemsThatCannotImprove() {
+        for (boolean merging : new boolean[]{false, true}) {
+            Frontier<Integer> frontier = merging
+                    ? new MergingFrontier<>((a, b) -> 0, CutSetType.Frontier)
+                    : new SimpleFrontier<>((a, b) -> 0, CutSetType.Frontier);
+            for (int i = 0; i < 20; i++) {
+                frontier.push(sub(i, 0, i));
+            }
+            assertEquals(10, frontier.purge(10));
+            assertEquals(10, frontier.size());
+            assertEquals(0, frontier.purge(10));
+            for (int i = 0; i < 10; i++) {
+                assertEquals(i, frontier.pop().getLowerBound());
+            }
+            assertTrue(frontier.isEmpty());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.ddolib.solving.ddo.core.heuristics.cluster.layered;
+
+import org.ddolib.examples.layered.maximumcoverage.MaxCoverDistance;
+import org.ddolib.examples.layered.maximumcoverage.MaxCoverProblem;
+import org.ddolib.examples.layered.maximumcoverage.MaxCoverState;
+import org.ddolib.solving.ddo.core.Decision;
+import org.ddolib.solving.ddo.core.mdd.layered.Node;
+import org.ddolib.solving.ddo.core.mdd.layered.NodeSubProblem;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that {@link FastGHP} computes the same clusters as {@link GHP} for the same seed,
+ * whether the distances are computed sequentially or in parallel, one by one or by batches.
+ */
+class FastGHPTest {
+
+    static Stream<Integer> dataProvider() {
+        return IntStream.range(0, 10).boxed();
+    }
+
+    /**
+     * Builds a layer of distinct states by applying random decisions from the root.
+     */
+    private static List<NodeSubProblem<MaxCoverState>> layer(MaxCoverProblem problem, int size, Random rnd) {
+        Set<MaxCoverState> states = new HashSet<>();
+        while (states.size() < size) {
+            MaxCoverState state = problem.initialState();
+            int depth = 1 + rnd.nextInt(problem.nbVars());
+            for (int var = 0; var < depth; var++) {
+                state = problem.transition(state, new Decision(var, rnd.nextInt(30)));
+            }
+            states.add(state);
+        }
+        List<NodeSubProblem<MaxCoverState>> layer = new ArrayList<>();
+        for (MaxCoverState state : states) {
+            layer.add(new NodeSubProblem<>(state, 0, new Node(0)));
+        }
+        return layer;
+    }
+
+    private static List<Set<MaxCoverState>> asSets(List<NodeSubProblem<MaxCoverState>>[] clusters) {
+        List<Set<MaxCoverState>> sets = new ArrayList<>();
+        for (List<NodeSubProblem<MaxCoverState>> cluster : clusters) {
+            Set<MaxCoverState> set = new HashSet<>();
+            for (NodeSubProblem<MaxCoverState> node : cluster) {
+                set.add(node.state);
+            }
+            assertEquals(cluster.size(), set.size());
+            sets.add(set);
+        }
+        return sets;
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider")
+    void testSameClustersAsGHP(int seed) {
+        Random rnd = new Random(seed);
+        MaxCoverProblem problem = new MaxCoverProblem(30, 30, 5, 0.1, seed);
+        MaxCoverDistance distance = new MaxCoverDistance(problem);
+        int size = 50 + rnd.nextInt(150);
+        int maxWidth = 2 + rnd.nextInt(20);
+        List<NodeSubProblem<MaxCoverState>> layer = layer(problem, size, rnd);
+
+        List<Set<MaxCoverState>> expected = asSets(
+                new GHP<>(distance, seed).defineClusters(new ArrayList<>(layer), maxWidth));
+        List<Set<MaxCoverState>> sequential = asSets(
+                new FastGHP<>(distance, seed, Integer.MAX_VALUE).defineClusters(new ArrayList<>(layer), maxWidth));
+        List<Set<MaxCoverState>> parallel = asSets(
+                new FastGHP<>(distance, seed, 8).defineClusters(new ArrayList<>(layer), maxWidth));
+
+        assertEquals(maxWidth, expected.size());
+        assertEquals(expected, sequential);
+        assertEquals(expected, parallel);
+        assertEquals(size, parallel.stream().mapToInt(Set::size).sum());
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider")
+    void testBatchDistancesMatchPairwiseDistances(int seed) {
+        Random rnd = new Random(seed);
+        MaxCoverProblem problem = new MaxCoverProblem(30, 30, 5, 0.1, seed);
+        MaxCoverDistance distance = new MaxCoverDistance(problem);
+        List<NodeSubProblem<MaxCoverState>> layer = layer(problem, 100, rnd);
+        int maxWidth = 2 + rnd.nextInt(20);
+
+        MaxCoverState ref = layer.getFirst().state;
+        long[][] others = new long[layer.size()][];
+        for (int i = 0; i < others.length; i++) {
+            others[i] = distance.words(layer.get(i).state);
+        }
+        double[] out = new double[others.length];
+        distance.distances(distance.words(ref), others, out);
+        for (int i = 0; i < others.length; i++) {
+            assertEquals(distance.distance(layer.get(i).state, ref), out[i]);
+        }
+
+        // the same distance, hidden behind a plain state distance, is computed one pair at a time
+        StateDistance<MaxCoverState> pairwise = distance::distance;
+        assertEquals(asSets(new FastGHP<>(pairwise, seed, 8).defineClusters(new ArrayList<>(layer), maxWidth)),
+                asSets(new FastGHP<>(distance, seed, 8).defineClusters(new ArrayList<>(layer), maxWidth)));
+    }
+}
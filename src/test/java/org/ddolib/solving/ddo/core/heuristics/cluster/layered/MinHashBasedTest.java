@@ -0,0 +1,129 @@
+package org.ddolib.solving.ddo.core.heuristics.cluster.layered;
+
+import org.ddolib.common.solver.layered.Solution;
+import org.ddolib.examples.layered.maximumcoverage.MaxCoverFastLowerBound;
+import org.ddolib.examples.layered.maximumcoverage.MaxCoverProblem;
+import org.ddolib.examples.layered.maximumcoverage.MaxCoverRanking;
+import org.ddolib.examples.layered.maximumcoverage.MaxCoverRelax;
+import org.ddolib.examples.layered.maximumcoverage.MaxCoverState;
+import org.ddolib.modeling.layered.DdoModel;
+import org.ddolib.modeling.layered.ExactModel;
+import org.ddolib.modeling.layered.Problem;
+import org.ddolib.modeling.layered.Solvers;
+import org.ddolib.solving.ddo.core.Decision;
+import org.ddolib.solving.ddo.core.mdd.layered.Node;
+import org.ddolib.solving.ddo.core.mdd.layered.NodeSubProblem;
+import org.ddolib.solving.ddo.core.heuristics.width.FixedWidth;
+import org.ddolib.solving.ddo.core.heuristics.width.WidthHeuristic;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Tests of the {@link MinHashBased} reduction strategy.
+ */
+class MinHashBasedTest {
+
+    static Stream<Integer> dataProvider() {
+        return IntStream.range(0, 10).boxed();
+    }
+
+    private static List<NodeSubProblem<MaxCoverState>> layer(MaxCoverProblem problem, int size, Random rnd) {
+        Set<MaxCoverState> states = new HashSet<>();
+        while (states.size() < size) {
+            MaxCoverState state = problem.initialState();
+            int depth = 1 + rnd.nextInt(problem.nbVars());
+            for (int var = 0; var < depth; var++) {
+                state = problem.transition(state, new Decision(var, rnd.nextInt(problem.nbSubSets)));
+            }
+            states.add(state);
+        }
+        List<NodeSubProblem<MaxCoverState>> layer = new ArrayList<>();
+        for (MaxCoverState state : states) {
+            layer.add(new NodeSubProblem<>(state, 0, new Node(0)));
+        }
+        return layer;
+    }
+
+    private static void assertPartition(List<NodeSubProblem<MaxCoverState>> layer,
+                                        List<NodeSubProblem<MaxCoverState>>[] clusters, int maxWidth) {
+        assertEquals(Math.min(maxWidth, layer.size()), clusters.length);
+        Set<NodeSubProblem<MaxCoverState>> seen = new HashSet<>();
+        for (List<NodeSubProblem<MaxCoverState>> cluster : clusters) {
+            assertFalse(cluster.isEmpty());
+            seen.addAll(cluster);
+        }
+        assertEquals(new HashSet<>(layer), seen);
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider")
+    void testClustersPartitionTheLayer(int seed) {
+        Random rnd = new Random(seed);
+        MaxCoverProblem problem = new MaxCoverProblem(30, 30, 5, 0.1, seed);
+        List<NodeSubProblem<MaxCoverState>> layer = layer(problem, 20 + rnd.nextInt(150), rnd);
+        for (int maxWidth : new int[]{1, 2, 10, 50, 500}) {
+            MinHashBased<MaxCoverState> minHash = new MinHashBased<>(MaxCoverState::coveredItems, seed);
+            assertPartition(layer, minHash.defineClusters(new ArrayList<>(layer), maxWidth), maxWidth);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider")
+    void testMaxCoverOptimumWithMinHash(int seed) {
+        MaxCoverProblem problem = new MaxCoverProblem(15, 15, 5, 0.1, seed);
+        DdoModel<MaxCoverState> model = new DdoModel<>() {
+            @Override
+            public Problem<MaxCoverState> problem() {
+                return problem;
+            }
+
+            @Override
+            public MaxCoverRelax relaxation() {
+                return new MaxCoverRelax(problem);
+            }
+
+            @Override
+            public MaxCoverRanking ranking() {
+                return new MaxCoverRanking();
+            }
+
+            @Override
+            public MaxCoverFastLowerBound lowerBound() {
+                return new MaxCoverFastLowerBound(problem);
+            }
+
+            @Override
+            public WidthHeuristic<MaxCoverState> widthHeuristic() {
+                return new FixedWidth<>(5);
+            }
+
+            @Override
+            public ReductionStrategy<MaxCoverState> relaxStrategy() {
+                return new MinHashBased<>(MaxCoverState::coveredItems, seed);
+            }
+
+            @Override
+            public ReductionStrategy<MaxCoverState> restrictStrategy() {
+                return new MinHashBased<>(MaxCoverState::coveredItems, seed);
+            }
+        };
+        Solution expected = Solvers.minimizeExact(new ExactModel<MaxCoverState>() {
+            @Override
+            public Problem<MaxCoverState> problem() {
+                return problem;
+            }
+        });
+        assertEquals(expected.value(), Solvers.minimizeDdo(model).value(), 1e-10);
+    }
+}
@@ -0,0 +1,146 @@
+package org.ddolib.solving.ddo.core.heuristics.variable.layered;
+
+import org.ddolib.common.dominance.DefaultDominanceChecker;
+import org.ddolib.common.dominance.DominanceChecker;
+import org.ddolib.common.solver.layered.Solution;
+import org.ddolib.examples.layered.knapsack.KSProblem;
+import org.ddolib.examples.layered.knapsack.KSRandomInstances;
+import org.ddolib.modeling.layered.DdoModel;
+import org.ddolib.modeling.layered.ExactModel;
+import org.ddolib.modeling.layered.Problem;
+import org.ddolib.modeling.layered.Solvers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VariableHeuristicTest {
+
+    static Stream<KSProblem> dataProvider() {
+        return KSRandomInstances.generate(42, 20, 10, 30, 1);
+    }
+
+    private static List<Function<KSProblem, VariableHeuristic<Integer>>> heuristics() {
+        return List.of(
+                MinDomainSize::new,
+                problem -> new MinDomainSize<>(problem, 3),
+                problem -> new ScoreBased<>((state, var) -> (double) problem.weight[var] / state),
+                problem -> new Learned<>(problem.nbVars(), 0.1, 42));
+    }
+
+    private static DdoModel<Integer> model(KSProblem problem, VariableHeuristic<Integer> heuristic) {
+        return new KSRandomInstances.Model(problem, 3) {
+            @Override
+            public DominanceChecker<Integer> dominance() {
+                // the orderings are compared without pruning by dominance
+                return new DefaultDominanceChecker<>();
+            }
+
+            @Override
+            public VariableHeuristic<Integer> variableHeuristic() {
+                return heuristic;
+            }
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider")
+    void testDynamicOrderingsFindTheOptimum(KSProblem problem) {
+        Solution expected = Solvers.minimizeExact(new ExactModel<Integer>() {
+            @Override
+            public Problem<Integer> problem() {
+                return problem;
+            }
+        });
+        for (Function<KSProblem, VariableHeuristic<Integer>> heuristic : heuristics()) {
+            Solution solution = Solvers.minimizeDdo(model(problem, heuristic.apply(problem)));
+            assertEquals(expected.value(), solution.value(), 1e-10);
+        }
+    }
+
+    @Test
+    void testMinDomainSizeSelectsTheMostRestrictedVariable() {
+        // with a capacity of 5, only the items 1 and 3 can be taken
+        KSProblem problem = new KSProblem(5, new int[]{1, 1, 1, 1}, new int[]{4, 6, 3, 9});
+        MinDomainSize<Integer> heuristic = new MinDomainSize<>(problem);
+        assertEquals(1, heuristic.nextVariable(Set.of(0, 1, 2, 3), List.of(5).iterator()));
+        assertEquals(3, heuristic.nextVariable(Set.of(0, 2, 3), List.of(5, 4).iterator()));
+        assertEquals(0, heuristic.nextVariable(Set.of(0, 2), List.of(5).iterator()));
+        assertNull(heuristic.nextVariable(Set.of(), List.of(5).iterator()));
+    }
+
+    @Test
+    void testScoreBasedSelectsTheHighestTotalScore() {
+        ScoreBased<Integer> heuristic = new ScoreBased<>((state, var) -> state * var % 5);
+        // totals over the states 1 and 2: var 1 -> 1 + 2, var 2 -> 2 + 4, var 3 -> 3 + 1
+        assertEquals(2, heuristic.nextVariable(Set.of(1, 2, 3), List.of(1, 2).iterator()));
+        // only the first state is sampled: var 3 -> 3
+        assertEquals(3, new ScoreBased<Integer>((state, var) -> state * var % 5, 1)
+                .nextVariable(Set.of(1, 2, 3), List.of(1, 2).iterator()));
+    }
+
+    @Test
+    void testLearnedPrefersVariablesProducingNarrowLayers() {
+        Learned<Integer> heuristic = new Learned<>(3, 0.0, 42);
+        heuristic.compilationStarted();
+        // untried variables are tried first, in increasing order
+        assertEquals(0, heuristic.nextVariable(Set.of(0, 1, 2), List.of(1, 2).iterator()));
+        assertEquals(1, heuristic.nextVariable(Set.of(1, 2), List.of(1, 2, 3, 4, 5, 6, 7, 8).iterator()));
+        assertEquals(2, heuristic.nextVariable(Set.of(2), List.of(1, 2).iterator()));
+        assertEquals(4.0, heuristic.meanRatio(0), 1e-10);
+        assertEquals(0.25, heuristic.meanRatio(1), 1e-10);
+
+        // a new compilation starts: variable 2 was not observed, then 1 is the narrowest
+        heuristic.compilationStarted();
+        assertEquals(2, heuristic.nextVariable(Set.of(0, 1, 2), List.of(1).iterator()));
+        assertEquals(1, heuristic.nextVariable(Set.of(0, 1), List.of(1, 2, 3).iterator()));
+        assertEquals(3.0, heuristic.meanRatio(2), 1e-10);
+    }
+
+    @Test
+    void testLearnedDoesNotCreditTheFirstLayerOfTheNextCompilation() {
+        Learned<Integer> heuristic = new Learned<>(3, 0.0, 42);
+        heuristic.compilationStarted();
+        assertEquals(0, heuristic.nextVariable(Set.of(0, 1, 2), List.of(1).iterator()));
+        // the residual of the next compilation is one level deeper, without the selected variable
+        heuristic.compilationStarted();
+        assertEquals(1, heuristic.nextVariable(Set.of(1, 2), List.of(1, 2, 3, 4, 5).iterator()));
+        assertEquals(0.0, heuristic.meanRatio(0), 1e-10);
+        assertEquals(2, heuristic.nextVariable(Set.of(2), List.of(1).iterator()));
+        assertEquals(0.2, heuristic.meanRatio(1), 1e-10);
+    }
+
+    @Test
+    void testEachCompilationIsAnnounced() {
+        KSProblem problem = dataProvider().findFirst().get();
+        int[] calls = new int[2];
+        VariableHeuristic<Integer> counting = new VariableHeuristic<>() {
+            private final VariableHeuristic<Integer> delegate = new DefaultVariableHeuristic<>();
+
+            @Override
+            public Integer nextVariable(Set<Integer> variables, Iterator<Integer> states) {
+                // the first call of a compilation follows its announcement
+                assertTrue(calls[0] > 0);
+                calls[1]++;
+                return delegate.nextVariable(variables, states);
+            }
+
+            @Override
+            public void compilationStarted() {
+                calls[0]++;
+            }
+        };
+        Solvers.minimizeDdo(model(problem, counting));
+        assertTrue(calls[0] > 1);
+        assertTrue(calls[1] >= calls[0]);
+    }
+}
@@ -0,0 +1,113 @@
+package org.ddolib.solving.ddo.core.mdd.layered;
+
+import org.ddolib.common.solver.layered.Solution;
+import org.ddolib.common.solver.stat.DdoStats;
+import org.ddolib.examples.layered.knapsack.*;
+import org.ddolib.modeling.layered.*;
+import org.ddolib.solving.ddo.core.SubProblem;
+import org.ddolib.solving.ddo.core.compilation.CompilationType;
+import org.ddolib.solving.ddo.core.compilation.layered.CompilationConfig;
+import org.ddolib.solving.ddo.core.frontier.CutSetType;
+import org.ddolib.util.debug.DebugLevel;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CutsetPruningTest {
+
+    static List<KSProblem> problems() {
+        return KSRandomInstances.generate(11, 50, 15, 30, 2).toList();
+    }
+
+    private static DdoModel<Integer> model(KSProblem problem) {
+        return new KSRandomInstances.Model(problem, 2);
+    }
+
+    private static CompilationConfig<Integer> config(KSProblem problem, double bestUB) {
+        DdoModel<Integer> model = model(problem);
+        CompilationConfig<Integer> config = new CompilationConfig<>(model);
+        config.compilationType = CompilationType.Relaxed;
+        config.problem = problem;
+        config.relaxation = model.relaxation();
+        config.variableHeuristic = model.variableHeuristic();
+        config.stateRanking = model.ranking();
+        config.residual = new SubProblem<>(problem.initialState(), problem.initialValue(),
+                Double.NEGATIVE_INFINITY, Collections.emptySet());
+        config.maxWidth = 2;
+        config.flb = model.lowerBound();
+        config.dominance = model.dominance();
+        config.bestUB = bestUB;
+        config.cutSetType = CutSetType.LastExactLayer;
+        config.exportAsDot = false;
+        config.debugLevel = DebugLevel.OFF;
+        config.reductionStrategy = model.relaxStrategy();
+        config.useLNS = false;
+        return config;
+    }
+
+    private static List<SubProblem<Integer>> toList(Iterator<SubProblem<Integer>> cutset) {
+        List<SubProblem<Integer>> list = new ArrayList<>();
+        cutset.forEachRemaining(list::add);
+        return list;
+    }
+
+    @Test
+    public void testFilteredCutsetIsSubsetOfTheCutset() {
+        int totalPruned = 0;
+        for (KSProblem problem : problems()) {
+            double optimum = Solvers.minimizeExact(new ExactModel<Integer>() {
+                @Override
+                public Problem<Integer> problem() {
+                    return problem;
+                }
+            }).value();
+            // a bound between the best and the worst subproblems of the cutset prunes some of them
+            LinkedDecisionDiagram<Integer> mdd =
+                    new LinkedDecisionDiagram<>(config(problem, Double.POSITIVE_INFINITY));
+            mdd.compile();
+            List<SubProblem<Integer>> all = toList(mdd.exactCutset());
+            double[] bounds = all.stream().mapToDouble(SubProblem::getLowerBound).sorted().toArray();
+
+            for (double bestUB : new double[]{optimum, bounds.length == 0 ? optimum : bounds[bounds.length / 2]}) {
+                mdd = new LinkedDecisionDiagram<>(config(problem, bestUB));
+                mdd.compile();
+                Set<SubProblem<Integer>> unfiltered = new HashSet<>(toList(mdd.exactCutset()));
+                List<SubProblem<Integer>> filtered = toList(mdd.exactCutset(bestUB));
+
+                for (SubProblem<Integer> sub : filtered) {
+                    assertTrue(unfiltered.contains(sub));
+                    assertTrue(sub.getLowerBound() < bestUB);
+                }
+                long expectedPruned = unfiltered.stream().filter(s -> s.getLowerBound() >= bestUB).count();
+                assertEquals(expectedPruned, mdd.nbCutsetPruned());
+                assertEquals(unfiltered.size() - filtered.size(), mdd.nbCutsetPruned());
+                totalPruned += mdd.nbCutsetPruned();
+            }
+        }
+        assertTrue(totalPruned > 0);
+    }
+
+    @Test
+    public void testSolverCountsPrunedCutsetNodes() {
+        assertEquals(5, new DdoStats(0, Double.POSITIVE_INFINITY)
+                .addCutsetPruned(3).addCutsetPruned(2).nbCutsetPruned());
+
+        long totalPruned = 0;
+        for (KSProblem problem : problems()) {
+            Solution solution = Solvers.minimizeDdo(model(problem));
+            double optimum = Solvers.minimizeExact(new ExactModel<Integer>() {
+                @Override
+                public Problem<Integer> problem() {
+                    return problem;
+                }
+            }).value();
+            assertEquals(optimum, solution.value(), 1e-10);
+            long pruned = ((DdoStats) solution.statistics()).nbCutsetPruned();
+            assertTrue(pruned >= 0);
+            totalPruned += pruned;
+        }
+        assertTrue(totalPruned > 0);
+    }
+}
@@ -0,0 +1,263 @@
+package org.ddolib.solving.ddo.core.mdd.layered;
+
+import org.ddolib.common.dominance.DefaultDominanceChecker;
+import org.ddolib.common.dominance.DominanceChecker;
+import org.ddolib.examples.layered.knapsack.*;
+import org.ddolib.modeling.layered.*;
+import org.ddolib.solving.ddo.core.Decision;
+import org.ddolib.solving.ddo.core.SubProblem;
+import org.ddolib.solving.ddo.core.compilation.CompilationType;
+import org.ddolib.solving.ddo.core.compilation.layered.CompilationConfig;
+import org.ddolib.solving.ddo.core.frontier.CutSetType;
+import org.ddolib.solving.ddo.core.mdd.export.BinaryDiagramExporter;
+import org.ddolib.solving.ddo.core.mdd.export.DiagramExporter;
+import org.ddolib.solving.ddo.core.mdd.export.DotDiagramExporter;
+import org.ddolib.solving.ddo.core.mdd.export.SampledDiagramExporter;
+import org.ddolib.util.debug.DebugLevel;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DiagramExportTest {
+
+    static Stream<KSProblem> problems() {
+        return KSRandomInstances.generate(7, 20, 12, 40, 2);
+    }
+
+    /**
+     * Exporter recording what it receives.
+     */
+    private static final class RecordingExporter implements DiagramExporter<Integer> {
+        final Map<Integer, Integer> depths = new HashMap<>();
+        final Set<Integer> terminals = new HashSet<>();
+        final List<int[]> edges = new ArrayList<>();
+        final List<int[]> highlights = new ArrayList<>();
+        CompilationType type = null;
+        boolean ended = false;
+
+        @Override
+        public void begin(CompilationType type) {
+            this.type = type;
+        }
+
+        @Override
+        public void node(int id, int depth, Integer state, double lowerBound, double value,
+                         boolean relaxed, boolean terminal) {
+            assertFalse(ended);
+            assertNull(depths.put(id, depth));
+            if (terminal) terminals.add(id);
+        }
+
+        @Override
+        public void edge(int origin, int destination, Decision decision, double weight) {
+            // the origin is exported before the edge, and the edge right after its destination
+            assertEquals(depths.get(origin) + 1, depths.get(destination));
+            edges.add(new int[]{origin, destination});
+        }
+
+        @Override
+        public void highlight(int origin, int destination, Decision decision, double weight, int color) {
+            highlights.add(new int[]{origin, destination, color});
+        }
+
+        @Override
+        public void end() {
+            assertFalse(ended);
+            ended = true;
+        }
+    }
+
+    private static CompilationConfig<Integer> config(KSProblem problem, CompilationType type,
+                                                     DiagramExporter<Integer> exporter) {
+        DdoModel<Integer> model = new KSRandomInstances.Model(problem, 4) {
+            @Override
+            public DominanceChecker<Integer> dominance() {
+                // the exported diagrams keep their dominated nodes
+                return new DefaultDominanceChecker<>();
+            }
+        };
+        CompilationConfig<Integer> config = new CompilationConfig<>(model);
+        config.compilationType = type;
+        config.problem = problem;
+        config.relaxation = model.relaxation();
+        config.variableHeuristic = model.variableHeuristic();
+        config.stateRanking = model.ranking();
+        config.residual = new SubProblem<>(problem.initialState(), problem.initialValue(),
+                Double.NEGATIVE_INFINITY, Collections.emptySet());
+        config.maxWidth = 4;
+        config.flb = model.lowerBound();
+        config.dominance = model.dominance();
+        config.bestUB = Double.POSITIVE_INFINITY;
+        config.cutSetType = CutSetType.LastExactLayer;
+        config.exportAsDot = exporter == null;
+        config.exporter = exporter;
+        config.debugLevel = DebugLevel.OFF;
+        config.reductionStrategy = model.relaxStrategy();
+        config.useLNS = false;
+        return config;
+    }
+
+    private static RecordingExporter record(KSProblem problem, CompilationType type) {
+        RecordingExporter exporter = new RecordingExporter();
+        LinkedDecisionDiagram<Integer> mdd = new LinkedDecisionDiagram<>(config(problem, type, exporter));
+        mdd.compile();
+        assertTrue(exporter.ended);
+        assertEquals(type, exporter.type);
+        assertTrue(exporter.depths.size() <= mdd.nbNodes());
+        return exporter;
+    }
+
+    /**
+     * Renumbers the nodes of a DOT graph by order of appearance, as the identifiers of the nodes
+     * differ from one diagram to another.
+     */
+    private static String renumber(String dot) {
+        Map<String, Integer> ids = new HashMap<>();
+        Matcher m = Pattern.compile("(?m)^(\\d+)(?: -> (\\d+))? \\[").matcher(dot);
+        StringBuilder sb = new StringBuilder();
+        while (m.find()) {
+            String line = ids.computeIfAbsent(m.group(1), k -> ids.size()).toString();
+            if (m.group(2) != null) line += " -> " + ids.computeIfAbsent(m.group(2), k -> ids.size());
+            m.appendReplacement(sb, line + " [");
+        }
+        m.appendTail(sb);
+        return sb.toString();
+    }
+
+    @ParameterizedTest
+    @MethodSource("problems")
+    public void testBestPathIsHighlighted(KSProblem problem) {
+        for (CompilationType type : new CompilationType[]{CompilationType.Relaxed, CompilationType.Restricted}) {
+            RecordingExporter exporter = record(problem, type);
+            assertEquals(problem.nbVars(), exporter.highlights.size());
+            // the best path goes backward from a terminal node to the root
+            assertTrue(exporter.terminals.contains(exporter.highlights.get(0)[1]));
+            for (int i = 0; i < exporter.highlights.size(); i++) {
+                int[] h = exporter.highlights.get(i);
+                assertEquals(problem.nbVars() - i, exporter.depths.get(h[1]));
+                if (i > 0) assertEquals(exporter.highlights.get(i - 1)[0], h[1]);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("problems")
+    public void testStreamedDotMatchesInMemoryExport(KSProblem problem) {
+        LinkedDecisionDiagram<Integer> inMemory =
+                new LinkedDecisionDiagram<>(config(problem, CompilationType.Relaxed, null));
+        inMemory.compile();
+        String expected = inMemory.exportAsDot();
+
+        StringWriter out = new StringWriter();
+        LinkedDecisionDiagram<Integer> streamed = new LinkedDecisionDiagram<>(
+                config(problem, CompilationType.Relaxed, new DotDiagramExporter<>(out)));
+        streamed.compile();
+        String actual = out.toString();
+
+        assertTrue(actual.startsWith("digraph relaxed{"));
+        assertTrue(actual.endsWith("}\n"));
+        assertEquals(renumber(expected), renumber(actual));
+        assertEquals(expected, inMemory.exportAsDot());
+        // the streamed diagram is not kept in memory
+        assertEquals("digraph relaxed{\n}", streamed.exportAsDot().replace(System.lineSeparator(), "\n"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("problems")
+    public void testBinaryExport(KSProblem problem) throws IOException {
+        RecordingExporter expected = record(problem, CompilationType.Restricted);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        LinkedDecisionDiagram<Integer> mdd = new LinkedDecisionDiagram<>(config(problem,
+                CompilationType.Restricted, new BinaryDiagramExporter<>(bytes, true)));
+        mdd.compile();
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(BinaryDiagramExporter.MAGIC, in.readInt());
+        assertEquals(BinaryDiagramExporter.VERSION, in.readByte());
+        assertEquals(CompilationType.Restricted.ordinal(), in.readByte());
+        assertTrue(in.readBoolean());
+        int nodes = 0, terminals = 0, edges = 0, highlights = 0;
+        Set<Integer> ids = new HashSet<>();
+        byte tag;
+        while ((tag = in.readByte()) != BinaryDiagramExporter.END) {
+            switch (tag) {
+                case BinaryDiagramExporter.NODE -> {
+                    nodes++;
+                    ids.add(in.readInt());
+                    in.readInt();
+                    if ((in.readByte() & BinaryDiagramExporter.TERMINAL) != 0) terminals++;
+                    in.readDouble();
+                    in.readDouble();
+                    byte[] state = new byte[in.readInt()];
+                    in.readFully(state);
+                    Integer.parseInt(new String(state));
+                }
+                case BinaryDiagramExporter.EDGE, BinaryDiagramExporter.HIGHLIGHT -> {
+                    assertTrue(ids.contains(in.readInt()));
+                    assertTrue(ids.contains(in.readInt()));
+                    int variable = in.readInt();
+                    assertTrue(variable >= 0 && variable < problem.nbVars());
+                    in.readInt();
+                    in.readDouble();
+                    if (tag == BinaryDiagramExporter.HIGHLIGHT) {
+                        in.readInt();
+                        highlights++;
+                    } else {
+                        edges++;
+                    }
+                }
+                default -> fail("Unknown record " + tag);
+            }
+        }
+        assertEquals(0, in.available());
+        assertEquals(expected.depths.size(), nodes);
+        assertEquals(expected.terminals.size(), terminals);
+        assertEquals(expected.edges.size(), edges);
+        assertEquals(expected.highlights.size(), highlights);
+    }
+
+    @ParameterizedTest
+    @MethodSource("problems")
+    public void testSampledExport(KSProblem problem) {
+        int maxNodesPerLayer = 2;
+        int maxDepth = 5;
+        RecordingExporter full = record(problem, CompilationType.Relaxed);
+        RecordingExporter sample = new RecordingExporter();
+        LinkedDecisionDiagram<Integer> mdd = new LinkedDecisionDiagram<>(config(problem, CompilationType.Relaxed,
+                new SampledDiagramExporter<>(sample, maxNodesPerLayer, maxDepth)));
+        mdd.compile();
+        assertTrue(sample.ended);
+
+        Map<Integer, Integer> layerSizes = new HashMap<>();
+        for (int depth : sample.depths.values()) {
+            assertTrue(depth <= maxDepth);
+            layerSizes.merge(depth, 1, Integer::sum);
+        }
+        for (int depth = 0; depth <= maxDepth; depth++) {
+            final int d = depth;
+            long fullSize = full.depths.values().stream().filter(x -> x == d).count();
+            assertEquals(Math.min(fullSize, maxNodesPerLayer), (long) layerSizes.getOrDefault(depth, 0));
+        }
+        for (int[] e : sample.edges) {
+            assertTrue(sample.depths.containsKey(e[0]));
+            assertTrue(sample.depths.containsKey(e[1]));
+        }
+        for (int[] h : sample.highlights) {
+            assertTrue(sample.depths.containsKey(h[0]));
+            assertTrue(sample.depths.containsKey(h[1]));
+        }
+        assertTrue(sample.edges.size() < full.edges.size());
+    }
+}
@@ -0,0 +1,134 @@
+package org.ddolib.solving.ddo.core.mdd.layered;
+
+import org.ddolib.common.solver.SharedIncumbent;
+import org.ddolib.common.solver.layered.Solution;
+import org.ddolib.common.solver.stat.DdoStats;
+import org.ddolib.examples.layered.knapsack.*;
+import org.ddolib.modeling.layered.*;
+import org.ddolib.solving.ddo.core.SubProblem;
+import org.ddolib.solving.ddo.core.compilation.CompilationType;
+import org.ddolib.solving.ddo.core.compilation.layered.CompilationConfig;
+import org.ddolib.solving.ddo.core.frontier.CutSetType;
+import org.ddolib.util.debug.DebugLevel;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EarlyAbortTest {
+
+    static List<KSProblem> problems() {
+        return KSRandomInstances.generate(43, 50, 15, 30, 2).toList();
+    }
+
+    private static DdoModel<Integer> model(KSProblem problem) {
+        return new KSRandomInstances.Model(problem, 2);
+    }
+
+    private static CompilationConfig<Integer> config(KSProblem problem, double bestUB, SharedIncumbent incumbent) {
+        DdoModel<Integer> model = model(problem);
+        CompilationConfig<Integer> config = new CompilationConfig<>(model);
+        config.compilationType = CompilationType.Relaxed;
+        config.problem = problem;
+        config.relaxation = model.relaxation();
+        config.variableHeuristic = model.variableHeuristic();
+        config.stateRanking = model.ranking();
+        config.residual = new SubProblem<>(problem.initialState(), problem.initialValue(),
+                Double.NEGATIVE_INFINITY, Collections.emptySet());
+        config.maxWidth = 2;
+        config.flb = model.lowerBound();
+        config.dominance = model.dominance();
+        config.bestUB = bestUB;
+        config.incumbent = incumbent;
+        config.cutSetType = CutSetType.LastExactLayer;
+        config.exportAsDot = false;
+        config.debugLevel = DebugLevel.OFF;
+        config.reductionStrategy = model.relaxStrategy();
+        config.useLNS = false;
+        return config;
+    }
+
+    private static double rootBound(KSProblem problem) {
+        Set<Integer> variables = IntStream.range(0, problem.nbVars()).boxed().collect(Collectors.toSet());
+        return problem.initialValue() + new KSFastLowerBound(problem).fastLowerBound(problem.initialState(), variables);
+    }
+
+    @Test
+    public void testAbortsWhenNoNodeCanImprove() {
+        for (KSProblem problem : problems()) {
+            double optimum = Solvers.minimizeExact(new ExactModel<Integer>() {
+                @Override
+                public Problem<Integer> problem() {
+                    return problem;
+                }
+            }).value();
+            // through the bound of the compilation, or through the shared incumbent
+            for (boolean shared : new boolean[]{false, true}) {
+                SharedIncumbent incumbent = shared ? new SharedIncumbent(optimum) : null;
+                LinkedDecisionDiagram<Integer> mdd = new LinkedDecisionDiagram<>(
+                        config(problem, shared ? Double.POSITIVE_INFINITY : optimum, incumbent));
+                mdd.compile();
+                if (mdd.compilationAborted()) {
+                    assertTrue(mdd.bestValue().isEmpty());
+                    assertFalse(mdd.exactCutset().hasNext());
+                }
+            }
+
+            LinkedDecisionDiagram<Integer> mdd =
+                    new LinkedDecisionDiagram<>(config(problem, Double.POSITIVE_INFINITY, null));
+            mdd.compile();
+            assertFalse(mdd.compilationAborted());
+            assertTrue(mdd.bestValue().isPresent());
+        }
+    }
+
+    @Test
+    public void testAbortsAtTheRootLayer() {
+        for (KSProblem problem : problems()) {
+            for (boolean shared : new boolean[]{false, true}) {
+                double bound = rootBound(problem);
+                SharedIncumbent incumbent = shared ? new SharedIncumbent(bound) : null;
+                LinkedDecisionDiagram<Integer> mdd = new LinkedDecisionDiagram<>(
+                        config(problem, shared ? Double.POSITIVE_INFINITY : bound, incumbent));
+                mdd.compile();
+                assertTrue(mdd.compilationAborted());
+                assertEquals(1, mdd.nbNodes());
+                assertTrue(mdd.bestValue().isEmpty());
+
+                // a better incumbent found by another solver is seen by the next compilations
+                if (shared) {
+                    incumbent = new SharedIncumbent(Double.POSITIVE_INFINITY);
+                    mdd.reset(config(problem, Double.POSITIVE_INFINITY, incumbent));
+                    mdd.compile();
+                    assertFalse(mdd.compilationAborted());
+                    incumbent.offer(bound, new int[problem.nbVars()]);
+                    mdd.reset(config(problem, Double.POSITIVE_INFINITY, incumbent));
+                    mdd.compile();
+                    assertTrue(mdd.compilationAborted());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSolverFindsTheSameOptimum() {
+        long aborted = 0;
+        for (KSProblem problem : problems()) {
+            Solution expected = Solvers.minimizeExact(new ExactModel<Integer>() {
+                @Override
+                public Problem<Integer> problem() {
+                    return problem;
+                }
+            });
+            Solution actual = Solvers.minimizeDdo(model(problem));
+            assertEquals(expected.value(), actual.value(), 1e-10);
+            aborted += ((DdoStats) actual.statistics()).nbAborted();
+        }
+        assertTrue(aborted > 0);
+    }
+}
@@ -0,0 +1,135 @@
+package org.ddolib.solving.ddo.core.profiling;
+
+import org.ddolib.common.solver.layered.Solution;
+import org.ddolib.examples.layered.knapsack.KSFastLowerBound;
+import org.ddolib.examples.layered.knapsack.KSProblem;
+import org.ddolib.examples.layered.knapsack.KSRandomInstances;
+import org.ddolib.modeling.layered.DdoModel;
+import org.ddolib.modeling.layered.ExactModel;
+import org.ddolib.modeling.layered.FastLowerBound;
+import org.ddolib.modeling.layered.Problem;
+import org.ddolib.modeling.layered.Solvers;
+import org.ddolib.solving.ddo.core.compilation.CompilationType;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProfilerTest {
+
+    static Stream<KSProblem> dataProvider() {
+        return KSRandomInstances.generate(7, 20, 15, 30, 1);
+    }
+
+    private static DdoModel<Integer> ddoModel(KSProblem problem, Profiler profiler, boolean useCache) {
+        return new KSRandomInstances.Model(problem, 3) {
+            @Override
+            public boolean useCache() {
+                return useCache;
+            }
+
+            @Override
+            public Profiler profiler() {
+                return profiler;
+            }
+        };
+    }
+
+    private static ExactModel<Integer> exactModel(KSProblem problem, Profiler profiler, boolean lean) {
+        return new ExactModel<Integer>() {
+            @Override
+            public Problem<Integer> problem() {
+                return problem;
+            }
+
+            @Override
+            public FastLowerBound<Integer> lowerBound() {
+                return new KSFastLowerBound(problem);
+            }
+
+            @Override
+            public boolean leanMemory() {
+                return lean;
+            }
+
+            @Override
+            public Profiler profiler() {
+                return profiler;
+            }
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider")
+    void testProfiledDdoFindsTheSameSolution(KSProblem problem) {
+        for (boolean useCache : new boolean[]{false, true}) {
+            Solution expected = Solvers.minimizeDdo(ddoModel(problem, null, useCache));
+            Profiler profiler = new Profiler(1, 10);
+            Solution profiled = Solvers.minimizeDdo(ddoModel(problem, profiler, useCache));
+
+            assertEquals(expected.value(), profiled.value(), 1e-10);
+            assertEquals(expected.statistics().nbIterations(), profiled.statistics().nbIterations());
+            assertFalse(expected.profile().isPresent());
+            assertTrue(profiled.profile().isPresent());
+
+            ProfileReport report = profiled.profile().get();
+            assertTrue(report.calls(Operation.TRANSITION) > 0);
+            assertEquals(report.calls(Operation.TRANSITION), report.calls(Operation.TRANSITION_COST));
+            assertTrue(report.calls(Operation.FAST_LOWER_BOUND) > 0);
+            assertTrue(report.calls(Operation.DOMINANCE) > 0);
+            assertTrue(report.estimatedNanos(Operation.TRANSITION) > 0);
+            assertTrue(report.compilations(CompilationType.Restricted) > 0);
+            assertTrue(report.compilations(CompilationType.Relaxed) > 0);
+            assertTrue(report.maxWidth() > 0);
+            assertTrue(report.lastCompilations().size() <= 10);
+            if (report.maxWidth() > 3) {
+                assertTrue(report.calls(Operation.DEFINE_CLUSTERS) > 0);
+                assertTrue(report.calls(Operation.MERGE_STATES) > 0);
+            }
+
+            long transitions = 0;
+            for (CompilationProfile compilation : report.lastCompilations()) {
+                transitions += compilation.calls(Operation.TRANSITION);
+            }
+            assertTrue(transitions <= report.calls(Operation.TRANSITION));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider")
+    void testProfiledExactCountsEveryTransition(KSProblem problem) {
+        Solution linked = Solvers.minimizeExact(exactModel(problem, new Profiler(), false));
+        Solution lean = Solvers.minimizeExact(exactModel(problem, new Profiler(), true));
+
+        assertEquals(linked.value(), lean.value(), 1e-10);
+        ProfileReport linkedReport = linked.profile().get();
+        ProfileReport leanReport = lean.profile().get();
+        assertEquals(1, linkedReport.compilations(CompilationType.Exact));
+        assertEquals(1, leanReport.compilations(CompilationType.Exact));
+        assertEquals(linkedReport.calls(Operation.TRANSITION), leanReport.calls(Operation.TRANSITION));
+        assertEquals(linkedReport.maxWidth(), leanReport.maxWidth());
+        assertEquals(linkedReport.nbLayers(), leanReport.nbLayers());
+        assertEquals(1, linkedReport.lastCompilations().size());
+        assertEquals(linkedReport.calls(Operation.TRANSITION),
+                linkedReport.lastCompilations().get(0).calls(Operation.TRANSITION));
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider")
+    void testDisabledProfilerRecordsNothing(KSProblem problem) {
+        Profiler profiler = new Profiler();
+        profiler.disable();
+        Solution solution = Solvers.minimizeDdo(ddoModel(problem, profiler, false));
+
+        ProfileReport report = solution.profile().get();
+        for (Operation op : Operation.values()) {
+            assertEquals(0, report.calls(op));
+        }
+        assertEquals(0, report.nbLayers());
+        assertTrue(report.lastCompilations().isEmpty());
+    }
+}
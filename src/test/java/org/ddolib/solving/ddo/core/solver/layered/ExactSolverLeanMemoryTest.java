@@ -0,0 +1,87 @@
+package org.ddolib.solving.ddo.core.solver.layered;
+
+import org.ddolib.common.dominance.DominanceChecker;
+import org.ddolib.common.dominance.SimpleDominanceChecker;
+import org.ddolib.common.solver.layered.Solution;
+import org.ddolib.examples.layered.knapsack.KSDominance;
+import org.ddolib.examples.layered.knapsack.KSFastLowerBound;
+import org.ddolib.examples.layered.knapsack.KSProblem;
+import org.ddolib.examples.layered.knapsack.KSRandomInstances;
+import org.ddolib.modeling.layered.ExactModel;
+import org.ddolib.modeling.layered.FastLowerBound;
+import org.ddolib.modeling.layered.Problem;
+import org.ddolib.modeling.layered.Solvers;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExactSolverLeanMemoryTest {
+
+    static Stream<KSProblem> dataProvider() {
+        Stream<KSProblem> random = KSRandomInstances.generate(42, 50, 12, 20, 1);
+        Stream<KSProblem> files = IntStream.range(0, 3).mapToObj(k -> {
+            try {
+                return new KSProblem(Path.of("data", "Knapsack", "instance_n100_c500_10_5_10_5_" + k).toString());
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        return Stream.concat(random, files);
+    }
+
+    private static ExactModel<Integer> model(KSProblem problem, boolean lean, boolean withBounds) {
+        return new ExactModel<>() {
+            @Override
+            public Problem<Integer> problem() {
+                return problem;
+            }
+
+            @Override
+            public FastLowerBound<Integer> lowerBound() {
+                return withBounds ? new KSFastLowerBound(problem) : super.lowerBound();
+            }
+
+            @Override
+            public DominanceChecker<Integer> dominance() {
+                return withBounds
+                        ? new SimpleDominanceChecker<>(new KSDominance(), problem.nbVars())
+                        : super.dominance();
+            }
+
+            @Override
+            public boolean leanMemory() {
+                return lean;
+            }
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider")
+    void testLeanModeFindsTheSameOptimum(KSProblem problem) {
+        for (boolean withBounds : new boolean[]{false, true}) {
+            Solution expected = Solvers.minimizeExact(model(problem, false, withBounds));
+            Solution lean = Solvers.minimizeExact(model(problem, true, withBounds));
+
+            assertEquals(expected.value(), lean.value(), 1e-10);
+            assertEquals(expected.statistics().status(), lean.statistics().status());
+
+            int[] solution = lean.solution();
+            assertEquals(problem.nbVars(), solution.length);
+            int profit = 0;
+            int weight = 0;
+            for (int i = 0; i < problem.nbVars(); i++) {
+                profit += solution[i] * problem.profit[i];
+                weight += solution[i] * problem.weight[i];
+            }
+            assertTrue(weight <= problem.capa);
+            assertEquals(-profit, lean.value(), 1e-10);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.ddolib.solving.ddo.core.solver.layered;
+
+import org.ddolib.common.solver.layered.Solution;
+import org.ddolib.examples.layered.knapsack.*;
+import org.ddolib.modeling.layered.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that {@link Solvers#relaxedDdo} and {@link Solvers#restrictedDdo} compile a single diagram
+ * and bound the optimum from both sides.
+ */
+class RelaxedRestrictedDdoTest {
+
+    private static DdoModel<Integer> model(KSProblem problem) {
+        return new KSRandomInstances.Model(problem, 10);
+    }
+
+    @Test
+    void testRelaxedAndRestrictedDdoBoundTheOptimum() throws IOException {
+        final String instance = Path.of("data", "Knapsack", "instance_n100_c500_10_5_10_5_2").toString();
+        final KSProblem problem = new KSProblem(instance);
+        double optimum = Solvers.minimizeDdo(model(problem)).value();
+
+        // both solvers used to throw a NullPointerException on the unset LNS flag of the compilation
+        Solution relaxed = Solvers.relaxedDdo(model(problem));
+        Solution restricted = Solvers.restrictedDdo(model(problem));
+
+        assertTrue(relaxed.statistics().incumbent() <= optimum + 1e-10);
+        assertTrue(restricted.statistics().incumbent() >= optimum - 1e-10);
+        assertTrue(restricted.solution().length > 0);
+    }
+}
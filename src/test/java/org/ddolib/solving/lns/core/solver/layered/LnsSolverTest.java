@@ -20,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -188,5 +189,65 @@ public class LnsSolverTest {
         assertEquals(0.0, finalSol.statistics().gap(), 1e-12);
     }
 
+    @Test
+    void testParallelLNSSharesImprovingSolutions() {
+        Random rand = new Random(30);
+        int nbVars = 40;
+        int[] profit = new int[nbVars];
+        int[] weight = new int[nbVars];
+        for (int i = 0; i < nbVars; i++) {
+            profit[i] = 1 + rand.nextInt(50);
+            weight[i] = 1 + rand.nextInt(50);
+        }
+        final KSProblem problem = new KSProblem(300, profit, weight);
+        final LnsModel<Integer> model = new LnsModel<>() {
+            @Override
+            public Problem<Integer> problem() {
+                return problem;
+            }
+
+            @Override
+            public FastLowerBound<Integer> lowerBound() {
+                return new KSFastLowerBound(problem);
+            }
+
+            @Override
+            public DominanceChecker<Integer> dominance() {
+                return new SimpleDominanceChecker<>(new KSDominance(), problem.nbVars());
+            }
+
+            @Override
+            public KSRanking ranking() {
+                return new KSRanking();
+            }
+
+            @Override
+            public WidthHeuristic<Integer> widthHeuristic() {
+                return new FixedWidth<>(10);
+            }
+        };
+
+        ArrayList<Double> values = new ArrayList<>();
+        Solution finalSol = Solvers.minimizeLns(model, 4, s -> s.nbIterations() > 30, (sol, s) -> {
+            int computedProfit = 0;
+            int computedWeight = 0;
+            for (int i = 0; i < problem.nbVars(); i++) {
+                if (sol[i] == 1) {
+                    computedProfit += problem.profit[i];
+                    computedWeight += problem.weight[i];
+                }
+            }
+            assertTrue(computedWeight <= problem.capa);
+            assertEquals(-computedProfit, s.incumbent());
+            values.add(s.incumbent());
+        });
+
+        assertFalse(values.isEmpty());
+        for (int i = 1; i < values.size(); i++) {
+            assertTrue(values.get(i) < values.get(i - 1));
+        }
+        assertEquals(values.getLast(), finalSol.value());
+        assertEquals(SearchStatus.SAT, finalSol.statistics().status());
+    }
 
 }
@@ -0,0 +1,57 @@
+package org.ddolib.solving.portfolio.core.solver.layered;
+
+import org.ddolib.common.solver.layered.Solution;
+import org.ddolib.common.solver.stat.SearchStatus;
+import org.ddolib.examples.layered.knapsack.*;
+import org.ddolib.modeling.layered.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PortfolioSolverTest {
+
+    static Stream<KSProblem> dataProvider() {
+        return KSRandomInstances.generate(28, 31, 15, 40, 2);
+    }
+
+    private static DdoModel<Integer> model(KSProblem problem) {
+        return new KSRandomInstances.Model(problem, 3);
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider")
+    public void testPortfolioFindsOptimum(KSProblem problem) throws Exception {
+        Solution expected = Solvers.minimizeDdo(model(problem));
+        Solution portfolio = Solvers.minimizePortfolio(model(problem));
+
+        assertEquals(SearchStatus.OPTIMAL, portfolio.statistics().status());
+        assertEquals(expected.value(), portfolio.value(), 1e-10);
+        assertEquals(portfolio.value(), problem.evaluate(portfolio.solution()), 1e-10);
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProvider")
+    public void testPortfolioOnlyReportsImprovingSolutions(KSProblem problem) throws Exception {
+        List<Double> values = new ArrayList<>();
+        Solution portfolio = Solvers.minimizePortfolio(model(problem), (sol, s) -> {
+            try {
+                assertEquals(s.incumbent(), problem.evaluate(sol), 1e-10);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+            values.add(s.incumbent());
+        });
+
+        assertTrue(!values.isEmpty());
+        for (int i = 1; i < values.size(); i++) {
+            assertTrue(values.get(i) < values.get(i - 1));
+        }
+        assertEquals(values.getLast(), portfolio.value(), 1e-10);
+    }
+}
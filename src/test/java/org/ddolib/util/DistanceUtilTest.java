@@ -0,0 +1,108 @@
+package org.ddolib.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DistanceUtilTest {
+
+    static Stream<Integer> seeds() {
+        return IntStream.range(0, 50).boxed();
+    }
+
+    private static BitSet randomSet(Random rnd, int maxSize) {
+        BitSet set = new BitSet();
+        int size = 1 + rnd.nextInt(maxSize);
+        for (int i = 0; i < size; i++) {
+            if (rnd.nextBoolean()) set.set(i);
+        }
+        set.set(rnd.nextInt(size));
+        return set;
+    }
+
+    /**
+     * Reference implementation, testing each element of a and b.
+     */
+    private static double naiveWeightedSymmetricDifference(BitSet a, BitSet b, double[] weights) {
+        double distance = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (a.get(i) != b.get(i)) distance += weights[i];
+        }
+        return distance;
+    }
+
+    @ParameterizedTest
+    @MethodSource("seeds")
+    public void testWordKernelsMatchBitSetDistances(int seed) {
+        Random rnd = new Random(seed);
+        // sets of different lengths, spanning several words
+        BitSet a = randomSet(rnd, 300);
+        BitSet b = randomSet(rnd, 300);
+        double[] weights = rnd.doubles(300).toArray();
+        long[] wa = a.toLongArray();
+        long[] wb = b.toLongArray();
+
+        assertEquals(a.cardinality(), DistanceUtil.cardinality(wa));
+        assertEquals(DistanceUtil.intersectionSize(wa, wb), DistanceUtil.intersectionSize(a, b));
+        assertEquals(DistanceUtil.intersectionSize(a, b), DistanceUtil.intersectionSize(b, a));
+        assertEquals(DistanceUtil.jaccardDistance(a, b), DistanceUtil.jaccardDistance(wa, wb), 1e-12);
+        assertEquals(DistanceUtil.diceDistance(a, b), DistanceUtil.diceDistance(wa, wb), 1e-12);
+        assertEquals(DistanceUtil.symmetricDifferenceDistance(a, b), DistanceUtil.symmetricDifferenceDistance(wa, wb));
+        assertEquals(DistanceUtil.weightedJaccardDistance(a, b, weights),
+                DistanceUtil.weightedJaccardDistance(wa, wb, weights), 1e-9);
+        double expected = naiveWeightedSymmetricDifference(a, b, weights);
+        assertEquals(expected, DistanceUtil.weightedSymmetricDifferenceDistance(a, b, weights), 1e-9);
+        assertEquals(expected, DistanceUtil.weightedSymmetricDifferenceDistance(wa, wb, weights), 1e-9);
+    }
+
+    @ParameterizedTest
+    @MethodSource("seeds")
+    public void testBatchKernelsMatchPairwiseDistances(int seed) {
+        Random rnd = new Random(seed);
+        long[] ref = randomSet(rnd, 200).toLongArray();
+        long[][] others = new long[20][];
+        for (int i = 0; i < others.length; i++) {
+            others[i] = randomSet(rnd, 200).toLongArray();
+        }
+        double[] weights = rnd.doubles(200).toArray();
+        double[] out = new double[others.length];
+
+        DistanceUtil.jaccardDistances(ref, others, out);
+        for (int i = 0; i < others.length; i++) {
+            assertEquals(DistanceUtil.jaccardDistance(ref, others[i]), out[i], 1e-12);
+        }
+        DistanceUtil.diceDistances(ref, others, out);
+        for (int i = 0; i < others.length; i++) {
+            assertEquals(DistanceUtil.diceDistance(ref, others[i]), out[i], 1e-12);
+        }
+        DistanceUtil.symmetricDifferenceDistances(ref, others, out);
+        for (int i = 0; i < others.length; i++) {
+            assertEquals(DistanceUtil.symmetricDifferenceDistance(ref, others[i]), out[i]);
+        }
+        DistanceUtil.weightedJaccardDistances(ref, others, weights, out);
+        for (int i = 0; i < others.length; i++) {
+            assertEquals(DistanceUtil.weightedJaccardDistance(ref, others[i], weights), out[i]);
+        }
+    }
+
+    @Test
+    public void testWeightedSymmetricDifferenceCountsAllElements() {
+        BitSet a = new BitSet();
+        a.set(0);
+        a.set(3);
+        BitSet b = new BitSet();
+        b.set(3);
+        b.set(5);
+        double[] weights = {1, 2, 4, 8, 16, 32};
+        // a XOR b = {0, 5}
+        assertEquals(33, DistanceUtil.weightedSymmetricDifferenceDistance(a, b, weights));
+        assertEquals(33, DistanceUtil.weightedSymmetricDifferenceDistance(a.toLongArray(), b.toLongArray(), weights));
+    }
+}
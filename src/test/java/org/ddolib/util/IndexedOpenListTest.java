@@ -0,0 +1,93 @@
+package org.ddolib.util;
+
+import org.ddolib.solving.ddo.core.Decision;
+import org.ddolib.solving.ddo.core.SubProblem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndexedOpenListTest {
+
+    static Stream<Integer> seeds() {
+        return IntStream.range(0, 50).boxed();
+    }
+
+    private static SubProblem<Integer> sub(int state, double value) {
+        return new SubProblem<>(state, value, 0.0, Set.of(new Decision(0, state)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("seeds")
+    public void testKeepsBestSubProblemOfEachState(int seed) {
+        Random rand = new Random(seed);
+        IndexedOpenList<Integer> open = new IndexedOpenList<>(Comparator.comparingDouble(SubProblem::f));
+        HashMap<Integer, Double> best = new HashMap<>();
+        for (int i = 0; i < 500; i++) {
+            int state = rand.nextInt(60);
+            double value = rand.nextInt(1000);
+            boolean added = open.add(sub(state, value));
+            Double previous = best.get(state);
+            assertEquals(previous == null || value < previous, added);
+            best.merge(state, value, Math::min);
+            assertEquals(best.size(), open.size());
+            if (rand.nextInt(10) == 0) {
+                int removed = rand.nextInt(60);
+                SubProblem<Integer> sub = open.remove(new StateAndDepth<>(removed, 1));
+                assertEquals(best.remove(removed), sub == null ? null : sub.getValue());
+            }
+        }
+
+        double last = Double.NEGATIVE_INFINITY;
+        while (!open.isEmpty()) {
+            SubProblem<Integer> sub = open.poll();
+            assertTrue(sub.f() >= last);
+            assertEquals((double) best.remove(sub.getState()), sub.getValue());
+            last = sub.f();
+        }
+        assertTrue(best.isEmpty());
+    }
+
+    @ParameterizedTest
+    @MethodSource("seeds")
+    public void testRemoveIfKeepsTheHeapOrdered(int seed) {
+        Random rand = new Random(seed);
+        IndexedOpenList<Integer> open = new IndexedOpenList<>(Comparator.comparingDouble(SubProblem::f));
+        for (int i = 0; i < 300; i++) {
+            open.add(sub(rand.nextInt(200), rand.nextInt(1000)));
+        }
+        int size = open.size();
+        int threshold = rand.nextInt(1000);
+        int removed = open.removeIf(sub -> sub.getValue() >= threshold);
+        assertEquals(size - removed, open.size());
+        assertEquals(open.size(), open.keys().size());
+
+        double last = Double.NEGATIVE_INFINITY;
+        while (!open.isEmpty()) {
+            SubProblem<Integer> sub = open.poll();
+            assertTrue(sub.getValue() < threshold);
+            assertTrue(sub.f() >= last);
+            last = sub.f();
+        }
+    }
+
+    @Test
+    public void testStatesAreIndexedByDepth() {
+        IndexedOpenList<Integer> open = new IndexedOpenList<>(Comparator.comparingDouble(SubProblem::f));
+        open.add(sub(1, 5.0));
+        open.add(new SubProblem<>(1, 3.0, 0.0, Set.of(new Decision(0, 1), new Decision(1, 0))));
+        assertEquals(2, open.size());
+        assertTrue(open.contains(new StateAndDepth<>(1, 1)));
+        assertTrue(open.contains(new StateAndDepth<>(1, 2)));
+        assertEquals(3.0, open.peek().getValue());
+        assertNull(open.get(new StateAndDepth<>(1, 3)));
+    }
+}
@@ -0,0 +1,111 @@
+package org.ddolib.util;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TSPLowerBoundTest {
+
+    static Stream<Integer> seeds() {
+        return IntStream.range(0, 20).boxed();
+    }
+
+    private static int[][] randomMatrix(Random rnd, int n) {
+        int[][] matrix = new int[n][n];
+        for (int a = 0; a < n; a++) {
+            for (int b = 0; b < n; b++) {
+                matrix[a][b] = a == b ? 0 : rnd.nextInt(20);
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Reference implementation, working on sets of nodes considered by increasing index.
+     */
+    private static int naiveSumMinIncident(int subset, int[][] matrix) {
+        Set<Integer> members = new TreeSet<>();
+        for (int i = 0; i < Math.min(matrix.length, Integer.SIZE - 1); i++) {
+            if ((subset & (1 << i)) != 0) members.add(i);
+        }
+        if (members.size() <= 1) return 0;
+        Set<Integer> covered = new HashSet<>();
+        int total = 0;
+        for (int a : members) {
+            if (covered.contains(a)) continue;
+            int emin = Integer.MAX_VALUE;
+            int bmin = a;
+            for (int b : members) {
+                if (a == b) continue;
+                int edge = Math.min(matrix[a][b], matrix[b][a]);
+                if (edge < emin) {
+                    emin = edge;
+                    bmin = b;
+                }
+            }
+            total += emin;
+            covered.add(a);
+            covered.add(bmin);
+        }
+        return total;
+    }
+
+    @ParameterizedTest
+    @MethodSource("seeds")
+    public void testAllSubsetsMatchReference(int seed) {
+        Random rnd = new Random(seed);
+        // The largest instances are split in several fork-join tasks
+        int n = 1 + rnd.nextInt(seed % 4 == 0 ? 15 : 8);
+        int[][] matrix = randomMatrix(rnd, n);
+
+        int[] expected = new int[1 << n];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = naiveSumMinIncident(i, matrix);
+        }
+        assertArrayEquals(expected, TSPLowerBound.lowerBoundForAllSubsets(matrix));
+    }
+
+    @ParameterizedTest
+    @MethodSource("seeds")
+    public void testLazyMatchesPrecomputed(int seed) {
+        Random rnd = new Random(seed);
+        int n = 1 + rnd.nextInt(10);
+        int[][] matrix = randomMatrix(rnd, n);
+
+        int[] table = TSPLowerBound.lowerBoundForAllSubsets(matrix);
+        TSPLowerBound precomputed = new TSPLowerBound(matrix, true);
+        TSPLowerBound lazy = new TSPLowerBound(matrix, false);
+        for (int i = 0; i < table.length; i++) {
+            assertEquals(table[i], precomputed.lowerBound(i));
+            assertEquals(table[i], lazy.lowerBound(i));
+            // The memoized bound is returned the second time
+            assertEquals(table[i], lazy.lowerBound(i));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("seeds")
+    public void testLazyWithManyNodes(int seed) {
+        Random rnd = new Random(seed);
+        int n = 40 + rnd.nextInt(25);
+        int[][] matrix = randomMatrix(rnd, n);
+        TSPLowerBound bound = new TSPLowerBound(matrix);
+
+        for (int k = 0; k < 100; k++) {
+            long subset = rnd.nextLong() & (n == 64 ? -1L : (1L << n) - 1);
+            // The subsets of the first 31 nodes can be checked against the reference
+            long low = subset & Integer.MAX_VALUE;
+            assertEquals(naiveSumMinIncident((int) low, matrix), bound.lowerBound(low));
+            assertEquals(bound.lowerBound(subset), bound.lowerBound(subset));
+        }
+    }
+}
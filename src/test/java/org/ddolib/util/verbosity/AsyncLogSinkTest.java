@@ -0,0 +1,150 @@
+package org.ddolib.util.verbosity;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncLogSinkTest {
+
+    /**
+     * A sink whose output is only opened once {@link #release()} is called. The first message is
+     * taken by the writer thread before the sink is returned, so that the buffer is empty and no
+     * other message is written until the output is released.
+     */
+    private static final class BlockedSink {
+        final StringWriter out = new StringWriter();
+        final CountDownLatch opening = new CountDownLatch(1);
+        final CountDownLatch released = new CountDownLatch(1);
+        final AsyncLogSink sink;
+
+        BlockedSink(int capacity, OverflowPolicy policy) throws InterruptedException {
+            sink = new AsyncLogSink(() -> {
+                opening.countDown();
+                released.await();
+                return out;
+            }, capacity, policy);
+            sink.log("first\n");
+            opening.await();
+        }
+
+        void release() {
+            released.countDown();
+        }
+    }
+
+    @Test
+    public void testMessagesAreWrittenInOrder() {
+        StringWriter out = new StringWriter();
+        StringBuilder expected = new StringBuilder();
+        try (AsyncLogSink sink = new AsyncLogSink(() -> out, 16, OverflowPolicy.BLOCK)) {
+            for (int i = 0; i < 10_000; i++) {
+                String msg = "message " + i + "\n";
+                if (i % 2 == 0) {
+                    sink.log(msg);
+                } else {
+                    assertTrue(sink.logDroppable(() -> msg));
+                }
+                expected.append(msg);
+            }
+            sink.flush();
+            assertEquals(expected.toString(), out.toString());
+            assertEquals(0, sink.dropped());
+        }
+    }
+
+    @Test
+    public void testDropPolicy() throws InterruptedException {
+        BlockedSink blocked = new BlockedSink(8, OverflowPolicy.DROP);
+        int kept = 0;
+        for (int i = 0; i < 100; i++) {
+            String msg = "message " + i + "\n";
+            if (blocked.sink.logDroppable(() -> msg)) kept++;
+        }
+        assertEquals(8, kept);
+        assertEquals(92, blocked.sink.dropped());
+
+        blocked.release();
+        blocked.sink.flush();
+        String text = blocked.out.toString();
+        assertTrue(text.startsWith("first\n"));
+        assertTrue(text.contains("message 0\n"));
+        assertTrue(text.contains("message 7\n"));
+        assertFalse(text.contains("message 8\n"));
+        assertTrue(text.contains("[92 verbose messages dropped]"));
+        blocked.sink.close();
+    }
+
+    @Test
+    public void testSamplePolicy() throws InterruptedException {
+        BlockedSink blocked = new BlockedSink(64, OverflowPolicy.SAMPLE);
+        int kept = 0;
+        for (int i = 0; i < 232; i++) {
+            String msg = "message " + i + "\n";
+            if (blocked.sink.logDroppable(() -> msg)) kept++;
+        }
+        // The first half of the buffer, then one message out of 16
+        assertEquals(32 + 200 / AsyncLogSink.SAMPLE_RATE, kept);
+        blocked.release();
+        blocked.sink.close();
+    }
+
+    @Test
+    public void testImportantMessagesAreNeverDropped() throws InterruptedException {
+        BlockedSink blocked = new BlockedSink(4, OverflowPolicy.DROP);
+        for (int i = 0; i < 4; i++) {
+            blocked.sink.log("important " + i + "\n");
+        }
+        assertFalse(blocked.sink.logDroppable(() -> "dropped\n"));
+        Thread producer = new Thread(() -> blocked.sink.log("waiting\n"));
+        producer.start();
+        blocked.release();
+        producer.join();
+        blocked.sink.flush();
+        assertTrue(blocked.out.toString().contains("important 3\nwaiting\n"));
+        blocked.sink.close();
+    }
+
+    @Test
+    public void testCloseWritesRemainingMessages() {
+        StringWriter out = new StringWriter();
+        AsyncLogSink sink = new AsyncLogSink(() -> out, 1024, OverflowPolicy.DROP);
+        for (int i = 0; i < 500; i++) {
+            sink.log("x");
+        }
+        sink.close();
+        assertEquals(500, out.toString().length());
+        assertTrue(sink.isClosed());
+
+        sink.log("after");
+        assertEquals(500, out.toString().length());
+        assertEquals(1, sink.dropped());
+    }
+
+    @Test
+    public void testOutputFailureIsReported() {
+        AsyncLogSink sink = new AsyncLogSink(() -> {
+            throw new IOException("cannot open");
+        }, 16, OverflowPolicy.BLOCK);
+        sink.log("message\n");
+        assertThrows(RuntimeException.class, sink::flush);
+        sink.close();
+    }
+
+    @Test
+    public void testVerboseModeWritesToSink() {
+        StringWriter out = new StringWriter();
+        try (AsyncLogSink sink = new AsyncLogSink(() -> out, 16, OverflowPolicy.BLOCK)) {
+            VerboseMode verboseMode = new VerboseMode(VerbosityLevel.LARGE, 0L, sink);
+            verboseMode.newBest(42);
+            verboseMode.detailedSearchState(3, 10, 42, 40, 0.05);
+            verboseMode.flush();
+            String text = out.toString();
+            assertTrue(text.startsWith("new best: 42.0000\n"));
+            assertTrue(text.contains("it: 3 - frontier size: 10"));
+        }
+    }
+}